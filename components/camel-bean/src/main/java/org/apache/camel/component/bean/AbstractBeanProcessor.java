@@ -62,7 +62,8 @@ public abstract class AbstractBeanProcessor extends AsyncProcessorSupport {
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         // do we have an explicit method name we always should invoke (either configured on endpoint or as a header)
-        final String explicitMethodName = exchange.getIn().getHeader(BeanConstants.BEAN_METHOD_NAME, method, String.class);
+        final String headerMethodName = exchange.getIn().getHeader(BeanConstants.BEAN_METHOD_NAME, String.class);
+        final String explicitMethodName = headerMethodName != null ? headerMethodName : method;
 
         final Object beanInstance;
         final BeanInfo beanInfo;
@@ -88,28 +89,33 @@ public abstract class AbstractBeanProcessor extends AsyncProcessorSupport {
             }
         }
 
-        return useMethodInvocation(exchange, callback, explicitMethodName, beanInfo, beanInstance);
+        return useMethodInvocation(exchange, callback, explicitMethodName, headerMethodName != null, beanInfo, beanInstance);
     }
 
     private static boolean useMethodInvocation(
-            Exchange exchange, AsyncCallback callback, String explicitMethodName, BeanInfo beanInfo, Object beanInstance) {
+            Exchange exchange, AsyncCallback callback, String explicitMethodName, boolean header, BeanInfo beanInfo,
+            Object beanInstance) {
         final Message in = exchange.getIn();
 
-        // set explicit method name to invoke as a header, which is how BeanInfo can detect it
-        if (explicitMethodName != null) {
+        // the explicit method name must be set as a header if it has parameter values, as they are evaluated from the header
+        final boolean parameterValues = explicitMethodName != null && explicitMethodName.indexOf('(') != -1;
+        if (parameterValues) {
             in.setHeader(BeanConstants.BEAN_METHOD_NAME, explicitMethodName);
+        } else if (header) {
+            // the header may be set by the end user and should not be propagated
+            in.removeHeader(BeanConstants.BEAN_METHOD_NAME);
         }
 
         final MethodInvocation invocation;
         try {
-            invocation = beanInfo.createInvocation(beanInstance, exchange);
+            invocation = beanInfo.createInvocation(beanInstance, exchange, explicitMethodName);
         } catch (Exception e) {
             exchange.setException(e);
             callback.done(true);
             return true;
         } finally {
             // must remove headers as they were provisional
-            if (explicitMethodName != null) {
+            if (parameterValues) {
                 in.removeHeader(Exchange.BEAN_METHOD_NAME);
             }
         }
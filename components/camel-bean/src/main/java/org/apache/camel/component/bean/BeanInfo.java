@@ -44,6 +44,8 @@ import org.apache.camel.Message;
 import org.apache.camel.PropertyInject;
 import org.apache.camel.Variable;
 import org.apache.camel.Variables;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.LanguageHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.support.language.AnnotationExpressionFactory;
@@ -84,6 +86,8 @@ public class BeanInfo {
     private List<MethodInfo> operationsWithCustomAnnotation = new ArrayList<>();
     private List<MethodInfo> operationsWithHandlerAnnotation = new ArrayList<>();
     private Map<Method, MethodInfo> methodMap = new HashMap<>();
+    // the methods chosen among multiple candidates, which only depends on the types
+    private Map<ChosenMethodKey, MethodInfo> chosenMethods = LRUCacheFactory.newLRUCache(16, 100, false);
     private boolean publicConstructors;
     private boolean publicNoArgConstructors;
 
@@ -127,6 +131,7 @@ public class BeanInfo {
             operationsWithCustomAnnotation = beanInfo.operationsWithCustomAnnotation;
             operationsWithHandlerAnnotation = beanInfo.operationsWithHandlerAnnotation;
             methodMap = beanInfo.methodMap;
+            chosenMethods = beanInfo.chosenMethods;
             publicConstructors = beanInfo.publicConstructors;
             publicNoArgConstructors = beanInfo.publicNoArgConstructors;
             return;
@@ -184,10 +189,26 @@ public class BeanInfo {
 
     public MethodInvocation createInvocation(Object pojo, Exchange exchange)
             throws AmbiguousMethodCallException, MethodNotFoundException {
+        String methodName = exchange.getIn().getHeader(BeanConstants.BEAN_METHOD_NAME, String.class);
+        return createInvocation(pojo, exchange, methodName);
+    }
+
+    /**
+     * Creates the invocation of the given method, or chooses the method to invoke if no method name is given.
+     * <p/>
+     * If the method name has parameter values, such as <tt>hello('World')</tt>, then the method name must also be set
+     * as the {@link BeanConstants#BEAN_METHOD_NAME} header, as the parameter values are evaluated from the header.
+     *
+     * @param  pojo       the bean
+     * @param  exchange   the exchange
+     * @param  methodName the method name, or <tt>null</tt> to choose the method
+     * @return            the invocation, or <tt>null</tt> if no suitable method was found
+     */
+    public MethodInvocation createInvocation(Object pojo, Exchange exchange, String methodName)
+            throws AmbiguousMethodCallException, MethodNotFoundException {
 
         MethodInfo methodInfo = null;
 
-        String methodName = exchange.getIn().getHeader(BeanConstants.BEAN_METHOD_NAME, String.class);
         if (methodName != null) {
 
             // do not use qualifier for name
@@ -249,7 +270,7 @@ public class BeanInfo {
 
                     // but first let's try to choose a method and see if that complies with the name
                     // must use the method name which may have qualifiers
-                    methodInfo = chooseMethod(pojo, exchange, methodName);
+                    methodInfo = chooseMethodCached(pojo, exchange, methodName);
 
                     // validate that if we want an explicit no-arg method, then that's what we get
                     if (emptyParameters) {
@@ -271,7 +292,7 @@ public class BeanInfo {
 
         if (methodInfo == null && methodMap.size() >= 2) {
             // only try to choose if there is at least 2 methods
-            methodInfo = chooseMethod(pojo, exchange, null);
+            methodInfo = chooseMethodCached(pojo, exchange, null);
         }
         if (methodInfo == null) {
             methodInfo = defaultMethod;
@@ -285,6 +306,30 @@ public class BeanInfo {
         return null;
     }
 
+    /**
+     * Chooses the method to invoke, and caches the chosen method by the method name and the type of the message body,
+     * when the choice does not depend on parameter values in the method name or on an exception on the exchange.
+     */
+    private MethodInfo chooseMethodCached(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
+        boolean parameterValues = name != null && name.indexOf('(') != -1 && !name.endsWith("()");
+        if (parameterValues || LanguageHelper.exception(exchange) != null) {
+            return chooseMethod(pojo, exchange, name);
+        }
+
+        Object body = exchange.getIn().getBody();
+        ChosenMethodKey key = new ChosenMethodKey(
+                name, body != null ? body.getClass() : null, exchange.getPattern().isOutCapable());
+        MethodInfo answer = chosenMethods.get(key);
+        if (answer == null) {
+            answer = chooseMethod(pojo, exchange, name);
+            // the body may have been converted to the type of the chosen method which must be done every time
+            if (answer != null && exchange.getIn().getBody() == body) {
+                chosenMethods.put(key, answer);
+            }
+        }
+        return answer;
+    }
+
     /**
      * Introspects the given class
      *
@@ -1350,4 +1395,9 @@ public class BeanInfo {
         return name;
     }
 
+    /**
+     * Key of a method chosen among multiple candidates
+     */
+    private record ChosenMethodKey(String name, Class<?> bodyType, boolean outCapable) {
+    }
 }
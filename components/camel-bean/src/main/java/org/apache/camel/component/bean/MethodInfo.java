@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -70,6 +73,12 @@ import static org.apache.camel.util.ObjectHelper.asString;
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
 
+    /**
+     * Number of reflective invocations before the method is compiled to a {@link MethodHandle}, which avoids the cost
+     * for methods which are only invoked once.
+     */
+    private static final int METHOD_HANDLE_THRESHOLD = 16;
+
     private final CamelContext camelContext;
     private final Class<?> type;
     private final Method method;
@@ -78,6 +87,12 @@ public class MethodInfo {
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
     private final Expression parametersExpression;
+    private volatile boolean parametersExpressionInitialized;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] boxedParameterTypes;
+    private volatile MethodHandle methodHandle;
+    private volatile boolean methodHandleCreated;
+    private int invocations;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
@@ -121,6 +136,11 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.parameterTypes = method.getParameterTypes();
+        this.boxedParameterTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            boxedParameterTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+        }
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -258,7 +278,10 @@ public class MethodInfo {
     private Object[] initializeArguments(boolean hasParameters, Exchange exchange) {
         if (hasParameters) {
             if (parametersExpression != null) {
-                parametersExpression.init(camelContext);
+                if (!parametersExpressionInitialized) {
+                    parametersExpression.init(camelContext);
+                    parametersExpressionInitialized = true;
+                }
                 return parametersExpression.evaluate(exchange, Object[].class);
             }
         }
@@ -489,6 +512,17 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodHandle mh = getMethodHandle();
+            if (mh != null && isInvokableWithMethodHandle(pojo, arguments)) {
+                try {
+                    return (Object) mh.invokeExact(pojo, arguments);
+                } catch (Throwable e) {
+                    // same as reflection which wraps any exception thrown by the method
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -502,6 +536,65 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle to invoke the method, which is created once the method has been invoked a number of times
+     * using reflection.
+     *
+     * @return the method handle, or <tt>null</tt> to use reflection
+     */
+    private MethodHandle getMethodHandle() {
+        if (methodHandleCreated) {
+            return methodHandle;
+        }
+        if (invocations++ < METHOD_HANDLE_THRESHOLD) {
+            return null;
+        }
+        methodHandle = createMethodHandle();
+        methodHandleCreated = true;
+        return methodHandle;
+    }
+
+    /**
+     * Creates a method handle of type <tt>(Object, Object[])Object</tt> which invokes the method on the given bean
+     * (ignored for static methods) with the arguments spread from the array.
+     */
+    private MethodHandle createMethodHandle() {
+        try {
+            // same as reflection we allow invoking methods that are not accessible by default
+            method.trySetAccessible();
+            MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (isStaticMethod()) {
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            return mh.asType(MethodType.genericMethodType(parameterTypes.length + 1))
+                    .asSpreader(Object[].class, parameterTypes.length);
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {}. Will use reflection.", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the bean and the arguments have the exact types expected by the method, otherwise reflection is used
+     * which takes care of widening conversions and reports illegal arguments.
+     */
+    private boolean isInvokableWithMethodHandle(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? parameterTypes[i].isPrimitive() : !boxedParameterTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -545,9 +638,14 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        private final Class<?>[] types;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.types = new Class<?>[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                types[i] = parameters.get(i).getType();
+            }
         }
 
         @Override
@@ -607,7 +705,7 @@ public class MethodInfo {
                 // grab the parameter value for the given index
                 Object parameterValue = it != null && it.hasNext() ? it.next() : null;
                 // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
+                Class<?> parameterType = types[i];
                 // the value for the parameter to use
                 Object value = null;
 
@@ -743,8 +841,8 @@ public class MethodInfo {
             Object result = expression.evaluate(exchange, Object.class);
             if (result != null) {
                 try {
-                    if (parameterType.isInstance(result)) {
-                        // optimize if the value is already the same type
+                    if (boxedParameterTypes[index].isInstance(result)) {
+                        // optimize if the value is already the same type (or the wrapper type of a primitive parameter)
                         answer = result;
                     } else {
                         // we got a value now try to convert it to the expected type
@@ -20,14 +20,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.text.NumberFormat;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.annotation.KeyValuePairField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.support.ObjectHelper;
@@ -47,6 +51,9 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     protected String crlf;
     protected String eol;
 
+    // the bindings depend on the locale and format factory, so they are created on first use
+    private final Map<Field, BindyFieldBinding> fieldBindings = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<BindyFieldBinding>> classFieldBindings = new ConcurrentHashMap<>();
     private String locale;
     private Class<?> type;
 
@@ -271,15 +278,54 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         return strValue;
     }
 
+    /**
+     * Gets the binding of the field, which is created once per field
+     */
+    BindyFieldBinding getFieldBinding(Field field) {
+        BindyFieldBinding answer = fieldBindings.get(field);
+        if (answer == null) {
+            answer = fieldBindings.computeIfAbsent(field, f -> new BindyFieldBinding(f, locale, formatFactory));
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the bindings of the declared fields of the class which are annotated with {@link DataField},
+     * {@link KeyValuePairField} or {@link OneToMany}, in the order of declaration
+     */
+    List<BindyFieldBinding> getFieldBindings(Class<?> clazz) {
+        List<BindyFieldBinding> answer = classFieldBindings.get(clazz);
+        if (answer == null) {
+            answer = classFieldBindings.computeIfAbsent(clazz, c -> {
+                List<BindyFieldBinding> bindings = new ArrayList<>();
+                for (Field field : c.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(DataField.class) || field.isAnnotationPresent(KeyValuePairField.class)
+                            || field.isAnnotationPresent(OneToMany.class)) {
+                        bindings.add(getFieldBinding(field));
+                    }
+                }
+                return List.copyOf(bindings);
+            });
+        }
+        return answer;
+    }
+
+    private void clearFieldBindings() {
+        fieldBindings.clear();
+        classFieldBindings.clear();
+    }
+
     public String getLocale() {
         return locale;
     }
 
     public void setLocale(String locale) {
         this.locale = locale;
+        clearFieldBindings();
     }
 
     public void setFormatFactory(FormatFactory formatFactory) {
         this.formatFactory = formatFactory;
+        clearFieldBindings();
     }
 }
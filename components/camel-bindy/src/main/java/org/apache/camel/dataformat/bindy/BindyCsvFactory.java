@@ -17,7 +17,6 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -29,7 +28,6 @@ import java.util.Map.Entry;
 import java.util.TreeMap;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
 import org.apache.camel.dataformat.bindy.annotation.CsvRecord;
 import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
@@ -37,8 +35,6 @@ import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.dataformat.bindy.annotation.Section;
 import org.apache.camel.dataformat.bindy.format.FormatException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
-import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -228,79 +224,52 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         // Get Field to be setted
-        Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
+        BindyFieldBinding binding = getFieldBinding(annotatedFields.get(pos));
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
+            LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, binding.getType());
         }
 
-        // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
-
         // field object to be set
-        Object modelField = model.get(field.getDeclaringClass().getName());
+        Object modelField = model.get(binding.getModelClassName());
 
         // format the data received
         Object value;
 
-        if (!data.isEmpty()) {
-            try {
-                if (quoting && quote != null && (data.contains("\\" + quote) || data.contains(quote)) && quotingEscaped) {
-                    value = format.parse(data.replaceAll("\\\\" + quote, "\\" + quote));
-                } else if (quote != null && quote.equals(DOUBLE_QUOTES_SYMBOL)
-                        && data.contains(DOUBLE_QUOTES_SYMBOL + DOUBLE_QUOTES_SYMBOL) && !quotingEscaped) {
-                    // If double-quotes are used to enclose fields, the two double
-                    // quotes character must be replaced with one according to RFC 4180 section 2.7
-                    value = format.parse(data.replace(DOUBLE_QUOTES_SYMBOL + DOUBLE_QUOTES_SYMBOL, DOUBLE_QUOTES_SYMBOL));
-                } else {
-                    value = format.parse(data);
+        Format<?> format = binding.acquireFormat();
+        try {
+            if (!data.isEmpty()) {
+                try {
+                    if (quoting && quote != null && (data.contains("\\" + quote) || data.contains(quote)) && quotingEscaped) {
+                        value = format.parse(data.replaceAll("\\\\" + quote, "\\" + quote));
+                    } else if (quote != null && quote.equals(DOUBLE_QUOTES_SYMBOL)
+                            && data.contains(DOUBLE_QUOTES_SYMBOL + DOUBLE_QUOTES_SYMBOL) && !quotingEscaped) {
+                        // If double-quotes are used to enclose fields, the two double
+                        // quotes character must be replaced with one according to RFC 4180 section 2.7
+                        value = format.parse(data.replace(DOUBLE_QUOTES_SYMBOL + DOUBLE_QUOTES_SYMBOL, DOUBLE_QUOTES_SYMBOL));
+                    } else {
+                        value = format.parse(data);
+                    }
+                } catch (FormatException ie) {
+                    throw new IllegalArgumentException(ie.getMessage() + ", position: " + pos + ", line: " + line, ie);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(
+                            "Parsing error detected for field defined at the position: " + pos + ", line: " + line, e);
                 }
-            } catch (FormatException ie) {
-                throw new IllegalArgumentException(ie.getMessage() + ", position: " + pos + ", line: " + line, ie);
-            } catch (Exception e) {
-                throw new IllegalArgumentException(
-                        "Parsing error detected for field defined at the position: " + pos + ", line: " + line, e);
-            }
-        } else {
-            if (!dataField.defaultValue().isEmpty()) {
-                value = format.parse(dataField.defaultValue());
             } else {
-                value = getDefaultValueForPrimitive(field.getType());
+                if (!dataField.defaultValue().isEmpty()) {
+                    value = format.parse(dataField.defaultValue());
+                } else {
+                    value = getDefaultValueForPrimitive(binding.getType());
+                }
             }
+        } finally {
+            binding.releaseFormat(format);
         }
 
-        if (value != null && !dataField.method().isEmpty()) {
-            Class<?> clazz;
-            if (dataField.method().contains(".")) {
-                clazz = camelContext.getClassResolver()
-                        .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-            } else {
-                clazz = field.getType();
-            }
-
-            String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                    dataField.method().length());
-
-            Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-            if (m != null) {
-                // this method must be static and return type
-                // must be the same as the datafield and
-                // must receive only the datafield value
-                // as the method argument
-                value = ObjectHelper.invokeMethod(m, null, value);
-            } else {
-                // fallback to method without parameter, that is on the value itself
-                m = ReflectionHelper.findMethod(clazz, methodName);
-                value = ObjectHelper.invokeMethod(m, value);
-            }
-        }
+        value = binding.applyMethod(camelContext, value);
 
-        field.set(modelField, value);
+        binding.set(modelField, value);
         return counterMandatoryFields;
     }
 
@@ -465,25 +434,16 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         String result = "";
 
-        for (Field field : clazz.getDeclaredFields()) {
+        for (BindyFieldBinding binding : getFieldBindings(clazz)) {
 
-            field.setAccessible(true);
-
-            DataField datafield = field.getAnnotation(DataField.class);
+            DataField datafield = binding.getDataField();
 
             if (datafield != null) {
 
                 if (obj != null) {
 
-                    // Create format
-                    FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
-                            field.getType(),
-                            field.getAnnotation(BindyConverter.class),
-                            getLocale());
-                    Format<?> format = formatFactory.getFormat(formattingOptions);
-
                     // Get field value
-                    Object value = field.get(obj);
+                    Object value = binding.get(obj);
 
                     // If the field value is empty, populate it with the default value
                     if (org.apache.camel.util.ObjectHelper.isNotEmpty(datafield.defaultValue())
@@ -491,7 +451,12 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                         value = datafield.defaultValue();
                     }
 
-                    result = formatString(format, value);
+                    Format<?> format = binding.acquireFormat();
+                    try {
+                        result = formatString(format, value);
+                    } finally {
+                        binding.releaseFormat(format);
+                    }
 
                     if (datafield.trim()) {
                         result = result.trim();
@@ -541,14 +506,14 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
             }
 
-            OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+            OneToMany oneToMany = binding.getOneToMany();
             if (oneToMany != null) {
 
                 // Set global variable
                 // Will be used during generation of CSV
                 isOneToMany = true;
 
-                List<?> list = (List<?>) field.get(obj);
+                List<?> list = (List<?>) binding.get(obj);
                 if (list != null) {
 
                     Iterator<?> it = list.iterator();
@@ -561,7 +526,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
                     // Call this function to add empty value
                     // in the table
-                    generateCsvPositionMap(field.getClass(), null, results);
+                    generateCsvPositionMap(binding.getField().getClass(), null, results);
                 }
 
             }
@@ -717,18 +682,16 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             throws Exception {
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
-            Field field = annotatedFields.get(i);
-            field.setAccessible(true);
+            BindyFieldBinding binding = getFieldBinding(annotatedFields.get(i));
             DataField dataField = dataFields.get(i);
-            Object modelField = model.get(field.getDeclaringClass().getName());
-            if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
-                FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                        field.getType(),
-                        field.getAnnotation(BindyConverter.class),
-                        getLocale());
-                Format<?> format = formatFactory.getFormat(formattingOptions);
-                Object value = format.parse(dataField.defaultValue());
-                field.set(modelField, value);
+            Object modelField = model.get(binding.getModelClassName());
+            if (binding.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
+                Format<?> format = binding.acquireFormat();
+                try {
+                    binding.set(modelField, format.parse(dataField.defaultValue()));
+                } finally {
+                    binding.releaseFormat(format);
+                }
             }
         }
     }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.annotation.KeyValuePairField;
+import org.apache.camel.dataformat.bindy.annotation.OneToMany;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.util.ReflectionHelper;
+
+/**
+ * The binding of a field of a model class, which is created once per field, so the annotations, the formatting options
+ * and the accessors of the field are resolved once instead of for every record.
+ * <p/>
+ * The field is read and written with method handles instead of reflection. The {@link Format} of the field is reused
+ * for the following records, but a format is only used by one thread at the same time, as formats (such as number
+ * formats) are not thread-safe.
+ */
+final class BindyFieldBinding {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final String modelClassName;
+    private final DataField dataField;
+    private final KeyValuePairField keyValuePairField;
+    private final OneToMany oneToMany;
+    private final FormattingOptions formattingOptions;
+    private final FormatFactory formatFactory;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    // a format which is not in use, which the next record can reuse
+    private final AtomicReference<Format<?>> idleFormat = new AtomicReference<>();
+    // the method of the data field to apply to the parsed value, which is resolved on first use
+    private volatile Method method;
+    private volatile boolean staticMethod;
+
+    BindyFieldBinding(Field field, String locale, FormatFactory formatFactory) {
+        this.field = field;
+        this.modelClassName = field.getDeclaringClass().getName();
+        this.dataField = field.getAnnotation(DataField.class);
+        this.keyValuePairField = field.getAnnotation(KeyValuePairField.class);
+        this.oneToMany = field.getAnnotation(OneToMany.class);
+        this.formatFactory = formatFactory;
+
+        BindyConverter converter = field.getAnnotation(BindyConverter.class);
+        if (dataField != null) {
+            this.formattingOptions = ConverterUtils.convert(dataField, field.getType(), converter, locale);
+        } else if (keyValuePairField != null) {
+            this.formattingOptions = ConverterUtils.convert(keyValuePairField, field.getType(), converter, locale);
+        } else {
+            this.formattingOptions = null;
+        }
+
+        field.setAccessible(true);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the field: " + field, e);
+        }
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * The name of the model class which declares the field, which is the key of the model object in the model map
+     */
+    String getModelClassName() {
+        return modelClassName;
+    }
+
+    DataField getDataField() {
+        return dataField;
+    }
+
+    KeyValuePairField getKeyValuePairField() {
+        return keyValuePairField;
+    }
+
+    OneToMany getOneToMany() {
+        return oneToMany;
+    }
+
+    /**
+     * Gets the value of the field of the given model object
+     */
+    Object get(Object obj) throws Exception {
+        try {
+            return (Object) getter.invokeExact(obj);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets the value of the field of the given model object
+     */
+    void set(Object obj, Object value) throws Exception {
+        try {
+            setter.invokeExact(obj, value);
+        } catch (ClassCastException | NullPointerException e) {
+            // same error as when setting the field with reflection
+            throw new IllegalArgumentException("Cannot set the field: " + field + " to the value: " + value, e);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Acquires the format of the field, which must be released after use with {@link #releaseFormat(Format)}.
+     */
+    Format<?> acquireFormat() throws Exception {
+        Format<?> format = idleFormat.getAndSet(null);
+        if (format == null) {
+            format = formatFactory.getFormat(formattingOptions);
+        }
+        return format;
+    }
+
+    /**
+     * Releases the format, so it can be reused for the next record
+     */
+    void releaseFormat(Format<?> format) {
+        idleFormat.set(format);
+    }
+
+    /**
+     * Applies the method of the data field (if any) to the parsed value of the field.
+     */
+    Object applyMethod(CamelContext camelContext, Object value) throws Exception {
+        if (value == null || dataField == null || dataField.method().isEmpty()) {
+            return value;
+        }
+        Method m = method;
+        if (m == null) {
+            m = resolveMethod(camelContext);
+        }
+        if (staticMethod) {
+            // this method must be static and return type
+            // must be the same as the datafield and
+            // must receive only the datafield value
+            // as the method argument
+            return ObjectHelper.invokeMethod(m, null, value);
+        } else {
+            // fallback to method without parameter, that is on the value itself
+            return ObjectHelper.invokeMethod(m, value);
+        }
+    }
+
+    private Method resolveMethod(CamelContext camelContext) throws Exception {
+        String name = dataField.method();
+        Class<?> clazz;
+        if (name.contains(".")) {
+            clazz = camelContext.getClassResolver().resolveMandatoryClass(name.substring(0, name.lastIndexOf('.')));
+        } else {
+            clazz = field.getType();
+        }
+
+        String methodName = name.substring(name.lastIndexOf('.') + 1);
+
+        Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
+        boolean isStatic = m != null;
+        if (m == null) {
+            m = ReflectionHelper.findMethod(clazz, methodName);
+        }
+        // the flag is set before the method, which publishes both
+        staticMethod = isStatic;
+        method = m;
+        return m;
+    }
+}
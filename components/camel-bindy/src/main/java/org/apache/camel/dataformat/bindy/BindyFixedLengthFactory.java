@@ -17,7 +17,6 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -29,14 +28,10 @@ import java.util.Map.Entry;
 import java.util.TreeMap;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
 import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.FixedLengthRecord;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.format.FormatException;
-import org.apache.camel.dataformat.bindy.util.ConverterUtils;
-import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -170,7 +165,6 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
         int offset = 1;
         int length;
         String delimiter;
-        Field field;
 
         final UnicodeHelper unicodeHelper = new UnicodeHelper(
                 recordStr, (this.countGrapheme) ? UnicodeHelper.Method.GRAPHEME : UnicodeHelper.Method.CODEPOINTS);
@@ -188,10 +182,9 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             delimiter = dataField.delimiter();
 
             if (length == 0 && dataField.lengthPos() != 0) {
-                Field lengthField = annotatedFields.get(dataField.lengthPos());
-                lengthField.setAccessible(true);
-                Object modelObj = model.get(lengthField.getDeclaringClass().getName());
-                Object lengthObj = lengthField.get(modelObj);
+                BindyFieldBinding lengthBinding = getFieldBinding(annotatedFields.get(dataField.lengthPos()));
+                Object modelObj = model.get(lengthBinding.getModelClassName());
+                Object lengthObj = lengthBinding.get(modelObj);
                 length = ((Integer) lengthObj).intValue();
             }
             if (length < 1 && delimiter == null && dataField.lengthPos() == 0) {
@@ -254,22 +247,14 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             // Get Field to be set
-            field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
+            BindyFieldBinding binding = getFieldBinding(annotatedFields.get(dataField.pos()));
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
+                LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, binding.getType());
             }
 
-            // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
-
             // field object to be set
-            Object modelField = model.get(field.getDeclaringClass().getName());
+            Object modelField = model.get(binding.getModelClassName());
 
             // format the data received
             Object value;
@@ -278,6 +263,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                 token = dataField.defaultValue();
             }
             if (!token.isEmpty()) {
+                Format<?> format = binding.acquireFormat();
                 try {
                     value = format.parse(token);
                 } catch (FormatException ie) {
@@ -286,38 +272,16 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                     throw new IllegalArgumentException(
                             "Parsing error detected for field defined at the position/offset: " + offset + ", line: " + line,
                             e);
+                } finally {
+                    binding.releaseFormat(format);
                 }
             } else {
-                value = getDefaultValueForPrimitive(field.getType());
+                value = getDefaultValueForPrimitive(binding.getType());
             }
 
-            if (value != null && !dataField.method().isEmpty()) {
-                Class<?> clazz;
-                if (dataField.method().contains(".")) {
-                    clazz = camelContext.getClassResolver()
-                            .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-                } else {
-                    clazz = field.getType();
-                }
+            value = binding.applyMethod(camelContext, value);
 
-                String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                        dataField.method().length());
-
-                Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-                if (m != null) {
-                    // this method must be static and return type
-                    // must be the same as the datafield and
-                    // must receive only the datafield value
-                    // as the method argument
-                    value = ObjectHelper.invokeMethod(m, null, value);
-                } else {
-                    // fallback to method without parameter, that is on the value itself
-                    m = ReflectionHelper.findMethod(clazz, methodName);
-                    value = ObjectHelper.invokeMethod(m, value);
-                }
-            }
-
-            field.set(modelField, value);
+            binding.set(modelField, value);
 
             ++pos;
 
@@ -358,23 +322,23 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
     }
 
     private String rightTrim(String token, char myPaddingChar) {
-        StringBuilder sb = new StringBuilder(token);
+        int end = token.length();
 
-        while (sb.length() > 0 && myPaddingChar == sb.charAt(sb.length() - 1)) {
-            sb.deleteCharAt(sb.length() - 1);
+        while (end > 0 && myPaddingChar == token.charAt(end - 1)) {
+            end--;
         }
 
-        return sb.toString();
+        return token.substring(0, end);
     }
 
     private String leftTrim(String token, char myPaddingChar) {
-        StringBuilder sb = new StringBuilder(token);
+        int begin = 0;
 
-        while (sb.length() > 0 && myPaddingChar == (sb.charAt(0))) {
-            sb.deleteCharAt(0);
+        while (begin < token.length() && myPaddingChar == token.charAt(begin)) {
+            begin++;
         }
 
-        return sb.toString();
+        return token.substring(begin);
     }
 
     @Override
@@ -427,25 +391,16 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
         String result = "";
 
-        for (Field field : clazz.getDeclaredFields()) {
-
-            field.setAccessible(true);
+        for (BindyFieldBinding binding : getFieldBindings(clazz)) {
 
-            DataField datafield = field.getAnnotation(DataField.class);
+            DataField datafield = binding.getDataField();
 
             if (datafield != null) {
 
                 if (obj != null) {
 
-                    // Create format
-                    FormattingOptions formattingOptions = ConverterUtils.convert(datafield,
-                            field.getType(),
-                            field.getAnnotation(BindyConverter.class),
-                            getLocale());
-                    Format<?> format = formatFactory.getFormat(formattingOptions);
-
                     // Get field value
-                    Object value = field.get(obj);
+                    Object value = binding.get(obj);
 
                     // If the field value is empty, populate it with the default value
                     if (org.apache.camel.util.ObjectHelper.isNotEmpty(datafield.defaultValue())
@@ -453,7 +408,12 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                         value = datafield.defaultValue();
                     }
 
-                    result = formatString(format, value);
+                    Format<?> format = binding.acquireFormat();
+                    try {
+                        result = formatString(format, value);
+                    } finally {
+                        binding.releaseFormat(format);
+                    }
 
                     // trim if enabled
                     if (datafield.trim()) {
@@ -470,7 +430,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                     if (fieldLength <= 0 && datafield.delimiter().isEmpty() && datafield.lengthPos() == 0) {
                         throw new IllegalArgumentException(
                                 "Either a delimiter value or length for the field: "
-                                                           + field.getName() + " is mandatory.");
+                                                           + binding.getField().getName() + " is mandatory.");
                     }
 
                     if (!datafield.delimiter().isEmpty()) {
@@ -505,7 +465,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                                 temp.append(result);
                             } else {
                                 throw new IllegalArgumentException(
-                                        "Alignment for the field: " + field.getName()
+                                        "Alignment for the field: " + binding.getField().getName()
                                                                    + " must be equal to R for RIGHT or L for LEFT or B for trimming both ends");
                             }
 
@@ -518,7 +478,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                                 result = result.substring(0, fieldLength);
                             } else {
                                 throw new IllegalArgumentException(
-                                        "Length for the " + field.getName()
+                                        "Length for the " + binding.getField().getName()
                                                                    + " must not be larger than allowed, was: " + result.length()
                                                                    + ", allowed: " + fieldLength);
                             }
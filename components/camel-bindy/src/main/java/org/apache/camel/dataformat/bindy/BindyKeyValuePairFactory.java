@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
 import org.apache.camel.dataformat.bindy.annotation.KeyValuePairField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.Message;
@@ -185,11 +184,11 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
             Class<?> clazz, Object obj, Map<Integer, List<String>> results, int line, Map<String, List<Object>> lists)
             throws Exception {
 
-        for (Field field : clazz.getDeclaredFields()) {
+        for (BindyFieldBinding binding : getFieldBindings(clazz)) {
 
-            field.setAccessible(true);
+            Field field = binding.getField();
 
-            KeyValuePairField keyValuePairField = field.getAnnotation(KeyValuePairField.class);
+            KeyValuePairField keyValuePairField = binding.getKeyValuePairField();
 
             if (keyValuePairField != null) {
 
@@ -217,7 +216,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         Object result = getDefaultValueForPrimitive(field.getType());
 
                         try {
-                            field.set(obj, result);
+                            binding.set(obj, result);
                         } catch (Exception e) {
                             throw new IllegalArgumentException(
                                     "Setting of field " + field + " failed for object : " + obj + " and result : " + result);
@@ -245,7 +244,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
                             Object result = getDefaultValueForPrimitive(field.getType());
                             try {
-                                field.set(obj, result);
+                                binding.set(obj, result);
                             } catch (Exception e) {
                                 throw new IllegalArgumentException(
                                         "Setting of field " + field + " failed for object : " + obj + " and result : "
@@ -286,15 +285,13 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
                             if (value != null) {
 
-                                // Create format object to format the field
-                                FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                                        field.getType(),
-                                        field.getAnnotation(BindyConverter.class),
-                                        getLocale());
-                                Format<?> format = formatFactory.getFormat(formattingOptions);
-
                                 // format the value of the key received
-                                result = formatField(format, value, key, line);
+                                Format<?> format = binding.acquireFormat();
+                                try {
+                                    result = formatField(format, value, key, line);
+                                } finally {
+                                    binding.releaseFormat(format);
+                                }
 
                                 LOG.debug("Value formated : {}", result);
 
@@ -302,7 +299,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                                 result = getDefaultValueForPrimitive(field.getType());
                             }
                             try {
-                                field.set(obj, result);
+                                binding.set(obj, result);
                             } catch (Exception e) {
                                 throw new IllegalArgumentException(
                                         "Setting of field " + field + " failed for object : " + obj + " and result : "
@@ -328,23 +325,22 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
                                     value = values.get(i);
 
-                                    // Create format object to format the field
-                                    FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                                            field.getType(),
-                                            field.getAnnotation(BindyConverter.class),
-                                            getLocale());
-                                    Format<?> format = formatFactory.getFormat(formattingOptions);
-
                                     // format the value of the key received
-                                    Object result = formatField(format, value, key, line);
+                                    Object result;
+                                    Format<?> format = binding.acquireFormat();
+                                    try {
+                                        result = formatField(format, value, key, line);
+                                    } finally {
+                                        binding.releaseFormat(format);
+                                    }
 
                                     LOG.debug("Value formated : {}", result);
 
                                     try {
                                         if (value != null) {
-                                            field.set(obj, result);
+                                            binding.set(obj, result);
                                         } else {
-                                            field.set(obj, getDefaultValueForPrimitive(field.getType()));
+                                            binding.set(obj, getDefaultValueForPrimitive(field.getType()));
                                         }
                                     } catch (Exception e) {
                                         throw new IllegalArgumentException(
@@ -379,7 +375,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         Object result = getDefaultValueForPrimitive(field.getType());
 
                         try {
-                            field.set(obj, result);
+                            binding.set(obj, result);
                         } catch (Exception e) {
                             throw new IllegalArgumentException(
                                     "Setting of field " + field + " failed for object: " + obj + " and result: " + result);
@@ -388,7 +384,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                 }
             }
 
-            OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+            OneToMany oneToMany = binding.getOneToMany();
             if (oneToMany != null) {
 
                 String targetClass = oneToMany.mappedTo();
@@ -411,7 +407,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                     generateModelFromKeyValueMap(cl, null, results, line, lists);
 
                     // Add list of objects
-                    field.set(obj, lists.get(cl.getName()));
+                    binding.set(obj, lists.get(cl.getName()));
 
                 } else {
                     throw new IllegalArgumentException("No target class has been defined in @OneToMany annotation");
@@ -455,29 +451,20 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
             ObjectHelper.notNull(keyValuePairField, "KeyValuePair");
 
             // Retrieve the field
-            Field field = annotatedFields.get(keyValuePairField.tag());
-            // Change accessibility to allow to read protected/private fields
-            field.setAccessible(true);
+            BindyFieldBinding binding = getFieldBinding(annotatedFields.get(keyValuePairField.tag()));
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Tag: {}, Field type: {}, class: {}", keyValuePairField.tag(), field.getType(),
-                        field.getDeclaringClass().getName());
+                LOG.debug("Tag: {}, Field type: {}, class: {}", keyValuePairField.tag(), binding.getType(),
+                        binding.getModelClassName());
             }
 
-            // Create format
-            FormattingOptions formattingOptions = ConverterUtils.convert(keyValuePairField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<Object> format = (Format<Object>) formatFactory.getFormat(formattingOptions);
-
             // Get object to be formatted
-            Object obj = model.get(field.getDeclaringClass().getName());
+            Object obj = model.get(binding.getModelClassName());
 
             if (obj != null) {
 
                 // Get field value
-                Object keyValue = field.get(obj);
+                Object keyValue = binding.get(obj);
 
                 if (this.isMessageOrdered()) {
                     // Generate a key using the number of the section
@@ -499,11 +486,14 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         // Format field value
                         String valueFormatted;
 
+                        Format<Object> format = (Format<Object>) binding.acquireFormat();
                         try {
                             valueFormatted = format.format(keyValue);
                         } catch (Exception e) {
                             throw new IllegalArgumentException(
                                     "Formatting error detected for the tag: " + keyValuePairField.tag(), e);
+                        } finally {
+                            binding.releaseFormat(format);
                         }
 
                         // Create the key value string
@@ -530,11 +520,14 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         // Format field value
                         String valueFormatted;
 
+                        Format<Object> format = (Format<Object>) binding.acquireFormat();
                         try {
                             valueFormatted = format.format(keyValue);
                         } catch (Exception e) {
                             throw new IllegalArgumentException(
                                     "Formatting error detected for the tag: " + keyValuePairField.tag(), e);
+                        } finally {
+                            binding.releaseFormat(format);
                         }
 
                         // Create the key value string
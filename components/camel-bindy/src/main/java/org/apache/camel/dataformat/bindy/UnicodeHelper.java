@@ -17,8 +17,7 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import com.ibm.icu.text.BreakIterator;
 import org.slf4j.Logger;
@@ -49,7 +48,11 @@ public class UnicodeHelper implements Serializable {
 
     private String input;
 
-    private List<Integer> splitted;
+    // the char index of each "char" in the input, followed by the length of the input
+    private int[] splitted;
+
+    // whether each "char" is a single char of the input, so the indexes are the same as in the input
+    private boolean identity;
 
     private Method method;
 
@@ -85,8 +88,7 @@ public class UnicodeHelper implements Serializable {
     public String substring(final int beginIndex) {
         split();
 
-        final int beginChar = splitted.get(beginIndex);
-        return input.substring(beginChar);
+        return input.substring(charIndex(beginIndex));
     }
 
     /**
@@ -95,9 +97,7 @@ public class UnicodeHelper implements Serializable {
     public String substring(final int beginIndex, final int endIndex) {
         split();
 
-        final int beginChar = splitted.get(beginIndex);
-        final int endChar = splitted.get(endIndex);
-        return input.substring(beginChar, endChar);
+        return input.substring(charIndex(beginIndex), charIndex(endIndex));
     }
 
     /**
@@ -106,7 +106,7 @@ public class UnicodeHelper implements Serializable {
     public int length() {
         split();
 
-        return splitted.size() - 1;
+        return identity ? input.length() : splitted.length - 1;
     }
 
     /**
@@ -122,10 +122,16 @@ public class UnicodeHelper implements Serializable {
     public int indexOf(final String str, final int fromIndex) {
         split();
 
+        if (identity) {
+            // the match must not end at the end of the input, as below
+            final int index = input.indexOf(str, fromIndex);
+            return index != -1 && index + str.length() < input.length() ? index : -1;
+        }
+
         final int len = new UnicodeHelper(str, method).length();
 
         for (int index = fromIndex; index + len < length(); index++) {
-            if (str.equals(input.substring(splitted.get(index), splitted.get(index + len)))) {
+            if (str.equals(input.substring(splitted[index], splitted[index + len]))) {
                 return index;
             }
         }
@@ -133,43 +139,71 @@ public class UnicodeHelper implements Serializable {
         return -1;
     }
 
+    private int charIndex(final int index) {
+        if (identity) {
+            return index;
+        }
+        if (index < 0 || index >= splitted.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + splitted.length);
+        }
+        return splitted[index];
+    }
+
     private void split() {
-        if (this.splitted != null) {
+        if (this.splitted != null || this.identity) {
             return;
         }
 
         if (method.equals(Method.CODEPOINTS)) {
             splitCodepoints();
+            if (identity) {
+                return;
+            }
 
         } else /* (method.equals(Method.GRAPHEME)) */ {
             splitGrapheme();
         }
 
-        LOG.debug("\"{}\" is splitted into {} ({} {}).", input, splitted, splitted.size() - 1, method);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("\"{}\" is splitted into {} ({} {}).", input, Arrays.toString(splitted), splitted.length - 1, method);
+        }
         if (LOG.isTraceEnabled()) {
-            for (int i = 0; i < splitted.size() - 2; i++) {
-                LOG.trace("segment [{},{}[=\"{}\".", splitted.get(i), splitted.get(i + 1),
-                        input.substring(splitted.get(i), splitted.get(i + 1)));
+            for (int i = 0; i < splitted.length - 2; i++) {
+                LOG.trace("segment [{},{}[=\"{}\".", splitted[i], splitted[i + 1],
+                        input.substring(splitted[i], splitted[i + 1]));
             }
         }
     }
 
     private void splitCodepoints() {
-        final List<Integer> result = new ArrayList<>();
+        final int len = input.length();
 
+        // without surrogate pairs each codepoint is a single char, which is the common case
         int i = 0;
-        final int len = input.length();
+        while (i < len && !Character.isSurrogate(input.charAt(i))) {
+            i++;
+        }
+        if (i == len) {
+            this.identity = true;
+            return;
+        }
+
+        final int[] result = new int[len + 1];
+        int size = 0;
+
+        i = 0;
         while (i < len) {
-            result.add(i);
+            result[size++] = i;
             i += (Character.codePointAt(input, i) > 0xffff) ? 2 : 1;
         }
-        result.add(len);
+        result[size++] = len;
 
-        this.splitted = result;
+        this.splitted = Arrays.copyOf(result, size);
     }
 
     private void splitGrapheme() {
-        final List<Integer> result = new ArrayList<>();
+        final int[] result = new int[input.length() + 1];
+        int size = 0;
 
         //
         // Caution: The BreakIterator of ICU lib (com.ibm.icu.text.BreakIterator; siehe Dependencies) ist used here,
@@ -178,15 +212,15 @@ public class UnicodeHelper implements Serializable {
         final BreakIterator bit = BreakIterator.getCharacterInstance();
         bit.setText(input);
 
-        result.add(bit.first());
+        result[size++] = bit.first();
         for (int end = bit.next(); end != BreakIterator.DONE; end = bit.next()) {
-            result.add(end);
+            result[size++] = end;
         }
-        this.splitted = result;
+        this.splitted = Arrays.copyOf(result, size);
     }
 
     @Override
     public String toString() {
-        return "StringHelper [input=" + input + ", splitted=" + splitted + ", method=" + method + "]";
+        return "StringHelper [input=" + input + ", splitted=" + Arrays.toString(splitted) + ", method=" + method + "]";
     }
 }
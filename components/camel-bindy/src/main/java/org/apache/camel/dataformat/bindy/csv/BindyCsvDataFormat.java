@@ -54,6 +54,7 @@ import org.slf4j.LoggerFactory;
 @Dataformat("bindyCsv")
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final Pattern TRAILING_WHITESPACE = Pattern.compile("[ \\n\\x0B\\f\\r]+$");
 
     public BindyCsvDataFormat() {
     }
@@ -204,6 +205,11 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private Consumer<String> consumeFile(
             BindyCsvFactory factory, List<Map<String, Object>> models,
             String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+        // compile the patterns once for all the lines
+        Pattern pattern = Pattern.compile(separator);
+        Pattern delimiterPattern = factory.getAutospanLine()
+                ? Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote)) : null;
+
         return line -> {
             try {
                 String trimmedLine;
@@ -213,7 +219,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                     // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
                     if (separator.equals("\t")) {
                         // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                        trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
+                        trimmedLine = TRAILING_WHITESPACE.matcher(line).replaceAll("");
                     } else {
                         trimmedLine = line.trim();
                     }
@@ -231,27 +237,15 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
                 // Split the CSV record according to the separator defined in
                 // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
-
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
-
-                Pattern delimiterPattern = Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote));
-                Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
-
                 int escapedSubstringToHandle = 0;
-                // Find and print delimited substrings
-                while (delimiterMatcher.find()) {
-                    String substring = delimiterMatcher.group();
-                    escapedSubstringToHandle += pattern.split(substring).length - 1;
+                if (delimiterPattern != null) {
+                    Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
+
+                    // Find and print delimited substrings
+                    while (delimiterMatcher.find()) {
+                        String substring = delimiterMatcher.group();
+                        escapedSubstringToHandle += pattern.split(substring).length - 1;
+                    }
                 }
 
                 String[] tokens = pattern.split(trimmedLine,
@@ -261,7 +255,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
                 // must unquote tokens before use
                 if (Boolean.TRUE.equals(removeQuotes)) {
-                    result = unquoteTokens(result, separators, quote);
+                    result = unquoteTokens(result, findSeparators(pattern, trimmedLine), quote);
                 }
 
                 if (result.isEmpty()) {
@@ -289,6 +283,21 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         };
     }
 
+    private static List<String> findSeparators(Pattern pattern, String line) {
+        Matcher matcher = pattern.matcher(line);
+        List<String> separators = new ArrayList<>();
+
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (!separators.isEmpty()) {
+            separators.add(separators.get(separators.size() - 1));
+        }
+        return separators;
+    }
+
     /**
      * Unquote the tokens, by removing leading and trailing quote chars, as will handling fixing broken tokens which may
      * have been split by a separator inside a quote.
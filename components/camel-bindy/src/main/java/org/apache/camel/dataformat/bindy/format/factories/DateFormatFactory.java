@@ -47,6 +47,8 @@ public class DateFormatFactory extends AbstractFormatFactory {
         private String pattern;
         private Locale locale;
         private TimeZone timezone;
+        // the format is not thread-safe, but a format of a field is only used by one thread at the same time
+        private DateFormat dateFormat;
 
         DatePatternFormat(String pattern, String timezone, Locale locale) {
             this.pattern = pattern;
@@ -90,6 +92,13 @@ public class DateFormatFactory extends AbstractFormatFactory {
         }
 
         protected java.text.DateFormat getDateFormat() {
+            if (dateFormat == null) {
+                dateFormat = createDateFormat();
+            }
+            return dateFormat;
+        }
+
+        private DateFormat createDateFormat() {
             SimpleDateFormat result;
             if (locale != null) {
                 result = new SimpleDateFormat(pattern, locale);
@@ -114,6 +123,7 @@ public class DateFormatFactory extends AbstractFormatFactory {
          */
         public void setPattern(String pattern) {
             this.pattern = pattern;
+            this.dateFormat = null;
         }
     }
 }
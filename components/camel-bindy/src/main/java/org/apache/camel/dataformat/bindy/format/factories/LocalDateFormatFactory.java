@@ -40,6 +40,7 @@ public class LocalDateFormatFactory extends AbstractFormatFactory {
 
         private String pattern;
         private Locale locale;
+        private DateTimeFormatter dateFormat;
 
         LocalDatePatternFormat(String pattern, Locale locale) {
             this.pattern = pattern;
@@ -64,6 +65,13 @@ public class LocalDateFormatFactory extends AbstractFormatFactory {
         }
 
         DateTimeFormatter getDateFormat() {
+            if (dateFormat == null) {
+                dateFormat = createDateFormat();
+            }
+            return dateFormat;
+        }
+
+        private DateTimeFormatter createDateFormat() {
             DateTimeFormatter result;
             if (locale != null) {
                 result = DateTimeFormatter.ofPattern(pattern, locale);
@@ -85,6 +93,7 @@ public class LocalDateFormatFactory extends AbstractFormatFactory {
          */
         public void setPattern(String pattern) {
             this.pattern = pattern;
+            this.dateFormat = null;
         }
     }
 
@@ -44,6 +44,7 @@ public class LocalTimeFormatFactory extends AbstractFormatFactory {
 
         private String pattern;
         private Locale locale;
+        private DateTimeFormatter dateFormat;
         private ZoneId zone;
 
         LocalTimePatternFormat(String pattern, String timezone, Locale locale) {
@@ -74,6 +75,13 @@ public class LocalTimeFormatFactory extends AbstractFormatFactory {
         }
 
         DateTimeFormatter getDateFormat() {
+            if (dateFormat == null) {
+                dateFormat = createDateFormat();
+            }
+            return dateFormat;
+        }
+
+        private DateTimeFormatter createDateFormat() {
             DateTimeFormatter result;
             if (locale != null) {
                 result = DateTimeFormatter.ofPattern(pattern, locale)
@@ -97,6 +105,7 @@ public class LocalTimeFormatFactory extends AbstractFormatFactory {
          */
         public void setPattern(String pattern) {
             this.pattern = pattern;
+            this.dateFormat = null;
         }
     }
 
@@ -42,6 +42,7 @@ public class ZonedDateTimeFormatFactory extends AbstractFormatFactory {
 
         private String pattern;
         private Locale locale;
+        private DateTimeFormatter dateFormat;
 
         ZonedDateTimePatternFormat(String pattern, Locale locale) {
             this.pattern = pattern;
@@ -65,6 +66,13 @@ public class ZonedDateTimeFormatFactory extends AbstractFormatFactory {
         }
 
         DateTimeFormatter getDateFormat() {
+            if (dateFormat == null) {
+                dateFormat = createDateFormat();
+            }
+            return dateFormat;
+        }
+
+        private DateTimeFormatter createDateFormat() {
             DateTimeFormatter result;
             if (locale != null) {
                 result = DateTimeFormatter.ofPattern(pattern, locale);
@@ -86,6 +94,7 @@ public class ZonedDateTimeFormatFactory extends AbstractFormatFactory {
          */
         public void setPattern(String pattern) {
             this.pattern = pattern;
+            this.dateFormat = null;
         }
     }
 
@@ -206,6 +206,26 @@ public class UnicodeHelperTest {
         assertEquals(3, lh3.indexOf("m̂", 2));
     }
 
+    @Test
+    public void testWithoutSurrogates() {
+        // each codepoint is a single char, so the indexes are the same as in the string
+        final UnicodeHelper lh = new UnicodeHelper("ab;cd;k͟h", Method.CODEPOINTS);
+        assertEquals(9, lh.length());
+        assertEquals("ab", lh.substring(0, 2));
+        assertEquals("cd;k͟h", lh.substring(3));
+        assertEquals("", lh.substring(9));
+        assertEquals(2, lh.indexOf(";"));
+        assertEquals(5, lh.indexOf(";", 3));
+        assertEquals(-1, lh.indexOf("x"));
+        // a match at the end of the string is not found, same as with surrogates
+        assertEquals(-1, lh.indexOf("h"));
+        assertEquals(-1, new UnicodeHelper("a" + UCSTR + "h", Method.CODEPOINTS).indexOf("h"));
+
+        final UnicodeHelper empty = new UnicodeHelper("", Method.CODEPOINTS);
+        assertEquals(0, empty.length());
+        assertEquals("", empty.substring(0, 0));
+    }
+
     private static String cps2String(final int... cps) {
         final StringBuilder buf = new StringBuilder();
         for (int cp : cps) {
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.dataformat.bindy.annotation.CsvRecord;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The formats of the fields are reused for the following records, so unmarshal with many threads to check that each
+ * format is only used by one thread at the same time.
+ */
+public class BindyCsvConcurrentUnmarshalTest extends CamelTestSupport {
+
+    private static final int THREADS = 8;
+    private static final int LINES = 500;
+
+    @Test
+    public void testConcurrentUnmarshal() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    StringBuilder csv = new StringBuilder();
+                    for (int i = 0; i < LINES; i++) {
+                        csv.append(thread).append(',').append(i).append(',')
+                                .append(String.format("2024-%02d-%02d", thread + 1, i % 28 + 1)).append(',')
+                                .append(String.format("%d.%02d", thread, i % 100)).append("\r\n");
+                    }
+                    List<?> rows = template.requestBody("direct:unmarshal", csv.toString(), List.class);
+                    assertEquals(LINES, rows.size());
+                    SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd");
+                    for (int i = 0; i < LINES; i++) {
+                        Row row = (Row) rows.get(i);
+                        assertEquals(thread, row.thread);
+                        assertEquals(i, row.line);
+                        assertEquals(String.format("2024-%02d-%02d", thread + 1, i % 28 + 1), df.format(row.date));
+                        assertEquals(new BigDecimal(String.format("%d.%02d", thread, i % 100)), row.amount);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:unmarshal")
+                        .unmarshal(new BindyCsvDataFormat(Row.class));
+            }
+        };
+    }
+
+    @CsvRecord(separator = ",")
+    public static class Row {
+
+        @DataField(pos = 1)
+        private int thread;
+
+        @DataField(pos = 2)
+        private int line;
+
+        @DataField(pos = 3, pattern = "yyyy-MM-dd")
+        private Date date;
+
+        @DataField(pos = 4, precision = 2)
+        private BigDecimal amount;
+    }
+}
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.dataformat.csv;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -96,7 +98,8 @@ public abstract class CsvMarshaller {
     }
 
     /**
-     * Creates and returns a {@link CSVPrinter}.
+     * Creates and returns a {@link CSVPrinter}. The printer writes to the output stream with a buffered writer, as the
+     * printer writes the values in many small pieces.
      *
      * @param  exchange     Exchange (used for access to type conversion). Could NOT be <code>null</code>.
      * @param  outputStream Output stream of the CSV. Could NOT be <code>null</code>.
@@ -105,11 +108,19 @@ public abstract class CsvMarshaller {
     protected CSVPrinter createPrinter(Exchange exchange, OutputStream outputStream) throws IOException {
         org.apache.camel.util.ObjectHelper.notNull(exchange, "Exchange");
         org.apache.camel.util.ObjectHelper.notNull(outputStream, "Output stream");
-        return new CSVPrinter(new OutputStreamWriter(outputStream, ExchangeHelper.getCharsetName(exchange)), format);
+        return new CSVPrinter(
+                new BufferedWriter(new OutputStreamWriter(outputStream, ExchangeHelper.getCharsetName(exchange))), format);
     }
 
     private Iterable<?> getRecordValues(Exchange exchange, Object data) throws NoTypeConversionAvailableException {
-        // each row must be a map or list based
+        // each row must be a map or list based, the common row types are used as-is without type conversion
+        if (data instanceof Map<?, ?> map) {
+            return getMapRecordValues(map);
+        } else if (data instanceof Collection<?> collection) {
+            return collection;
+        } else if (data instanceof Object[] array) {
+            return Arrays.asList(array);
+        }
         Map<?, ?> map = exchange.getContext().getTypeConverter().tryConvertTo(Map.class, exchange, data);
         if (map != null) {
             return getMapRecordValues(map);
@@ -158,10 +169,8 @@ public abstract class CsvMarshaller {
 
         @Override
         protected Iterable<?> getMapRecordValues(Map<?, ?> map) {
-            List<Object> result = new ArrayList<>(map.size());
-            result.addAll(map.values());
-
-            return result;
+            // the printer only iterates the values, so there is no need to copy them
+            return map.values();
         }
     }
     //endregion
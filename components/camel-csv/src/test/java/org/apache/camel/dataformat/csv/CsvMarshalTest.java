@@ -17,8 +17,10 @@
 package org.apache.camel.dataformat.csv;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apache.camel.EndpointInject;
 import org.apache.camel.builder.RouteBuilder;
@@ -27,6 +29,7 @@ import org.apache.camel.test.junit5.CamelTestSupport;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * This class tests standard marshalling
@@ -61,6 +64,33 @@ public class CsvMarshalTest extends CamelTestSupport {
         assertArrayEquals(new String[] { "1", "one" }, actuals);
     }
 
+    @Test
+    void shouldMarshalArrays() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:default", Arrays.asList(
+                new Object[] { "1", 2, "3" },
+                new String[] { "one", "two", "three" }));
+        output.assertIsSatisfied();
+
+        assertArrayEquals(new String[] { "1,2,3", "one,two,three" }, readOutputLines(0));
+    }
+
+    @Test
+    void shouldMarshalIteratorOfRows() throws Exception {
+        output.expectedMessageCount(1);
+
+        Iterator<List<String>> rows = Stream.iterate(1, i -> i + 1).limit(1000)
+                .map(i -> Arrays.asList("row" + i, "value " + i)).iterator();
+        template.sendBody("direct:default", rows);
+        output.assertIsSatisfied();
+
+        String[] actuals = readOutputLines(0);
+        assertEquals(1000, actuals.length);
+        assertEquals("row1,value 1", actuals[0]);
+        assertEquals("row1000,value 1000", actuals[999]);
+    }
+
     @Test
     void shouldMarshalMaps() throws Exception {
         output.expectedMessageCount(1);
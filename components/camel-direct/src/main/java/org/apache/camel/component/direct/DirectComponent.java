@@ -16,8 +16,8 @@
  */
 package org.apache.camel.component.direct;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -37,15 +37,10 @@ import org.apache.camel.util.StopWatch;
 @Component("direct")
 public class DirectComponent extends DefaultComponent {
 
-    // active consumers
+    // active consumers (the lock is only used by producers that block and wait for a consumer to become active)
     private final Lock consumersLock = new ReentrantLock();
     private final Condition consumersCondition = consumersLock.newCondition();
-    private final Map<String, DirectConsumer> consumers = new HashMap<>();
-    // counter that is used for producers to keep track if any consumer was added/removed since they last checked
-    // this is used for optimization to avoid each producer to get consumer for each message processed
-    // (locking via synchronized, and then lookup in the map as the cost)
-    // consumers and producers are only added/removed during startup/shutdown or if routes is manually controlled
-    private volatile int stateCounter;
+    private final Map<String, DirectConsumer> consumers = new ConcurrentHashMap<>();
 
     @Metadata(label = "producer", defaultValue = "true")
     private boolean block = true;
@@ -94,10 +89,6 @@ public class DirectComponent extends DefaultComponent {
         this.timeout = timeout;
     }
 
-    int getStateCounter() {
-        return stateCounter;
-    }
-
     public void addConsumer(String key, DirectConsumer consumer) {
         consumersLock.lock();
         try {
@@ -106,8 +97,6 @@ public class DirectComponent extends DefaultComponent {
                         "Cannot add a 2nd consumer to the same endpoint: " + key
                                                    + ". DirectEndpoint only allows one consumer.");
             }
-            // state changed so inc counter
-            stateCounter++;
             consumersCondition.signalAll();
         } finally {
             consumersLock.unlock();
@@ -115,34 +104,29 @@ public class DirectComponent extends DefaultComponent {
     }
 
     public void removeConsumer(String key, DirectConsumer consumer) {
-        consumersLock.lock();
-        try {
-            consumers.remove(key, consumer);
-            // state changed so inc counter
-            stateCounter++;
-            consumersCondition.signalAll();
-        } finally {
-            consumersLock.unlock();
-        }
+        consumers.remove(key, consumer);
     }
 
     protected DirectConsumer getConsumer(String key, boolean block, long timeout) throws InterruptedException {
+        // lock-free lookup, and only lock if we need to block and wait for the consumer
+        DirectConsumer answer = consumers.get(key);
+        if (answer != null || !block) {
+            return answer;
+        }
+
         consumersLock.lock();
         try {
-            DirectConsumer answer = consumers.get(key);
-            if (answer == null && block) {
-                StopWatch watch = new StopWatch();
-                for (;;) {
-                    answer = consumers.get(key);
-                    if (answer != null) {
-                        break;
-                    }
-                    long rem = timeout - watch.taken();
-                    if (rem <= 0) {
-                        break;
-                    }
-                    consumersCondition.await(rem, TimeUnit.MILLISECONDS);
+            StopWatch watch = new StopWatch();
+            for (;;) {
+                answer = consumers.get(key);
+                if (answer != null) {
+                    break;
+                }
+                long rem = timeout - watch.taken();
+                if (rem <= 0) {
+                    break;
                 }
+                consumersCondition.await(rem, TimeUnit.MILLISECONDS);
             }
             return answer;
         } finally {
@@ -29,8 +29,8 @@ public class DirectProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(DirectProducer.class);
 
+    // the consumer is bound to this producer as long as the consumer is started
     private volatile DirectConsumer consumer;
-    private int stateCounter;
 
     private final DirectEndpoint endpoint;
     private final DirectComponent component;
@@ -49,10 +49,7 @@ public class DirectProducer extends DefaultAsyncProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
-        if (consumer == null || stateCounter != component.getStateCounter()) {
-            stateCounter = component.getStateCounter();
-            consumer = component.getConsumer(key, block, timeout);
-        }
+        final DirectConsumer consumer = resolveConsumer();
         if (consumer == null) {
             if (endpoint.isFailIfNoConsumers()) {
                 throw new DirectConsumerNotAvailableException("No consumers available on endpoint: " + endpoint, exchange);
@@ -64,6 +61,17 @@ public class DirectProducer extends DefaultAsyncProducer {
         }
     }
 
+    private DirectConsumer resolveConsumer() throws InterruptedException {
+        DirectConsumer answer = consumer;
+        // fast path that avoids the lookup in the component while the bound consumer is started,
+        // as a consumer that is stopped or suspended is removed from the component
+        if (answer == null || !answer.isStarted()) {
+            answer = component.getConsumer(key, block, timeout);
+            consumer = answer;
+        }
+        return answer;
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         try {
@@ -73,10 +81,7 @@ public class DirectProducer extends DefaultAsyncProducer {
                 callback.done(true);
                 return true;
             }
-            if (consumer == null || stateCounter != component.getStateCounter()) {
-                stateCounter = component.getStateCounter();
-                consumer = component.getConsumer(key, block, timeout);
-            }
+            final DirectConsumer consumer = resolveConsumer();
             if (consumer == null) {
                 if (endpoint.isFailIfNoConsumers()) {
                     exchange.setException(new DirectConsumerNotAvailableException(
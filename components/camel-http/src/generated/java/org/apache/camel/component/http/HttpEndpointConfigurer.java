@@ -67,6 +67,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "getWithBody": target.setGetWithBody(property(camelContext, boolean.class, value)); return true;
         case "headerfilterstrategy":
         case "headerFilterStrategy": target.setHeaderFilterStrategy(property(camelContext, org.apache.camel.spi.HeaderFilterStrategy.class, value)); return true;
+        case "httpasyncclient":
+        case "httpAsyncClient": target.setHttpAsyncClient(property(camelContext, org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient.class, value)); return true;
         case "httpclient":
         case "httpClient": target.setHttpClient(property(camelContext, org.apache.hc.client5.http.classic.HttpClient.class, value)); return true;
         case "httpclientconfigurer":
@@ -79,6 +81,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": target.setHttpContext(property(camelContext, org.apache.hc.core5.http.protocol.HttpContext.class, value)); return true;
         case "httpmethod":
         case "httpMethod": target.setHttpMethod(property(camelContext, org.apache.camel.http.common.HttpMethods.class, value)); return true;
+        case "httpversionpolicy":
+        case "httpVersionPolicy": target.setHttpVersionPolicy(property(camelContext, org.apache.hc.core5.http2.HttpVersionPolicy.class, value)); return true;
         case "ignoreresponsebody":
         case "ignoreResponseBody": target.setIgnoreResponseBody(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
@@ -125,6 +129,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": target.setSslContextParameters(property(camelContext, org.apache.camel.support.jsse.SSLContextParameters.class, value)); return true;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": target.setThrowExceptionOnFailure(property(camelContext, boolean.class, value)); return true;
+        case "useasyncclient":
+        case "useAsyncClient": target.setUseAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "usesystemproperties":
         case "useSystemProperties": target.setUseSystemProperties(property(camelContext, boolean.class, value)); return true;
         case "useragent":
@@ -182,6 +188,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "getWithBody": return boolean.class;
         case "headerfilterstrategy":
         case "headerFilterStrategy": return org.apache.camel.spi.HeaderFilterStrategy.class;
+        case "httpasyncclient":
+        case "httpAsyncClient": return org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient.class;
         case "httpclient":
         case "httpClient": return org.apache.hc.client5.http.classic.HttpClient.class;
         case "httpclientconfigurer":
@@ -194,6 +202,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": return org.apache.hc.core5.http.protocol.HttpContext.class;
         case "httpmethod":
         case "httpMethod": return org.apache.camel.http.common.HttpMethods.class;
+        case "httpversionpolicy":
+        case "httpVersionPolicy": return org.apache.hc.core5.http2.HttpVersionPolicy.class;
         case "ignoreresponsebody":
         case "ignoreResponseBody": return boolean.class;
         case "lazystartproducer":
@@ -240,6 +250,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return org.apache.camel.support.jsse.SSLContextParameters.class;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return boolean.class;
+        case "useasyncclient":
+        case "useAsyncClient": return boolean.class;
         case "usesystemproperties":
         case "useSystemProperties": return boolean.class;
         case "useragent":
@@ -298,6 +310,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "getWithBody": return target.isGetWithBody();
         case "headerfilterstrategy":
         case "headerFilterStrategy": return target.getHeaderFilterStrategy();
+        case "httpasyncclient":
+        case "httpAsyncClient": return target.getHttpAsyncClient();
         case "httpclient":
         case "httpClient": return target.getHttpClient();
         case "httpclientconfigurer":
@@ -310,6 +324,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": return target.getHttpContext();
         case "httpmethod":
         case "httpMethod": return target.getHttpMethod();
+        case "httpversionpolicy":
+        case "httpVersionPolicy": return target.getHttpVersionPolicy();
         case "ignoreresponsebody":
         case "ignoreResponseBody": return target.isIgnoreResponseBody();
         case "lazystartproducer":
@@ -356,6 +372,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return target.getSslContextParameters();
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return target.isThrowExceptionOnFailure();
+        case "useasyncclient":
+        case "useAsyncClient": return target.isUseAsyncClient();
         case "usesystemproperties":
         case "useSystemProperties": return target.isUseSystemProperties();
         case "useragent":
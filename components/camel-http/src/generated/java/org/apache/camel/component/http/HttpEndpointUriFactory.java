@@ -24,7 +24,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(55);
+        Set<String> props = new HashSet<>(58);
         props.add("authDomain");
         props.add("authHost");
         props.add("authMethod");
@@ -47,6 +47,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("followRedirects");
         props.add("getWithBody");
         props.add("headerFilterStrategy");
+        props.add("httpAsyncClient");
         props.add("httpClient");
         props.add("httpClientConfigurer");
         props.add("httpClientOptions");
@@ -54,6 +55,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("httpContext");
         props.add("httpMethod");
         props.add("httpUri");
+        props.add("httpVersionPolicy");
         props.add("ignoreResponseBody");
         props.add("lazyStartProducer");
         props.add("maxTotalConnections");
@@ -77,6 +79,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("skipResponseHeaders");
         props.add("sslContextParameters");
         props.add("throwExceptionOnFailure");
+        props.add("useAsyncClient");
         props.add("useSystemProperties");
         props.add("userAgent");
         props.add("x509HostnameVerifier");
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.NullEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP producer which uses the non-blocking Apache HTTP Client 5.x async API, so the calling thread is not blocked
+ * while waiting for the response.
+ * <p/>
+ * The request and the response are prepared and populated in the same way as by the {@link HttpProducer}. When the
+ * response head has arrived then the response is populated on a worker thread (as the body is streamed while being
+ * read), and the {@link AsyncCallback} is completed.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private boolean endpointHttpAsyncClient;
+    private ExecutorService workerPool;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (httpAsyncClient == null) {
+            httpAsyncClient = getEndpoint().getOrCreateHttpAsyncClient();
+            endpointHttpAsyncClient = true;
+        }
+        if (workerPool == null) {
+            ExecutorServiceManager manager = getEndpoint().getCamelContext().getExecutorServiceManager();
+            ThreadPoolProfile profile = manager.getDefaultThreadPoolProfile().clone();
+            profile.setId("HttpAsyncProducer");
+            profile.setDefaultProfile(false);
+            // the tasks are submitted by the I/O reactor thread, and must never run on that thread (such as with
+            // the CallerRuns policy), as reading the response body on the reactor thread would deadlock the client
+            profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+            workerPool = manager.newThreadPool(this, "HttpAsyncProducer", profile);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (workerPool != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(workerPool);
+            workerPool = null;
+        }
+        if (endpointHttpAsyncClient) {
+            // the endpoint closes its client when stopped, so get the client from the endpoint again when restarted
+            httpAsyncClient = null;
+            endpointHttpAsyncClient = false;
+        }
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpUriRequest httpRequest;
+        final HttpHost httpHost;
+        final AsyncEntityProducer entityProducer;
+        try {
+            httpRequest = prepareRequest(exchange);
+            httpHost = createHost(httpRequest);
+            entityProducer = createEntityProducer(httpRequest.getEntity());
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        final HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        LOG.trace("Executing async http {} method: {}", httpRequest.getMethod(), httpHost);
+
+        httpAsyncClient.execute(httpHost, new BasicRequestProducer(httpRequest, entityProducer),
+                new HttpAsyncResponseConsumer(BUFFER_SIZE), null, createLocalContext(),
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(ClassicHttpResponse httpResponse) {
+                        // the response body is streamed while being read so it must not be read by the I/O reactor thread
+                        try {
+                            workerPool.execute(() -> {
+                                try {
+                                    handleResponse(exchange, httpRequest, httpResponse, strategy);
+                                } catch (RuntimeCamelException e) {
+                                    // use the embedded exception to simulate the same behavior as the synchronous producer
+                                    exchange.setException(e.getCause() instanceof Exception ex ? ex : e);
+                                } catch (Exception e) {
+                                    exchange.setException(e);
+                                } finally {
+                                    callback.done(false);
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            // the worker pool is saturated (or stopped) so fail the exchange and release the connection
+                            IOHelper.close(httpResponse);
+                            exchange.setException(e);
+                            callback.done(false);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        exchange.setException(e);
+                        callback.done(false);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        exchange.setException(new CamelExchangeException("HTTP request cancelled", exchange));
+                        callback.done(false);
+                    }
+                });
+        return false;
+    }
+
+    /**
+     * Creates the {@link AsyncEntityProducer} which sends the HTTP request entity.
+     * <p/>
+     * In memory entities are sent as-is, and other entities (such as streams and files) are written by a worker thread.
+     * If the worker pool is saturated then the request fails with a {@link RejectedExecutionException}.
+     *
+     * @param  entity      the request entity (classic API)
+     * @return             the entity producer, or <tt>null</tt> if there is no request entity
+     * @throws IOException is thrown if error reading the entity
+     */
+    protected AsyncEntityProducer createEntityProducer(HttpEntity entity) throws IOException {
+        if (entity == null || entity instanceof NullEntity) {
+            return null;
+        }
+
+        ContentType contentType = entity.getContentType() != null ? ContentType.parseLenient(entity.getContentType()) : null;
+        if ((entity instanceof ByteArrayEntity || entity instanceof StringEntity) && entity.getContentEncoding() == null) {
+            return new BasicAsyncEntityProducer(EntityUtils.toByteArray(entity), contentType);
+        }
+
+        return new AbstractClassicEntityProducer(BUFFER_SIZE, contentType, workerPool) {
+            @Override
+            protected void produceData(ContentType contentType, OutputStream outputStream) throws IOException {
+                entity.writeTo(outputStream);
+            }
+
+            @Override
+            public String getContentEncoding() {
+                return entity.getContentEncoding();
+            }
+        };
+    }
+
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+}
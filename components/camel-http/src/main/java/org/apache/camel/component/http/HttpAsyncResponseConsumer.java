@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * An {@link AsyncResponseConsumer} which completes as soon as the response head has been received, and exposes the
+ * response body as a classic {@link ClassicHttpResponse} with a streaming entity.
+ * <p/>
+ * The body is fed into a bounded buffer by the I/O reactor while it is being read, so the response is not buffered in
+ * memory and the server is throttled when the body is not read fast enough. The body must therefore not be read from
+ * the I/O reactor thread which completes the callback.
+ */
+final class HttpAsyncResponseConsumer implements AsyncResponseConsumer<ClassicHttpResponse> {
+
+    private final SharedInputBuffer buffer;
+    private volatile Exception failure;
+
+    HttpAsyncResponseConsumer(int bufferSize) {
+        this.buffer = new SharedInputBuffer(bufferSize);
+    }
+
+    @Override
+    public void consumeResponse(
+            HttpResponse response, EntityDetails entityDetails, HttpContext context,
+            FutureCallback<ClassicHttpResponse> resultCallback) {
+        BasicClassicHttpResponse answer = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+        answer.setVersion(response.getVersion());
+        answer.setHeaders(response.getHeaders());
+        if (entityDetails != null) {
+            ContentType contentType = ContentType.parseLenient(entityDetails.getContentType());
+            answer.setEntity(new InputStreamEntity(
+                    new ResponseInputStream(), entityDetails.getContentLength(), contentType,
+                    entityDetails.getContentEncoding()));
+        } else {
+            buffer.markEndStream();
+        }
+        resultCallback.completed(answer);
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {
+        // noop
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+        buffer.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) {
+        buffer.fill(src);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+        buffer.markEndStream();
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        failure = cause;
+        buffer.abort();
+    }
+
+    @Override
+    public void releaseResources() {
+        // noop
+    }
+
+    /**
+     * Input stream over the shared buffer which reports a failed response instead of a premature end of the stream.
+     */
+    private final class ResponseInputStream extends ContentInputStream {
+
+        ResponseInputStream() {
+            super(buffer);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkFailure(super.read());
+        }
+
+        @Override
+        public int read(byte[] b) throws IOException {
+            return checkFailure(super.read(b));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return checkFailure(super.read(b, off, len));
+        }
+
+        private int checkFailure(int read) throws IOException {
+            Exception cause = failure;
+            if (read == -1 && cause != null) {
+                throw new IOException("Error receiving HTTP response body due to: " + cause.getMessage(), cause);
+            }
+            return read;
+        }
+    }
+}
@@ -398,10 +398,19 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
+        // the connection options are removed when creating the connection manager, but are also used by the async client
+        final HostnameVerifier valHostnameVerifier
+                = resolveAndRemoveReferenceParameter(new HashMap<>(parameters), "x509HostnameVerifier", HostnameVerifier.class);
+        final int valMaxTotalConnections = getParameter(parameters, "maxTotalConnections", int.class, 0);
+        final int valConnectionsPerRoute = getParameter(parameters, "connectionsPerRoute", int.class, 0);
         final HttpClientConnectionManager localConnectionManager
                 = createConnectionManager(parameters, sslContextParameters, httpConnectionOptions);
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
+        endpoint.setSslContextParameters(sslContextParameters);
+        endpoint.setX509HostnameVerifier(valHostnameVerifier);
+        endpoint.setMaxTotalConnections(valMaxTotalConnections);
+        endpoint.setConnectionsPerRoute(valConnectionsPerRoute);
         endpoint.setResponseTimeout(valResponseTimeout);
         endpoint.setSoTimeout(valSoTimeout);
         endpoint.setConnectTimeout(valConnectTimeout);
@@ -17,10 +17,13 @@
 package org.apache.camel.component.http;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Category;
 import org.apache.camel.Consumer;
@@ -39,16 +42,28 @@ import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,6 +107,21 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @UriParam(label = "advanced", defaultValue = "false",
               description = "To use System Properties as fallback for configuration")
     private boolean useSystemProperties;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should use the non-blocking async HttpClient."
+                            + " The calling thread is then not blocked while waiting for the HTTP response,"
+                            + " which allows many concurrent in-flight requests to slow servers without a thread per request.")
+    private boolean useAsyncClient;
+    @UriParam(label = "producer,advanced", defaultValue = "NEGOTIATE",
+              description = "The HTTP protocol version policy of the async HttpClient."
+                            + " NEGOTIATE uses HTTP/2 when agreed with the server during the TLS handshake, and otherwise HTTP/1.1."
+                            + " FORCE_HTTP_2 always uses HTTP/2 (also without TLS), and multiplexes concurrent requests to the same server"
+                            + " over a single connection.")
+    private HttpVersionPolicy httpVersionPolicy = HttpVersionPolicy.NEGOTIATE;
+    @UriParam(label = "advanced",
+              description = "Sets a custom async HttpClient to be used by the producer when useAsyncClient is enabled")
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private boolean httpAsyncClientCreated;
 
     // timeout
     @Metadata(label = "timeout", defaultValue = "3 minutes",
@@ -192,6 +222,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -297,6 +330,121 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    /**
+     * Gets the async HttpClient to be used by the producer, which is created (and started) on first use.
+     */
+    public CloseableHttpAsyncClient getOrCreateHttpAsyncClient() throws GeneralSecurityException, IOException {
+        lock.lock();
+        try {
+            if (httpAsyncClient == null) {
+                httpAsyncClient = createHttpAsyncClient();
+                httpAsyncClientCreated = true;
+            }
+            if (httpAsyncClient.getStatus() == IOReactorStatus.INACTIVE) {
+                httpAsyncClient.start();
+            }
+            return httpAsyncClient;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets a custom async HttpClient to be used by the producer when useAsyncClient is enabled
+     */
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        lock.lock();
+        try {
+            this.httpAsyncClient = httpAsyncClient;
+            this.httpAsyncClientCreated = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance
+     * <p/>
+     * Producers should use the {@link #getOrCreateHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws GeneralSecurityException, IOException {
+        HttpComponent component = getComponent();
+
+        SSLContext sslContext;
+        if (sslContextParameters != null) {
+            sslContext = sslContextParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                .setSslContext(sslContext)
+                .setHostnameVerifier(x509HostnameVerifier != null ? x509HostnameVerifier : component.getX509HostnameVerifier())
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .setResponseTimeout(responseTimeout)
+                .build();
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(soTimeout)
+                .build();
+        // need to use noop cookiestore as we do not want to keep cookies in memory when bridging
+        CookieStore store = isBridgeEndpoint() ? new NoopCookieStore() : cookieStore;
+
+        CloseableHttpAsyncClient answer;
+        if (httpVersionPolicy == HttpVersionPolicy.FORCE_HTTP_2) {
+            // HTTP/2 only which multiplexes the requests over a single connection per server
+            H2AsyncClientBuilder builder = H2AsyncClientBuilder.create()
+                    .setTlsStrategy(tlsStrategy)
+                    .setDefaultRequestConfig(requestConfig)
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .setDefaultCookieStore(store);
+            if (isFollowRedirects()) {
+                builder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+            } else {
+                builder.disableRedirectHandling();
+            }
+            if (component.isCookieManagementDisabled()) {
+                builder.disableCookieManagement();
+            }
+            if (userAgent != null) {
+                builder.setUserAgent(userAgent);
+            }
+            answer = builder.build();
+        } else {
+            PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                    .setTlsStrategy(tlsStrategy)
+                    .setMaxConnTotal(maxTotalConnections > 0 ? maxTotalConnections : component.getMaxTotalConnections())
+                    .setMaxConnPerRoute(connectionsPerRoute > 0 ? connectionsPerRoute : component.getConnectionsPerRoute())
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .build();
+            HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create()
+                    .setConnectionManager(connectionManager)
+                    .setVersionPolicy(httpVersionPolicy)
+                    .setDefaultRequestConfig(requestConfig)
+                    .setDefaultCookieStore(store);
+            if (isFollowRedirects()) {
+                builder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+            } else {
+                builder.disableRedirectHandling();
+            }
+            if (component.isCookieManagementDisabled()) {
+                builder.disableCookieManagement();
+            }
+            if (userAgent != null) {
+                builder.setUserAgent(userAgent);
+            }
+            answer = builder.build();
+        }
+
+        LOG.debug("Created async HttpClient {} with version policy {}", answer, httpVersionPolicy);
+        return answer;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -311,6 +459,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable closeable) {
             IOHelper.close(closeable);
         }
+        if (httpAsyncClient != null && httpAsyncClientCreated) {
+            httpAsyncClient.close(CloseMode.GRACEFUL);
+            // a closed client cannot be started again, so a new client is created if the endpoint is restarted
+            httpAsyncClient = null;
+            httpAsyncClientCreated = false;
+        }
     }
 
     // Properties
@@ -468,6 +622,32 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.useSystemProperties = useSystemProperties;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking async HttpClient. The calling thread is then not blocked while
+     * waiting for the HTTP response, which allows many concurrent in-flight requests to slow servers without a thread
+     * per request.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public HttpVersionPolicy getHttpVersionPolicy() {
+        return httpVersionPolicy;
+    }
+
+    /**
+     * The HTTP protocol version policy of the async HttpClient. NEGOTIATE uses HTTP/2 when agreed with the server
+     * during the TLS handshake, and otherwise HTTP/1.1. FORCE_HTTP_2 always uses HTTP/2 (also without TLS), and
+     * multiplexes concurrent requests to the same server over a single connection.
+     */
+    public void setHttpVersionPolicy(HttpVersionPolicy httpVersionPolicy) {
+        this.httpVersionPolicy = httpVersionPolicy;
+    }
+
     public int getMaxTotalConnections() {
         return maxTotalConnections;
     }
@@ -148,6 +148,41 @@ public class HttpProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpUriRequest httpRequest = prepareRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+
+        // lets store the result in the output message.
+        try {
+            executeMethod(
+                    httpHost, httpRequest,
+                    httpResponse -> {
+                        try {
+                            handleResponse(exchange, httpRequest, httpResponse, strategy);
+                        } catch (IOException | HttpException | RuntimeCamelException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new RuntimeCamelException(e);
+                        }
+                        return null;
+                    });
+        } catch (RuntimeCamelException e) {
+            if (e.getCause() instanceof Exception ex) {
+                // Rethrow the embedded exception to simulate the same behavior as with version 4
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the HTTP request to send for the given exchange, including the HTTP headers and cookies.
+     *
+     * @param  exchange  the exchange
+     * @return           the HTTP request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpUriRequest prepareRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -167,7 +202,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpUriRequest httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(HttpConstants.HTTP_PROTOCOL_VERSION, String.class);
@@ -242,87 +276,82 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HeaderElements.CLOSE);
         }
 
-        // lets store the result in the output message.
+        return httpRequest;
+    }
+
+    /**
+     * Handles the HTTP response by populating the response on the exchange, or by throwing the exception to use when
+     * the response code is not a success.
+     *
+     * @param  exchange     the exchange
+     * @param  httpRequest  the HTTP request that was sent
+     * @param  httpResponse the received HTTP response
+     * @param  strategy     the header filter strategy
+     * @throws Exception    is thrown if the response is a failure or could not be populated
+     */
+    protected void handleResponse(
+            Exchange exchange, HttpUriRequest httpRequest, ClassicHttpResponse httpResponse, HeaderFilterStrategy strategy)
+            throws Exception {
         try {
-            executeMethod(
-                    httpHost, httpRequest,
-                    httpResponse -> {
-                        try {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
-                            }
-                            int responseCode = httpResponse.getCode();
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Http responseCode: {}", responseCode);
-                            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+            }
+            int responseCode = httpResponse.getCode();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Http responseCode: {}", responseCode);
+            }
 
-                            if (!throwException) {
-                                // if we do not use failed exception then populate response for all response codes
-                                HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                            } else {
-                                boolean ok;
-                                if (minOkRange > 0) {
-                                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                                } else {
-                                    ok = HttpHelper.isStatusCodeOk(responseCode,
-                                            HttpProducer.this.getEndpoint().getOkStatusCodeRange());
-                                }
-                                if (ok) {
-                                    // only populate response for OK response
-                                    HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy,
-                                            responseCode);
-                                } else {
-                                    // operation failed so populate exception to throw
-                                    throw HttpProducer.this.populateHttpOperationFailedException(exchange, httpRequest,
-                                            httpResponse, responseCode);
-                                }
-                            }
-                        } catch (IOException | HttpException | RuntimeCamelException e) {
-                            throw e;
+            if (!throwException) {
+                // if we do not use failed exception then populate response for all response codes
+                populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+            } else {
+                boolean ok;
+                if (minOkRange > 0) {
+                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+                } else {
+                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+                }
+                if (ok) {
+                    // only populate response for OK response
+                    populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+                } else {
+                    // operation failed so populate exception to throw
+                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
+                }
+            }
+        } finally {
+            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange1) {
+                        try {
+                            EntityUtils.consume(httpResponse.getEntity());
                         } catch (Exception e) {
-                            throw new RuntimeCamelException(e);
+                            // ignore
                         } finally {
-                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
-                                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
-                                    @Override
-                                    public void onDone(Exchange exchange1) {
-                                        try {
-                                            EntityUtils.consume(httpResponse.getEntity());
-                                        } catch (Exception e) {
-                                            // ignore
-                                        } finally {
-                                            try {
-                                                EntityUtils.consume(httpRequest.getEntity());
-                                            } catch (Exception e) {
-                                                // ignore
-                                            }
-                                        }
-                                    }
-                                });
-                            } else if (httpResponse != null) {
-                                // close the stream now
-                                try {
-                                    EntityUtils.consume(httpResponse.getEntity());
-                                } catch (Exception e) {
-                                    // ignore
-                                } finally {
-                                    try {
-                                        EntityUtils.consume(httpRequest.getEntity());
-                                    } catch (Exception e) {
-                                        // ignore
-                                    }
-                                }
+                            try {
+                                EntityUtils.consume(httpRequest.getEntity());
+                            } catch (Exception e) {
+                                // ignore
                             }
                         }
-                        return null;
-                    });
-        } catch (RuntimeCamelException e) {
-            if (e.getCause() instanceof Exception ex) {
-                // Rethrow the embedded exception to simulate the same behavior as with version 4
-                throw ex;
+                    }
+                });
+            } else if (httpResponse != null) {
+                // close the stream now
+                try {
+                    EntityUtils.consume(httpResponse.getEntity());
+                } catch (Exception e) {
+                    // ignore
+                } finally {
+                    try {
+                        EntityUtils.consume(httpRequest.getEntity());
+                    } catch (Exception e) {
+                        // ignore
+                    }
+                }
             }
-            throw e;
         }
     }
 
@@ -475,17 +504,23 @@ public class HttpProducer extends DefaultProducer {
      */
     protected <T> T executeMethod(HttpHost httpHost, HttpUriRequest httpRequest, HttpClientResponseHandler<T> handler)
             throws IOException, HttpException {
-        HttpContext localContext;
-        if (httpContext != null) {
-            localContext = new BasicHttpContext(httpContext);
-        } else {
-            localContext = HttpClientContext.create();
-        }
+        HttpContext localContext = createLocalContext();
         // execute open that does not automatic close response input-stream (this is done in exchange on-completion by Camel)
         ClassicHttpResponse res = httpClient.executeOpen(httpHost, httpRequest, localContext);
         return handler.handleResponse(res);
     }
 
+    /**
+     * Creates the local {@link HttpContext} to use when executing a request.
+     */
+    protected HttpContext createLocalContext() {
+        if (httpContext != null) {
+            return new BasicHttpContext(httpContext);
+        } else {
+            return HttpClientContext.create();
+        }
+    }
+
     /**
      * Extracts the response headers
      *
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicServerExchangeHandler;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.http2.ssl.H2ServerTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerHttp2Test extends BaseHttpTest {
+
+    private final Set<Object> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService serverPool = Executors.newCachedThreadPool();
+
+    private HttpAsyncServer localServer;
+
+    private String baseUrl;
+
+    @Override
+    public void setupResources() throws Exception {
+        localServer = H2ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost")
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                // avoid the default TLS strategy which initializes the JVM default SSLContext used by other tests
+                .setTlsStrategy(new H2ServerTlsStrategy(SSLContexts.createDefault()))
+                .register("*", () -> new AbstractClassicServerExchangeHandler(1024, serverPool) {
+                    @Override
+                    protected void handle(
+                            HttpRequest request, InputStream requestStream, HttpResponse response,
+                            OutputStream responseStream, HttpContext context)
+                            throws IOException {
+                        connections.add(HttpCoreContext.cast(context).getEndpointDetails().getRemoteAddress());
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            // ignore
+                        }
+                        response.setCode(HttpStatus.SC_OK);
+                        responseStream.write(request.getVersion().toString().getBytes(StandardCharsets.UTF_8));
+                    }
+                }).create();
+        localServer.start();
+        ListenerEndpoint listener = localServer.listen(new InetSocketAddress(0), URIScheme.HTTP).get();
+        int port = ((InetSocketAddress) listener.getAddress()).getPort();
+
+        baseUrl = "http://localhost:" + port;
+    }
+
+    @Override
+    public void cleanupResources() {
+        if (localServer != null) {
+            localServer.close(CloseMode.IMMEDIATE);
+        }
+        serverPool.shutdownNow();
+    }
+
+    @Test
+    public void testHttp2() {
+        String out = template.requestBody(baseUrl + "/hello?useAsyncClient=true&httpVersionPolicy=FORCE_HTTP_2", null,
+                String.class);
+        assertEquals("HTTP/2.0", out);
+    }
+
+    @Test
+    public void testHttp2Multiplexing() throws Exception {
+        final int size = 50;
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/hello?useAsyncClient=true&httpVersionPolicy=FORCE_HTTP_2",
+                HttpEndpoint.class);
+        AsyncProducer producer = AsyncProcessorConverterHelper.convert(endpoint.createProducer());
+        producer.start();
+
+        // warm up so the connection is established
+        Exchange first = endpoint.createExchange();
+        producer.process(first);
+        assertEquals("HTTP/2.0", first.getMessage().getBody(String.class));
+
+        CountDownLatch latch = new CountDownLatch(size);
+        Exchange[] exchanges = new Exchange[size];
+        for (int i = 0; i < size; i++) {
+            exchanges[i] = endpoint.createExchange();
+            producer.process(exchanges[i], doneSync -> latch.countDown());
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "Should complete all requests");
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals("HTTP/2.0", exchange.getMessage().getBody(String.class));
+        }
+        // all the requests should be multiplexed over the same connection
+        assertEquals(1, connections.size());
+        producer.stop();
+    }
+}
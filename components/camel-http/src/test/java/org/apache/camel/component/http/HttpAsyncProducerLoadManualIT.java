@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.util.StopWatch;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the blocking and the async HTTP producer with a local stub server which has a fixed latency, at different
+ * levels of concurrent in-flight requests.
+ */
+@Disabled("Manual integration test")
+public class HttpAsyncProducerLoadManualIT extends BaseHttpTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducerLoadManualIT.class);
+
+    private static final int REQUESTS = 5000;
+    private static final int LATENCY = 20;
+    private static final int[] CONCURRENCY = { 1, 10, 50, 200 };
+
+    private HttpServer localServer;
+
+    @Override
+    public void setupResources() throws Exception {
+        localServer = ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost").setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/stub", (request, response, context) -> {
+                    try {
+                        Thread.sleep(LATENCY);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                    response.setCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("Bye World", ContentType.TEXT_PLAIN));
+                }).create();
+        localServer.start();
+    }
+
+    @Override
+    public void cleanupResources() throws Exception {
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testProducerLoad() throws Exception {
+        for (int concurrency : CONCURRENCY) {
+            String uri = "http://localhost:" + localServer.getLocalPort() + "/stub?connectionsPerRoute=" + concurrency;
+            long sync = runBlocking(uri, concurrency);
+            long async = runAsync(uri + "&useAsyncClient=true", concurrency);
+            LOG.info("Concurrency {}: blocking producer took {} ms ({} threads), async producer took {} ms (1 thread)",
+                    concurrency, sync, concurrency, async);
+        }
+    }
+
+    private long runBlocking(String uri, int concurrency) throws Exception {
+        Producer producer = context.getEndpoint(uri).createProducer();
+        producer.start();
+
+        // the blocking producer needs a thread per in-flight request
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    Exchange exchange = producer.getEndpoint().createExchange();
+                    producer.process(exchange);
+                } catch (Exception e) {
+                    LOG.warn("Error sending request", e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        long taken = watch.taken();
+
+        executor.shutdownNow();
+        producer.stop();
+        return taken;
+    }
+
+    private long runAsync(String uri, int concurrency) throws Exception {
+        AsyncProducer producer = AsyncProcessorConverterHelper.convert(context.getEndpoint(uri).createProducer());
+        producer.start();
+
+        // the async producer can have many in-flight requests from a single thread
+        Semaphore inflight = new Semaphore(concurrency);
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < REQUESTS; i++) {
+            inflight.acquire();
+            Exchange exchange = producer.getEndpoint().createExchange();
+            producer.process(exchange, doneSync -> {
+                inflight.release();
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        long taken = watch.taken();
+
+        producer.stop();
+        return taken;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.util.StopWatch;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private static final String LARGE_BODY = "Camel rocks! ".repeat(100000);
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @Override
+    public void setupResources() throws Exception {
+        localServer = ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost").setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/hello", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .register("/echo", (request, response, context) -> {
+                    String body = EntityUtils.toString(request.getEntity());
+                    response.setCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("Bye " + body, ContentType.TEXT_PLAIN));
+                })
+                .register("/large", (request, response, context) -> {
+                    response.setCode(HttpStatus.SC_OK);
+                    // unknown length so the response is chunked
+                    response.setEntity(new InputStreamEntity(
+                            new ByteArrayInputStream(LARGE_BODY.getBytes()), -1, ContentType.TEXT_PLAIN));
+                })
+                .register("/slow", (request, response, context) -> {
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                    response.setCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("Slow", ContentType.TEXT_PLAIN));
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://localhost:" + localServer.getLocalPort();
+    }
+
+    @Override
+    public void cleanupResources() {
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                // the response stream is closed when the exchange is done so it must be read in the route
+                from("direct:stream")
+                        .toF("http://localhost:%s/large?useAsyncClient=true&disableStreamCache=true",
+                                localServer.getLocalPort())
+                        .process(exchange -> assertIsInstanceOf(InputStream.class, exchange.getMessage().getBody()))
+                        .convertBodyTo(String.class);
+            }
+        };
+    }
+
+    @Test
+    public void testAsyncProducer() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/hello?useAsyncClient=true", HttpEndpoint.class);
+        assertInstanceOf(HttpAsyncProducer.class, endpoint.createProducer());
+    }
+
+    @Test
+    public void testRestartEndpoint() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/echo?useAsyncClient=true", HttpEndpoint.class);
+        assertEquals("Bye World", template.requestBody(endpoint, "World", String.class));
+
+        // the endpoint creates a new client when restarted, as the client is closed when stopped
+        endpoint.stop();
+        endpoint.start();
+        AsyncProducer producer = AsyncProcessorConverterHelper.convert(endpoint.createProducer());
+        producer.start();
+        try {
+            Exchange exchange = endpoint.createExchange();
+            exchange.getIn().setBody("Camel");
+            producer.process(exchange);
+            assertNull(exchange.getException());
+            assertEquals("Bye Camel", exchange.getMessage().getBody(String.class));
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testGet() {
+        Exchange exchange = template.request(baseUrl + "/hello?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testPost() {
+        String out = template.requestBody(baseUrl + "/echo?useAsyncClient=true", "World", String.class);
+        assertEquals("Bye World", out);
+    }
+
+    @Test
+    public void testPostStream() {
+        InputStream is = new ByteArrayInputStream("Camel".getBytes());
+        String out = template.requestBody(baseUrl + "/echo?useAsyncClient=true", is, String.class);
+        assertEquals("Bye Camel", out);
+    }
+
+    @Test
+    public void testLargeResponse() {
+        String out = template.requestBody(baseUrl + "/large?useAsyncClient=true", null, String.class);
+        assertEquals(LARGE_BODY, out);
+    }
+
+    @Test
+    public void testLargeResponseStreamCacheDisabled() throws Exception {
+        String out = template.requestBody("direct:stream", null, String.class);
+        assertEquals(LARGE_BODY, out);
+    }
+
+    @Test
+    public void testFailure() {
+        Exchange reply = template.request(baseUrl + "/XXX?useAsyncClient=true", exchange -> {
+        });
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, reply.getException());
+        assertEquals(HttpStatus.SC_NOT_IMPLEMENTED, cause.getStatusCode());
+    }
+
+    @Test
+    public void testNoConnection() {
+        Exchange reply = template.request("http://localhost:1/hello?useAsyncClient=true", exchange -> {
+        });
+
+        assertNotNull(reply.getException());
+    }
+
+    @Test
+    public void testConcurrentRequestsFromSingleThread() throws Exception {
+        final int size = 20;
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/slow?useAsyncClient=true", HttpEndpoint.class);
+        AsyncProducer producer = AsyncProcessorConverterHelper.convert(endpoint.createProducer());
+        producer.start();
+
+        CountDownLatch latch = new CountDownLatch(size);
+        Exchange[] exchanges = new Exchange[size];
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < size; i++) {
+            exchanges[i] = endpoint.createExchange();
+            boolean sync = producer.process(exchanges[i], doneSync -> latch.countDown());
+            assertFalse(sync, "Should be processed asynchronously");
+        }
+
+        // the requests are in-flight at the same time so they should take much less than 20 x 500 millis
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Should complete all requests");
+        assertTrue(watch.taken() < 5000, "Should process the requests concurrently");
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals("Slow", exchange.getMessage().getBody(String.class));
+        }
+        producer.stop();
+    }
+}
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -29,18 +30,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -90,6 +99,36 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private SchemaResolver schemaResolver;
     private boolean autoDiscoverSchemaResolver = true;
     private String namingStrategy;
+    // the readers and writer are immutable and thread-safe, so they are reused as long as the configuration of the
+    // object mapper is the same
+    private volatile ReaderCache readerCache;
+    private volatile WriterCache writerCache;
+
+    /**
+     * The writer created from the configuration of the object mapper. Jackson replaces these immutable configuration
+     * objects when the object mapper is configured (such as when enabling a feature or registering a module).
+     */
+    private record WriterCache(
+            SerializationConfig config, SerializerFactory factory, SerializerProvider provider, ObjectWriter writer) {
+
+        boolean isCurrent(ObjectMapper mapper) {
+            return config == mapper.getSerializationConfig() && factory == mapper.getSerializerFactory()
+                    && provider == mapper.getSerializerProvider();
+        }
+    }
+
+    /**
+     * The readers per unmarshal type created from the configuration of the object mapper.
+     */
+    private record ReaderCache(
+            DeserializationConfig config, DeserializationContext context, InjectableValues injectableValues,
+            Map<Class<?>, ObjectReader> readers) {
+
+        boolean isCurrent(ObjectMapper mapper) {
+            return config == mapper.getDeserializationConfig() && context == mapper.getDeserializationContext()
+                    && injectableValues == mapper.getInjectableValues();
+        }
+    }
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -155,16 +194,13 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        FormatSchema schema = null;
-        if (this.schemaResolver != null) {
-            schema = this.schemaResolver.resolve(exchange);
-        }
+        FormatSchema schema = resolveSchema(exchange);
         if (useWriter) {
             try (OutputStreamWriter writer = new OutputStreamWriter(stream)) {
-                this.objectMapper.writerWithView(jsonView).with(schema).writeValue(writer, graph);
+                getWriter().with(schema).writeValue(writer, graph);
             }
         } else {
-            this.objectMapper.writerWithView(jsonView).with(schema).writeValue(stream, graph);
+            getWriter().with(schema).writeValue(stream, graph);
         }
 
         if (contentTypeHeader) {
@@ -172,6 +208,20 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         }
     }
 
+    @Override
+    public byte[] marshalToBytes(Exchange exchange, Object graph) throws Exception {
+        if (useWriter) {
+            // the writer encodes the characters, so marshal to the stream
+            return null;
+        }
+        byte[] answer = getWriter().with(resolveSchema(exchange)).writeValueAsBytes(graph);
+
+        if (contentTypeHeader) {
+            exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, getDefaultContentType());
+        }
+        return answer;
+    }
+
     @Override
     public Object unmarshal(Exchange exchange, InputStream stream) throws Exception {
         return unmarshal(exchange, (Object) stream);
@@ -179,10 +229,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     @Override
     public Object unmarshal(Exchange exchange, Object body) throws Exception {
-        FormatSchema schema = null;
-        if (this.schemaResolver != null) {
-            schema = this.schemaResolver.resolve(exchange);
-        }
+        FormatSchema schema = resolveSchema(exchange);
         // is there a header with the unmarshal type?
         Class<?> clazz = unmarshalType;
         String type = null;
@@ -196,13 +243,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
 
-        ObjectReader reader;
-        if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            reader = this.objectMapper.readerFor(collType).with(schema);
-        } else {
-            reader = this.objectMapper.reader(schema).forType(clazz);
-        }
+        ObjectReader reader = getReader(clazz).with(schema);
 
         // unwrap file (such as from camel-file)
         if (body instanceof WrappedFile<?>) {
@@ -219,6 +260,10 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
             answer = reader.readValue(f);
         } else if (body instanceof JsonNode n) {
             answer = reader.readValue(n);
+        } else if (body instanceof InputStream is) {
+            answer = reader.readValue(is);
+        } else if (body instanceof ByteBuffer bb && bb.hasArray()) {
+            answer = reader.readValue(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
         } else {
             // fallback to input stream
             InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, body);
@@ -228,6 +273,48 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         return answer;
     }
 
+    private FormatSchema resolveSchema(Exchange exchange) {
+        return schemaResolver != null ? schemaResolver.resolve(exchange) : null;
+    }
+
+    private ObjectWriter getWriter() {
+        ObjectMapper mapper = objectMapper;
+        WriterCache cache = writerCache;
+        if (cache == null || !cache.isCurrent(mapper)) {
+            // the object mapper has been configured since the writer was created
+            cache = new WriterCache(
+                    mapper.getSerializationConfig(), mapper.getSerializerFactory(), mapper.getSerializerProvider(),
+                    mapper.writerWithView(jsonView));
+            writerCache = cache;
+        }
+        return cache.writer();
+    }
+
+    private ObjectReader getReader(Class<?> clazz) {
+        if (clazz == null) {
+            return createReader(null);
+        }
+        ObjectMapper mapper = objectMapper;
+        ReaderCache cache = readerCache;
+        if (cache == null || !cache.isCurrent(mapper)) {
+            // the object mapper has been configured since the readers were created
+            cache = new ReaderCache(
+                    mapper.getDeserializationConfig(), mapper.getDeserializationContext(), mapper.getInjectableValues(),
+                    new ConcurrentHashMap<>());
+            readerCache = cache;
+        }
+        return cache.readers().computeIfAbsent(clazz, this::createReader);
+    }
+
+    private ObjectReader createReader(Class<?> clazz) {
+        if (collectionType != null) {
+            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
+            return objectMapper.readerFor(collType);
+        } else {
+            return objectMapper.reader().forType(clazz);
+        }
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -237,6 +324,9 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        // the readers and writer are created from the object mapper
+        this.readerCache = null;
+        this.writerCache = null;
     }
 
     public boolean isUseDefaultObjectMapper() {
@@ -277,6 +367,8 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setCollectionType(Class<? extends Collection> collectionType) {
         this.collectionType = collectionType;
+        // the readers are created for the collection type
+        this.readerCache = null;
     }
 
     public String getCollectionTypeName() {
@@ -293,6 +385,8 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        // the writer is created for the json view
+        this.writerCache = null;
     }
 
     public String getJsonViewTypeName() {
@@ -628,6 +722,10 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         } else {
             LOG.debug("The option autoDiscoverSchemaResolver is set to false, Camel won't search in the registry");
         }
+
+        // create the readers and writer from the configured object mapper
+        readerCache = null;
+        writerCache = null;
     }
 
     private boolean resolveObjectMapper() {
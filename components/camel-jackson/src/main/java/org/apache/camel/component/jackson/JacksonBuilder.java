@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import org.apache.camel.Expression;
+
+/**
+ * Builder for Jackson support.
+ */
+public final class JacksonBuilder {
+
+    private JacksonBuilder() {
+        // no-op
+    }
+
+    /**
+     * Creates a {@link JsonTokenizeIteratorExpression} which returns the JSON of the elements as byte arrays.
+     *
+     * @param path the path of the array, such as <tt>$.items[*]</tt>
+     */
+    public static Expression jsonTokenize(String path) {
+        return new JsonTokenizeIteratorExpression<>(path, byte[].class);
+    }
+
+    /**
+     * Creates a {@link JsonTokenizeIteratorExpression}.
+     *
+     * @param path the path of the array, such as <tt>$.items[*]</tt>
+     * @param type the type of the elements, which is a byte array, String, or a type to bind with Jackson
+     */
+    public static <T> Expression jsonTokenize(String path, Class<T> type) {
+        return new JsonTokenizeIteratorExpression<>(path, type);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * {@link org.apache.camel.Expression} to walk the elements of a JSON array in the message body using an
+ * {@link Iterator}, which uses the Jackson streaming {@link JsonParser}, so only one element of the array is in memory
+ * at any time. This is intended to be used with the splitter in streaming mode, to split big JSON arrays.
+ * <p/>
+ * The array is selected with a path, which is <tt>$[*]</tt> for an array which is the root of the JSON document, or a
+ * path of field names to the array such as <tt>$.order.items[*]</tt>. Other JSONPath features such as filters are not
+ * supported.
+ * <p/>
+ * The elements are returned as a byte array with the JSON of the element (by default), as a String, or bound to the
+ * given type using the Jackson {@link ObjectMapper}.
+ */
+public class JsonTokenizeIteratorExpression<T> extends ExpressionAdapter {
+
+    private final String path;
+    private final List<String> fieldNames;
+    private final Class<T> type;
+    private ObjectMapper objectMapper;
+
+    /**
+     * Creates this expression.
+     *
+     * @param path the path of the array, such as <tt>$.items[*]</tt>
+     * @param type the type of the elements, which is a byte array, String, or a type to bind with Jackson
+     */
+    public JsonTokenizeIteratorExpression(String path, Class<T> type) {
+        ObjectHelper.notNull(path, "path");
+        ObjectHelper.notNull(type, "type");
+        this.path = path;
+        this.fieldNames = parsePath(path);
+        this.type = type;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * The object mapper to use for parsing and binding the elements. If not set, then a single {@link ObjectMapper} in
+     * the registry is used, or a default {@link ObjectMapper} is created.
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        super.init(context);
+        if (objectMapper == null) {
+            Set<ObjectMapper> mappers = context.getRegistry().findByType(ObjectMapper.class);
+            objectMapper = mappers.size() == 1 ? mappers.iterator().next() : new ObjectMapper();
+        }
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        if (objectMapper == null) {
+            init(exchange.getContext());
+        }
+        InputStream inputStream = null;
+        try {
+            Object body = exchange.getIn().getBody();
+            JsonParser parser;
+            if (body instanceof String str) {
+                parser = objectMapper.getFactory().createParser(str);
+            } else if (body instanceof byte[] data) {
+                parser = objectMapper.getFactory().createParser(data);
+            } else {
+                inputStream = exchange.getIn().getMandatoryBody(InputStream.class);
+                parser = objectMapper.getFactory().createParser(inputStream);
+            }
+            if (!seekArray(parser)) {
+                parser.close();
+                IOHelper.close(inputStream);
+                return Collections.emptyIterator();
+            }
+            return new JsonTokenizeIterator<>(objectMapper, parser, inputStream, type);
+        } catch (InvalidPayloadException | IOException e) {
+            IOHelper.close(inputStream);
+            exchange.setException(e);
+            return null;
+        }
+    }
+
+    /**
+     * Moves the parser to the start of the array.
+     *
+     * @return <tt>true</tt> if the parser is at the start of the array, or <tt>false</tt> if the path does not exist
+     */
+    private boolean seekArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        for (String fieldName : fieldNames) {
+            if (token != JsonToken.START_OBJECT) {
+                return false;
+            }
+            boolean found = false;
+            while (!found && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                token = parser.nextToken();
+                if (fieldName.equals(name)) {
+                    found = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        if (token == JsonToken.VALUE_NULL || token == null) {
+            return false;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("The JSON value at path: " + path + " is not an array but: " + token);
+        }
+        return true;
+    }
+
+    /**
+     * Parses the path into the field names which lead to the array.
+     */
+    private static List<String> parsePath(String path) {
+        String text = path.trim();
+        if (!text.startsWith("$")) {
+            throw new IllegalArgumentException("The path must start with $ but was: " + path);
+        }
+        if (text.endsWith("[*]")) {
+            text = text.substring(0, text.length() - 3);
+        }
+        List<String> answer = new ArrayList<>();
+        int i = 1;
+        while (i < text.length()) {
+            char ch = text.charAt(i);
+            if (ch == '.') {
+                int end = i + 1;
+                while (end < text.length() && text.charAt(end) != '.' && text.charAt(end) != '[') {
+                    end++;
+                }
+                answer.add(text.substring(i + 1, end));
+                i = end;
+            } else if (text.startsWith("['", i)) {
+                int end = text.indexOf("']", i + 2);
+                if (end == -1) {
+                    throw new IllegalArgumentException("The path has an unterminated field name: " + path);
+                }
+                answer.add(text.substring(i + 2, end));
+                i = end + 2;
+            } else {
+                throw new IllegalArgumentException(
+                        "The path only supports field names and [*] at the end, such as $.items[*], but was: " + path);
+            }
+        }
+        if (answer.contains("")) {
+            throw new IllegalArgumentException("The path has an empty field name: " + path);
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "jsonTokenize(" + path + ")";
+    }
+
+    /**
+     * Iterator to walk the elements of the array with the JSON parser
+     */
+    static class JsonTokenizeIterator<T> implements Iterator<T>, Closeable {
+
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private final InputStream inputStream;
+        private final Class<T> type;
+        private ByteArrayOutputStream buffer;
+        private boolean hasElement;
+        private boolean done;
+
+        JsonTokenizeIterator(ObjectMapper objectMapper, JsonParser parser, InputStream inputStream, Class<T> type) {
+            this.objectMapper = objectMapper;
+            this.parser = parser;
+            this.inputStream = inputStream;
+            this.type = type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!hasElement && !done) {
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY || token == null) {
+                        done = true;
+                        close();
+                    } else {
+                        hasElement = true;
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeCamelException(e);
+                }
+            }
+            return hasElement;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasElement = false;
+            try {
+                if (type == byte[].class) {
+                    return (T) copyElement();
+                } else if (type == String.class) {
+                    return (T) new String(copyElement(), StandardCharsets.UTF_8);
+                } else {
+                    // the parser is moved to the end of the element
+                    return objectMapper.readValue(parser, type);
+                }
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+
+        private byte[] copyElement() throws IOException {
+            if (buffer == null) {
+                buffer = new ByteArrayOutputStream();
+            } else {
+                buffer.reset();
+            }
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public void close() throws IOException {
+            done = true;
+            try {
+                parser.close();
+            } finally {
+                IOHelper.close(inputStream);
+            }
+        }
+    }
+}
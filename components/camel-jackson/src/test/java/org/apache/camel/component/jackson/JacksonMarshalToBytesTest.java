@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JacksonMarshalToBytesTest extends CamelTestSupport {
+
+    private final JacksonDataFormat viewFormat = new JacksonDataFormat(TestPojoView.class);
+    private final JacksonDataFormat listFormat = new JacksonDataFormat(TestPojo.class);
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JacksonDataFormat mapperFormat = new JacksonDataFormat(mapper, TestPojo.class);
+
+    @Test
+    public void testMarshalToBytes() {
+        TestPojo pojo = new TestPojo();
+        pojo.setName("Camel");
+
+        // stream caching is disabled, so the data format marshals directly to a byte array
+        Object marshalled = template.requestBody("direct:in", pojo);
+        byte[] data = assertInstanceOf(byte[].class, marshalled);
+        assertEquals("{\"name\":\"Camel\"}", new String(data, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnmarshalByteBuffer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(TestPojo.class);
+
+        byte[] data = "xx{\"name\":\"Camel\"}xx".getBytes(StandardCharsets.UTF_8);
+        template.sendBody("direct:back", ByteBuffer.wrap(data, 2, data.length - 4).slice());
+
+        mock.assertIsSatisfied();
+        assertEquals("Camel", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testReuseReaderAndWriter() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            TestPojo pojo = new TestPojo();
+            pojo.setName("Camel" + i);
+            template.sendBody("direct:back", template.requestBody("direct:in", pojo));
+        }
+
+        mock.assertIsSatisfied();
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Camel" + i, mock.getReceivedExchanges().get(i).getIn().getBody(TestPojo.class).getName());
+        }
+    }
+
+    @Test
+    public void testMarshalMapToBytes() {
+        Object marshalled = template.requestBody("direct:map", Map.of("name", "Camel"));
+        assertEquals("{\"name\":\"Camel\"}", new String(assertInstanceOf(byte[].class, marshalled), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testChangeJsonView() {
+        String json = new String(template.requestBody("direct:view", new TestPojoView(), byte[].class), StandardCharsets.UTF_8);
+        assertTrue(json.contains("weight"), json);
+
+        // the cached writer must not be used with the previous json view
+        viewFormat.setJsonView(Views.Age.class);
+        json = new String(template.requestBody("direct:view", new TestPojoView(), byte[].class), StandardCharsets.UTF_8);
+        assertFalse(json.contains("weight"), json);
+        assertTrue(json.contains("age"), json);
+    }
+
+    @Test
+    public void testChangeCollectionType() {
+        Object body = template.requestBody("direct:list", "{\"name\":\"Camel\"}");
+        assertEquals("Camel", assertInstanceOf(TestPojo.class, body).getName());
+
+        // the cached readers must not be used with the previous collection type
+        listFormat.setCollectionType(ArrayList.class);
+        body = template.requestBody("direct:list", "[{\"name\":\"Camel\"}]");
+        List<?> list = assertInstanceOf(ArrayList.class, body);
+        assertEquals("Camel", assertInstanceOf(TestPojo.class, list.get(0)).getName());
+    }
+
+    @Test
+    public void testChangeObjectMapper() {
+        TestPojo pojo = new TestPojo();
+        pojo.setName("Camel");
+        String json = new String(template.requestBody("direct:mapper", pojo, byte[].class), StandardCharsets.UTF_8);
+        assertEquals("{\"name\":\"Camel\"}", json);
+        String unknown = "{\"name\":\"Camel\",\"unknown\":1}";
+        assertThrows(CamelExecutionException.class, () -> template.requestBody("direct:mapper-back", unknown));
+
+        // the cached writer and readers must not be used when the object mapper is configured afterwards
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        json = new String(template.requestBody("direct:mapper", pojo, byte[].class), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\n"), json);
+        Object body = template.requestBody("direct:mapper-back", unknown);
+        assertEquals("Camel", assertInstanceOf(TestPojo.class, body).getName());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() {
+                context.setStreamCaching(false);
+
+                JacksonDataFormat format = new JacksonDataFormat(TestPojo.class);
+
+                from("direct:in").marshal(format);
+                from("direct:back").unmarshal(format).to("mock:reverse");
+                from("direct:map").marshal().json();
+                from("direct:view").marshal(viewFormat);
+                from("direct:list").unmarshal(listFormat);
+                from("direct:mapper").marshal(mapperFormat);
+                from("direct:mapper-back").unmarshal(mapperFormat);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.jackson.JacksonBuilder.jsonTokenize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Splits a big JSON array file (1 GB by default), and measures the time and the peak heap used. Run with
+ * <tt>-Djackson.manual.tests=true</tt>, and optionally <tt>-Djackson.manual.tests.size=MB</tt>, and compare with
+ * splitting the unmarshalled list (with a heap which is big enough).
+ */
+@EnabledIfSystemProperty(named = "jackson.manual.tests", matches = "true", disabledReason = "Manual test")
+public class JsonTokenizeIteratorExpressionManualTest extends CamelTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonTokenizeIteratorExpressionManualTest.class);
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong count = new AtomicLong();
+
+    @Test
+    public void testSplitBigArray() throws Exception {
+        long size = Long.getLong("jackson.manual.tests.size", 1024) * 1024 * 1024;
+        Path file = dir.resolve("big.json");
+        long elements = writeArray(file, size);
+        LOG.info("Created file: {} with {} bytes and {} elements", file, Files.size(file), elements);
+
+        System.gc();
+        long usedBefore = usedHeap();
+        StopWatch watch = new StopWatch();
+        template.sendBody("direct:start", file.toFile());
+        long taken = watch.taken();
+
+        assertEquals(elements, count.get());
+        LOG.info("Split {} elements in {} ({} elements/sec) using {} MB of heap", elements,
+                TimeUtils.printDuration(taken, true), elements * 1000 / Math.max(1, taken),
+                (usedHeap() - usedBefore) / 1024 / 1024);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long writeArray(Path file, long size) throws Exception {
+        long elements = 0;
+        long written = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+            out.write('[');
+            while (written < size) {
+                String element = (elements > 0 ? "," : "") + "{\"name\":\"Camel " + elements
+                                 + " which is riding on the JSON array\"}";
+                byte[] data = element.getBytes(StandardCharsets.UTF_8);
+                out.write(data);
+                written += data.length;
+                elements++;
+            }
+            out.write(']');
+        }
+        return elements;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(jsonTokenize("$[*]", TestPojo.class)).streaming()
+                        .process(e -> count.incrementAndGet());
+            }
+        };
+    }
+}
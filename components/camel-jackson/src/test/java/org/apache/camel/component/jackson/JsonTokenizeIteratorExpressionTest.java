@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.jackson.JacksonBuilder.jsonTokenize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonTokenizeIteratorExpressionTest extends CamelTestSupport {
+
+    private static final String ORDER
+            = "{\"id\": 1, \"customer\": {\"items\": [0]}, \"items\": [{\"name\": \"Camel\"}, {\"name\": \"Donkey\"}, null],"
+              + " \"total\": 2}";
+
+    @Test
+    public void testSplitRootArray() throws Exception {
+        getMockEndpoint("mock:bytes").expectedBodiesReceived("{\"name\":\"Camel\"}", "[1,2]", "\"text\"");
+
+        template.sendBody("direct:bytes", "[{\"name\": \"Camel\"}, [1, 2], \"text\"]".getBytes(StandardCharsets.UTF_8));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSplitString() throws Exception {
+        getMockEndpoint("mock:string").expectedBodiesReceived("{\"name\":\"Camel\"}", "{\"name\":\"Donkey\"}", "null");
+
+        template.sendBody("direct:string", new ByteArrayInputStream(ORDER.getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSplitPojo() throws Exception {
+        TestPojo camel = new TestPojo();
+        camel.setName("Camel");
+        TestPojo donkey = new TestPojo();
+        donkey.setName("Donkey");
+        getMockEndpoint("mock:pojo").expectedBodiesReceived(camel, donkey);
+
+        template.sendBody("direct:pojo", "{\"order\": {\"items\": [{\"name\": \"Camel\"}, {\"name\": \"Donkey\"}]}}");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSplitMissingArray() throws Exception {
+        getMockEndpoint("mock:pojo").expectedMessageCount(0);
+
+        template.sendBody("direct:pojo", "{\"order\": {\"lines\": [{\"name\": \"Camel\"}]}}");
+        template.sendBody("direct:pojo", "{\"order\": {\"items\": null}}");
+        template.sendBody("direct:pojo", "[]");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSplitNotArray() {
+        assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("direct:pojo", "{\"order\": {\"items\": {\"name\": \"Camel\"}}}"));
+    }
+
+    @Test
+    public void testInvalidPath() {
+        assertThrows(IllegalArgumentException.class, () -> jsonTokenize("items[*]"));
+        assertThrows(IllegalArgumentException.class, () -> jsonTokenize("$.items[?(@.price < 10)]"));
+        assertThrows(IllegalArgumentException.class, () -> jsonTokenize("$..items[*]"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:bytes").split(jsonTokenize("$[*]")).streaming().convertBodyTo(String.class).to("mock:bytes");
+
+                from("direct:string").split(jsonTokenize("$.items[*]", String.class)).streaming().to("mock:string");
+
+                from("direct:pojo").split(jsonTokenize("$['order'].items[*]", TestPojo.class)).streaming()
+                        .to("mock:pojo");
+            }
+        };
+    }
+}
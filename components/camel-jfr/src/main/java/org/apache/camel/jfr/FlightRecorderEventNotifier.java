@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.RejectedExecutionException;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import org.apache.camel.Exchange;
+import org.apache.camel.SafeCopyProperty;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeRedeliveryEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeSendingEvent;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.EventNotifierSupport;
+
+/**
+ * Event notifier that emits runtime events for exchanges, endpoint sends, redeliveries, thread pool rejections and
+ * stream caching to Java Flight Recorder.
+ * <p/>
+ * All the events are disabled by default, and must be enabled in the JFR recording (such as a custom .jfc file) to be
+ * recorded. The notifier is only enabled for the Camel events which are needed by the JFR events that are enabled, so
+ * when no JFR recording is running then Camel does not notify this notifier at all.
+ *
+ * @see FlightRecorderInterceptStrategy for events about the processors being invoked
+ */
+public class FlightRecorderEventNotifier extends EventNotifierSupport {
+
+    private static final String STATE = "CamelFlightRecorderState";
+
+    private static final EventType EXCHANGE = EventType.getEventType(FlightRecorderExchange.class);
+    private static final EventType ENDPOINT_SEND = EventType.getEventType(FlightRecorderEndpointSend.class);
+    private static final EventType REDELIVERY = EventType.getEventType(FlightRecorderRedelivery.class);
+    private static final EventType THREAD_POOL_REJECTION = EventType.getEventType(FlightRecorderThreadPoolRejection.class);
+
+    private final Runnable streamCacheHook = this::emitStreamCacheSpool;
+
+    public FlightRecorderEventNotifier() {
+        setIgnoreCamelContextEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        switch (event.getType()) {
+            case ExchangeCreated:
+                return EXCHANGE.isEnabled();
+            case ExchangeCompleted:
+            case ExchangeFailed:
+                return EXCHANGE.isEnabled() || THREAD_POOL_REJECTION.isEnabled();
+            case ExchangeSending:
+            case ExchangeSent:
+                return ENDPOINT_SEND.isEnabled();
+            case ExchangeRedelivery:
+                return REDELIVERY.isEnabled();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        switch (event.getType()) {
+            case ExchangeCreated:
+                onExchangeCreated(((ExchangeEvent) event).getExchange());
+                break;
+            case ExchangeCompleted:
+            case ExchangeFailed:
+                onExchangeDone(((ExchangeEvent) event).getExchange());
+                break;
+            case ExchangeSending:
+                onExchangeSending((ExchangeSendingEvent) event);
+                break;
+            case ExchangeSent:
+                onExchangeSent(((ExchangeEvent) event).getExchange());
+                break;
+            case ExchangeRedelivery:
+                onExchangeRedelivery((ExchangeRedeliveryEvent) event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onExchangeCreated(Exchange exchange) {
+        FlightRecorderExchange jfr = new FlightRecorderExchange();
+        if (jfr.isEnabled()) {
+            jfr.begin();
+            getOrCreateState(exchange).exchange = jfr;
+        }
+    }
+
+    private void onExchangeDone(Exchange exchange) {
+        State state = exchange.getExchangeExtension().getSafeCopyProperty(STATE, State.class);
+        if (state != null && state.exchange != null) {
+            FlightRecorderExchange jfr = state.exchange;
+            state.exchange = null;
+            jfr.end();
+            if (jfr.shouldCommit()) {
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.routeId = exchange.getFromRouteId();
+                jfr.endpointUri = exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null;
+                jfr.failed = exchange.isFailed();
+                jfr.commit();
+            }
+        }
+
+        RejectedExecutionException cause = exchange.getException(RejectedExecutionException.class);
+        if (cause != null) {
+            FlightRecorderThreadPoolRejection jfr = new FlightRecorderThreadPoolRejection();
+            if (jfr.isEnabled()) {
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.routeId = exchange.getFromRouteId();
+                jfr.message = cause.getMessage();
+                jfr.commit();
+            }
+        }
+    }
+
+    private void onExchangeSending(ExchangeSendingEvent event) {
+        FlightRecorderEndpointSend jfr = new FlightRecorderEndpointSend();
+        if (jfr.isEnabled()) {
+            jfr.exchangeId = event.getExchange().getExchangeId();
+            jfr.endpointUri = event.getEndpoint().getEndpointUri();
+            jfr.begin();
+            // sending can be nested, such as sending to a direct endpoint which sends to other endpoints
+            getOrCreateState(event.getExchange()).sends.push(jfr);
+        }
+    }
+
+    private void onExchangeSent(Exchange exchange) {
+        State state = exchange.getExchangeExtension().getSafeCopyProperty(STATE, State.class);
+        if (state != null && !state.sends.isEmpty()) {
+            FlightRecorderEndpointSend jfr = state.sends.pop();
+            jfr.end();
+            if (jfr.shouldCommit()) {
+                jfr.failed = exchange.isFailed();
+                jfr.commit();
+            }
+        }
+    }
+
+    private void onExchangeRedelivery(ExchangeRedeliveryEvent event) {
+        FlightRecorderRedelivery jfr = new FlightRecorderRedelivery();
+        if (jfr.isEnabled()) {
+            Exchange exchange = event.getExchange();
+            Throwable cause = exchange.getException();
+            if (cause == null) {
+                cause = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Throwable.class);
+            }
+            jfr.exchangeId = exchange.getExchangeId();
+            jfr.routeId = exchange.getFromRouteId();
+            jfr.attempt = event.getAttempt();
+            jfr.exception = cause != null ? cause.getClass().getName() : null;
+            jfr.commit();
+        }
+    }
+
+    private void emitStreamCacheSpool() {
+        StreamCachingStrategy strategy = getCamelContext().getStreamCachingStrategy();
+        StreamCachingStrategy.Statistics statistics = strategy.getStatistics();
+        FlightRecorderStreamCacheSpool jfr = new FlightRecorderStreamCacheSpool();
+        jfr.spoolCounter = statistics.getCacheSpoolCounter();
+        jfr.spoolSize = statistics.getCacheSpoolSize();
+        jfr.memoryCounter = statistics.getCacheMemoryCounter();
+        jfr.memorySize = statistics.getCacheMemorySize();
+        jfr.commit();
+    }
+
+    private static State getOrCreateState(Exchange exchange) {
+        State state = exchange.getExchangeExtension().getSafeCopyProperty(STATE, State.class);
+        if (state == null) {
+            state = new State();
+            exchange.getExchangeExtension().setSafeCopyProperty(STATE, state);
+        }
+        return state;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        FlightRecorder.addPeriodicEvent(FlightRecorderStreamCacheSpool.class, streamCacheHook);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        FlightRecorder.removePeriodicEvent(streamCacheHook);
+    }
+
+    @Override
+    public String toString() {
+        return "java-flight-recorder";
+    }
+
+    /**
+     * The events in progress for an exchange. A copy of the exchange (such as in the multicast EIP) gets a new empty
+     * state, as the copy is sent and completed separately.
+     */
+    private static final class State implements SafeCopyProperty {
+
+        private final Deque<FlightRecorderEndpointSend> sends = new ArrayDeque<>(4);
+        private FlightRecorderExchange exchange;
+
+        @Override
+        public SafeCopyProperty safeCopy() {
+            return new State();
+        }
+    }
+}
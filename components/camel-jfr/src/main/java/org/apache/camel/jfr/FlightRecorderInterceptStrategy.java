@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * Intercept strategy that emits an event to Java Flight Recorder for every processor (EIP) invoked in the routes, with
+ * the route and node id.
+ * <p/>
+ * The event is disabled by default, and must be enabled in the JFR recording (such as a custom .jfc file) to be
+ * recorded.
+ *
+ * @see FlightRecorderEventNotifier
+ */
+public class FlightRecorderInterceptStrategy implements InterceptStrategy {
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget)
+            throws Exception {
+        return new FlightRecorderProcessor(definition, target);
+    }
+
+    private static String routeId(NamedNode definition) {
+        NamedNode node = definition;
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return node.getId();
+    }
+
+    private static final class FlightRecorderProcessor extends DelegateAsyncProcessor {
+
+        private final String routeId;
+        private final String nodeId;
+        private final String shortName;
+
+        FlightRecorderProcessor(NamedNode definition, Processor target) {
+            super(target);
+            this.routeId = routeId(definition);
+            this.nodeId = definition.getId();
+            this.shortName = definition.getShortName();
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            final FlightRecorderProcessorInvocation jfr = new FlightRecorderProcessorInvocation();
+            if (!jfr.isEnabled()) {
+                return processor.process(exchange, callback);
+            }
+
+            jfr.begin();
+            return processor.process(exchange, doneSync -> {
+                jfr.end();
+                if (jfr.shouldCommit()) {
+                    jfr.exchangeId = exchange.getExchangeId();
+                    jfr.routeId = routeId;
+                    jfr.nodeId = nodeId;
+                    jfr.processor = shortName;
+                    jfr.failed = exchange.isFailed();
+                    jfr.commit();
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "FlightRecorder[" + nodeId + "]";
+        }
+    }
+}
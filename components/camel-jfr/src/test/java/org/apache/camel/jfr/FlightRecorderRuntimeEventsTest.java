@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.event.ExchangeCompletedEvent;
+import org.apache.camel.impl.event.ExchangeCreatedEvent;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderRuntimeEventsTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().addEventNotifier(new FlightRecorderEventNotifier());
+        context.getCamelContextExtension().addInterceptStrategy(new FlightRecorderInterceptStrategy());
+        return context;
+    }
+
+    @Test
+    public void testRuntimeEvents() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        Path file = Files.createTempFile("camel-jfr-test", ".jfr");
+        try (Recording rec = new Recording()) {
+            rec.enable(FlightRecorderExchange.NAME).withThreshold(Duration.ZERO);
+            rec.enable(FlightRecorderProcessorInvocation.NAME).withThreshold(Duration.ZERO);
+            rec.enable(FlightRecorderEndpointSend.NAME).withThreshold(Duration.ZERO);
+            rec.enable(FlightRecorderRedelivery.NAME);
+            rec.start();
+
+            template.sendBody("direct:start", "Hello World");
+
+            rec.stop();
+            rec.dump(file);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        List<RecordedEvent> exchanges = filter(events, FlightRecorderExchange.NAME);
+        assertEquals(1, exchanges.size());
+        assertEquals("myRoute", exchanges.get(0).getString("routeId"));
+        assertEquals("direct://start", exchanges.get(0).getString("endpointUri"));
+
+        List<RecordedEvent> processors = filter(events, FlightRecorderProcessorInvocation.NAME);
+        assertTrue(processors.stream().anyMatch(e -> "myProcess".equals(e.getString("nodeId"))
+                && "myRoute".equals(e.getString("routeId")) && "process".equals(e.getString("processor"))));
+        assertTrue(processors.stream().anyMatch(e -> "myTo".equals(e.getString("nodeId"))));
+
+        List<RecordedEvent> sends = filter(events, FlightRecorderEndpointSend.NAME);
+        assertTrue(sends.stream().anyMatch(e -> "mock://result".equals(e.getString("endpointUri"))));
+
+        List<RecordedEvent> redeliveries = filter(events, FlightRecorderRedelivery.NAME);
+        assertEquals(2, redeliveries.size());
+        assertEquals(IllegalStateException.class.getName(), redeliveries.get(0).getString("exception"));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        FlightRecorderEventNotifier notifier = new FlightRecorderEventNotifier();
+        Exchange exchange = createExchangeWithBody("Hello World");
+        assertFalse(notifier.isEnabled(new ExchangeCreatedEvent(exchange)));
+        assertFalse(notifier.isEnabled(new ExchangeCompletedEvent(exchange)));
+
+        Path file = Files.createTempFile("camel-jfr-test", ".jfr");
+        try (Recording rec = new Recording()) {
+            rec.start();
+
+            template.sendBody("direct:start", "Hello World");
+
+            rec.stop();
+            rec.dump(file);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().startsWith("org.apache.camel.")));
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).toList();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(2).redeliveryDelay(0));
+
+                from("direct:start").routeId("myRoute")
+                        .process(new Processor() {
+                            private int counter;
+
+                            @Override
+                            public void process(Exchange exchange) {
+                                if (++counter < 3) {
+                                    throw new IllegalStateException("Forced");
+                                }
+                            }
+                        }).id("myProcess")
+                        .to("mock:result").id("myTo");
+            }
+        };
+    }
+}
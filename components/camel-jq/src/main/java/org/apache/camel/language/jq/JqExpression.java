@@ -37,6 +37,7 @@ import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.support.builder.ExpressionBuilder;
 
 public class JqExpression extends ExpressionAdapter implements ExpressionResultTypeAware {
@@ -129,7 +130,8 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
 
     @Override
     public boolean matches(Exchange exchange) {
-        final Object value = evaluate(exchange, Object.class);
+        // the result of a predicate does not refer to the payload, so the payload can be shared
+        final Object value = doEvaluate(exchange, true);
 
         if (value instanceof BooleanNode) {
             return ((BooleanNode) value).asBoolean();
@@ -143,6 +145,10 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
 
     @Override
     public Object evaluate(Exchange exchange) {
+        return doEvaluate(exchange, false);
+    }
+
+    private Object doEvaluate(Exchange exchange, boolean sharePayload) {
         if (this.query == null) {
             return null;
         }
@@ -151,7 +157,7 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
             JqFunctions.EXCHANGE_LOCAL.set(exchange);
 
             final List<JsonNode> outputs = new ArrayList<>(1);
-            final JsonNode payload = getPayload(exchange);
+            final JsonNode payload = getPayload(exchange, sharePayload);
 
             this.query.apply(scope, payload, outputs::add);
 
@@ -190,11 +196,20 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
     /**
      * Determines the payload by looking at heders, properties and finally the payload.
      *
-     * @param  exchange the {@link Exchange} being processed
-     * @return          the {@link JsonNode} to be processed by the expression
+     * @param  exchange     the {@link Exchange} being processed
+     * @param  sharePayload whether the payload can be shared with the other predicates on the exchange
+     * @return              the {@link JsonNode} to be processed by the expression
      */
-    private JsonNode getPayload(Exchange exchange) throws Exception {
-        JsonNode payload = source.evaluate(exchange, JsonNode.class);
+    private JsonNode getPayload(Exchange exchange, boolean sharePayload) throws Exception {
+        JsonNode payload;
+        if (sharePayload) {
+            Object body = source.evaluate(exchange, Object.class);
+            // the json tree is parsed once and shared with the other jq predicates on the same payload
+            payload = ParsedDocumentCache.getOrParse(exchange, JsonNode.class, body,
+                    p -> typeConverter.convertTo(JsonNode.class, exchange, p));
+        } else {
+            payload = source.evaluate(exchange, JsonNode.class);
+        }
         // if body is stream cached then reset, so we can re-read it again
         MessageHelper.resetStreamCache(exchange.getMessage());
         if (payload == null) {
@@ -39,6 +39,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.StreamCache;
 import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +60,10 @@ public class JsonPathEngine {
     private final Configuration configuration;
     private final boolean hasSimple;
     private final Expression source;
+    // the kind of the parsed json documents which are shared with other expressions on the same exchange
+    private final Object documentKind;
+    // whether the parsed json document can be shared, which is only when the result is not returned to the caller
+    private final boolean shareDocument;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -69,6 +74,15 @@ public class JsonPathEngine {
 
     public JsonPathEngine(String expression, Expression source, boolean writeAsString, boolean suppressExceptions,
                           boolean allowSimple, Option[] options, CamelContext context) {
+        this(expression, source, writeAsString, suppressExceptions, allowSimple, options, context, false);
+    }
+
+    /**
+     * Creates the engine, where the json document parsed from the message body is shared with the other predicates
+     * on the same exchange when evaluated as a predicate, as the result of a predicate does not refer to the document.
+     */
+    public JsonPathEngine(String expression, Expression source, boolean writeAsString, boolean suppressExceptions,
+                          boolean allowSimple, Option[] options, CamelContext context, boolean predicate) {
         this.expression = expression;
         this.source = source;
         this.writeAsString = writeAsString;
@@ -86,6 +100,9 @@ public class JsonPathEngine {
             builder.jsonProvider(new JacksonJsonProvider());
             builder.mappingProvider(new JacksonMappingProvider());
         }
+        this.documentKind = objectMapper != null ? objectMapper : JsonPathEngine.class;
+        // write as string changes the result in place
+        this.shareDocument = predicate && !writeAsString;
 
         if (suppressExceptions) {
             builder.options(SUPPRESS_EXCEPTIONS);
@@ -175,7 +192,7 @@ public class JsonPathEngine {
         return source != null ? source.evaluate(exchange, Object.class) : exchange.getMessage().getBody();
     }
 
-    private Object doRead(String path, Exchange exchange) throws IOException, CamelExchangeException {
+    private Object doRead(String path, Exchange exchange) throws Exception {
         final Object json = getPayload(exchange);
 
         if (json instanceof InputStream) {
@@ -194,7 +211,12 @@ public class JsonPathEngine {
         if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
             String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
+            if (!shareDocument) {
+                return JsonPath.using(configuration).parse(str).read(path);
+            }
+            Object document = ParsedDocumentCache.getOrParse(exchange, documentKind, str,
+                    p -> JsonPath.using(configuration).parse((String) p).json());
+            return JsonPath.using(configuration).parse(document).read(path);
         } else if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
@@ -233,10 +255,17 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(String path, Exchange exchange) throws IOException {
+    private Object readWithInputStream(String path, Exchange exchange) throws Exception {
         Object json = getPayload(exchange);
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
+        Object document = shareDocument
+                ? ParsedDocumentCache.getOrParse(exchange, documentKind, json, p -> parseInputStream(exchange, p))
+                : parseInputStream(exchange, json);
+        return document != null ? JsonPath.using(configuration).parse(document).read(path) : null;
+    }
+
+    private Object parseInputStream(Exchange exchange, Object json) throws IOException {
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
 
         if (json instanceof StreamCache) {
@@ -247,12 +276,12 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return JsonPath.using(configuration).parse(is, jsonEncoding).json();
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).json();
             }
         }
 
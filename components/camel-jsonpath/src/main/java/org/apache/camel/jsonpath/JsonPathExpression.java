@@ -210,7 +210,7 @@ public class JsonPathExpression extends ExpressionAdapter {
         LOG.debug("Initializing {} using: {}", predicate ? "predicate" : "expression", exp);
         try {
             engine = new JsonPathEngine(
-                    exp, source, writeAsString, suppressExceptions, allowSimple, options, context);
+                    exp, source, writeAsString, suppressExceptions, allowSimple, options, context, predicate);
         } catch (Exception e) {
             throw new ExpressionIllegalSyntaxException(exp, e);
         }
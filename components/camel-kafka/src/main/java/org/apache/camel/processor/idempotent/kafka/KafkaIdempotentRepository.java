@@ -16,8 +16,12 @@
  */
 package org.apache.camel.processor.idempotent.kafka;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -67,8 +71,10 @@ import org.slf4j.LoggerFactory;
  * partitions (it is designed to consume from all at the same time), or replication factor of the topic. Each repository
  * instance that uses the topic (e.g. typically on different machines running in parallel) controls its own consumer
  * group, so in a cluster of 10 Camel processes using the same topic each will control its own offset. On startup, the
- * instance consumes the full content of the topic, rebuilding the cache to the latest state. To use, this repository
- * must be placed in the Camel registry.
+ * instance consumes the full content of the topic, rebuilding the cache to the latest state. When a snapshot file is
+ * configured, the cache is stored in the file together with the consumed offsets of the topic, and on startup the
+ * instance loads the snapshot and only consumes the records after these offsets. To use, this repository must be
+ * placed in the Camel registry.
  */
 @Metadata(label = "bean",
           description = "Idempotent repository that uses Kafka to store message ids. Uses a local cache of previously seen Message IDs."
@@ -83,6 +89,7 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
 
     private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1000;
     private static final int DEFAULT_POLL_DURATION_MS = 100;
+    private static final long DEFAULT_SNAPSHOT_INTERVAL_MS = 60000;
 
     private CamelContext camelContext;
     private ExecutorService executorService;
@@ -90,6 +97,10 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
     private final AtomicLong cacheCounter = new AtomicLong();
     // internal properties
     private Map<String, Object> cache;
+    // the offset of the next record to consume for each partition, which the cache is in sync with
+    private final Map<Integer, Long> offsets = new HashMap<>();
+    private final Object lock = new Object();
+    private long lastSnapshot;
     private Consumer<String, String> consumer;
     private Producer<String, String> producer;
 
@@ -121,6 +132,14 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
     private int pollDurationMs = DEFAULT_POLL_DURATION_MS;
     @Metadata(description = "Whether to sync on startup only, or to continue syncing while Camel is running.")
     private boolean startupOnly;
+    @Metadata(description = "The file to store a snapshot of the local key cache in, together with the consumed offsets of the topic."
+                            + " On startup the snapshot is loaded, and only the records after these offsets are consumed from the topic,"
+                            + " instead of the full content of the topic.")
+    private String snapshotFile;
+    @Metadata(description = "How often (millis) the snapshot is stored, while syncing continuously. The snapshot is also stored when"
+                            + " stopping.",
+              defaultValue = "" + DEFAULT_SNAPSHOT_INTERVAL_MS)
+    private long snapshotIntervalMs = DEFAULT_SNAPSHOT_INTERVAL_MS;
 
     enum CacheAction {
         add,
@@ -221,6 +240,30 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
         this.startupOnly = startupOnly;
     }
 
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * The file to store a snapshot of the local key cache in, together with the consumed offsets of the topic. On
+     * startup the snapshot is loaded, and only the records after these offsets are consumed from the topic, instead of
+     * the full content of the topic.
+     */
+    public void setSnapshotFile(String snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    public long getSnapshotIntervalMs() {
+        return snapshotIntervalMs;
+    }
+
+    /**
+     * How often (millis) the snapshot is stored, while syncing continuously. The snapshot is also stored when stopping.
+     */
+    public void setSnapshotIntervalMs(long snapshotIntervalMs) {
+        this.snapshotIntervalMs = snapshotIntervalMs;
+    }
+
     public Properties getProducerConfig() {
         return producerConfig;
     }
@@ -325,6 +368,9 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
         StringHelper.notEmpty(topic, "topic");
 
         this.cache = LRUCacheFactory.newLRUCache(maxCacheSize);
+        if (snapshotFile != null) {
+            loadSnapshot();
+        }
 
         if (consumerConfig == null) {
             consumerConfig = new Properties();
@@ -383,6 +429,9 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
             executorService = null;
         }
         ServiceHelper.stopService(poller);
+        if (snapshotFile != null && cache != null) {
+            writeSnapshot();
+        }
         IOHelper.close(consumer, "consumer", LOG);
         IOHelper.close(producer, "producer", LOG);
         LOG.debug("Stopped KafkaIdempotentRepository. Cache counter: {}", cacheCounter.get());
@@ -398,10 +447,27 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
         LOG.debug("Assigning consumer to partitions {}", partitions);
         consumer.assign(partitions);
 
-        LOG.debug("Seeking consumer to beginning of partitions {}", partitions);
-        consumer.seekToBeginning(partitions);
-
         Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        if (!offsets.isEmpty() && isSnapshotAhead(endOffsets)) {
+            // the topic has been recreated, so the snapshot is not in use
+            LOG.warn("Snapshot: {} is ahead of the end offsets {} of topic: {}. Consuming the topic from the beginning.",
+                    snapshotFile, endOffsets, topic);
+            cache.clear();
+            offsets.clear();
+        }
+        if (offsets.isEmpty()) {
+            LOG.debug("Seeking consumer to beginning of partitions {}", partitions);
+            consumer.seekToBeginning(partitions);
+        } else {
+            // continue after the records in the snapshot, or from the beginning if the records have been deleted
+            Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+            for (TopicPartition partition : partitions) {
+                long offset = Math.max(offsets.getOrDefault(partition.partition(), 0L), beginningOffsets.get(partition));
+                LOG.debug("Seeking consumer to offset {} of partition {}", offset, partition);
+                consumer.seek(partition, offset);
+            }
+        }
+
         LOG.debug("Consuming records from partitions {} till end offsets {}", partitions, endOffsets);
         while (!KafkaConsumerUtil.isReachedOffsets(consumer, endOffsets)) {
             ConsumerRecords<String, String> consumerRecords = consumer.poll(Duration.ofMillis(pollDurationMs));
@@ -432,6 +498,9 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
                     for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
                         addToCache(consumerRecord);
                     }
+                    if (snapshotFile != null && System.currentTimeMillis() - lastSnapshot >= snapshotIntervalMs) {
+                        writeSnapshot();
+                    }
                 } catch (Exception e) {
                     LOG.warn("TopicPoller error syncing due to: " + e.getMessage() + ". This exception is ignored.", e);
                 }
@@ -440,7 +509,65 @@ public class KafkaIdempotentRepository extends ServiceSupport implements Idempot
         }
     }
 
+    private boolean isSnapshotAhead(Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            Long offset = offsets.get(entry.getKey().partition());
+            if (offset != null && offset > entry.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void loadSnapshot() {
+        StopWatch watch = new StopWatch();
+        try {
+            KafkaIdempotentRepositorySnapshot snapshot = KafkaIdempotentRepositorySnapshot.read(Path.of(snapshotFile), topic);
+            if (snapshot != null) {
+                synchronized (lock) {
+                    for (String key : snapshot.getKeys()) {
+                        cache.put(key, key);
+                    }
+                    offsets.putAll(snapshot.getOffsets());
+                }
+                LOG.info("Loaded snapshot of KafkaIdempotentRepository from file: {} with {} keys and offsets: {} in {}",
+                        snapshotFile, snapshot.getKeys().size(), snapshot.getOffsets(),
+                        TimeUtils.printDuration(watch.taken(), true));
+            }
+        } catch (IOException e) {
+            LOG.warn("Error loading snapshot from file: {} due to: {}. Consuming the topic from the beginning.", snapshotFile,
+                    e.getMessage(), e);
+            cache.clear();
+            offsets.clear();
+        }
+    }
+
+    private void writeSnapshot() {
+        KafkaIdempotentRepositorySnapshot snapshot;
+        synchronized (lock) {
+            snapshot = new KafkaIdempotentRepositorySnapshot(topic, new HashMap<>(offsets), new ArrayList<>(cache.keySet()));
+        }
+        try {
+            snapshot.write(Path.of(snapshotFile));
+            LOG.debug("Stored snapshot of KafkaIdempotentRepository to file: {} with {} keys and offsets: {}", snapshotFile,
+                    snapshot.getKeys().size(), snapshot.getOffsets());
+        } catch (IOException e) {
+            LOG.warn("Error storing snapshot to file: {} due to: {}. This exception is ignored.", snapshotFile, e.getMessage(),
+                    e);
+        }
+        lastSnapshot = System.currentTimeMillis();
+    }
+
     private void addToCache(ConsumerRecord<String, String> consumerRecord) {
+        synchronized (lock) {
+            doAddToCache(consumerRecord);
+            if (snapshotFile != null) {
+                offsets.put(consumerRecord.partition(), consumerRecord.offset() + 1);
+            }
+        }
+    }
+
+    private void doAddToCache(ConsumerRecord<String, String> consumerRecord) {
         cacheCounter.incrementAndGet();
         CacheAction action;
         try {
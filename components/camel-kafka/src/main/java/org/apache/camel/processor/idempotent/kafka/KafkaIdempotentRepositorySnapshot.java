@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.kafka;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A snapshot of the local cache of {@link KafkaIdempotentRepository}, together with the offsets of the topic partitions
+ * which the cache has consumed up to. On startup the repository loads the snapshot, and only consumes the records after
+ * these offsets, instead of the whole topic.
+ */
+final class KafkaIdempotentRepositorySnapshot {
+
+    private static final int MAGIC = 0x43494b53;
+    private static final int VERSION = 1;
+
+    private final String topic;
+    private final Map<Integer, Long> offsets;
+    private final List<String> keys;
+
+    KafkaIdempotentRepositorySnapshot(String topic, Map<Integer, Long> offsets, List<String> keys) {
+        this.topic = topic;
+        this.offsets = offsets;
+        this.keys = keys;
+    }
+
+    String getTopic() {
+        return topic;
+    }
+
+    /**
+     * The offset of the next record to consume for each partition of the topic
+     */
+    Map<Integer, Long> getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * The keys in the cache
+     */
+    List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Writes the snapshot to the file. The snapshot is written to a temporary file first, which then replaces the file,
+     * so a crash while writing does not corrupt the previous snapshot.
+     */
+    void write(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(topic);
+            out.writeInt(offsets.size());
+            for (Map.Entry<Integer, Long> entry : offsets.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+            out.writeInt(keys.size());
+            for (String key : keys) {
+                byte[] data = key.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(data.length);
+                out.write(data);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the snapshot from the file.
+     *
+     * @return the snapshot, or <tt>null</tt> if the file does not exist, or is a snapshot of another topic
+     */
+    static KafkaIdempotentRepositorySnapshot read(Path file, String topic) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a snapshot of KafkaIdempotentRepository: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version: " + version + " in file: " + file);
+            }
+            String snapshotTopic = in.readUTF();
+            if (!snapshotTopic.equals(topic)) {
+                return null;
+            }
+            int partitions = in.readInt();
+            Map<Integer, Long> offsets = new HashMap<>(partitions * 2);
+            for (int i = 0; i < partitions; i++) {
+                offsets.put(in.readInt(), in.readLong());
+            }
+            int size = in.readInt();
+            List<String> keys = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                keys.add(new String(data, StandardCharsets.UTF_8));
+            }
+            return new KafkaIdempotentRepositorySnapshot(snapshotTopic, offsets, keys);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.kafka;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KafkaIdempotentRepositorySnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path file = dir.resolve("snapshot/idempotent.snapshot");
+        new KafkaIdempotentRepositorySnapshot("TEST", Map.of(0, 42L, 1, 7L), List.of("foo", "bär", "")).write(file);
+
+        KafkaIdempotentRepositorySnapshot snapshot = KafkaIdempotentRepositorySnapshot.read(file, "TEST");
+        assertEquals("TEST", snapshot.getTopic());
+        assertEquals(Map.of(0, 42L, 1, 7L), snapshot.getOffsets());
+        assertEquals(List.of("foo", "bär", ""), snapshot.getKeys());
+    }
+
+    @Test
+    public void testReadOtherTopic() throws Exception {
+        Path file = dir.resolve("idempotent.snapshot");
+        new KafkaIdempotentRepositorySnapshot("TEST", Map.of(0, 42L), List.of("foo")).write(file);
+
+        assertNull(KafkaIdempotentRepositorySnapshot.read(file, "OTHER"));
+    }
+
+    @Test
+    public void testReadMissingFile() throws Exception {
+        assertNull(KafkaIdempotentRepositorySnapshot.read(dir.resolve("missing.snapshot"), "TEST"));
+    }
+
+    @Test
+    public void testReadCorruptFile() throws Exception {
+        Path file = dir.resolve("idempotent.snapshot");
+        Files.writeString(file, "not a snapshot", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> KafkaIdempotentRepositorySnapshot.read(file, "TEST"));
+    }
+}
@@ -27,6 +27,7 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
         case "deadletteruri":
         case "deadLetterUri": target.setDeadLetterUri(property(camelContext, java.lang.String.class, value)); return true;
+        case "incremental": target.setIncremental(property(camelContext, boolean.class, value)); return true;
         case "maximumredeliveries":
         case "maximumRedeliveries": target.setMaximumRedeliveries(property(camelContext, int.class, value)); return true;
         case "persistentfilename":
@@ -38,6 +39,8 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         case "returnoldexchange":
         case "returnOldExchange": target.setReturnOldExchange(property(camelContext, boolean.class, value)); return true;
         case "serializer": target.setSerializer(property(camelContext, org.apache.camel.component.leveldb.LevelDBSerializer.class, value)); return true;
+        case "snapshotinterval":
+        case "snapshotInterval": target.setSnapshotInterval(property(camelContext, int.class, value)); return true;
         case "sync": target.setSync(property(camelContext, boolean.class, value)); return true;
         case "userecovery":
         case "useRecovery": target.setUseRecovery(property(camelContext, boolean.class, value)); return true;
@@ -52,6 +55,7 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         case "allowSerializedHeaders": return boolean.class;
         case "deadletteruri":
         case "deadLetterUri": return java.lang.String.class;
+        case "incremental": return boolean.class;
         case "maximumredeliveries":
         case "maximumRedeliveries": return int.class;
         case "persistentfilename":
@@ -63,6 +67,8 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         case "returnoldexchange":
         case "returnOldExchange": return boolean.class;
         case "serializer": return org.apache.camel.component.leveldb.LevelDBSerializer.class;
+        case "snapshotinterval":
+        case "snapshotInterval": return int.class;
         case "sync": return boolean.class;
         case "userecovery":
         case "useRecovery": return boolean.class;
@@ -78,6 +84,7 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
         case "deadletteruri":
         case "deadLetterUri": return target.getDeadLetterUri();
+        case "incremental": return target.isIncremental();
         case "maximumredeliveries":
         case "maximumRedeliveries": return target.getMaximumRedeliveries();
         case "persistentfilename":
@@ -89,6 +96,8 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         case "returnoldexchange":
         case "returnOldExchange": return target.isReturnOldExchange();
         case "serializer": return target.getSerializer();
+        case "snapshotinterval":
+        case "snapshotInterval": return target.getSnapshotInterval();
         case "sync": return target.isSync();
         case "userecovery":
         case "useRecovery": return target.isUseRecovery();
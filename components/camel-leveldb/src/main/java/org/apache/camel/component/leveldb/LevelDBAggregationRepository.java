@@ -20,15 +20,20 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.AggregationStrategy;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IncrementalAggregationRepository;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -46,12 +51,22 @@ import org.slf4j.LoggerFactory;
           description = "Aggregation repository that uses LevelDB to store exchanges.",
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
-public class LevelDBAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+public class LevelDBAggregationRepository extends ServiceSupport
+        implements RecoverableAggregationRepository, IncrementalAggregationRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(LevelDBAggregationRepository.class);
 
+    // the aggregation properties which are retained when folding deltas
+    private static final String[] DELTA_PROPERTIES = {
+            Exchange.AGGREGATED_SIZE, Exchange.AGGREGATED_TIMEOUT, Exchange.AGGREGATED_COMPLETED_BY,
+            Exchange.AGGREGATED_CORRELATION_KEY, Exchange.AGGREGATED_COLLECTION_GUARD };
+
     private LevelDBFile levelDBFile;
     private LevelDBCamelCodec codec;
+    private AggregationStrategy aggregationStrategy;
+    private final Map<String, Integer> deltaCounts = new ConcurrentHashMap<>();
+    // the aggregated exchanges in incremental mode, so the deltas are only folded from the store on recovery
+    private final Map<String, Exchange> folded = new ConcurrentHashMap<>();
 
     @Metadata(description = "Name of file to use for storing data", required = true)
     private String persistentFileName;
@@ -77,6 +92,13 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     @Metadata(label = "advanced",
               description = "To use a custom serializer for LevelDB")
     private LevelDBSerializer serializer;
+    @Metadata(label = "advanced",
+              description = "Whether to persist each incoming exchange as an append-only delta instead of rewriting the full aggregated exchange."
+                            + " The deltas are folded using the aggregation strategy when the aggregated exchange is loaded.")
+    private boolean incremental;
+    @Metadata(label = "advanced", defaultValue = "100",
+              description = "When using incremental mode, then the number of deltas after which a snapshot of the full aggregated exchange is stored.")
+    private int snapshotInterval = 100;
 
     /**
      * Creates an aggregation repository
@@ -132,8 +154,29 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                 rc = levelDBFile.getDb().get(lDbKey);
             }
 
+            Exchange old = null;
+            if (isReturnOldExchange() && rc != null && incremental) {
+                // fold any existing deltas into the old exchange as stored, as the exchange in memory may have been
+                // changed by aggregating the exchange to add
+                old = foldDeltas(camelContext, key, codec().unmarshallExchange(camelContext, rc));
+            }
+
             LOG.trace("Adding key index {} for repository {}", key, repositoryName);
-            levelDBFile.getDb().put(lDbKey, exchangeBuffer, levelDBFile.getWriteOptions());
+            if (incremental) {
+                // store the snapshot and remove the deltas it replaces
+                WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+                try {
+                    batch.put(lDbKey, exchangeBuffer);
+                    deleteDeltas(batch, key);
+                    levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+                } finally {
+                    batch.close();
+                }
+                deltaCounts.put(key, 0);
+                folded.put(key, exchange);
+            } else {
+                levelDBFile.getDb().put(lDbKey, exchangeBuffer, levelDBFile.getWriteOptions());
+            }
             LOG.trace("Added key index {}", key);
 
             if (rc == null) {
@@ -142,7 +185,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
             // only return old exchange if enabled
             if (isReturnOldExchange()) {
-                return codec().unmarshallExchange(camelContext, rc);
+                return old != null ? old : codec().unmarshallExchange(camelContext, rc);
             }
         } catch (IOException e) {
             throw new RuntimeCamelException("Error adding to repository " + repositoryName + " with key " + key, e);
@@ -151,9 +194,63 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return null;
     }
 
+    @Override
+    public Object prepareDelta(CamelContext camelContext, String key, Exchange exchange) {
+        Integer count = deltaCounts.get(key);
+        if (count == null) {
+            // unknown key so the first add must store a snapshot
+            if (levelDBFile.getDb().get(keyBuilder(repositoryName, key)) == null) {
+                return null;
+            }
+            count = countDeltas(key);
+            deltaCounts.put(key, count);
+        }
+        // store a snapshot when the interval is hit
+        if (count + 1 >= snapshotInterval) {
+            return null;
+        }
+
+        try {
+            // the delta is serialized before it is aggregated, as the aggregation strategy may change it
+            return codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error adding delta to repository " + repositoryName + " with key " + key, e);
+        }
+    }
+
+    @Override
+    public void addDelta(CamelContext camelContext, String key, Exchange aggregated, Object delta) {
+        LOG.debug("Adding delta for key [{}] -> {}", key, aggregated);
+        byte[] exchangeBuffer = (byte[]) delta;
+        byte[] strategy = strategyName().getBytes(StandardCharsets.UTF_8);
+
+        // the delta record starts with the name of the strategy which must be used for folding it
+        byte[] record = new byte[2 + strategy.length + exchangeBuffer.length];
+        record[0] = (byte) (strategy.length >> 8);
+        record[1] = (byte) strategy.length;
+        System.arraycopy(strategy, 0, record, 2, strategy.length);
+        System.arraycopy(exchangeBuffer, 0, record, 2 + strategy.length, exchangeBuffer.length);
+
+        int seq = deltaCounts.getOrDefault(key, 0) + 1;
+        levelDBFile.getDb().put(deltaKeyBuilder(key, seq), record, levelDBFile.getWriteOptions());
+        deltaCounts.put(key, seq);
+        folded.put(key, aggregated);
+        LOG.trace("Added delta {} for key index {}", seq, key);
+    }
+
+    @Override
+    public void evict(CamelContext camelContext, String key) {
+        LOG.debug("Evicting key [{}]", key);
+        folded.remove(key);
+    }
+
     @Override
     public Exchange get(final CamelContext camelContext, final String key) {
-        Exchange answer = null;
+        Exchange answer = incremental ? folded.get(key) : null;
+        if (answer != null) {
+            LOG.debug("Getting key  [{}] -> {}", key, answer);
+            return answer;
+        }
 
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
@@ -162,6 +259,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
             if (rc != null) {
                 answer = codec().unmarshallExchange(camelContext, rc);
+                if (incremental) {
+                    // the deltas are only folded from the store once, such as when recovering after a restart
+                    answer = foldDeltas(camelContext, key, answer);
+                    folded.put(key, answer);
+                }
             }
         } catch (IOException e) {
             throw new RuntimeCamelException("Error getting key " + key + " from repository " + repositoryName, e);
@@ -187,6 +289,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                 WriteBatch batch = levelDBFile.getDb().createWriteBatch();
                 try {
                     batch.delete(lDbKey);
+                    if (incremental) {
+                        deleteDeltas(batch, key);
+                    }
                     LOG.trace("Removed key index {} -> {}", key, rc);
 
                     // add exchange to confirmed index
@@ -198,6 +303,8 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                 } finally {
                     batch.close();
                 }
+                deltaCounts.remove(key);
+                folded.remove(key);
             }
 
         } catch (IOException e) {
@@ -319,6 +426,92 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return answer;
     }
 
+    private Exchange foldDeltas(CamelContext camelContext, String key, Exchange answer) throws IOException {
+        int count = 0;
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameDelta() + '\0' + key + '\0';
+            for (it.seek(prefix.getBytes(StandardCharsets.UTF_8)); it.hasNext(); it.next()) {
+                Map.Entry<byte[], byte[]> entry = it.peekNext();
+                if (!asString(entry.getKey()).startsWith(prefix)) {
+                    break;
+                }
+                byte[] record = entry.getValue();
+                int len = (record[0] & 0xFF) << 8 | record[1] & 0xFF;
+                String strategy = new String(record, 2, len, StandardCharsets.UTF_8);
+                if (aggregationStrategy == null || !strategy.equals(strategyName())) {
+                    throw new IllegalStateException(
+                            "Cannot fold deltas for key " + key + " in repository " + repositoryName
+                                                    + " as they were stored using AggregationStrategy: " + strategy
+                                                    + " but the current AggregationStrategy is: " + aggregationStrategy);
+                }
+                byte[] buffer = new byte[record.length - 2 - len];
+                System.arraycopy(record, 2 + len, buffer, 0, buffer.length);
+                Exchange delta = codec().unmarshallExchange(camelContext, buffer);
+
+                // the aggregation properties are kept from the aggregated exchange, as the delta does not have them
+                Object[] values = new Object[DELTA_PROPERTIES.length];
+                for (int i = 0; i < DELTA_PROPERTIES.length; i++) {
+                    values[i] = answer.getProperty(DELTA_PROPERTIES[i]);
+                }
+                int size = answer.getProperty(Exchange.AGGREGATED_SIZE, 0, Integer.class);
+                ExchangeHelper.prepareAggregation(answer, delta);
+                answer = aggregationStrategy.aggregate(answer, delta);
+                for (int i = 0; i < DELTA_PROPERTIES.length; i++) {
+                    if (values[i] != null && answer.getProperty(DELTA_PROPERTIES[i]) == null) {
+                        answer.setProperty(DELTA_PROPERTIES[i], values[i]);
+                    }
+                }
+                // and the aggregated size is increased as the aggregator does
+                answer.setProperty(Exchange.AGGREGATED_SIZE, size + 1);
+                count++;
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+        deltaCounts.put(key, count);
+        LOG.trace("Folded {} deltas for key index {}", count, key);
+        return answer;
+    }
+
+    private int countDeltas(String key) {
+        int count = 0;
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameDelta() + '\0' + key + '\0';
+            for (it.seek(prefix.getBytes(StandardCharsets.UTF_8)); it.hasNext(); it.next()) {
+                if (!asString(it.peekNext().getKey()).startsWith(prefix)) {
+                    break;
+                }
+                count++;
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+        return count;
+    }
+
+    private void deleteDeltas(WriteBatch batch, String key) {
+        Integer count = deltaCounts.get(key);
+        if (count == null) {
+            count = countDeltas(key);
+        }
+        for (int seq = 1; seq <= count; seq++) {
+            batch.delete(deltaKeyBuilder(key, seq));
+        }
+    }
+
+    private byte[] deltaKeyBuilder(String key, int seq) {
+        // zero padded sequence number so the deltas are iterated in order
+        return keyBuilder(getRepositoryNameDelta(), key + '\0' + String.format("%010d", seq));
+    }
+
+    private String strategyName() {
+        return aggregationStrategy != null ? aggregationStrategy.getClass().getName() : "";
+    }
+
     private int size(final String repositoryName) {
         DBIterator it = levelDBFile.getDb().iterator();
 
@@ -356,6 +549,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return repositoryName + "-completed";
     }
 
+    private String getRepositoryNameDelta() {
+        return repositoryName + "-delta";
+    }
+
     public void setRepositoryName(String repositoryName) {
         this.repositoryName = repositoryName;
     }
@@ -429,6 +626,40 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.persistentFileName = persistentFileName;
     }
 
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Whether to persist each incoming exchange as an append-only delta instead of rewriting the full aggregated
+     * exchange. The deltas are folded using the aggregation strategy when the aggregated exchange is loaded.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    /**
+     * When using incremental mode, then the number of deltas after which a snapshot of the full aggregated exchange is
+     * stored.
+     */
+    public void setSnapshotInterval(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public AggregationStrategy getAggregationStrategy() {
+        return aggregationStrategy;
+    }
+
+    @Override
+    public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
+        this.aggregationStrategy = aggregationStrategy;
+    }
+
     public boolean isAllowSerializedHeaders() {
         return allowSerializedHeaders;
     }
@@ -473,6 +704,8 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
     @Override
     protected void doStop() throws Exception {
+        deltaCounts.clear();
+        folded.clear();
         ServiceHelper.stopService(levelDBFile);
     }
 
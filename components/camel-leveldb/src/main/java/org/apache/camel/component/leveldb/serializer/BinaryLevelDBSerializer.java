@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb.serializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
+
+/**
+ * Serializer using the compact {@link BinaryExchangeCodec} from camel-support. Keys are stored as UTF-8 bytes.
+ */
+public class BinaryLevelDBSerializer extends AbstractLevelDBSerializer {
+
+    private final BinaryExchangeCodec codec;
+
+    public BinaryLevelDBSerializer() {
+        this(new BinaryExchangeCodec());
+    }
+
+    public BinaryLevelDBSerializer(BinaryExchangeCodec codec) {
+        this.codec = codec;
+    }
+
+    public BinaryExchangeCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public byte[] serializeKey(String key) throws IOException {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String deserializeKey(byte[] buffer) throws IOException {
+        return new String(buffer, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        return serializeExchange(exchange, allowSerializedHeaders, codec::marshal);
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        return deserializeExchange(camelContext, buffer, b -> {
+            try {
+                return codec.unmarshal(camelContext, b);
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Cannot deserialize exchange", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.params.Parameterized;
+import org.apache.camel.test.junit5.params.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisabledOnOs({ OS.AIX, OS.OTHER })
+@Parameterized
+public class LevelDBAggregateIncrementalTest extends LevelDBTestSupport {
+
+    @Override
+    public void doPreSetup() {
+        deleteDirectory("target/data");
+    }
+
+    @Override
+    LevelDBAggregationRepository createRepo() {
+        LevelDBAggregationRepository repo = super.createRepo();
+        repo.setIncremental(true);
+        repo.setSnapshotInterval(10);
+        return repo;
+    }
+
+    @Test
+    public void testLevelDBAggregateIncremental() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            expected.append((char) ('A' + i));
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived(expected.toString());
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_SIZE, 25);
+
+        for (int i = 0; i < 25; i++) {
+            template.sendBodyAndHeader("direct:start", String.valueOf((char) ('A' + i)), "id", 123);
+        }
+
+        MockEndpoint.assertIsSatisfied(context, 30, TimeUnit.SECONDS);
+
+        // from endpoint should be preserved
+        assertEquals("direct://start", mock.getReceivedExchanges().get(0).getFromEndpoint().getEndpointUri());
+        // and the repository should be empty
+        assertEquals(0, getRepo().getKeys().size());
+    }
+
+    @Test
+    public void testFoldDeltas() {
+        LevelDBAggregationRepository repo = getRepo();
+        repo.setAggregationStrategy(new StringAggregationStrategy());
+
+        Exchange aggregated = new DefaultExchange(context);
+        aggregated.getIn().setBody("A");
+        repo.add(context, "foo", aggregated);
+
+        for (String body : new String[] { "B", "C", "D" }) {
+            Exchange delta = new DefaultExchange(context);
+            delta.getIn().setBody(body);
+            Exchange answer = repo.get(context, "foo");
+            Object prepared = repo.prepareDelta(context, "foo", delta);
+            repo.addDelta(context, "foo", new StringAggregationStrategy().aggregate(answer, delta), prepared);
+        }
+
+        assertEquals("ABCD", repo.get(context, "foo").getIn().getBody());
+
+        // a new repository on the same file should fold the deltas as well
+        LevelDBAggregationRepository other = new LevelDBAggregationRepository("repo1", repo.getLevelDBFile());
+        other.setSerializer(getSerializer());
+        other.setIncremental(true);
+        other.setAggregationStrategy(new StringAggregationStrategy());
+        assertEquals("ABCD", other.get(context, "foo").getIn().getBody());
+
+        // removing should also remove the deltas
+        other.remove(context, "foo", other.get(context, "foo"));
+        assertNull(other.get(context, "foo"));
+        LevelDBAggregationRepository recovered = new LevelDBAggregationRepository("repo1", repo.getLevelDBFile());
+        recovered.setSerializer(getSerializer());
+        recovered.setIncremental(true);
+        assertNull(recovered.get(context, "foo"));
+    }
+
+    @Test
+    public void testFoldDeltasOnlyOnRecovery() {
+        AtomicInteger aggregated = new AtomicInteger();
+        AggregationStrategy strategy = new StringAggregationStrategy() {
+            @Override
+            public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+                aggregated.incrementAndGet();
+                return super.aggregate(oldExchange, newExchange);
+            }
+        };
+        LevelDBAggregationRepository repo = getRepo();
+        repo.setAggregationStrategy(strategy);
+
+        Exchange answer = new DefaultExchange(context);
+        answer.getIn().setBody("A");
+        repo.add(context, "bar", answer);
+
+        for (String body : new String[] { "B", "C", "D" }) {
+            Exchange delta = new DefaultExchange(context);
+            delta.getIn().setBody(body);
+            answer = repo.get(context, "bar");
+            Object prepared = repo.prepareDelta(context, "bar", delta);
+            repo.addDelta(context, "bar", strategy.aggregate(answer, delta), prepared);
+        }
+        assertEquals("ABCD", repo.get(context, "bar").getIn().getBody());
+        // the strategy is only invoked by the aggregation, and not to fold the deltas again
+        assertEquals(3, aggregated.get());
+
+        // a new repository on the same file folds the deltas once from the store
+        LevelDBAggregationRepository other = new LevelDBAggregationRepository("repo1", repo.getLevelDBFile());
+        other.setSerializer(getSerializer());
+        other.setIncremental(true);
+        other.setAggregationStrategy(strategy);
+        assertEquals("ABCD", other.get(context, "bar").getIn().getBody());
+        assertEquals("ABCD", other.get(context, "bar").getIn().getBody());
+        assertEquals(6, aggregated.get());
+    }
+
+    @Test
+    public void testAggregationFailed() {
+        template.sendBodyAndHeader("direct:start", "A", "id", 456);
+        template.sendBodyAndHeader("direct:start", "B", "id", 456);
+        assertEquals("AB", getRepo().get(context, "456").getIn().getBody());
+
+        // the strategy changes the aggregated exchange before it fails
+        assertThrows(CamelExecutionException.class, () -> template.sendBodyAndHeader("direct:start", "!", "id", 456));
+        assertEquals("AB", getRepo().get(context, "456").getIn().getBody());
+
+        template.sendBodyAndHeader("direct:start", "C", "id", 456);
+        assertEquals("ABC", getRepo().get(context, "456").getIn().getBody());
+        assertEquals(3, getRepo().get(context, "456").getProperty(Exchange.AGGREGATED_SIZE));
+    }
+
+    @Test
+    public void testStrategyChangesIncomingExchange() {
+        AggregationStrategy strategy = (oldExchange, newExchange) -> {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            // aggregates into the incoming exchange
+            newExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + newExchange.getIn().getBody(String.class));
+            return newExchange;
+        };
+        LevelDBAggregationRepository repo = getRepo();
+        repo.setAggregationStrategy(strategy);
+
+        Exchange answer = new DefaultExchange(context);
+        answer.getIn().setBody("A");
+        repo.add(context, "baz", answer);
+        for (String body : new String[] { "B", "C" }) {
+            Exchange delta = new DefaultExchange(context);
+            delta.getIn().setBody(body);
+            answer = repo.get(context, "baz");
+            Object prepared = repo.prepareDelta(context, "baz", delta);
+            repo.addDelta(context, "baz", strategy.aggregate(answer, delta), prepared);
+        }
+
+        // the deltas are stored as they were before they were aggregated
+        LevelDBAggregationRepository other = new LevelDBAggregationRepository("repo1", repo.getLevelDBFile());
+        other.setSerializer(getSerializer());
+        other.setIncremental(true);
+        other.setAggregationStrategy(strategy);
+        assertEquals("ABC", other.get(context, "baz").getIn().getBody());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new StringAggregationStrategy() {
+                            @Override
+                            public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+                                Exchange answer = super.aggregate(oldExchange, newExchange);
+                                if ("!".equals(newExchange.getIn().getBody())) {
+                                    throw new IllegalArgumentException("Forced");
+                                }
+                                return answer;
+                            }
+                        })
+                        .completionSize(25).aggregationRepository(getRepo())
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
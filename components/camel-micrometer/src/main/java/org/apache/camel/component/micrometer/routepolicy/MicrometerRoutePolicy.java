@@ -136,6 +136,9 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
                     Timer.Builder builder = Timer.builder(namingStrategy.getName(route))
                             .tags(route != null ? namingStrategy.getTags(route) : namingStrategy.getTags(camelContext))
                             .description(route != null ? "Route performance metrics" : "CamelContext performance metrics");
+                    if (configuration.getPercentiles() != null) {
+                        builder.publishPercentiles(configuration.getPercentiles());
+                    }
                     if (configuration.getTimerInitiator() != null) {
                         configuration.getTimerInitiator().accept(builder);
                     }
@@ -32,6 +32,7 @@ public class MicrometerRoutePolicyConfiguration {
     private boolean externalRedeliveries = true;
     private boolean failuresHandled = true;
     private boolean longTask;
+    private double[] percentiles;
     private Consumer<Timer.Builder> timerInitiator;
     private Consumer<LongTaskTimer.Builder> longTaskInitiator;
 
@@ -107,6 +108,14 @@ public class MicrometerRoutePolicyConfiguration {
         this.longTask = longTask;
     }
 
+    public double[] getPercentiles() {
+        return percentiles;
+    }
+
+    public void setPercentiles(double... percentiles) {
+        this.percentiles = percentiles;
+    }
+
     public Consumer<Timer.Builder> getTimerInitiator() {
         return timerInitiator;
     }
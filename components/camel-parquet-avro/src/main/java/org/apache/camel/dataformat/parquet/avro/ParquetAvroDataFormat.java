@@ -17,10 +17,14 @@
 package org.apache.camel.dataformat.parquet.avro;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Schema;
@@ -29,18 +33,30 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.reflect.ReflectData;
 import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.DefaultUuidGenerator;
+import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.io.InputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,9 +70,16 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
 
     private static final DefaultUuidGenerator DEFAULT_UUID_GENERATOR = new DefaultUuidGenerator();
 
+    // the key of the avro schema in the metadata of the files written by parquet-avro
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
     private CompressionCodecName compressionCodecName = GZIP;
     private Class<?> unmarshalType;
     private boolean lazyLoad;
+    private boolean splitRowGroups;
+    private String columns;
+    private FilterPredicate filter;
+    private int rowGroupSize;
 
     @Override
     public String getDataFormatName() {
@@ -75,7 +98,9 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
                 DEFAULT_UUID_GENERATOR.generateUuid(),
                 parquetOutput);
 
-        List<?> list = (List<?>) graph;
+        // the records can be a list, or an iterator which reads the records as they are written
+        Iterator<?> it = ObjectHelper.createIterator(graph);
+        Object first = it.hasNext() ? it.next() : null;
 
         Schema schema = null;
         GenericData model = null;
@@ -88,19 +113,28 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
             }
         }
         if (schema == null) {
-            schema = GenericContainer.class.cast(list.get(0)).getSchema();
+            if (first == null) {
+                throw new IllegalArgumentException("Cannot marshal without records, when no unmarshal type is configured");
+            }
+            schema = GenericContainer.class.cast(first).getSchema();
             model = GenericData.get();
         }
 
-        try (ParquetWriter<Object> writer = AvroParquetWriter.builder(parquetOutputStream)
+        AvroParquetWriter.Builder<Object> builder = AvroParquetWriter.<Object> builder(parquetOutputStream)
                 .withSchema(schema)
                 .withDataModel(model)
                 .withConf(conf)
                 .withCompressionCodec(compressionCodecName)
-                .withWriteMode(OVERWRITE)
-                .build()) {
-            for (Object grapElem : list) {
-                writer.write(grapElem);
+                .withWriteMode(OVERWRITE);
+        if (rowGroupSize > 0) {
+            builder.withRowGroupSize(rowGroupSize);
+        }
+        try (ParquetWriter<Object> writer = builder.build()) {
+            if (first != null) {
+                writer.write(first);
+            }
+            while (it.hasNext()) {
+                writer.write(it.next());
             }
         }
     }
@@ -110,9 +144,7 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
         // unmarshal from the input stream of parquet-avro to Java object or GenericRecord (graph)
         Configuration conf = new Configuration();
 
-        ParquetInputStream parquetInputStream = new ParquetInputStream(
-                DEFAULT_UUID_GENERATOR.generateUuid(),
-                stream.readAllBytes());
+        InputFile inputFile = createInputFile(exchange, stream);
 
         Class<?> type = GenericRecord.class;
         GenericData model = GenericData.get();
@@ -121,18 +153,24 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
             model = new ReflectData(unmarshalType.getClassLoader());
         }
 
-        ParquetReader.Builder<?> builder = AvroParquetReader.builder(parquetInputStream)
-                .withDataModel(model)
-                .disableCompatibility() // always use this (since this is a new project)
-                .withConf(conf);
+        if (columns != null && !columns.isBlank()) {
+            Schema projection = createProjection(inputFile, conf);
+            AvroReadSupport.setRequestedProjection(conf, projection);
+            AvroReadSupport.setAvroReadSchema(conf, projection);
+        }
+
+        GenericData dataModel = model;
+        Supplier<ParquetReader.Builder<Object>> readerBuilder = () -> createReaderBuilder(inputFile, conf, dataModel);
 
-        if (lazyLoad) {
-            ParquetIterator<?> iterator = new ParquetIterator<>(builder.build());
+        if (splitRowGroups) {
+            return createRowGroups(inputFile, conf, readerBuilder);
+        } else if (lazyLoad) {
+            ParquetIterator<?> iterator = new ParquetIterator<>(readerBuilder.get().build());
             exchange.getExchangeExtension()
                     .addOnCompletion(new ParquetUnmarshalOnCompletion(iterator));
             return iterator;
         } else {
-            try (ParquetReader<?> reader = builder.build()) {
+            try (ParquetReader<?> reader = readerBuilder.get().build()) {
                 List<Object> parquetObjects = new ArrayList<>();
                 Object pojo;
                 while ((pojo = type.cast(reader.read())) != null) {
@@ -143,6 +181,81 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
         }
     }
 
+    private InputFile createInputFile(Exchange exchange, InputStream stream) throws IOException {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile<?> wrappedFile) {
+            body = wrappedFile.getFile();
+        }
+        if (body instanceof File file) {
+            // read the local file as needed, instead of loading the file into memory
+            return new ParquetInputFile(file);
+        } else if (body instanceof byte[] data) {
+            return new ParquetInputStream(DEFAULT_UUID_GENERATOR.generateUuid(), data);
+        }
+        return new ParquetInputStream(DEFAULT_UUID_GENERATOR.generateUuid(), stream.readAllBytes());
+    }
+
+    private ParquetReader.Builder<Object> createReaderBuilder(InputFile inputFile, Configuration conf, GenericData model) {
+        ParquetReader.Builder<Object> builder = AvroParquetReader.<Object> builder(inputFile)
+                .withDataModel(model)
+                .disableCompatibility() // always use this (since this is a new project)
+                .withConf(conf);
+        if (filter != null) {
+            builder.withFilter(FilterCompat.get(filter));
+        }
+        return builder;
+    }
+
+    /**
+     * Creates the schema with only the configured columns, of the schema of the unmarshal type, or of the schema which
+     * the file is written with.
+     */
+    private Schema createProjection(InputFile inputFile, Configuration conf) throws IOException {
+        Schema schema;
+        if (unmarshalType != null) {
+            schema = ReflectData.AllowNull.get().getSchema(unmarshalType);
+        } else {
+            try (ParquetFileReader reader = ParquetFileReader.open(inputFile)) {
+                FileMetaData metaData = reader.getFileMetaData();
+                String avroSchema = metaData.getKeyValueMetaData().get(AVRO_SCHEMA_METADATA_KEY);
+                schema = avroSchema != null
+                        ? new Schema.Parser().parse(avroSchema)
+                        : new AvroSchemaConverter(conf).convert(metaData.getSchema());
+            }
+        }
+
+        List<Schema.Field> fields = new ArrayList<>();
+        for (String column : columns.split(",")) {
+            Schema.Field field = schema.getField(column.trim());
+            if (field == null) {
+                throw new IllegalArgumentException(
+                        "The column: " + column.trim() + " does not exist in the schema: " + schema.getFullName());
+            }
+            fields.add(new Schema.Field(field, field.schema()));
+        }
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), fields);
+    }
+
+    private List<ParquetRowGroup> createRowGroups(
+            InputFile inputFile, Configuration conf, Supplier<ParquetReader.Builder<Object>> readerBuilder)
+            throws IOException {
+        ParquetReadOptions.Builder options = HadoopReadOptions.builder(conf);
+        if (filter != null) {
+            // skip the row groups which the statistics tell have no matching rows
+            options.withRecordFilter(FilterCompat.get(filter));
+        }
+        try (ParquetFileReader reader = ParquetFileReader.open(inputFile, options.build())) {
+            List<BlockMetaData> blocks = reader.getRowGroups();
+            List<ParquetRowGroup> answer = new ArrayList<>(blocks.size());
+            for (BlockMetaData block : blocks) {
+                long start = block.getStartingPos();
+                answer.add(new ParquetRowGroup(
+                        answer.size(), block.getRowCount(), start, start + block.getCompressedSize(), readerBuilder));
+            }
+            return answer;
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // no-op
@@ -192,4 +305,59 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
         return this;
     }
 
+    public boolean isSplitRowGroups() {
+        return splitRowGroups;
+    }
+
+    /**
+     * Sets whether the unmarshalling should produce a list of the row groups ({@link ParquetRowGroup}) of the file
+     * instead of the records. The row groups are read independently of each other, so the splitter can split the file
+     * into the row groups and read the row groups in parallel.
+     */
+    public ParquetAvroDataFormat setSplitRowGroups(boolean splitRowGroups) {
+        this.splitRowGroups = splitRowGroups;
+        return this;
+    }
+
+    public String getColumns() {
+        return columns;
+    }
+
+    /**
+     * Comma separated names of the columns to read when unmarshalling. The other columns are not read from the file,
+     * and are not set in the records. By default, all the columns are read.
+     */
+    public ParquetAvroDataFormat setColumns(String columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    public FilterPredicate getFilter() {
+        return filter;
+    }
+
+    /**
+     * The filter of the records to read when unmarshalling, such as
+     * <tt>FilterApi.gt(FilterApi.longColumn("id"), 100L)</tt>. The row groups and pages without matching records
+     * (according to their statistics) are skipped without reading them.
+     */
+    public ParquetAvroDataFormat setFilter(FilterPredicate filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    public int getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    /**
+     * The size in bytes of the row groups when marshalling. The row groups are the units which can be read in parallel
+     * when unmarshalling with splitRowGroups, and each row group is buffered in memory when marshalling. By default,
+     * the default size of parquet is used (128MB).
+     */
+    public ParquetAvroDataFormat setRowGroupSize(int rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+        return this;
+    }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.parquet.hadoop.ParquetReader;
+
+/**
+ * A row group of a parquet file, which is read independently of the other row groups of the file. The row groups are
+ * the units to split a parquet file into, so the splitter can read the row groups in parallel.
+ * <p/>
+ * The row group is read when iterating the records of the row group. The iterator must be closed, if it is not read
+ * until the end, which the splitter does.
+ */
+public class ParquetRowGroup implements Iterable<Object> {
+    private final int index;
+    private final long rowCount;
+    private final long start;
+    private final long end;
+    private final Supplier<ParquetReader.Builder<Object>> readerBuilder;
+
+    public ParquetRowGroup(int index, long rowCount, long start, long end,
+                           Supplier<ParquetReader.Builder<Object>> readerBuilder) {
+        this.index = index;
+        this.rowCount = rowCount;
+        this.start = start;
+        this.end = end;
+        this.readerBuilder = readerBuilder;
+    }
+
+    /**
+     * The index of the row group in the file (of the row groups which are read)
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * The number of rows in the row group (before filtering the rows)
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public ParquetIterator<Object> iterator() {
+        try {
+            // the reader reads the row groups whose midpoint is in the range, which is only this row group
+            return new ParquetIterator<>(readerBuilder.get().withFileRange(start, end).build());
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Reads all the records of the row group.
+     */
+    public List<Object> read() throws IOException {
+        List<Object> answer = new ArrayList<>();
+        try (ParquetIterator<Object> it = iterator()) {
+            while (it.hasNext()) {
+                answer.add(it.next());
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "ParquetRowGroup[" + index + "]";
+    }
+}
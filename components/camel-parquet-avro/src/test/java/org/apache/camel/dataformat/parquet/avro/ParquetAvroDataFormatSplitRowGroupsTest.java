@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetAvroDataFormatSplitRowGroupsTest extends CamelTestSupport {
+
+    private static final int COUNT = 2000;
+
+    @Test
+    public void testSplitRowGroups() throws Exception {
+        byte[] data = template.requestBody("direct:marshal", createPojos(), byte[].class);
+
+        List<?> rowGroups = template.requestBody("direct:rowGroups", data, List.class);
+        assertTrue(rowGroups.size() > 1, "Should have more than one row group, but was: " + rowGroups.size());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(COUNT);
+
+        template.sendBody("direct:split", data);
+
+        mock.assertIsSatisfied();
+        List<Long> ids = mock.getExchanges().stream()
+                .map(e -> e.getMessage().getBody(Pojo.class).getId())
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(LongStream.range(0, COUNT).boxed().collect(Collectors.toList()), ids);
+    }
+
+    @Test
+    public void testColumnsAndFilter() throws Exception {
+        byte[] data = template.requestBody("direct:marshal", createPojos(), byte[].class);
+
+        List<?> result = template.requestBody("direct:filter", data, List.class);
+
+        assertEquals(10, result.size());
+        for (Object o : result) {
+            Pojo pojo = (Pojo) o;
+            assertTrue(pojo.getId() >= COUNT - 10);
+            // the column is not read
+            assertNull(pojo.getData());
+        }
+    }
+
+    @Test
+    public void testMarshalIterator() throws Exception {
+        byte[] data = template.requestBody("direct:marshal", createPojos().iterator(), byte[].class);
+
+        List<?> result = template.requestBody("direct:unmarshal", data, List.class);
+
+        assertEquals(createPojos(), result);
+    }
+
+    private static List<Pojo> createPojos() {
+        return LongStream.range(0, COUNT).mapToObj(i -> new Pojo(i, "data" + i)).collect(Collectors.toList());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                ParquetAvroDataFormat marshal = new ParquetAvroDataFormat()
+                        .setRowGroupSize(1024);
+                marshal.setUnmarshalType(Pojo.class);
+
+                ParquetAvroDataFormat unmarshal = new ParquetAvroDataFormat();
+                unmarshal.setUnmarshalType(Pojo.class);
+
+                ParquetAvroDataFormat rowGroups = new ParquetAvroDataFormat()
+                        .setSplitRowGroups(true);
+                rowGroups.setUnmarshalType(Pojo.class);
+
+                ParquetAvroDataFormat filter = new ParquetAvroDataFormat()
+                        .setColumns("id")
+                        .setFilter(FilterApi.gtEq(FilterApi.longColumn("id"), (long) COUNT - 10));
+                filter.setUnmarshalType(Pojo.class);
+
+                from("direct:marshal").marshal(marshal);
+
+                from("direct:unmarshal").unmarshal(unmarshal);
+
+                from("direct:rowGroups").unmarshal(rowGroups);
+
+                from("direct:split")
+                        .unmarshal(rowGroups)
+                        .split(body()).parallelProcessing()
+                        .split(body()).streaming()
+                        .to("mock:result");
+
+                from("direct:filter").unmarshal(filter);
+            }
+        };
+    }
+}
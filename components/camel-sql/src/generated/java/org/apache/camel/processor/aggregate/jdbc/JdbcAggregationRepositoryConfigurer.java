@@ -25,6 +25,8 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
+        case "binarycodeccompressionthreshold":
+        case "binaryCodecCompressionThreshold": target.setBinaryCodecCompressionThreshold(property(camelContext, int.class, value)); return true;
         case "datasource":
         case "dataSource": target.setDataSource(property(camelContext, javax.sql.DataSource.class, value)); return true;
         case "deadletteruri":
@@ -49,6 +51,8 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         case "storeBodyAsText": target.setStoreBodyAsText(property(camelContext, boolean.class, value)); return true;
         case "transactionmanager":
         case "transactionManager": target.setTransactionManager(property(camelContext, org.springframework.transaction.PlatformTransactionManager.class, value)); return true;
+        case "usebinarycodec":
+        case "useBinaryCodec": target.setUseBinaryCodec(property(camelContext, boolean.class, value)); return true;
         case "userecovery":
         case "useRecovery": target.setUseRecovery(property(camelContext, boolean.class, value)); return true;
         default: return false;
@@ -60,6 +64,8 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": return boolean.class;
+        case "binarycodeccompressionthreshold":
+        case "binaryCodecCompressionThreshold": return int.class;
         case "datasource":
         case "dataSource": return javax.sql.DataSource.class;
         case "deadletteruri":
@@ -84,6 +90,8 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         case "storeBodyAsText": return boolean.class;
         case "transactionmanager":
         case "transactionManager": return org.springframework.transaction.PlatformTransactionManager.class;
+        case "usebinarycodec":
+        case "useBinaryCodec": return boolean.class;
         case "userecovery":
         case "useRecovery": return boolean.class;
         default: return null;
@@ -96,6 +104,8 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
+        case "binarycodeccompressionthreshold":
+        case "binaryCodecCompressionThreshold": return target.getBinaryCodecCompressionThreshold();
         case "datasource":
         case "dataSource": return target.getDataSource();
         case "deadletteruri":
@@ -120,6 +130,8 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         case "storeBodyAsText": return target.isStoreBodyAsText();
         case "transactionmanager":
         case "transactionManager": return target.getTransactionManager();
+        case "usebinarycodec":
+        case "useBinaryCodec": return target.isUseBinaryCodec();
         case "userecovery":
         case "useRecovery": return target.isUseRecovery();
         default: return null;
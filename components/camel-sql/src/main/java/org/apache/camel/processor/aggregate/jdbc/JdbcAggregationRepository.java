@@ -37,6 +37,7 @@ import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -116,6 +117,14 @@ public class JdbcAggregationRepository extends ServiceSupport
                             + " all java packages and subpackages and all org.apache.camel packages and subpackages, while the remaining will be"
                             + " blacklisted and not deserialized. This parameter should be customized if you're using classes you trust to be deserialized.")
     private String deserializationFilter = "java.**;org.apache.camel.**;!*";
+    @Metadata(label = "advanced",
+              description = "Whether to store the exchanges using the compact binary exchange codec instead of Java serialization."
+                            + " Exchanges stored with either format can be read regardless of this option.")
+    private boolean useBinaryCodec;
+    @Metadata(label = "advanced",
+              description = "When using the binary exchange codec, then exchanges whose encoded size is equal to or larger than this"
+                            + " number of bytes are compressed. Use 0 to turn off compression.")
+    private int binaryCodecCompressionThreshold;
     @Metadata(label = "advanced",
               description = "Mapper allowing different JDBC vendors to be mapped with vendor specific error codes to an OptimisticLockingException")
     private JdbcOptimisticLockingExceptionMapper jdbcOptimisticLockingExceptionMapper
@@ -611,6 +620,31 @@ public class JdbcAggregationRepository extends ServiceSupport
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isUseBinaryCodec() {
+        return useBinaryCodec;
+    }
+
+    /**
+     * Whether to store the exchanges using the compact {@link BinaryExchangeCodec} instead of Java serialization.
+     * Exchanges stored with either format can be read regardless of this option. The option is applied when the
+     * repository is started.
+     */
+    public void setUseBinaryCodec(boolean useBinaryCodec) {
+        this.useBinaryCodec = useBinaryCodec;
+    }
+
+    public int getBinaryCodecCompressionThreshold() {
+        return binaryCodecCompressionThreshold;
+    }
+
+    /**
+     * When using the binary exchange codec, then exchanges whose encoded size is equal to or larger than this number of
+     * bytes are compressed. Use 0 to turn off compression.
+     */
+    public void setBinaryCodecCompressionThreshold(int binaryCodecCompressionThreshold) {
+        this.binaryCodecCompressionThreshold = binaryCodecCompressionThreshold;
+    }
+
     public int getPropagationBehavior() {
         return propagationBehavior;
     }
@@ -705,6 +739,16 @@ public class JdbcAggregationRepository extends ServiceSupport
     protected void doStart() throws Exception {
         super.doStart();
 
+        // the codec options are applied on every start, as they may have been changed while stopped
+        if (useBinaryCodec) {
+            BinaryExchangeCodec codec = new BinaryExchangeCodec();
+            codec.setCompressionThreshold(binaryCodecCompressionThreshold);
+            codec.setDeserializationFilter(deserializationFilter);
+            jdbcCamelCodec.setBinaryExchangeCodec(codec);
+        } else {
+            jdbcCamelCodec.setBinaryExchangeCodec(null);
+        }
+
         // log number of existing exchanges
         final int current = rowCount(getRepositoryName());
         final int completed = rowCount(getRepositoryNameCompleted());
@@ -22,6 +22,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
@@ -32,6 +33,27 @@ import org.apache.camel.util.IOHelper;
  */
 public class JdbcCamelCodec {
 
+    private BinaryExchangeCodec binaryExchangeCodec;
+
+    public JdbcCamelCodec() {
+    }
+
+    public JdbcCamelCodec(BinaryExchangeCodec binaryExchangeCodec) {
+        this.binaryExchangeCodec = binaryExchangeCodec;
+    }
+
+    public BinaryExchangeCodec getBinaryExchangeCodec() {
+        return binaryExchangeCodec;
+    }
+
+    /**
+     * To store exchanges using the given {@link BinaryExchangeCodec} instead of Java serialization. Exchanges are
+     * always read using the format they were stored with, so existing data can still be read after switching.
+     */
+    public void setBinaryExchangeCodec(BinaryExchangeCodec binaryExchangeCodec) {
+        this.binaryExchangeCodec = binaryExchangeCodec;
+    }
+
     public byte[] marshallExchange(Exchange exchange, boolean allowSerializedHeaders)
             throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
@@ -88,7 +110,11 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private void encode(Object object, OutputStream bytesOut) throws IOException {
+    private void encode(DefaultExchangeHolder object, OutputStream bytesOut) throws IOException {
+        if (binaryExchangeCodec != null) {
+            binaryExchangeCodec.marshal(object, bytesOut);
+            return;
+        }
         try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
             objectOut.writeObject(object);
         }
@@ -96,6 +122,17 @@ public class JdbcCamelCodec {
 
     private DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn, String deserializationFilter)
             throws IOException, ClassNotFoundException {
+        if (!bytesIn.markSupported()) {
+            bytesIn = new BufferedInputStream(bytesIn);
+        }
+        bytesIn.mark(2);
+        byte[] header = bytesIn.readNBytes(2);
+        bytesIn.reset();
+        if (BinaryExchangeCodec.isBinaryExchange(header)) {
+            BinaryExchangeCodec codec = binaryExchangeCodec != null ? binaryExchangeCodec : new BinaryExchangeCodec();
+            return codec.unmarshal(camelContext, bytesIn, deserializationFilter);
+        }
+
         ObjectInputStream objectIn = null;
         Object obj = null;
         try {
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JdbcAggregateBinaryCodecTest extends JdbcAggregateTest {
+
+    @Test
+    public void testChangeCodecOnRestart() throws Exception {
+        assertNotNull(repo.getJdbcCamelCodec().getBinaryExchangeCodec());
+        assertEquals(1024, repo.getJdbcCamelCodec().getBinaryExchangeCodec().getCompressionThreshold());
+
+        repo.stop();
+        repo.setUseBinaryCodec(false);
+        repo.start();
+        assertNull(repo.getJdbcCamelCodec().getBinaryExchangeCodec());
+
+        repo.stop();
+        repo.setUseBinaryCodec(true);
+        repo.setBinaryCodecCompressionThreshold(0);
+        repo.start();
+        assertEquals(0, repo.getJdbcCamelCodec().getBinaryExchangeCodec().getCompressionThreshold());
+    }
+
+    @Override
+    void configureJdbcAggregationRepository() {
+        super.configureJdbcAggregationRepository();
+        repo.setUseBinaryCodec(true);
+        repo.setBinaryCodecCompressionThreshold(1024);
+    }
+}
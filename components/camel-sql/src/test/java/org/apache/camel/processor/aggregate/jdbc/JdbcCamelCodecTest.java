@@ -18,6 +18,9 @@ package org.apache.camel.processor.aggregate.jdbc;
 
 import java.io.*;
 
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.test.junit5.CamelTestSupport;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,4 +55,44 @@ public class JdbcCamelCodecTest extends CamelTestSupport {
 
         Assertions.assertEquals("filter status: REJECTED", thrown.getMessage());
     }
+
+    @Test
+    public void shouldReadBothFormats() throws IOException, ClassNotFoundException {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 5);
+
+        byte[] serialized = codec.marshallExchange(exchange, false);
+        Assertions.assertFalse(BinaryExchangeCodec.isBinaryExchange(serialized));
+
+        JdbcCamelCodec binaryCodec = new JdbcCamelCodec(new BinaryExchangeCodec());
+        byte[] binary = binaryCodec.marshallExchange(exchange, false);
+        Assertions.assertTrue(BinaryExchangeCodec.isBinaryExchange(binary));
+        Assertions.assertTrue(binary.length < serialized.length);
+
+        for (byte[] data : new byte[][] { serialized, binary }) {
+            for (JdbcCamelCodec c : new JdbcCamelCodec[] { codec, binaryCodec }) {
+                Exchange answer = c.unmarshallExchange(context, data, "java.**;org.apache.camel.**;!*");
+                Assertions.assertEquals("Hello World", answer.getIn().getBody());
+                Assertions.assertEquals(123, answer.getIn().getHeader("foo"));
+                Assertions.assertEquals(5, answer.getProperty(Exchange.AGGREGATED_SIZE));
+            }
+        }
+    }
+
+    @Test
+    public void shouldFailWithRejectedBinary() throws IOException {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new Employee("Mickey", "Mouse"));
+
+        JdbcCamelCodec binaryCodec = new JdbcCamelCodec(new BinaryExchangeCodec());
+        byte[] data = binaryCodec.marshallExchange(exchange, false);
+
+        InvalidClassException thrown = Assertions.assertThrows(InvalidClassException.class, () -> {
+            binaryCodec.unmarshallExchange(context, data, "java.**;org.apache.camel.**;!*");
+        });
+
+        Assertions.assertEquals("filter status: REJECTED", thrown.getMessage());
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A simple location path, such as <tt>/order/customer/name</tt> or <tt>/order/customer/name/text()</tt>, which is
+ * evaluated as a string by streaming the XML with StAX, instead of parsing the XML into a DOM and evaluating the XPath
+ * expression on the DOM.
+ * <p/>
+ * The location path must be absolute and consist of child steps by name only (no wildcards, predicates, axes or
+ * functions), optionally ending with <tt>text()</tt>. The prefixes of the names are resolved once, when the location
+ * path is parsed.
+ * <p/>
+ * The whole XML is read, so malformed XML fails as when parsed into a DOM. The evaluation gives up (returns
+ * <tt>null</tt>) when the XML cannot be read, or has a construct which the DOM represents differently than the stream
+ * (such as a DOCTYPE, or a CDATA section in the selected text), in which case the XPath expression must be evaluated on
+ * the DOM as usual.
+ */
+final class SimpleLocationPath {
+
+    private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    // XMLInputFactory is not thread safe
+    private static final Queue<XMLInputFactory> FACTORY_POOL = new ConcurrentLinkedQueue<>();
+
+    private final QName[] steps;
+    private final boolean text;
+
+    private SimpleLocationPath(QName[] steps, boolean text) {
+        this.steps = steps;
+        this.text = text;
+    }
+
+    /**
+     * Parses the XPath expression as a simple location path.
+     *
+     * @param  expression the XPath expression
+     * @param  context    the namespace context to resolve the prefixes of the names
+     * @return            the location path, or <tt>null</tt> if the expression is not a simple location path
+     */
+    static SimpleLocationPath parse(String expression, NamespaceContext context) {
+        String path = expression.trim();
+        if (path.length() < 2 || path.charAt(0) != '/') {
+            return null;
+        }
+        boolean text = false;
+        if (path.endsWith("/text()")) {
+            path = path.substring(0, path.length() - 7);
+            text = true;
+            if (!isCDataReported()) {
+                // the text of a CDATA section is a text node of its own in the DOM
+                return null;
+            }
+        }
+        List<QName> steps = new ArrayList<>();
+        int start = 1;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+            QName step = parseStep(path.substring(start, end), context);
+            if (step == null) {
+                return null;
+            }
+            steps.add(step);
+            start = end + 1;
+        }
+        return steps.isEmpty() ? null : new SimpleLocationPath(steps.toArray(new QName[0]), text);
+    }
+
+    private static QName parseStep(String step, NamespaceContext context) {
+        int colon = step.indexOf(':');
+        String prefix = colon == -1 ? null : step.substring(0, colon);
+        String localPart = step.substring(colon + 1);
+        if (!isNCName(localPart) || prefix != null && !isNCName(prefix)) {
+            return null;
+        }
+        if (prefix == null) {
+            // names without prefix are not in a namespace in XPath 1.0
+            return new QName(localPart);
+        }
+        String uri = context != null ? context.getNamespaceURI(prefix) : null;
+        if (ObjectHelper.isEmpty(uri)) {
+            // let the XPath engine report the unknown prefix
+            return null;
+        }
+        return new QName(uri, localPart, prefix);
+    }
+
+    private static boolean isNCName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        char first = name.charAt(0);
+        if (!Character.isLetter(first) && first != '_') {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-' && ch != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates the location path on the XML as a string, which is the text of the first selected node.
+     *
+     * @param  payload the XML as a String or byte array
+     * @return         the string, or <tt>null</tt> if the location path could not be evaluated by streaming the XML
+     */
+    String evaluate(Object payload) {
+        XMLStreamReader reader = null;
+        try {
+            XMLInputFactory factory = acquireFactory();
+            try {
+                if (payload instanceof String str) {
+                    reader = factory.createXMLStreamReader(new StringReader(str));
+                } else {
+                    reader = factory.createXMLStreamReader(new ByteArrayInputStream((byte[]) payload));
+                }
+            } finally {
+                FACTORY_POOL.add(factory);
+            }
+            String answer = evaluate(reader);
+            return answer != null && drain(reader) ? answer : null;
+        } catch (XMLStreamException e) {
+            // the XML is parsed into a DOM instead, which reports the error
+            return null;
+        } finally {
+            close(reader);
+        }
+    }
+
+    private String evaluate(XMLStreamReader reader) throws XMLStreamException {
+        // the depth of the current element, and how many steps are matched by the current element and its ancestors
+        int depth = 0;
+        int matched = 0;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    if (matched == depth - 1 && matches(reader, steps[matched])) {
+                        matched++;
+                        if (matched == steps.length) {
+                            if (!text) {
+                                return readStringValue(reader);
+                            }
+                            String answer = readText(reader);
+                            if (answer == null || !answer.isEmpty()) {
+                                return answer;
+                            }
+                            // no text in this element, so continue with the next element
+                            depth--;
+                            matched--;
+                        }
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (matched == depth) {
+                        matched--;
+                    }
+                    depth--;
+                    break;
+                case XMLStreamConstants.DTD:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    return null;
+                default:
+                    break;
+            }
+        }
+        // no node was selected
+        return "";
+    }
+
+    private static boolean matches(XMLStreamReader reader, QName step) {
+        String uri = reader.getNamespaceURI();
+        return step.getLocalPart().equals(reader.getLocalName())
+                && step.getNamespaceURI().equals(uri != null ? uri : "");
+    }
+
+    /**
+     * Reads the string value of the current element, which is all the text in the element.
+     */
+    private static String readStringValue(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int level = 0;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    sb.append(reader.getText());
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    level++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (level == 0) {
+                        return sb.toString();
+                    }
+                    level--;
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    return null;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Reads the first text node of the current element, or an empty string if the element has no text nodes.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = null;
+        int level = 0;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    if (level == 0) {
+                        if (sb == null) {
+                            sb = new StringBuilder();
+                        }
+                        sb.append(reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    // comments are ignored when parsing into a DOM, so the text continues after the comment
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    if (level == 0 && sb != null) {
+                        return sb.toString();
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    if (level == 0 && sb != null) {
+                        return sb.toString();
+                    }
+                    level++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (level == 0) {
+                        return sb != null ? sb.toString() : "";
+                    }
+                    level--;
+                    break;
+                case XMLStreamConstants.CDATA:
+                    if (level == 0) {
+                        return null;
+                    }
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    return null;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of the XML, so malformed XML is detected.
+     */
+    private static boolean drain(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.ENTITY_REFERENCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // ignore
+            }
+        }
+    }
+
+    private static boolean isCDataReported() {
+        XMLInputFactory factory = acquireFactory();
+        try {
+            return Boolean.TRUE.equals(factory.getProperty(REPORT_CDATA_EVENT));
+        } catch (IllegalArgumentException e) {
+            return false;
+        } finally {
+            FACTORY_POOL.add(factory);
+        }
+    }
+
+    private static XMLInputFactory acquireFactory() {
+        XMLInputFactory factory = FACTORY_POOL.poll();
+        if (factory == null) {
+            factory = XMLInputFactory.newInstance();
+            // same secure settings as when parsing into a DOM
+            setProperty(factory, XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+            setProperty(factory, XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            setProperty(factory, XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.FALSE);
+            setProperty(factory, XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            setProperty(factory, REPORT_CDATA_EVENT, Boolean.TRUE);
+        }
+        return factory;
+    }
+
+    private static void setProperty(XMLInputFactory factory, String name, Object value) {
+        try {
+            factory.setProperty(name, value);
+        } catch (IllegalArgumentException e) {
+            // the property is not supported by this factory
+        }
+    }
+}
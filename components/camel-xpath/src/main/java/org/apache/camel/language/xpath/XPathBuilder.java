@@ -62,6 +62,7 @@ import org.apache.camel.spi.NamespaceAware;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.support.builder.Namespaces;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -119,6 +120,7 @@ public class XPathBuilder extends ServiceSupport
     private volatile String objectModelUri;
     private volatile String factoryClassName;
     private volatile DefaultNamespaceContext namespaceContext;
+    private volatile SimpleLocationPath simpleLocationPath;
     private volatile boolean logNamespaces;
     private volatile XPathFunctionResolver functionResolver;
     private volatile XPathFunction bodyFunction;
@@ -888,6 +890,13 @@ public class XPathBuilder extends ServiceSupport
      * Evaluates the expression as the given result type
      */
     protected Object evaluateAs(Exchange exchange, QName resultQName) {
+        if (simpleLocationPath != null && resultQName == XPathConstants.STRING) {
+            String answer = evaluateSimpleLocationPath(exchange);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         // pool a pre compiled expression from pool
         XPathExpression xpathExpression = pool.poll();
         if (xpathExpression == null) {
@@ -915,6 +924,28 @@ public class XPathBuilder extends ServiceSupport
         }
     }
 
+    /**
+     * Evaluates the simple location path as a string by streaming the message body, which avoids parsing the message
+     * body into a DOM.
+     *
+     * @return the string, or <tt>null</tt> if the message body must be parsed into a DOM to evaluate the expression
+     */
+    private String evaluateSimpleLocationPath(Exchange exchange) {
+        Object payload = exchange.getMessage().getBody();
+        boolean streamable = payload instanceof String
+                // the DOM parser detects the encoding from the XML, and does not use the charset of the exchange
+                || payload instanceof byte[] && ExchangeHelper.getCharsetName(exchange, false) == null;
+        if (!streamable || ParsedDocumentCache.get(exchange, Document.class, payload) != null) {
+            // the expressions on the exchange already share the DOM of the message body
+            return null;
+        }
+        String answer = simpleLocationPath.evaluate(payload);
+        if (answer != null) {
+            LOG.trace("Evaluated exchange: {} by streaming the message body with result: {}", exchange, answer);
+        }
+        return answer;
+    }
+
     private void logNamespaces(Exchange exchange) {
         InputStream is = null;
         NodeList answer = null;
@@ -1004,6 +1035,15 @@ public class XPathBuilder extends ServiceSupport
         if (isInputStreamNeededForObject(payload)) {
             is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, payload);
             document = getDocument(exchange, is);
+        } else if (getDocumentType() == Document.class && (resultQName == XPathConstants.BOOLEAN
+                || resultQName == XPathConstants.NUMBER || resultQName == XPathConstants.STRING)) {
+            // the DOM is parsed once and shared with the other xpath expressions on the same payload, which is only
+            // when the result is a value and does not refer to the nodes of the DOM
+            try {
+                document = ParsedDocumentCache.getOrParse(exchange, Document.class, payload, p -> getDocument(exchange, p));
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
         } else {
             document = getDocument(exchange, payload);
         }
@@ -1279,6 +1319,10 @@ public class XPathBuilder extends ServiceSupport
         for (Map.Entry<String, String> entry : namespaces.entrySet()) {
             namespaceContext.add(entry.getKey(), entry.getValue());
         }
+        if (source == null && objectModelUri == null && !logNamespaces && getDocumentType() == Document.class) {
+            // simple location paths can be evaluated by streaming the message body instead of parsing it into a DOM
+            simpleLocationPath = SimpleLocationPath.parse(text, namespaceContext);
+        }
 
         // create default functions if no custom assigned
         if (bodyFunction == null) {
@@ -22,9 +22,10 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Result;
@@ -63,8 +64,10 @@ public class XsltBuilder implements Processor {
 
     protected static final Logger LOG = LoggerFactory.getLogger(XsltBuilder.class);
     private Map<String, Object> parameters = new HashMap<>();
-    private Templates template;
-    private volatile BlockingQueue<Transformer> transformers;
+    private volatile Templates template;
+    private volatile Queue<Transformer> transformers;
+    private final AtomicInteger cachedTransformers = new AtomicInteger();
+    private int transformerCacheSize;
     private volatile SourceHandlerFactory sourceHandlerFactory;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
@@ -99,6 +102,7 @@ public class XsltBuilder implements Processor {
             exchange.getExchangeExtension().addOnCompletion(new XsltBuilderOnCompletion(fileName));
         }
 
+        Templates templates = getTemplate();
         Transformer transformer = getTransformer();
         configureTransformer(transformer, exchange);
 
@@ -124,7 +128,7 @@ public class XsltBuilder implements Processor {
             LOG.trace("Transform complete with result {}", result);
             resultHandler.setBody(out);
         } finally {
-            releaseTransformer(transformer);
+            releaseTransformer(transformer, templates);
             // IOHelper can handle if null
             IOHelper.close(is);
         }
@@ -246,10 +250,12 @@ public class XsltBuilder implements Processor {
      */
     public XsltBuilder transformerCacheSize(int numberToCache) {
         if (numberToCache > 0) {
-            transformers = new ArrayBlockingQueue<>(numberToCache);
+            transformerCacheSize = numberToCache;
+            transformers = new ConcurrentLinkedQueue<>();
         } else {
             transformers = null;
         }
+        cachedTransformers.set(0);
         return this;
     }
 
@@ -279,8 +285,12 @@ public class XsltBuilder implements Processor {
 
     public void setTemplate(Templates template) {
         this.template = template;
-        if (transformers != null) {
-            transformers.clear();
+        Queue<Transformer> cache = transformers;
+        if (cache != null) {
+            // the cached transformers are of the previous template
+            while (cache.poll() != null) {
+                cachedTransformers.decrementAndGet();
+            }
         }
     }
 
@@ -427,20 +437,28 @@ public class XsltBuilder implements Processor {
         this.xsltMessageLogger = xsltMessageLogger;
     }
 
-    private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
-            transformer.reset();
-            boolean result = transformers.offer(transformer);
-            if (!result) {
-                LOG.error("failed to offer() a transform");
+    private void releaseTransformer(Transformer transformer, Templates templates) {
+        Queue<Transformer> cache = transformers;
+        // only cache the transformer if the template has not been changed while transforming
+        if (cache != null && templates == template) {
+            // the cache is lock-free, and bounded by counting the cached transformers
+            if (cachedTransformers.incrementAndGet() <= transformerCacheSize) {
+                transformer.reset();
+                cache.offer(transformer);
+            } else {
+                cachedTransformers.decrementAndGet();
             }
         }
     }
 
     private Transformer getTransformer() throws Exception {
         Transformer t = null;
-        if (transformers != null) {
-            t = transformers.poll();
+        Queue<Transformer> cache = transformers;
+        if (cache != null) {
+            t = cache.poll();
+            if (t != null) {
+                cachedTransformers.decrementAndGet();
+            }
         }
         if (t == null) {
             t = createTransformer();
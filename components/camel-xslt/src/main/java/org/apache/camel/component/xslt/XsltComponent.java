@@ -16,8 +16,15 @@
  */
 package org.apache.camel.component.xslt;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import javax.xml.transform.Templates;
 import javax.xml.transform.URIResolver;
 
 import org.apache.camel.Endpoint;
@@ -49,6 +56,10 @@ public class XsltComponent extends DefaultComponent {
     @Metadata(label = "advanced")
     private String transformerFactoryClass;
 
+    // the compiled stylesheets which are shared by the endpoints, by the resolved stylesheet uri
+    private final Map<String, SharedTemplates> sharedTemplates = new HashMap<>();
+    private final Lock sharedTemplatesLock = new ReentrantLock();
+
     public XsltComponent() {
     }
 
@@ -181,4 +192,129 @@ public class XsltComponent extends DefaultComponent {
             xslt.setParameters(parameters);
         }
     }
+
+    /**
+     * Gets the compiled stylesheet which another endpoint has compiled from the same stylesheet, which must be released
+     * by {@link #releaseSharedTemplates(SharedTemplates)} when the endpoint no longer uses it.
+     *
+     * @param  key     the key of the stylesheet, such as the resolved uri of the stylesheet
+     * @param  content the content of the stylesheet
+     * @return         the compiled stylesheet, or <tt>null</tt> if not compiled from the same content
+     */
+    SharedTemplates acquireSharedTemplates(String key, byte[] content) {
+        byte[] digest = digest(content);
+        sharedTemplatesLock.lock();
+        try {
+            SharedTemplates shared = sharedTemplates.get(key);
+            if (shared != null && Arrays.equals(shared.digest, digest)) {
+                shared.references++;
+                return shared;
+            }
+            return null;
+        } finally {
+            sharedTemplatesLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the compiled stylesheet to be shared with the other endpoints, which replaces the compiled stylesheet of a
+     * previous content of the stylesheet. The compiled stylesheet must be released by
+     * {@link #releaseSharedTemplates(SharedTemplates)} when the endpoint no longer uses it.
+     */
+    SharedTemplates addSharedTemplates(String key, byte[] content, Templates templates) {
+        SharedTemplates shared = new SharedTemplates(key, digest(content), templates);
+        sharedTemplatesLock.lock();
+        try {
+            sharedTemplates.put(key, shared);
+        } finally {
+            sharedTemplatesLock.unlock();
+        }
+        return shared;
+    }
+
+    /**
+     * Shares the compiled stylesheet again, when the endpoint which released it is started again.
+     */
+    void retainSharedTemplates(SharedTemplates shared) {
+        sharedTemplatesLock.lock();
+        try {
+            SharedTemplates existing = sharedTemplates.get(shared.key);
+            if (existing == shared) {
+                shared.references++;
+            } else if (existing == null) {
+                shared.references = 1;
+                sharedTemplates.put(shared.key, shared);
+            }
+        } finally {
+            sharedTemplatesLock.unlock();
+        }
+    }
+
+    /**
+     * Releases the compiled stylesheet, which is removed when no endpoint uses it anymore.
+     */
+    void releaseSharedTemplates(SharedTemplates shared) {
+        sharedTemplatesLock.lock();
+        try {
+            // a replaced compiled stylesheet is no longer shared
+            if (sharedTemplates.get(shared.key) == shared && --shared.references == 0) {
+                sharedTemplates.remove(shared.key);
+            }
+        } finally {
+            sharedTemplatesLock.unlock();
+        }
+    }
+
+    /**
+     * The number of compiled stylesheets which are shared by the endpoints.
+     */
+    int getSharedTemplatesSize() {
+        sharedTemplatesLock.lock();
+        try {
+            return sharedTemplates.size();
+        } finally {
+            sharedTemplatesLock.unlock();
+        }
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        sharedTemplatesLock.lock();
+        try {
+            sharedTemplates.clear();
+        } finally {
+            sharedTemplatesLock.unlock();
+        }
+    }
+
+    /**
+     * A compiled stylesheet which is shared by the endpoints, and the number of endpoints using it.
+     */
+    static final class SharedTemplates {
+
+        private final String key;
+        private final byte[] digest;
+        private final Templates templates;
+        // guarded by the lock of the shared stylesheets
+        private int references = 1;
+
+        private SharedTemplates(String key, byte[] digest, Templates templates) {
+            this.key = key;
+            this.digest = digest;
+            this.templates = templates;
+        }
+
+        Templates getTemplates() {
+            return templates;
+        }
+    }
 }
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.xslt;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Source;
@@ -61,6 +63,8 @@ public class XsltEndpoint extends ProcessorEndpoint {
     private static final Logger LOG = LoggerFactory.getLogger(XsltEndpoint.class);
 
     private volatile boolean cacheCleared;
+    private final AtomicReference<XsltComponent.SharedTemplates> sharedTemplates = new AtomicReference<>();
+    private XsltComponent.SharedTemplates stoppedSharedTemplates;
     private volatile XsltBuilder xslt;
     private Map<String, Object> parameters;
 
@@ -387,13 +391,64 @@ public class XsltEndpoint extends ProcessorEndpoint {
         Source source = xslt.getUriResolver().resolve(resourceUri, null);
         if (source == null) {
             throw new IOException("Cannot load schema resource " + resourceUri);
+        } else if (source instanceof StreamSource streamSource && streamSource.getInputStream() != null
+                && streamSource.getSystemId() != null && isSharedTemplates()) {
+            loadSharedTemplates(streamSource, xslt);
         } else {
             xslt.setTransformerSource(source);
+            releaseSharedTemplates(sharedTemplates.getAndSet(null));
         }
         // now loaded so clear flag
         cacheCleared = false;
     }
 
+    /**
+     * Uses the stylesheet which another endpoint has compiled from the same content, or compiles the stylesheet and
+     * shares it with the other endpoints.
+     */
+    private void loadSharedTemplates(StreamSource source, XsltBuilder xslt) throws TransformerException, IOException {
+        byte[] content;
+        try (InputStream is = source.getInputStream()) {
+            content = is.readAllBytes();
+        }
+        XsltComponent component = (XsltComponent) getComponent();
+        String factoryClass = transformerFactoryClass != null
+                ? transformerFactoryClass : component.getTransformerFactoryClass();
+        String key = factoryClass != null ? factoryClass + ":" + source.getSystemId() : source.getSystemId();
+
+        // when reloading, then the stylesheet is compiled, as the stylesheets it includes may have changed
+        boolean reload = !contentCache || cacheCleared;
+        XsltComponent.SharedTemplates shared = reload ? null : component.acquireSharedTemplates(key, content);
+        if (shared != null) {
+            LOG.debug("{} using the stylesheet compiled by another endpoint: {}", this, source.getSystemId());
+            xslt.setTemplate(shared.getTemplates());
+        } else {
+            xslt.setTransformerSource(new StreamSource(new ByteArrayInputStream(content), source.getSystemId()));
+            if (contentCache) {
+                shared = component.addSharedTemplates(key, content, xslt.getTemplate());
+            }
+        }
+        releaseSharedTemplates(sharedTemplates.getAndSet(shared));
+    }
+
+    private void releaseSharedTemplates(XsltComponent.SharedTemplates shared) {
+        if (shared != null) {
+            ((XsltComponent) getComponent()).releaseSharedTemplates(shared);
+        }
+    }
+
+    /**
+     * Whether the compiled stylesheet can be shared with the other endpoints, which compile the stylesheet in the same
+     * way, which is the case when the endpoints use the default configuration to compile the stylesheet.
+     */
+    private boolean isSharedTemplates() {
+        XsltComponent component = (XsltComponent) getComponent();
+        return transformerFactory == null && errorListener == null
+                && transformerFactoryConfigurationStrategy == null
+                && component.getTransformerFactoryConfigurationStrategy() == null
+                && uriResolver != null && uriResolver.getClass() == XsltUriResolver.class;
+    }
+
     @Override
     protected void doInit() throws Exception {
         super.doInit();
@@ -413,6 +468,13 @@ public class XsltEndpoint extends ProcessorEndpoint {
     protected void doStart() throws Exception {
         super.doStart();
 
+        // share the compiled stylesheet again, which was released when this endpoint was stopped
+        XsltComponent.SharedTemplates shared = stoppedSharedTemplates;
+        if (shared != null) {
+            stoppedSharedTemplates = null;
+            ((XsltComponent) getComponent()).retainSharedTemplates(shared);
+            sharedTemplates.set(shared);
+        }
         if (contentCache && !ResourceHelper.isClasspathUri(resourceUri)) {
             loadResource(resourceUri, xslt);
         }
@@ -503,5 +565,8 @@ public class XsltEndpoint extends ProcessorEndpoint {
     protected void doStop() throws Exception {
         super.doStop();
         ServiceHelper.stopService(getXslt());
+        // the compiled stylesheet is no longer used by this endpoint, unless started again
+        stoppedSharedTemplates = sharedTemplates.getAndSet(null);
+        releaseSharedTemplates(stoppedSharedTemplates);
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * A pool of {@link Deflater}s, which are reused instead of allocating and freeing their native memory for every
+ * message. The pool keeps at most the given number of idle deflaters, and the other deflaters are ended when they are
+ * released.
+ */
+final class DeflaterPool {
+
+    private final boolean nowrap;
+    private final BlockingQueue<Deflater> deflaters;
+
+    DeflaterPool(boolean nowrap, int capacity) {
+        this.nowrap = nowrap;
+        this.deflaters = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Gets a deflater with the given compression level, which must be released after use.
+     */
+    Deflater acquire(int level) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            return new Deflater(level, nowrap);
+        }
+        // the deflater is reset, so the level is used from the start of the next input
+        deflater.setLevel(level);
+        return deflater;
+    }
+
+    /**
+     * Releases the deflater, which must not be used anymore by the caller.
+     */
+    void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Ends the idle deflaters.
+     */
+    void clear() {
+        Deflater deflater;
+        while ((deflater = deflaters.poll()) != null) {
+            deflater.end();
+        }
+    }
+}
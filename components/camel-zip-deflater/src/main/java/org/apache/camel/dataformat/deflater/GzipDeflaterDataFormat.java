@@ -16,9 +16,21 @@
  */
 package org.apache.camel.dataformat.deflater;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -27,39 +39,202 @@ import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 
 /**
  * GZip {@link org.apache.camel.spi.DataFormat} for reading/writing data using gzip.
+ * <p/>
+ * When marshalling with a parallelism of more than one, the data is split into blocks, which are compressed in parallel
+ * into separate gzip members. The members are written in order, which is a valid gzip file (as the gzip format allows
+ * more members in a file), which gunzip and this data format decompress into the original data.
  */
 @Dataformat("gzipDeflater")
-public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+
+    private static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    // the gzip header without file name and modification time, and with unknown operating system
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final DeflaterPool deflaterPool = new DeflaterPool(true, Runtime.getRuntime().availableProcessors());
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private int parallelism = 1;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
 
     @Override
     public String getDataFormatName() {
         return "gzipDeflater";
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * The compression level (0-9), by default the default compression level of {@link Deflater}.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads to compress blocks of the data in parallel when marshalling. By default 1, which compresses
+     * the data in a single gzip member without splitting the data into blocks.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size in bytes of the blocks which are compressed in parallel, when the parallelism is more than one. By
+     * default 1MB.
+     */
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        GzipCompressorOutputStream zipOutput = new GzipCompressorOutputStream(stream);
+        if (executorService != null) {
+            try {
+                marshalParallel(is, stream);
+            } finally {
+                // must close all input streams
+                IOHelper.close(is, stream);
+            }
+            return;
+        }
+
+        Deflater deflater = deflaterPool.acquire(compressionLevel);
+        DeflaterOutputStream zipOutput = new DeflaterOutputStream(stream, deflater, IOHelper.DEFAULT_BUFFER_SIZE);
         try {
-            IOHelper.copy(is, zipOutput);
+            CRC32 crc = new CRC32();
+            long size = 0;
+            stream.write(HEADER);
+            byte[] buffer = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+            int n;
+            while ((n = is.read(buffer)) != -1) {
+                crc.update(buffer, 0, n);
+                zipOutput.write(buffer, 0, n);
+                size += n;
+            }
+            zipOutput.finish();
+            writeTrailer(stream, crc, size);
         } finally {
             // must close all input streams
             IOHelper.close(is, zipOutput);
+            deflaterPool.release(deflater);
         }
     }
 
+    private void marshalParallel(InputStream is, OutputStream stream) throws Exception {
+        // the compressed blocks are written in order, and at most two blocks per thread are read ahead
+        Deque<Future<byte[]>> members = new ArrayDeque<>();
+        try {
+            byte[] block = is.readNBytes(blockSize);
+            // an empty input is a single empty member, as an empty file is not valid gzip
+            members.add(submitMember(block));
+            while (block.length == blockSize) {
+                block = is.readNBytes(blockSize);
+                if (block.length > 0) {
+                    members.add(submitMember(block));
+                }
+                if (members.size() >= parallelism * 2) {
+                    stream.write(getMember(members.poll()));
+                }
+            }
+            while (!members.isEmpty()) {
+                stream.write(getMember(members.poll()));
+            }
+        } finally {
+            for (Future<byte[]> member : members) {
+                member.cancel(true);
+            }
+        }
+    }
+
+    private Future<byte[]> submitMember(byte[] block) {
+        return executorService.submit(() -> compressMember(block));
+    }
+
+    private static byte[] getMember(Future<byte[]> member) throws Exception {
+        try {
+            return member.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Compresses the block into a complete gzip member.
+     */
+    private byte[] compressMember(byte[] block) throws IOException {
+        Deflater deflater = deflaterPool.acquire(compressionLevel);
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(block.length / 2 + 64);
+            bos.write(HEADER);
+            deflater.setInput(block);
+            deflater.finish();
+            byte[] buffer = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                bos.write(buffer, 0, n);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(block);
+            writeTrailer(bos, crc, block.length);
+            return bos.toByteArray();
+        } finally {
+            deflaterPool.release(deflater);
+        }
+    }
+
+    private static void writeTrailer(OutputStream out, CRC32 crc, long size) throws IOException {
+        writeInt(out, (int) crc.getValue());
+        // the size of the uncompressed data modulo 2^32
+        writeInt(out, (int) size);
+    }
+
+    private static void writeInt(OutputStream out, int value) throws IOException {
+        // gzip uses little endian
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
         GzipCompressorInputStream unzipInput = null;
 
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
         try {
-            unzipInput = new GzipCompressorInputStream(inputStream);
+            // decompress all the members (such as from parallel compression), as gunzip does
+            unzipInput = new GzipCompressorInputStream(inputStream, true);
             IOHelper.copy(unzipInput, osb);
             return osb.build();
         } finally {
@@ -70,11 +245,20 @@ public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat
 
     @Override
     protected void doStart() throws Exception {
-        // noop
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("The block size must be positive, but was: " + blockSize);
+        }
+        if (parallelism > 1 && executorService == null) {
+            executorService = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "GzipDeflater", parallelism);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        deflaterPool.clear();
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Inflater;
+
+/**
+ * A pool of {@link Inflater}s, which are reused instead of allocating and freeing their native memory for every
+ * message. The pool keeps at most the given number of idle inflaters, and the other inflaters are ended when they are
+ * released.
+ */
+final class InflaterPool {
+
+    private final boolean nowrap;
+    private final BlockingQueue<Inflater> inflaters;
+
+    InflaterPool(boolean nowrap, int capacity) {
+        this.nowrap = nowrap;
+        this.inflaters = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Gets an inflater, which must be released after use.
+     */
+    Inflater acquire() {
+        Inflater inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater(nowrap);
+    }
+
+    /**
+     * Releases the inflater, which must not be used anymore by the caller.
+     */
+    void release(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Ends the idle inflaters.
+     */
+    void clear() {
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
 import org.apache.camel.Exchange;
@@ -36,6 +37,8 @@ import org.apache.camel.util.IOHelper;
 @Dataformat("zipDeflater")
 public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
 
+    private final DeflaterPool deflaterPool = new DeflaterPool(false, Runtime.getRuntime().availableProcessors());
+    private final InflaterPool inflaterPool = new InflaterPool(false, Runtime.getRuntime().availableProcessors());
     private int compressionLevel;
 
     public ZipDeflaterDataFormat() {
@@ -64,7 +67,7 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
         // ask for a mandatory type conversion to avoid a possible NPE beforehand as we do copy from the InputStream
         final InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        final Deflater deflater = new Deflater(compressionLevel);
+        final Deflater deflater = deflaterPool.acquire(compressionLevel);
         final DeflaterOutputStream zipOutput = new DeflaterOutputStream(stream, deflater);
         try {
             IOHelper.copy(is, zipOutput);
@@ -72,18 +75,19 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
             IOHelper.close(is, zipOutput);
 
             /*
-            * As we create the Deflater our self and do not use the stream default
+            * As we provide the Deflater our self and do not use the stream default
             * (see {@link java.util.zip.DeflaterOutputStream#usesDefaultDeflater})
-            * we need to close the Deflater to not risk a OutOfMemoryException
-            * in native code parts (see {@link java.util.zip.Deflater#end})
+            * the stream does not end the Deflater, so it is returned to the pool
+            * (which ends the Deflater if the pool is full, see {@link java.util.zip.Deflater#end})
             */
-            deflater.end();
+            deflaterPool.release(deflater);
         }
     }
 
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
-        InflaterInputStream inflaterInputStream = new InflaterInputStream(inputStream);
+        Inflater inflater = inflaterPool.acquire();
+        InflaterInputStream inflaterInputStream = new InflaterInputStream(inputStream, inflater);
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
 
         try {
@@ -92,6 +96,7 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
         } finally {
             // must close input streams
             IOHelper.close(osb, inflaterInputStream, inputStream);
+            inflaterPool.release(inflater);
         }
     }
 
@@ -102,6 +107,7 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        deflaterPool.clear();
+        inflaterPool.clear();
     }
 }
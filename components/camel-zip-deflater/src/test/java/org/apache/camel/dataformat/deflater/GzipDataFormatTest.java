@@ -18,6 +18,7 @@ package org.apache.camel.dataformat.deflater;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 
 import org.apache.camel.builder.RouteBuilder;
@@ -26,6 +27,7 @@ import org.apache.camel.converter.IOConverter;
 import org.apache.camel.test.junit5.CamelTestSupport;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -80,4 +82,71 @@ public class GzipDataFormatTest extends CamelTestSupport {
 
         result.assertIsSatisfied();
     }
+
+    @Test
+    public void testMarshalParallel() throws Exception {
+        GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+        gzip.setParallelism(4);
+        gzip.setBlockSize(1024);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").marshal(gzip);
+            }
+        });
+        context.start();
+
+        byte[] data = createData(100 * 1024 + 17);
+        byte[] output = template.requestBody("direct:start", data, byte[].class);
+
+        // the blocks are separate gzip members, which are decompressed as one
+        GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(output));
+        assertArrayEquals(data, stream.readAllBytes());
+    }
+
+    @Test
+    public void testMarshalParallelEmpty() throws Exception {
+        GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+        gzip.setParallelism(4);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").marshal(gzip);
+            }
+        });
+        context.start();
+
+        byte[] output = template.requestBody("direct:start", new byte[0], byte[].class);
+
+        GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(output));
+        assertEquals(0, stream.readAllBytes().length);
+    }
+
+    @Test
+    public void testUnMarshalParallel() throws Exception {
+        GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+        gzip.setParallelism(4);
+        gzip.setBlockSize(1000);
+        gzip.setCompressionLevel(Deflater.BEST_SPEED);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").marshal(gzip).unmarshal().gzipDeflater().to("mock:result");
+            }
+        });
+        context.start();
+
+        byte[] data = createData(10000);
+        MockEndpoint result = context.getEndpoint("mock:result", MockEndpoint.class);
+        result.expectedBodiesReceived(data);
+
+        template.sendBody("direct:start", data);
+
+        result.assertIsSatisfied();
+    }
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) TEXT.charAt((i * 7) % TEXT.length());
+        }
+        return data;
+    }
 }
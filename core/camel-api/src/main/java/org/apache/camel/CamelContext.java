@@ -1524,4 +1524,23 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Sets the number of threads used for starting the route consumers when {@link CamelContext} is starting. The
+     * routes are grouped by their startup order and their input endpoint, and the consumers of routes which do not
+     * depend on each other are started concurrently. Routes with an explicit startup order are always started in that
+     * order, and routes consuming from the same endpoint are started by the same thread.
+     * <p/>
+     * The routes are warmed up, and the lifecycle strategies are invoked, one by one by the thread starting
+     * {@link CamelContext}. Routes which are added or started after {@link CamelContext} has been started are started
+     * one by one.
+     * <p/>
+     * The default value is 1, which starts the routes one by one.
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Gets the number of threads used for starting the route consumers when {@link CamelContext} is starting.
+     */
+    int getRouteStartupParallelism();
+
 }
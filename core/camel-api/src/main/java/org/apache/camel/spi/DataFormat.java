@@ -41,6 +41,24 @@ public interface DataFormat extends Service {
      */
     void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception;
 
+    /**
+     * Marshals the object to a byte array.
+     * <p/>
+     * This method can be used when a data format is optimized to marshal directly to a byte array, which avoids writing
+     * the result to a stream, and then copying it from the stream into a byte array. Camel only invokes this method
+     * when stream caching is disabled, so the {@link #marshal(Exchange, Object, OutputStream)} must also be
+     * implemented, which is used for marshalling to a stream cache (that can overflow to disk for big results).
+     *
+     * @param  exchange  the current exchange
+     * @param  graph     the object to be marshalled
+     * @return           the marshalled result, or <tt>null</tt> if this is not supported by the data format, in which
+     *                   case {@link #marshal(Exchange, Object, OutputStream)} is used
+     * @throws Exception can be thrown
+     */
+    default byte[] marshalToBytes(Exchange exchange, Object graph) throws Exception {
+        return null;
+    }
+
     /**
      * Unmarshals the given stream into an object.
      * <p/>
@@ -18,6 +18,12 @@ package org.apache.camel.spi;
 
 /**
  * Notifier to send {@link java.util.EventObject events}.
+ * <p/>
+ * The ignore options (such as {@link #isIgnoreExchangeEvents()}) of a started event notifier are taken into account
+ * when it is added to the {@link ManagementStrategy}, so the events it ignores are not dispatched to it at all. The
+ * ignore options must therefore only be changed using the setters, which for
+ * {@link org.apache.camel.support.EventNotifierSupport} call {@link ManagementStrategy#updateStartedEventNotifiers()}.
+ * Other implementations must call that method themselves when changing the ignore options while started.
  *
  * @see org.apache.camel.spi.EventFactory
  */
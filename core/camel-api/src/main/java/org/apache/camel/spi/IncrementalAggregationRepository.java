@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+
+/**
+ * A specialized {@link org.apache.camel.spi.AggregationRepository} which can persist each incoming exchange as an
+ * append-only delta, instead of rewriting the full aggregated exchange on every add.
+ * <p/>
+ * The repository should keep the aggregated exchanges in progress in memory, and only fold the deltas back into the
+ * aggregated exchange using the {@link AggregationStrategy} when the exchange is not in memory, such as when recovering
+ * after a restart. The repository should periodically store a snapshot of the full aggregated exchange, to keep the
+ * number of deltas to fold bounded. This makes persistent aggregation of large groups linear in I/O instead of
+ * quadratic.
+ *
+ * @see org.apache.camel.processor.aggregate.AggregateProcessor
+ */
+public interface IncrementalAggregationRepository extends AggregationRepository {
+
+    /**
+     * Whether incremental (delta) persistence is enabled. If disabled the aggregator only uses the regular
+     * {@link #add(CamelContext, String, Exchange)} operation.
+     */
+    boolean isIncremental();
+
+    /**
+     * Sets the {@link AggregationStrategy} to use for folding the deltas. This is configured by the aggregator.
+     */
+    void setAggregationStrategy(AggregationStrategy aggregationStrategy);
+
+    /**
+     * Prepares the incoming exchange to be stored as a delta, which is invoked before the exchange is aggregated, as
+     * the {@link AggregationStrategy} may change the incoming exchange. For example the repository can serialize the
+     * exchange, so the incoming exchange does not have to be copied.
+     *
+     * @param  camelContext the current CamelContext
+     * @param  key          the correlation key
+     * @param  exchange     the incoming exchange
+     * @return              the delta to give to {@link #addDelta(CamelContext, String, Exchange, Object)}, or
+     *                      <tt>null</tt> to store a snapshot of the aggregated exchange instead, using
+     *                      {@link #add(CamelContext, String, Exchange)}
+     */
+    Object prepareDelta(CamelContext camelContext, String key, Exchange exchange);
+
+    /**
+     * Adds the incoming exchange as a delta under the correlation key.
+     * <p/>
+     * Invoking {@link #add(CamelContext, String, Exchange)} always stores a snapshot of the full aggregated exchange.
+     *
+     * @param camelContext the current CamelContext
+     * @param key          the correlation key
+     * @param aggregated   the aggregated exchange which is the result of aggregating the delta
+     * @param delta        the delta as prepared by {@link #prepareDelta(CamelContext, String, Exchange)}
+     */
+    void addDelta(CamelContext camelContext, String key, Exchange aggregated, Object delta);
+
+    /**
+     * Evicts the aggregated exchange which is kept in memory, so it is loaded from the store again. This is invoked
+     * when the {@link AggregationStrategy} failed, and may have changed the aggregated exchange.
+     *
+     * @param camelContext the current CamelContext
+     * @param key          the correlation key
+     */
+    default void evict(CamelContext camelContext, String key) {
+        // noop
+    }
+
+}
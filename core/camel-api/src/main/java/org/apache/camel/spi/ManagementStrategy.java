@@ -92,6 +92,31 @@ public interface ManagementStrategy extends StaticService {
      */
     List<EventNotifier> getStartedEventNotifiers();
 
+    /**
+     * Gets the started event notifiers which are interested in events of the given type, which is used for fast
+     * dispatching of the events while routing.
+     * <p/>
+     * The notifiers which ignore events of the given type (such as {@link EventNotifier#isIgnoreExchangeEvents()}) can
+     * be left out, in which case the ignore options are taken into account when the notifier is added, when this
+     * strategy is started, and when {@link #updateStartedEventNotifiers()} is called.
+     *
+     * @param  type the type of event
+     * @return      started event notifiers for the given type of event
+     */
+    default List<EventNotifier> getStartedEventNotifiers(CamelEvent.Type type) {
+        return getStartedEventNotifiers();
+    }
+
+    /**
+     * Updates the started event notifiers for each type of event, which must be called when the ignore options of a
+     * started event notifier have been changed.
+     *
+     * @see #getStartedEventNotifiers(CamelEvent.Type)
+     */
+    default void updateStartedEventNotifiers() {
+        // noop
+    }
+
     /**
      * Adds the event notifier to use.
      * <p/>
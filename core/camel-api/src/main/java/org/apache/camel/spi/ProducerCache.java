@@ -112,6 +112,34 @@ public interface ProducerCache extends Service {
      */
     void purge();
 
+    /**
+     * Gets the number of times a producer was acquired and was already present in the cache.
+     */
+    default long getHits() {
+        return 0;
+    }
+
+    /**
+     * Gets the number of times a producer was acquired and was not present in the cache.
+     */
+    default long getMisses() {
+        return 0;
+    }
+
+    /**
+     * Gets the number of producers evicted from the cache.
+     */
+    default long getEvicted() {
+        return 0;
+    }
+
+    /**
+     * Resets the cache statistics (hits, misses and evicted).
+     */
+    default void resetStatistics() {
+        // noop
+    }
+
     /**
      * Cleanup the cache (purging stale entries)
      */
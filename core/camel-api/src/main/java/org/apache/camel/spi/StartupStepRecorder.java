@@ -105,6 +105,22 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step which is nested in the given parent step, where the parent step has been begun by another
+     * thread, such as when the routes are started concurrently. The steps begun by the current thread, until this step
+     * is ended, are nested in this step.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step, by the current thread.
+     *
+     * @param parent      the parent step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -284,6 +284,7 @@ public abstract class AbstractCamelContext extends BaseService
     private final ContextClock clock = new ContextClock();
     private SSLContextParameters sslContextParameters;
     private StartupSummaryLevel startupSummaryLevel = StartupSummaryLevel.Default;
+    private int routeStartupParallelism = 1;
 
     /**
      * Creates the {@link CamelContext} using {@link org.apache.camel.support.DefaultRegistry} as registry.
@@ -4004,6 +4005,16 @@ public abstract class AbstractCamelContext extends BaseService
         this.startupSummaryLevel = startupSummaryLevel;
     }
 
+    @Override
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     protected Map<String, RouteService> getRouteServices() {
         return routeServices;
     }
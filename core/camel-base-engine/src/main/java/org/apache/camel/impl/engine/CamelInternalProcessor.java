@@ -63,6 +63,7 @@ import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.CompactMessageHistory;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggerHelper;
@@ -913,20 +914,23 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
      * Advice when Message History has been enabled.
      */
     @SuppressWarnings("unchecked")
-    public static class MessageHistoryAdvice implements CamelInternalProcessorAdvice<MessageHistory> {
+    public static class MessageHistoryAdvice implements CamelInternalProcessorAdvice<Object> {
 
         private final MessageHistoryFactory factory;
+        private final DefaultMessageHistoryFactory defaultFactory;
         private final NamedNode definition;
         private final String routeId;
+        private int nodeIndex = -1;
 
         public MessageHistoryAdvice(MessageHistoryFactory factory, NamedNode definition) {
             this.factory = factory;
+            this.defaultFactory = factory instanceof DefaultMessageHistoryFactory dmhf ? dmhf : null;
             this.definition = definition;
             this.routeId = CamelContextHelper.getRouteId(definition);
         }
 
         @Override
-        public MessageHistory before(Exchange exchange) throws Exception {
+        public Object before(Exchange exchange) throws Exception {
             // we may be routing outside a route in an onException or interceptor and if so then grab
             // route id from the exchange UoW state
             String targetRouteId = this.routeId;
@@ -934,23 +938,56 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                 targetRouteId = ExchangeHelper.getRouteId(exchange);
             }
 
+            Object list = exchange.getProperty(ExchangePropertyKey.MESSAGE_HISTORY);
+            if (defaultFactory != null && defaultFactory.isCompact()
+                    && (list == null || list instanceof CompactMessageHistory)) {
+                return beforeCompact(exchange, targetRouteId, (CompactMessageHistory) list);
+            }
+
             MessageHistory history = factory.newMessageHistory(targetRouteId, definition, exchange);
             if (history != null) {
-                List<MessageHistory> list = exchange.getProperty(ExchangePropertyKey.MESSAGE_HISTORY, List.class);
                 if (list == null) {
                     // use thread-safe list as message history may be accessed concurrently
                     list = new CopyOnWriteArrayList<>();
                     exchange.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, list);
                 }
-                list.add(history);
+                ((List<MessageHistory>) list).add(history);
+            }
+            return history;
+        }
+
+        private CompactMessageHistory beforeCompact(Exchange exchange, String targetRouteId, CompactMessageHistory history) {
+            if (!defaultFactory.isIncluded(definition) || history == null && !defaultFactory.isSampled(exchange)) {
+                return null;
+            }
+            int index;
+            if (this.routeId != null) {
+                // the node is always in the same route, so its index can be kept
+                index = nodeIndex;
+                if (index == -1) {
+                    index = defaultFactory.getNodeTable().intern(targetRouteId, definition);
+                    nodeIndex = index;
+                }
+            } else {
+                index = defaultFactory.getNodeTable().intern(targetRouteId, definition);
+            }
+            if (history == null) {
+                // the message history is set on the exchange when its first node is added
+                history = defaultFactory.newCompactMessageHistory(exchange);
+                history.nodeProcessingStarted(index, definition.acceptDebugger(exchange));
+                exchange.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, history);
+            } else {
+                history.nodeProcessingStarted(index, definition.acceptDebugger(exchange));
             }
             return history;
         }
 
         @Override
-        public void after(Exchange exchange, MessageHistory history) throws Exception {
-            if (history != null) {
-                history.nodeProcessingDone();
+        public void after(Exchange exchange, Object history) throws Exception {
+            if (history instanceof CompactMessageHistory compact) {
+                compact.nodeProcessingDone(definition);
+            } else if (history != null) {
+                ((MessageHistory) history).nodeProcessingDone();
             }
         }
     }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -30,6 +32,7 @@ import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementObjectNameStrategy;
 import org.apache.camel.spi.ManagementObjectStrategy;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
@@ -50,6 +53,9 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
 
     private final List<EventNotifier> eventNotifiers = new CopyOnWriteArrayList<>();
     private final List<EventNotifier> startedEventNotifiers = new CopyOnWriteArrayList<>();
+    // the started event notifiers for each type of event (by ordinal) without the notifiers which ignore these events
+    private volatile List<List<EventNotifier>> startedEventNotifiersByType
+            = Collections.nCopies(CamelEvent.Type.values().length, List.of());
     private EventFactory eventFactory = new DefaultEventFactory();
     private ManagementObjectNameStrategy managementObjectNameStrategy;
     private ManagementObjectStrategy managementObjectStrategy;
@@ -78,12 +84,23 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
         return startedEventNotifiers;
     }
 
+    @Override
+    public List<EventNotifier> getStartedEventNotifiers(CamelEvent.Type type) {
+        return startedEventNotifiersByType.get(type.ordinal());
+    }
+
+    @Override
+    public void updateStartedEventNotifiers() {
+        updateStartedEventNotifiersByType();
+    }
+
     @Override
     public void addEventNotifier(EventNotifier eventNotifier) {
         this.eventNotifiers.add(eventNotifier);
         if (isStarted()) {
             // already started
             this.startedEventNotifiers.add(eventNotifier);
+            updateStartedEventNotifiersByType();
         }
         if (getCamelContext() != null) {
             // inject camel context if needed
@@ -97,7 +114,9 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
 
     @Override
     public boolean removeEventNotifier(EventNotifier eventNotifier) {
-        startedEventNotifiers.remove(eventNotifier);
+        if (startedEventNotifiers.remove(eventNotifier)) {
+            updateStartedEventNotifiersByType();
+        }
         return eventNotifiers.remove(eventNotifier);
     }
 
@@ -218,14 +237,32 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
     protected void doStart() throws Exception {
         ServiceHelper.startService(eventNotifiers, managementAgent, managementObjectStrategy, managementObjectNameStrategy);
         startedEventNotifiers.addAll(eventNotifiers);
+        // the notifiers may have configured which events to ignore when they were started
+        updateStartedEventNotifiersByType();
     }
 
     @Override
     protected void doStop() throws Exception {
         startedEventNotifiers.clear();
+        updateStartedEventNotifiersByType();
         ServiceHelper.stopService(managementObjectNameStrategy, managementObjectStrategy, managementAgent, eventNotifiers);
     }
 
+    private synchronized void updateStartedEventNotifiersByType() {
+        CamelEvent.Type[] types = CamelEvent.Type.values();
+        List<List<EventNotifier>> answer = new ArrayList<>(types.length);
+        for (CamelEvent.Type type : types) {
+            List<EventNotifier> notifiers = new ArrayList<>(startedEventNotifiers.size());
+            for (EventNotifier notifier : startedEventNotifiers) {
+                if (!EventHelper.isIgnored(notifier, type)) {
+                    notifiers.add(notifier);
+                }
+            }
+            answer.add(List.copyOf(notifiers));
+        }
+        startedEventNotifiersByType = List.copyOf(answer);
+    }
+
     protected ManagementObjectNameStrategy createManagementObjectNameStrategy(String domain) {
         return null;
     }
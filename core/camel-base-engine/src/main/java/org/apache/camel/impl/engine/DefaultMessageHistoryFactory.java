@@ -16,16 +16,24 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.Collection;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
 import org.apache.camel.MessageHistory;
 import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.MessageHistoryFactory;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.CompactMessageHistory;
 import org.apache.camel.support.DefaultMessageHistory;
+import org.apache.camel.support.LifecycleStrategySupport;
 import org.apache.camel.support.PatternHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.service.ServiceSupport;
 
 @ManagedResource(description = "Managed MessageHistoryFactory")
@@ -35,6 +43,19 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
     private boolean copyMessage;
     private String nodePattern;
     private volatile String[] nodePatternParts;
+    private double sampleRate = 1.0;
+    private long slowThreshold;
+    private final CompactMessageHistory.NodeTable nodes = new CompactMessageHistory.NodeTable();
+    private final Synchronization retention = new SynchronizationAdapter() {
+        @Override
+        public void onComplete(Exchange exchange) {
+            // only keep the message history of the exchanges which are slow (or failed)
+            long threshold = slowThreshold;
+            if (threshold > 0 && exchange.getClock().elapsed() < threshold) {
+                exchange.removeProperty(ExchangePropertyKey.MESSAGE_HISTORY);
+            }
+        }
+    };
 
     @Override
     public CamelContext getCamelContext() {
@@ -47,15 +68,24 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
     }
 
     @Override
-    public MessageHistory newMessageHistory(String routeId, NamedNode node, Exchange exchange) {
-        if (nodePatternParts != null) {
-            String name = node.getShortName();
-            for (String part : nodePatternParts) {
-                boolean match = PatternHelper.matchPattern(name, part);
-                if (!match) {
-                    return null;
+    protected void doInit() throws Exception {
+        if (camelContext != null) {
+            camelContext.addLifecycleStrategy(new LifecycleStrategySupport() {
+                @Override
+                public void onRoutesRemove(Collection<Route> routes) {
+                    // remove the nodes of the removed routes from the node table
+                    for (Route route : routes) {
+                        nodes.remove(route.getRouteId());
+                    }
                 }
-            }
+            });
+        }
+    }
+
+    @Override
+    public MessageHistory newMessageHistory(String routeId, NamedNode node, Exchange exchange) {
+        if (!isIncluded(node)) {
+            return null;
         }
 
         Message msg = null;
@@ -68,6 +98,78 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
         return answer;
     }
 
+    /**
+     * Whether the message history is recorded in the compact form ({@link CompactMessageHistory}), which is the case
+     * when sampling or a slow threshold is configured, and a copy of the message is not included in the message
+     * history.
+     * <p/>
+     * The compact message history is a read-only list, otherwise the message history is a mutable list of
+     * {@link DefaultMessageHistory}.
+     */
+    public boolean isCompact() {
+        return !copyMessage && (sampleRate < 1.0 || slowThreshold > 0);
+    }
+
+    /**
+     * Whether the message history of the exchange is recorded, according to the sample rate.
+     * <p/>
+     * The decision is made from the exchange id, so it is the same every time the exchange is processed by a node,
+     * without storing it on the exchange.
+     *
+     * @param  exchange the exchange
+     * @return          <tt>true</tt> if the exchange is sampled
+     */
+    public boolean isSampled(Exchange exchange) {
+        double rate = sampleRate;
+        if (rate >= 1.0) {
+            return true;
+        } else if (rate <= 0.0) {
+            return false;
+        }
+        // spread the hash code of the exchange id, as the ids of the exchanges are sequential
+        int hash = exchange.getExchangeId().hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        return (hash >>> 8) * 0x1.0p-24 < rate;
+    }
+
+    /**
+     * Creates the compact message history for an exchange which is sampled, which is when the first node processing the
+     * exchange is added to the message history.
+     *
+     * @param  exchange the exchange
+     * @return          the message history
+     */
+    public CompactMessageHistory newCompactMessageHistory(Exchange exchange) {
+        if (slowThreshold > 0) {
+            exchange.getExchangeExtension().addOnCompletion(retention);
+        }
+        return new CompactMessageHistory(nodes);
+    }
+
+    /**
+     * The table of the nodes referenced by the compact message histories
+     */
+    public CompactMessageHistory.NodeTable getNodeTable() {
+        return nodes;
+    }
+
+    /**
+     * Whether the node is included in the message history, according to the node pattern
+     */
+    public boolean isIncluded(NamedNode node) {
+        String[] parts = nodePatternParts;
+        if (parts != null) {
+            String name = node.getShortName();
+            for (String part : parts) {
+                boolean match = PatternHelper.matchPattern(name, part);
+                if (!match) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @ManagedAttribute(description = "Whether message history is enabled")
     public boolean isEnabled() {
         return camelContext != null ? camelContext.isMessageHistory() : false;
@@ -85,6 +187,41 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
         this.copyMessage = copyMessage;
     }
 
+    @ManagedAttribute(description = "The ratio of exchanges which message history is recorded, between 0.0 and 1.0")
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * The ratio of exchanges which message history is recorded, between 0.0 (none) and 1.0 (all). The exchanges are
+     * sampled by their exchange id, and the default is 1.0.
+     * <p/>
+     * This is only in use when the message is not copied into the message history. Setting a lower value records the
+     * message history in the compact form, see {@link #isCompact()}.
+     */
+    @ManagedAttribute(description = "The ratio of exchanges which message history is recorded, between 0.0 and 1.0")
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @ManagedAttribute(description = "The time in millis an exchange must take to keep its message history when completed")
+    public long getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    /**
+     * The time in millis an exchange must take to keep its message history when the exchange is completed. The message
+     * history of the exchanges which completed successfully and faster is removed, so only the message history of the
+     * failed and slow exchanges is kept. The default is 0, which keeps the message history of all exchanges.
+     * <p/>
+     * This is only in use when the message is not copied into the message history. Setting a threshold records the
+     * message history in the compact form, see {@link #isCompact()}.
+     */
+    @ManagedAttribute(description = "The time in millis an exchange must take to keep its message history when completed")
+    public void setSlowThreshold(long slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
     @Override
     @ManagedAttribute(description = "Pattern to filter EIPs")
     public String getNodePattern() {
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.impl.engine;
 
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
@@ -33,8 +35,8 @@ import org.apache.camel.support.service.ServiceHelper;
  */
 public class DeferServiceStartupListener implements StartupListener, Ordered {
 
-    private final Set<Service> earlyServices = new CopyOnWriteArraySet<>();
-    private final Set<Service> services = new CopyOnWriteArraySet<>();
+    private final DeferredServices earlyServices = new DeferredServices();
+    private final DeferredServices services = new DeferredServices();
 
     public void addService(Service service, boolean startEarly) {
         if (startEarly) {
@@ -54,11 +56,11 @@ public class DeferServiceStartupListener implements StartupListener, Ordered {
         doStart(services, context, alreadyStarted);
     }
 
-    protected void doStart(Set<Service> services, CamelContext context, boolean alreadyStarted) throws Exception {
+    protected void doStart(DeferredServices services, CamelContext context, boolean alreadyStarted) throws Exception {
         // new services may be added while starting a service
         // so use a while loop to get the newly added services as well
-        while (!services.isEmpty()) {
-            Service service = services.iterator().next();
+        Service service;
+        while ((service = services.next()) != null) {
             try {
                 ServiceHelper.startService(service);
             } catch (Exception e) {
@@ -68,7 +70,7 @@ public class DeferServiceStartupListener implements StartupListener, Ordered {
                     throw e;
                 }
             } finally {
-                services.remove(service);
+                services.done(service);
             }
         }
     }
@@ -78,4 +80,29 @@ public class DeferServiceStartupListener implements StartupListener, Ordered {
         // we want to be last, so the other startup listeners run first
         return Ordered.LOWEST;
     }
+
+    /**
+     * The services to start in the order they were added. A service which is added again before it is done starting is
+     * ignored. The services are compared by identity, as there can be services for the endpoints of thousands of
+     * routes, and the hash code of some services change when they are started.
+     */
+    protected static final class DeferredServices {
+
+        private final Map<Service, Service> pending = new IdentityHashMap<>();
+        private final Deque<Service> queue = new ArrayDeque<>();
+
+        synchronized void add(Service service) {
+            if (pending.put(service, service) == null) {
+                queue.add(service);
+            }
+        }
+
+        synchronized Service next() {
+            return queue.poll();
+        }
+
+        synchronized void done(Service service) {
+            pending.remove(service);
+        }
+    }
 }
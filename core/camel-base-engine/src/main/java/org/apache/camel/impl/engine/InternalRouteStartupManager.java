@@ -19,13 +19,23 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.FailedToStartRouteException;
@@ -40,9 +50,11 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -177,7 +189,10 @@ final class InternalRouteStartupManager {
             Collection<RouteService> routeServices)
             throws Exception {
         lock.lock();
+        ExecutorService executor = null;
         try {
+            final StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+
             // list of inputs to start when all the routes have been prepared for
             // starting
             // we use a tree map so the routes will be ordered according to startup
@@ -185,17 +200,27 @@ final class InternalRouteStartupManager {
             Map<Integer, DefaultRouteStartupOrder> inputs = new TreeMap<>();
 
             // figure out the order in which the routes should be started
+            StartupStep step = recorder.beginStep(CamelContext.class, camelContext.getName(), "Prepare Routes");
+            // the startup order of the routes which have already been started, to check for clash
+            Map<Integer, List<String>> startedOrders = checkClash ? getStartedRouteStartupOrders(camelContext) : null;
             for (RouteService routeService : routeServices) {
                 DefaultRouteStartupOrder order = doPrepareRouteToBeStarted(camelContext, routeService);
                 // check for clash before we add it as input
                 if (checkClash) {
-                    doCheckStartupOrderClash(camelContext, order, inputs);
+                    doCheckStartupOrderClash(order, inputs, startedOrders);
                 }
                 inputs.put(order.getStartupOrder(), order);
             }
+            recorder.endStep(step);
 
             // warm up routes before we start them
+            step = recorder.beginStep(CamelContext.class, camelContext.getName(), "Warmup Routes");
             doWarmUpRoutes(camelContext, inputs, startConsumer);
+            recorder.endStep(step);
+
+            // the route consumers are started in batches, where the groups of routes in a batch can be started concurrently
+            executor = createStartupExecutor(camelContext, inputs.size());
+            List<List<List<DefaultRouteStartupOrder>>> batches = createStartupBatches(inputs.values(), executor != null);
 
             // sort the startup listeners so they are started in the right order
             camelContext.getStartupListeners().sort(OrderedComparator.get());
@@ -214,13 +239,16 @@ final class InternalRouteStartupManager {
             if (startConsumer) {
                 if (resumeConsumer) {
                     // and now resume the routes
-                    doResumeRouteConsumers(camelContext, inputs, addingRoutes);
+                    step = recorder.beginStep(CamelContext.class, camelContext.getName(), "Resume Route Consumers");
+                    doStartOrResumeRouteConsumers(camelContext, batches, true, addingRoutes, executor);
                 } else {
                     // and now start the routes
                     // and check for clash with multiple consumers of the same
                     // endpoints which is not allowed
-                    doStartRouteConsumers(camelContext, inputs, addingRoutes);
+                    step = recorder.beginStep(CamelContext.class, camelContext.getName(), "Start Route Consumers");
+                    doStartOrResumeRouteConsumers(camelContext, batches, false, addingRoutes, executor);
                 }
+                recorder.endStep(step);
             }
 
             // sort the startup listeners so they are started in the right order
@@ -238,6 +266,9 @@ final class InternalRouteStartupManager {
             // inputs no longer needed
             inputs.clear();
         } finally {
+            if (executor != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(executor);
+            }
             lock.unlock();
         }
     }
@@ -275,8 +306,17 @@ final class InternalRouteStartupManager {
         return new DefaultRouteStartupOrder(startupOrder, route, routeService);
     }
 
+    private static Map<Integer, List<String>> getStartedRouteStartupOrders(AbstractCamelContext camelContext) {
+        Map<Integer, List<String>> answer = new HashMap<>();
+        for (RouteStartupOrder order : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            answer.computeIfAbsent(order.getStartupOrder(), k -> new ArrayList<>(1)).add(order.getRoute().getId());
+        }
+        return answer;
+    }
+
     boolean doCheckStartupOrderClash(
-            AbstractCamelContext camelContext, DefaultRouteStartupOrder answer, Map<Integer, DefaultRouteStartupOrder> inputs)
+            DefaultRouteStartupOrder answer, Map<Integer, DefaultRouteStartupOrder> inputs,
+            Map<Integer, List<String>> startedOrders)
             throws FailedToStartRouteException {
         // check for clash by startupOrder id
         DefaultRouteStartupOrder other = inputs.get(answer.getStartupOrder());
@@ -287,25 +327,119 @@ final class InternalRouteStartupManager {
                             .getStartupOrder() + " configured which this route have as well. Please correct startupOrder to be unique among all your routes.");
         }
         // check in existing already started as well
-        for (RouteStartupOrder order : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-            String otherId = order.getRoute().getId();
-            // skip clash check if it's the same route id, as it's the same
-            // route (can happen when using suspend/resume)
-            if (!answer.getRoute().getId().equals(otherId)
-                    && answer.getStartupOrder() == order.getStartupOrder()) {
-                throw new FailedToStartRouteException(
-                        answer.getRoute().getId(), "startupOrder clash. Route " + otherId + " already has startupOrder "
-                                                   + answer.getStartupOrder()
-                                                   + " configured which this route have as well. Please correct startupOrder to be unique among all your routes.");
+        List<String> otherIds = startedOrders.get(answer.getStartupOrder());
+        if (otherIds != null) {
+            for (String otherId : otherIds) {
+                // skip clash check if it's the same route id, as it's the same
+                // route (can happen when using suspend/resume)
+                if (!answer.getRoute().getId().equals(otherId)) {
+                    throw new FailedToStartRouteException(
+                            answer.getRoute().getId(), "startupOrder clash. Route " + otherId + " already has startupOrder "
+                                                       + answer.getStartupOrder()
+                                                       + " configured which this route have as well. Please correct startupOrder to be unique among all your routes.");
+                }
             }
         }
         return true;
     }
 
+    /**
+     * Creates the thread pool used for starting the route consumers concurrently, or <tt>null</tt> if the routes should
+     * be started one by one.
+     * <p/>
+     * The consumers are only started concurrently while CamelContext is starting. Routes which are added or started
+     * later are started while holding the lock of CamelContext, and a consumer which adds or starts routes from another
+     * thread would then wait for that lock forever.
+     */
+    private static ExecutorService createStartupExecutor(AbstractCamelContext camelContext, int routes) {
+        int parallelism = Math.min(camelContext.getRouteStartupParallelism(), routes);
+        if (parallelism <= 1 || !camelContext.isStarting()) {
+            return null;
+        }
+        LOG.debug("Starting {} routes using {} threads", routes, parallelism);
+        return camelContext.getExecutorServiceManager().newFixedThreadPool(
+                InternalRouteStartupManager.class, "RouteStartup", parallelism);
+    }
+
+    /**
+     * Groups the routes in batches which are started one after the other, where each batch has groups of routes which
+     * can be started concurrently. Routes with an explicit startup order are started in their own batch, so they are
+     * started in the order configured, while the routes with a default startup order are grouped by their input
+     * endpoint, so routes consuming from the same endpoint are started by the same thread.
+     */
+    private static List<List<List<DefaultRouteStartupOrder>>> createStartupBatches(
+            Collection<DefaultRouteStartupOrder> inputs, boolean parallel) {
+        List<List<List<DefaultRouteStartupOrder>>> batches = new ArrayList<>();
+        Map<Object, List<DefaultRouteStartupOrder>> groups = null;
+        for (DefaultRouteStartupOrder input : inputs) {
+            if (!parallel || input.getRoute().getStartupOrder() != null) {
+                if (groups != null) {
+                    batches.add(new ArrayList<>(groups.values()));
+                    groups = null;
+                }
+                batches.add(List.of(List.of(input)));
+            } else {
+                if (groups == null) {
+                    groups = new LinkedHashMap<>();
+                }
+                Endpoint endpoint = input.getRoute().getEndpoint();
+                Object key = endpoint != null ? endpoint.getEndpointUri() : input;
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(input);
+            }
+        }
+        if (groups != null) {
+            batches.add(new ArrayList<>(groups.values()));
+        }
+        return batches;
+    }
+
+    /**
+     * Runs the task for each route in the groups of the batch, where the groups are run concurrently by the executor.
+     * All the groups are completed before the first failure (if any) is thrown.
+     */
+    private static void runBatch(
+            AbstractCamelContext camelContext, List<List<DefaultRouteStartupOrder>> batch, ExecutorService executor,
+            ThrowingConsumer<DefaultRouteStartupOrder, Exception> task)
+            throws Exception {
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        for (List<DefaultRouteStartupOrder> group : batch) {
+            futures.add(executor.submit(() -> {
+                camelContext.setStartingRoutes(true);
+                try {
+                    for (DefaultRouteStartupOrder input : group) {
+                        task.accept(input);
+                    }
+                } finally {
+                    camelContext.setStartingRoutes(false);
+                }
+                return null;
+            }));
+        }
+        Exception failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                if (failure == null) {
+                    failure = (Exception) e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
             throws FailedToStartRouteException {
+        final StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+
         // now prepare the routes by starting its services before we start the
         // input
+        // (this is done one by one, as warming up the routes invokes the lifecycle strategies)
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
@@ -316,9 +450,7 @@ final class InternalRouteStartupManager {
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
             RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
-                    routeService.getId(),
-                    "Warump Route");
+            StartupStep step = recorder.beginStep(Route.class, routeService.getId(), "Warump Route");
             try {
                 LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
                 setupRoute.set(routeService.getRoute());
@@ -327,162 +459,269 @@ final class InternalRouteStartupManager {
                 routeService.warmUp();
             } finally {
                 setupRoute.remove();
-                camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+                recorder.endStep(step);
             }
         }
     }
 
-    void doResumeRouteConsumers(
-            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
-            throws Exception {
-        doStartOrResumeRouteConsumers(camelContext, inputs, true, addingRoutes);
-    }
-
-    void doStartRouteConsumers(
-            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
-            throws Exception {
-        doStartOrResumeRouteConsumers(camelContext, inputs, false, addingRoutes);
-    }
-
     private LoggingLevel getRouteLoggerLogLevel(AbstractCamelContext camelContext) {
         return camelContext.getRouteController().getLoggingLevel();
     }
 
     private void doStartOrResumeRouteConsumers(
             AbstractCamelContext camelContext,
-            Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
+            List<List<List<DefaultRouteStartupOrder>>> batches, boolean resumeOnly, boolean addingRoute,
+            ExecutorService executor)
             throws Exception {
-        List<Endpoint> routeInputs = new ArrayList<>();
-
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            RouteService routeService = entry.getValue().getRouteService();
+        final StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+
+        // the input endpoints of the routes which have already been started, or are currently starting,
+        // and the routes which are already in the startup order, so the clash checks are hashed lookups
+        Map<Endpoint, List<String>> existingEndpoints = new HashMap<>();
+        for (Route existingRoute : camelContext.getRoutes()) {
+            ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.computeIfAbsent(existingRoute.getEndpoint(), k -> new ArrayList<>(1))
+                        .add(existingRoute.getId());
+            }
+        }
+        Set<String> startupOrderIds = new HashSet<>();
+        for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            startupOrderIds.add(other.getRoute().getId());
+        }
+        Set<Endpoint> routeInputs = new HashSet<>();
+
+        for (List<List<DefaultRouteStartupOrder>> batch : batches) {
+            // check the routes of the batch before starting them
+            List<List<DefaultRouteStartupOrder>> startable = new ArrayList<>(batch.size());
+            for (List<DefaultRouteStartupOrder> group : batch) {
+                List<DefaultRouteStartupOrder> routes = new ArrayList<>(group.size());
+                for (DefaultRouteStartupOrder input : group) {
+                    if (doCheckStartRoute(camelContext, input, addingRoute, existingEndpoints, routeInputs)) {
+                        routes.add(input);
+                    }
+                }
+                if (!routes.isEmpty()) {
+                    startable.add(routes);
+                }
+            }
 
-            // if we are starting camel, then skip routes which are configured
-            // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log(
-                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
-                        getRouteLoggerLogLevel(camelContext));
-                continue;
+            if (executor == null || startable.size() <= 1) {
+                for (List<DefaultRouteStartupOrder> group : startable) {
+                    for (DefaultRouteStartupOrder input : group) {
+                        StartupStep step = recorder.beginStep(Route.class, input.getRoute().getRouteId(), "Start Route");
+                        doBeforeStartOrResumeRouteConsumer(camelContext, input, resumeOnly);
+                        doStartOrResumeRouteConsumer(input, resumeOnly);
+                        doAfterStartOrResumeRouteConsumer(camelContext, input, resumeOnly, startupOrderIds);
+                        recorder.endStep(step);
+                    }
+                }
+            } else {
+                doStartOrResumeRouteConsumersConcurrently(camelContext, startable, resumeOnly, startupOrderIds, executor);
             }
+        }
+    }
 
-            StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
-                    route.getRouteId(),
-                    "Start Route");
+    /**
+     * Starts the consumers of the routes in the batch concurrently. Only starting the consumers is done by the startup
+     * threads, while the lifecycle strategies are invoked, and the routes are started, by the calling thread in the
+     * startup order of the routes, as the lifecycle strategies and event notifiers are not required to be thread-safe.
+     */
+    private void doStartOrResumeRouteConsumersConcurrently(
+            AbstractCamelContext camelContext, List<List<DefaultRouteStartupOrder>> batch, boolean resumeOnly,
+            Set<String> startupOrderIds, ExecutorService executor)
+            throws Exception {
+        List<DefaultRouteStartupOrder> inputs = new ArrayList<>();
+        for (List<DefaultRouteStartupOrder> group : batch) {
+            inputs.addAll(group);
+        }
+        inputs.sort(Comparator.comparingInt(DefaultRouteStartupOrder::getStartupOrder));
 
-            // do some preparation before starting the consumer on the route
-            Consumer consumer = routeService.getInput();
-            if (consumer != null) {
-                Endpoint endpoint = consumer.getEndpoint();
+        for (DefaultRouteStartupOrder input : inputs) {
+            doBeforeStartOrResumeRouteConsumer(camelContext, input, resumeOnly);
+        }
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        // the startup threads record their steps in the step of the batch explicitly, as the steps are nested per thread
+        final StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep parent = recorder.beginStep(CamelContext.class, camelContext.getName(), "Start Routes Concurrently");
+        Set<DefaultRouteStartupOrder> started = ConcurrentHashMap.newKeySet();
+        Exception failure = null;
+        try {
+            runBatch(camelContext, batch, executor, input -> {
+                StartupStep step = recorder.beginStep(parent, Route.class, input.getRoute().getRouteId(), "Start Route");
+                try {
+                    doStartOrResumeRouteConsumer(input, resumeOnly);
+                } finally {
+                    recorder.endStep(step);
                 }
+                started.add(input);
+            });
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            recorder.endStep(parent);
+        }
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : camelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+        // the routes whose consumer was started are registered and started, even if another consumer failed to start,
+        // so they are stopped in reverse order as usual
+        for (DefaultRouteStartupOrder input : inputs) {
+            if (started.contains(input)) {
+                doAfterStartOrResumeRouteConsumer(camelContext, input, resumeOnly, startupOrderIds);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
-                }
+    /**
+     * Whether the route should be started, and checks that its input endpoint is not consumed by other routes, unless
+     * the endpoint supports multiple consumers.
+     */
+    private boolean doCheckStartRoute(
+            AbstractCamelContext camelContext, DefaultRouteStartupOrder input, boolean addingRoute,
+            Map<Endpoint, List<String>> existingEndpoints, Set<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        Route route = input.getRoute();
+        RouteService routeService = input.getRouteService();
+
+        // if we are starting camel, then skip routes which are configured
+        // to not be auto started
+        boolean autoStartup = routeService.isAutoStartup();
+        if (addingRoute && !autoStartup) {
+            routeLogger.log(
+                    "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                    getRouteLoggerLogLevel(camelContext));
+            return false;
+        }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        camelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            Endpoint endpoint = consumer.getEndpoint();
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
-                }
+            // check multiple consumer violation, with the other routes to be started
+            if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+                throw new FailedToStartRouteException(
+                        routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+            }
 
-                routeInputs.add(endpoint);
-
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
+            // check for multiple consumer violations with existing routes
+            // which have already been started, or is currently starting
+            List<String> existingIds = existingEndpoints.get(endpoint);
+            if (existingIds != null && !isMultipleConsumersSupported(endpoint)) {
+                for (String existingId : existingIds) {
+                    // skip ourselves
+                    if (!route.getId().equals(existingId)) {
+                        throw new FailedToStartRouteException(
+                                routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
                     }
                 }
-                if (!found) {
-                    camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
-                }
             }
 
+            routeInputs.add(endpoint);
+        }
+        return true;
+    }
+
+    private void doBeforeStartOrResumeRouteConsumer(
+            AbstractCamelContext camelContext, DefaultRouteStartupOrder input, boolean resumeOnly)
+            throws Exception {
+        Route route = input.getRoute();
+        Consumer consumer = input.getRouteService().getInput();
+        if (consumer != null) {
+            // start the consumer on the route
+            LOG.debug("Route: {} >>> {}", route.getId(), route);
             if (resumeOnly) {
-                routeService.resume();
+                LOG.debug("Resuming consumer (order: {}) on route: {}", input.getStartupOrder(), route.getId());
+            } else {
+                LOG.debug("Starting consumer (order: {}) on route: {}", input.getStartupOrder(), route.getId());
+            }
+
+            if (!resumeOnly || !route.supportsSuspension()) {
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+                }
+                // and register startup aware so they can be notified when
+                // camel context has been started
+                if (consumer instanceof StartupListener listener) {
+                    camelContext.addStartupListener(listener);
+                }
+                CamelContextAware.trySetCamelContext(consumer, camelContext.getCamelContextReference());
+            }
+        }
+    }
+
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder input, boolean resumeOnly) throws Exception {
+        Route route = input.getRoute();
+        Consumer consumer = input.getRouteService().getInput();
+        if (consumer != null) {
+            if (resumeOnly && route.supportsSuspension()) {
+                // if we are resuming and the route can be resumed
+                ServiceHelper.resumeService(consumer);
             } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
                 try {
-                    routeService.start();
+                    ServiceHelper.startService(consumer);
                     route.getProperties().remove("route.start.exception");
                 } catch (Exception e) {
                     route.getProperties().put("route.start.exception", e);
                     throw e;
                 }
             }
-
-            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
         }
     }
 
-    private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
-        // is multiple consumers supported
-        boolean multipleConsumersSupported = false;
-        if (endpoint instanceof MultipleConsumersSupport consumersSupport) {
-            multipleConsumersSupported = consumersSupport.isMultipleConsumersSupported();
+    private void doAfterStartOrResumeRouteConsumer(
+            AbstractCamelContext camelContext, DefaultRouteStartupOrder input, boolean resumeOnly, Set<String> startupOrderIds)
+            throws Exception {
+        Route route = input.getRoute();
+        RouteService routeService = input.getRouteService();
+
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = consumer.getEndpoint().getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            if (resumeOnly && route.supportsSuspension()) {
+                routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                        getRouteLoggerLogLevel(camelContext));
+            } else {
+                routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                        getRouteLoggerLogLevel(camelContext));
+            }
+
+            // add to the order which they was started, so we know how to
+            // stop them in reverse order
+            // but only add if we haven't already registered it before (we
+            // dont want to double add when restarting)
+            if (startupOrderIds.add(route.getId())) {
+                camelContext.getCamelContextExtension().getRouteStartupOrder().add(input);
+            }
         }
 
-        if (multipleConsumersSupported) {
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            }
+        }
+    }
+
+    private static boolean isMultipleConsumersSupported(Endpoint endpoint) {
+        return endpoint instanceof MultipleConsumersSupport consumersSupport
+                && consumersSupport.isMultipleConsumersSupported();
+    }
+
+    private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, Set<Endpoint> routeInputs) {
+        // is multiple consumers supported
+        if (isMultipleConsumersSupported(endpoint)) {
             // multiple consumer allowed, so return true
             return true;
         }
@@ -88,6 +88,11 @@ public class ContextDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mb.getLastProcessingTime(), true)));
                     sb.append(
                             String.format("\n    Delta Time: %s", TimeUtils.printDuration(mb.getDeltaProcessingTime(), true)));
+                    long[] percentiles = mb.processingTimePercentiles();
+                    sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(percentiles[0], true)));
+                    sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(percentiles[1], true)));
+                    sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(percentiles[2], true)));
+                    sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(percentiles[3], true)));
                 }
                 Date last = mb.getLastExchangeCreatedTimestamp();
                 if (last != null) {
@@ -162,6 +167,11 @@ public class ContextDevConsole extends AbstractDevConsole {
                 if (mb.getExchangesTotal() > 0) {
                     stats.put("lastProcessingTime", mb.getLastProcessingTime());
                     stats.put("deltaProcessingTime", mb.getDeltaProcessingTime());
+                    long[] percentiles = mb.processingTimePercentiles();
+                    stats.put("p50ProcessingTime", percentiles[0]);
+                    stats.put("p90ProcessingTime", percentiles[1]);
+                    stats.put("p99ProcessingTime", percentiles[2]);
+                    stats.put("p999ProcessingTime", percentiles[3]);
                 }
                 Date last = mb.getLastExchangeCreatedTimestamp();
                 if (last != null) {
@@ -144,6 +144,11 @@ public class RouteDevConsole extends AbstractDevConsole {
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mrb.getDeltaProcessingTime(), true)));
+                long[] percentiles = mrb.processingTimePercentiles();
+                sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(percentiles[0], true)));
+                sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(percentiles[1], true)));
+                sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(percentiles[2], true)));
+                sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(percentiles[3], true)));
             }
             Date last = mrb.getLastExchangeCreatedTimestamp();
             if (last != null) {
@@ -222,6 +227,11 @@ public class RouteDevConsole extends AbstractDevConsole {
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(
                         String.format("\n        Delta Time: %s", TimeUtils.printDuration(mp.getDeltaProcessingTime(), true)));
+                long[] percentiles = mp.processingTimePercentiles();
+                sb.append(String.format("\n        P50 Time: %s", TimeUtils.printDuration(percentiles[0], true)));
+                sb.append(String.format("\n        P90 Time: %s", TimeUtils.printDuration(percentiles[1], true)));
+                sb.append(String.format("\n        P99 Time: %s", TimeUtils.printDuration(percentiles[2], true)));
+                sb.append(String.format("\n        P999 Time: %s", TimeUtils.printDuration(percentiles[3], true)));
             }
             Date last = mp.getLastExchangeCompletedTimestamp();
             if (last != null) {
@@ -304,6 +314,11 @@ public class RouteDevConsole extends AbstractDevConsole {
             if (mrb.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
+                long[] percentiles = mrb.processingTimePercentiles();
+                stats.put("p50ProcessingTime", percentiles[0]);
+                stats.put("p90ProcessingTime", percentiles[1]);
+                stats.put("p99ProcessingTime", percentiles[2]);
+                stats.put("p999ProcessingTime", percentiles[3]);
             }
             Date last = mrb.getLastExchangeCreatedTimestamp();
             if (last != null) {
@@ -392,6 +407,11 @@ public class RouteDevConsole extends AbstractDevConsole {
         if (mp.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
+            long[] percentiles = mp.processingTimePercentiles();
+            stats.put("p50ProcessingTime", percentiles[0]);
+            stats.put("p90ProcessingTime", percentiles[1]);
+            stats.put("p99ProcessingTime", percentiles[2]);
+            stats.put("p999ProcessingTime", percentiles[3]);
         }
         Date last = mp.getLastExchangeCreatedTimestamp();
         if (last != null) {
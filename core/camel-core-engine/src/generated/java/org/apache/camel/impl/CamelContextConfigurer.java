@@ -88,6 +88,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "restRegistry": target.setRestRegistry(property(camelContext, org.apache.camel.spi.RestRegistry.class, value)); return true;
         case "routecontroller":
         case "routeController": target.setRouteController(property(camelContext, org.apache.camel.spi.RouteController.class, value)); return true;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "runtimeendpointregistry":
         case "runtimeEndpointRegistry": target.setRuntimeEndpointRegistry(property(camelContext, org.apache.camel.spi.RuntimeEndpointRegistry.class, value)); return true;
         case "sslcontextparameters":
@@ -202,6 +204,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "restRegistry": return org.apache.camel.spi.RestRegistry.class;
         case "routecontroller":
         case "routeController": return org.apache.camel.spi.RouteController.class;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return int.class;
         case "runtimeendpointregistry":
         case "runtimeEndpointRegistry": return org.apache.camel.spi.RuntimeEndpointRegistry.class;
         case "sslcontextparameters":
@@ -317,6 +321,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "restRegistry": return target.getRestRegistry();
         case "routecontroller":
         case "routeController": return target.getRouteController();
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return target.getRouteStartupParallelism();
         case "runtimeendpointregistry":
         case "runtimeEndpointRegistry": return target.getRuntimeEndpointRegistry();
         case "sslcontextparameters":
@@ -622,11 +622,12 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
         }
         try {
             RouteDefinitionHelper.forceAssignIds(getCamelContextReference(), routeDefinitions);
+            // gather the ids of all the routes once, instead of for each route being validated
+            RouteDefinitionHelper.RouteNodeIds nodeIds = RouteDefinitionHelper.gatherAllNodeIds(routeDefinitions);
             List<RouteDefinition> routeDefinitionsToRemove = null;
             for (RouteDefinition routeDefinition : routeDefinitions) {
                 // assign ids to the routes and validate that the id's is all unique
-                String duplicate = RouteDefinitionHelper.validateUniqueIds(routeDefinition, routeDefinitions,
-                        routeDefinition.getNodePrefixId());
+                String duplicate = nodeIds.validateUniqueIds(routeDefinition, routeDefinition.getNodePrefixId());
                 if (duplicate != null) {
                     throw new FailedToStartRouteException(
                             routeDefinition.getId(),
@@ -728,6 +729,9 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
 
                     RouteService routeService = new RouteService(route);
                     startRouteService(routeService, true);
+
+                    // the route may have new ids after being prepared
+                    nodeIds.update(routeDefinition);
                 } else {
                     // Add the definition to the list of definitions to remove as the route is excluded
                     if (routeDefinitionsToRemove == null) {
@@ -19,9 +19,12 @@ package org.apache.camel.model;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -295,6 +298,89 @@ public final class RouteDefinitionHelper {
         return null;
     }
 
+    /**
+     * Creates a holder of the custom ids of the given routes, which validates that a route has no duplicate id's from
+     * any of the other routes, without gathering the ids of all the other routes for each route validated.
+     *
+     * @param  routes the routes
+     * @return        the holder of the ids
+     */
+    public static RouteNodeIds gatherAllNodeIds(List<RouteDefinition> routes) {
+        RouteNodeIds answer = new RouteNodeIds();
+        for (RouteDefinition route : routes) {
+            answer.update(route);
+        }
+        return answer;
+    }
+
+    /**
+     * The custom ids of the nodes of a set of routes, and the number of routes each id is used by.
+     */
+    public static final class RouteNodeIds {
+
+        private final Map<RouteDefinition, Set<String>> routeIds = new IdentityHashMap<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        private RouteNodeIds() {
+        }
+
+        /**
+         * Gathers the ids of the route again, such as after the route has been prepared.
+         */
+        public void update(RouteDefinition route) {
+            Set<String> old = routeIds.remove(route);
+            if (old != null) {
+                for (String id : old) {
+                    counts.computeIfPresent(id, (k, v) -> v == 1 ? null : v - 1);
+                }
+            }
+            // only include custom ids, and no abstract ids
+            // as abstract nodes is cross-cutting functionality such as interceptors
+            // etc
+            Set<String> ids = new LinkedHashSet<>();
+            ProcessorDefinitionHelper.gatherAllNodeIds(route, ids, true, false);
+            for (String id : ids) {
+                counts.merge(id, 1, Integer::sum);
+            }
+            routeIds.put(route, ids);
+        }
+
+        /**
+         * Validates that the target route has no duplicate id's from any of the other routes.
+         *
+         * @param  target   the target route
+         * @param  prefixId optional prefix to use in duplicate id detection
+         * @return          <tt>null</tt> if no duplicate id's detected, otherwise the first found duplicate id is
+         *                  returned.
+         * @see             RouteDefinitionHelper#validateUniqueIds(RouteDefinition, List, String)
+         */
+        public String validateUniqueIds(RouteDefinition target, String prefixId) {
+            Set<String> ownIds = routeIds.get(target);
+            Set<String> targetIds = ownIds;
+            if (targetIds == null) {
+                targetIds = new LinkedHashSet<>();
+                ProcessorDefinitionHelper.gatherAllNodeIds(target, targetIds, true, false);
+            }
+            for (String id : targetIds) {
+                // skip ids that are placeholders
+                if (!id.startsWith("{{")) {
+                    if (prefixId != null) {
+                        id = prefixId + id;
+                    }
+                    // the target route itself does not count as a duplicate
+                    int count = counts.getOrDefault(id, 0);
+                    if (ownIds != null && ownIds.contains(id)) {
+                        count--;
+                    }
+                    if (count > 0) {
+                        return id;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
     public static void initParent(ProcessorDefinition parent) {
         if (parent instanceof RouteDefinition rd) {
             FromDefinition from = rd.getInput();
@@ -53,6 +53,7 @@ import org.apache.camel.Traceable;
 import org.apache.camel.spi.AggregationRepository;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.IncrementalAggregationRepository;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RecoverableAggregationRepository;
@@ -231,6 +232,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private IncrementalAggregationRepository incrementalRepository;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -546,12 +548,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
             trackTimeout(key, newExchange);
         }
 
+        // prepare the incoming exchange as the delta to persist with incremental aggregation repositories, before the
+        // aggregation strategy may change it
+        Object delta = null;
+        if (incrementalRepository != null && oldExchange != null) {
+            delta = incrementalRepository.prepareDelta(newExchange.getContext(), key, newExchange);
+        }
+
         // aggregate the exchanges
         boolean aggregateFailed = false;
         try {
             answer = onAggregation(oldExchange, newExchange);
         } catch (Exception e) {
             aggregateFailed = true;
+            if (incrementalRepository != null && oldExchange != null) {
+                // the aggregation strategy may have changed the aggregated exchange which the repository keeps in memory
+                incrementalRepository.evict(newExchange.getContext(), key);
+            }
             if (isDiscardOnAggregationFailure()) {
                 // discard due failure in aggregation strategy
                 LOG.debug(
@@ -606,7 +619,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         if (!aggregateFailed && complete == null) {
             // only need to update aggregation repository if we are not complete
-            doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            if (delta != null) {
+                LOG.trace("In progress aggregated exchange: {}, delta: {} with correlation key: {}", answer, delta, key);
+                incrementalRepository.addDelta(newExchange.getContext(), key, answer, delta);
+            } else {
+                doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            }
         } else {
             // if we are complete then add the answer to the list
             doAggregationComplete(complete, list, key, originalExchange, answer, aggregateFailed);
@@ -1552,6 +1570,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (!optimisticLocking && aggregationRepository instanceof IncrementalAggregationRepository incremental
+                && incremental.isIncremental()) {
+            incremental.setAggregationStrategy(aggregationStrategy);
+            incrementalRepository = incremental;
+            LOG.info("Incremental aggregation repository is enabled");
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
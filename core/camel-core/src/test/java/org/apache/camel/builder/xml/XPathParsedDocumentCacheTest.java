@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.apache.camel.support.ParsedDocumentCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XPathParsedDocumentCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testChoice() throws Exception {
+        getMockEndpoint("mock:a").expectedBodiesReceived("<order type='a'/>");
+        getMockEndpoint("mock:b").expectedBodiesReceived("<order type='b'/>");
+        getMockEndpoint("mock:c").expectedBodiesReceived("<order type='c'/>");
+
+        template.sendBody("direct:start", "<order type='a'/>");
+        template.sendBody("direct:start", "<order type='b'/>");
+        template.sendBody("direct:start", "<order type='c'/>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBodyChanged() throws Exception {
+        // the body is changed between the predicates, so the document must be parsed again
+        getMockEndpoint("mock:changed").expectedBodiesReceived("<order type='c'/>");
+
+        template.sendBody("direct:change", "<order type='a'/>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testNodesNotShared() {
+        Exchange exchange = createExchangeWithBody("<order><item/><item/></order>");
+
+        // the result refers to the nodes of the DOM, so the DOM is not shared
+        XPathBuilder builder = XPathBuilder.xpath("/order/item", NodeList.class);
+        builder.init(context);
+        assertEquals(2, builder.evaluate(exchange, NodeList.class).getLength());
+        assertNull(ParsedDocumentCache.get(exchange, Document.class, exchange.getMessage().getBody()));
+
+        // the result of a predicate is a boolean, so the DOM is shared
+        builder = XPathBuilder.xpath("count(/order/item) = 2");
+        builder.init(context);
+        assertTrue(builder.matches(exchange));
+        assertNotNull(ParsedDocumentCache.get(exchange, Document.class, exchange.getMessage().getBody()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .choice()
+                        .when().xpath("/order[@type = 'x']").to("mock:x")
+                        .when().xpath("/order[@type = 'y']").to("mock:y")
+                        .when().xpath("/order[@type = 'a']").to("mock:a")
+                        .when().xpath("/order[@type = 'b']").to("mock:b")
+                        .otherwise().to("mock:c");
+
+                from("direct:change")
+                        .filter().xpath("/order[@type = 'a']")
+                        .setBody().constant("<order type='c'/>")
+                        .filter().xpath("/order[@type = 'c']")
+                        .to("mock:changed");
+            }
+        };
+    }
+}
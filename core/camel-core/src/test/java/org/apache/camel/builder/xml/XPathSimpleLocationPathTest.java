@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.nio.charset.StandardCharsets;
+
+import org.w3c.dom.Document;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.apache.camel.support.ParsedDocumentCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class XPathSimpleLocationPathTest extends ContextTestSupport {
+
+    private static final String[] DOCUMENTS = {
+            "<a><b>x</b><b>y</b></a>",
+            "<a><b><c>1</c>2<c>3</c></b></a>",
+            "<a><b/><b>second</b></a>",
+            "<a><b><c/></b><b>s</b></a>",
+            "<a>x&amp;<!--c-->z<?p q?>w</a>",
+            "<a><b><![CDATA[cd]]>t</b></a>",
+            "<a><b>t<![CDATA[cd]]></b></a>",
+            "<x:a xmlns:x='urn:x'><x:b>ns</x:b><b>none</b></x:a>",
+            "<a xmlns='urn:x'><b>default</b></a>",
+            "<a><b>\n  <c/>text</b></a>",
+            "<?xml version='1.0' encoding='UTF-8'?><a><b>é</b></a>",
+            "<c><a><b>nested</b></a></c>" };
+
+    private static final String[] PATHS = {
+            "/a", "/a/b", "/a/b/text()", "/a/text()", "/a/b/c", "/a/b/c/text()", "/x:a/x:b", "/x:a/b/text()", "/b",
+            " /a/b " };
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testSameResultAsDom() {
+        for (String xml : DOCUMENTS) {
+            Document document = context.getTypeConverter().convertTo(Document.class, xml);
+            for (String path : PATHS) {
+                String expected = evaluate(path, document);
+                assertEquals(expected, evaluate(path, xml), path + " on " + xml);
+                assertEquals(expected, evaluate(path, xml.getBytes(StandardCharsets.UTF_8)), path + " on " + xml);
+            }
+        }
+    }
+
+    @Test
+    public void testNotParsedIntoDom() {
+        Exchange exchange = createExchangeWithBody("<a><b>x</b></a>");
+        XPathBuilder builder = XPathBuilder.xpath("/a/b/text()", String.class);
+        builder.init(context);
+        assertEquals("x", builder.evaluate(exchange, String.class));
+        assertNull(ParsedDocumentCache.get(exchange, Document.class, exchange.getMessage().getBody()));
+
+        // not a simple location path, so the body is parsed into a DOM
+        builder = XPathBuilder.xpath("/a/b[1]/text()", String.class);
+        builder.init(context);
+        assertEquals("x", builder.evaluate(exchange, String.class));
+        assertNotNull(ParsedDocumentCache.get(exchange, Document.class, exchange.getMessage().getBody()));
+    }
+
+    @Test
+    public void testInvalidXml() {
+        assertThrows(Exception.class, () -> evaluate("/a/b", "<a><b>x</b>"));
+        assertThrows(Exception.class, () -> evaluate("/a/b", "<a><b>x</b></a><c/>"));
+        // DOCTYPE is not allowed when parsing into a DOM
+        assertThrows(Exception.class, () -> evaluate("/a/b", "<!DOCTYPE a><a><b>x</b></a>"));
+    }
+
+    private String evaluate(String path, Object body) {
+        XPathBuilder builder = XPathBuilder.xpath(path, String.class).namespace("x", "urn:x");
+        builder.init(context);
+        return builder.evaluate(createExchangeWithBody(body), String.class);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.Body;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.Processor;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Measures the cost of invoking bean methods with 0, 3 and 8 parameters, and choosing among overloaded methods,
+ * compared to calling the method directly. The bean processor is called directly in a loop, to leave out the cost of
+ * routing the exchange.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class BeanInvocationPerformanceManualTest extends ContextTestSupport {
+
+    private static final int ROUNDS = 10;
+    private static final int SIZE = 1_000_000;
+
+    private final MyBean bean = new MyBean();
+
+    @Test
+    public void testInvocation() throws Exception {
+        Processor direct = e -> e.getMessage().setBody(bean.three(e.getMessage().getBody(String.class),
+                e.getMessage().getHeader("a", String.class), e.getMessage().getHeader("b", Integer.class)));
+        Map<String, Processor> processors = new LinkedHashMap<>();
+        processors.put("direct", direct);
+        processors.put("zero", createProcessor(bean, "zero"));
+        processors.put("three", createProcessor(bean, "three"));
+        processors.put("eight", createProcessor(bean, "eight"));
+        processors.put("choose", createProcessor(new MyOverloadedBean(), null));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Map.Entry<String, Processor> entry : processors.entrySet()) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getMessage().setHeaders(new HashMap<>(Map.of("a", "A", "b", 2, "c", 3L)));
+                Processor processor = entry.getValue();
+                StopWatch watch = new StopWatch();
+                for (int i = 0; i < SIZE; i++) {
+                    exchange.getMessage().setBody("Hello World");
+                    processor.process(exchange);
+                }
+                log.info("Round {}: {} took {} ns/invocation", round, entry.getKey(),
+                        watch.taken() * 1_000_000 / SIZE);
+            }
+        }
+    }
+
+    private Processor createProcessor(Object pojo, String method) {
+        BeanProcessor processor = new BeanProcessor(pojo, context);
+        processor.setMethod(method);
+        processor.start();
+        return processor;
+    }
+
+    public static class MyBean {
+
+        public String zero() {
+            return "zero";
+        }
+
+        public String three(@Body String body, @Header("a") String a, @Header("b") int b) {
+            return body;
+        }
+
+        public String eight(
+                @Body String body, @Header("a") String a, @Header("b") int b, @Header("c") long c,
+                @Header("a") String a2, @Header("b") Integer b2, @Header("c") Long c2, @Body Object body2) {
+            return body;
+        }
+    }
+
+    public static class MyOverloadedBean {
+
+        public String hello(String body) {
+            return body;
+        }
+
+        public String hello(Integer body) {
+            return "number";
+        }
+
+        public String bye(byte[] body) {
+            return "bytes";
+        }
+    }
+}
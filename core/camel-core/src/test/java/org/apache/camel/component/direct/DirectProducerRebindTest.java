@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.direct;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that the producer binds to the consumer again when the consumer is stopped, suspended or replaced.
+ */
+public class DirectProducerRebindTest extends ContextTestSupport {
+
+    @Test
+    public void testRebind() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("A", "C", "D");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("E");
+
+        template.sendBody("direct:start", "A");
+
+        context.getRouteController().stopRoute("foo");
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:start", "B"));
+
+        context.getRouteController().startRoute("foo");
+        template.sendBody("direct:start", "C");
+
+        context.getRouteController().suspendRoute("foo");
+        context.getRouteController().resumeRoute("foo");
+        template.sendBody("direct:start", "D");
+
+        // replace the route with a new consumer
+        context.getRouteController().stopRoute("foo");
+        context.removeRoute("foo");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:foo").routeId("bar").to("mock:bar");
+            }
+        });
+        template.sendBody("direct:start", "E");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to("direct:foo?block=false");
+
+                from("direct:foo").routeId("foo").to("mock:foo");
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class XsltSharedTemplatesTest extends ContextTestSupport {
+
+    @Test
+    public void testSameStylesheetIsShared() throws Exception {
+        XsltEndpoint string = context.getEndpoint("xslt:org/apache/camel/component/xslt/example.xsl", XsltEndpoint.class);
+        XsltEndpoint bytes
+                = context.getEndpoint("xslt:org/apache/camel/component/xslt/example.xsl?output=bytes", XsltEndpoint.class);
+        XsltEndpoint other = context.getEndpoint("xslt:org/apache/camel/component/xslt/transform.xsl", XsltEndpoint.class);
+
+        assertNotSame(string, bytes);
+        assertSame(string.getXslt().getTemplate(), bytes.getXslt().getTemplate());
+        assertNotSame(string.getXslt().getTemplate(), other.getXslt().getTemplate());
+
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>",
+                template.requestBody("direct:string", "<hello>world!</hello>", String.class));
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>",
+                template.requestBody("direct:bytes", "<hello>world!</hello>", String.class));
+    }
+
+    @Test
+    public void testReloadChangedStylesheet() throws Exception {
+        Files.writeString(testFile("shared.xsl"), stylesheet("goodbye"));
+        String uri = "xslt:" + fileUri("shared.xsl");
+        String uri2 = uri + "?output=bytes";
+        XsltEndpoint endpoint = context.getEndpoint(uri, XsltEndpoint.class);
+        XsltEndpoint endpoint2 = context.getEndpoint(uri2, XsltEndpoint.class);
+        assertSame(endpoint.getXslt().getTemplate(), endpoint2.getXslt().getTemplate());
+
+        assertEquals("<goodbye>world!</goodbye>", template.requestBody(uri, "<hello>world!</hello>", String.class));
+
+        // the changed stylesheet is compiled when the endpoint reloads the stylesheet
+        Files.writeString(testFile("shared.xsl"), stylesheet("bye"));
+        endpoint.clearCachedStylesheet();
+
+        assertEquals("<bye>world!</bye>", template.requestBody(uri, "<hello>world!</hello>", String.class));
+        assertEquals("<goodbye>world!</goodbye>", template.requestBody(uri2, "<hello>world!</hello>", String.class));
+        assertNotSame(endpoint.getXslt().getTemplate(), endpoint2.getXslt().getTemplate());
+    }
+
+    @Test
+    public void testRemovedWhenNotUsed() throws Exception {
+        XsltComponent component = context.getComponent("xslt", XsltComponent.class);
+        int size = component.getSharedTemplatesSize();
+
+        Files.writeString(testFile("unused.xsl"), stylesheet("goodbye"));
+        String uri = "xslt:" + fileUri("unused.xsl");
+        XsltEndpoint endpoint = context.getEndpoint(uri, XsltEndpoint.class);
+        XsltEndpoint endpoint2 = context.getEndpoint(uri + "?output=bytes", XsltEndpoint.class);
+        assertEquals(size + 1, component.getSharedTemplatesSize());
+
+        // still used by the other endpoint
+        context.removeEndpoint(endpoint);
+        assertEquals(size + 1, component.getSharedTemplatesSize());
+        assertEquals("<goodbye>world!</goodbye>",
+                template.requestBody(uri + "?output=bytes", "<hello>world!</hello>", String.class));
+
+        // shared again when the endpoint is started again
+        endpoint.start();
+        context.removeEndpoint(endpoint2);
+        assertEquals(size + 1, component.getSharedTemplatesSize());
+
+        endpoint.stop();
+        assertEquals(size, component.getSharedTemplatesSize());
+    }
+
+    private static String stylesheet(String element) {
+        return "<xsl:stylesheet version=\"1.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">"
+               + "<xsl:output omit-xml-declaration=\"yes\"/>"
+               + "<xsl:template match=\"/\"><" + element + "><xsl:value-of select=\"/hello\"/></" + element + ">"
+               + "</xsl:template></xsl:stylesheet>";
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:string").to("xslt:org/apache/camel/component/xslt/example.xsl");
+                from("direct:bytes").to("xslt:org/apache/camel/component/xslt/example.xsl?output=bytes");
+            }
+        };
+    }
+}
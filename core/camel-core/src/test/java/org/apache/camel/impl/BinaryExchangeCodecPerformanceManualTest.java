@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Date;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Compares marshal/unmarshal throughput and size of the {@link BinaryExchangeCodec} with Java serialization of the
+ * {@link DefaultExchangeHolder}.
+ */
+@Disabled("Manual performance test")
+public class BinaryExchangeCodecPerformanceManualTest extends ContextTestSupport {
+
+    private static final int TIMES = 10000;
+
+    @Test
+    public void testSmallExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("id", 123);
+        exchange.getIn().setHeader("name", "Camel");
+        exchange.getIn().setHeader("timestamp", new Date());
+
+        run("small", DefaultExchangeHolder.marshal(exchange));
+    }
+
+    @Test
+    public void testLargeExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("<order><item>Camel in Action</item></order>".repeat(500));
+        for (int i = 0; i < 20; i++) {
+            exchange.getIn().setHeader("header" + i, "value" + i);
+        }
+
+        run("large", DefaultExchangeHolder.marshal(exchange));
+    }
+
+    private void run(String name, DefaultExchangeHolder holder) throws Exception {
+        BinaryExchangeCodec codec = new BinaryExchangeCodec();
+        BinaryExchangeCodec compressed = new BinaryExchangeCodec();
+        compressed.setCompressionThreshold(1024);
+
+        log.info("[{}] size: java serialization={}, binary={}, binary (compressed)={}", name,
+                serialize(holder).length, codec.marshal(holder).length, compressed.marshal(holder).length);
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < TIMES; i++) {
+            assertNotNull(deserialize(serialize(holder)));
+        }
+        log.info("[{}] java serialization: {} round trips took {}", name, TIMES,
+                TimeUtils.printDuration(watch.taken(), true));
+
+        watch.restart();
+        for (int i = 0; i < TIMES; i++) {
+            assertNotNull(codec.unmarshal(context, codec.marshal(holder)));
+        }
+        log.info("[{}] binary: {} round trips took {}", name, TIMES, TimeUtils.printDuration(watch.taken(), true));
+
+        watch.restart();
+        for (int i = 0; i < TIMES; i++) {
+            assertNotNull(compressed.unmarshal(context, compressed.marshal(holder)));
+        }
+        log.info("[{}] binary (compressed): {} round trips took {}", name, TIMES,
+                TimeUtils.printDuration(watch.taken(), true));
+    }
+
+    private static byte[] serialize(Object holder) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+        }
+        return bos.toByteArray();
+    }
+
+    private static Object deserialize(byte[] data) throws Exception {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return ois.readObject();
+        }
+    }
+}
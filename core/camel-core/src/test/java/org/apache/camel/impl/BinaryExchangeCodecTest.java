@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryExchangeCodecTest extends ContextTestSupport {
+
+    private final BinaryExchangeCodec codec = new BinaryExchangeCodec();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Date now = new Date();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", "two");
+        List<Object> list = new ArrayList<>();
+        list.add("x");
+        list.add(3L);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("int", 123);
+        exchange.getIn().setHeader("long", 456L);
+        exchange.getIn().setHeader("short", (short) 7);
+        exchange.getIn().setHeader("byte", (byte) 8);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("float", 2.5f);
+        exchange.getIn().setHeader("bool", true);
+        exchange.getIn().setHeader("char", 'c');
+        exchange.getIn().setHeader("bigInteger", new BigInteger("123456789012345678901234567890"));
+        exchange.getIn().setHeader("bigDecimal", new BigDecimal("-1234.5678"));
+        exchange.getIn().setHeader("date", now);
+        exchange.getIn().setHeader("text", "æøå ☃");
+        exchange.setProperty("map", map);
+        exchange.setProperty("list", list);
+        exchange.setVariable("myVar", "cheese");
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        Exchange answer = roundTrip(exchange);
+
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals(123, answer.getIn().getHeader("int"));
+        assertEquals(456L, answer.getIn().getHeader("long"));
+        assertEquals((short) 7, answer.getIn().getHeader("short"));
+        assertEquals((byte) 8, answer.getIn().getHeader("byte"));
+        assertEquals(1.5d, answer.getIn().getHeader("double"));
+        assertEquals(2.5f, answer.getIn().getHeader("float"));
+        assertEquals(true, answer.getIn().getHeader("bool"));
+        assertEquals('c', answer.getIn().getHeader("char"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), answer.getIn().getHeader("bigInteger"));
+        assertEquals(new BigDecimal("-1234.5678"), answer.getIn().getHeader("bigDecimal"));
+        assertEquals(now, answer.getIn().getHeader("date"));
+        assertEquals("æøå ☃", answer.getIn().getHeader("text"));
+        assertEquals(map, answer.getProperty("map"));
+        assertEquals(list, answer.getProperty("list"));
+        assertEquals("cheese", answer.getVariable("myVar"));
+        assertInstanceOf(IllegalArgumentException.class, answer.getException());
+        assertEquals("Forced", answer.getException().getMessage());
+    }
+
+    @Test
+    public void testBytesBody() throws Exception {
+        byte[] data = new byte[] { 1, 2, 3, 4, 5 };
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(data);
+        exchange.getMessage().setHeader("foo", "bar");
+
+        Exchange answer = roundTrip(exchange);
+        assertArrayEquals(data, answer.getIn().getBody(byte[].class));
+        assertEquals("bar", answer.getIn().getHeader("foo"));
+    }
+
+    @Test
+    public void testNullBody() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+
+        Exchange answer = roundTrip(exchange);
+        assertNull(answer.getIn().getBody());
+        assertFalse(answer.getIn().hasHeaders());
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World ".repeat(1000));
+
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+        byte[] plain = codec.marshal(holder);
+
+        BinaryExchangeCodec compressing = new BinaryExchangeCodec();
+        compressing.setCompressionThreshold(1024);
+        byte[] compressed = compressing.marshal(holder);
+
+        assertTrue(compressed.length < plain.length / 10, "Should be compressed");
+        assertTrue(BinaryExchangeCodec.isBinaryExchange(compressed));
+
+        // the codec detects compression from the data so any codec can read it
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, codec.unmarshal(context, compressed));
+        assertEquals("Hello World ".repeat(1000), answer.getIn().getBody());
+    }
+
+    @Test
+    public void testNotBinaryExchange() throws Exception {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(new DefaultExchange(context));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+        }
+        byte[] data = bos.toByteArray();
+
+        assertFalse(BinaryExchangeCodec.isBinaryExchange(data));
+        assertThrows(StreamCorruptedException.class, () -> codec.unmarshal(context, data));
+    }
+
+    @Test
+    public void testCorruptLength() {
+        // the length of the exchange id is Integer.MAX_VALUE, but the data ends
+        byte[] data = { (byte) 0xCA, 0x3E, 1, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a', 'b' };
+
+        assertTrue(BinaryExchangeCodec.isBinaryExchange(data));
+        assertThrows(EOFException.class, () -> codec.unmarshal(context, data));
+    }
+
+    private Exchange roundTrip(Exchange exchange) throws Exception {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        byte[] data = codec.marshal(holder);
+        assertTrue(BinaryExchangeCodec.isBinaryExchange(data));
+
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, codec.unmarshal(context, data));
+        return answer;
+    }
+}
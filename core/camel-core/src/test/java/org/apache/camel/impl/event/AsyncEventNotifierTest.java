@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.AsyncEventNotifier;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.EventNotifierSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class AsyncEventNotifierTest extends ContextTestSupport {
+
+    private final List<CamelEvent> events = new CopyOnWriteArrayList<>();
+    private final Set<String> threads = new CopyOnWriteArraySet<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = new DefaultCamelContext(createCamelRegistry());
+        EventNotifierSupport notifier = new EventNotifierSupport() {
+            public void notify(CamelEvent event) {
+                events.add(event);
+                threads.add(Thread.currentThread().getName());
+            }
+        };
+        notifier.setIgnoreCamelContextEvents(true);
+        notifier.setIgnoreServiceEvents(true);
+        notifier.setIgnoreRouteEvents(true);
+        notifier.setIgnoreExchangeSendingEvents(true);
+        notifier.setIgnoreExchangeSentEvents(true);
+        context.getManagementStrategy().addEventNotifier(new AsyncEventNotifier(notifier));
+        return context;
+    }
+
+    @Test
+    public void testAsyncEvents() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(20, events.size()));
+        for (int i = 0; i < 20; i += 2) {
+            assertIsInstanceOf(ExchangeCreatedEvent.class, events.get(i));
+            assertIsInstanceOf(ExchangeCompletedEvent.class, events.get(i + 1));
+        }
+        // delivered by the background thread and not the caller
+        assertEquals(1, threads.size());
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testBackPressureAndDeliverOnStop() throws Exception {
+        List<CamelEvent> delivered = new CopyOnWriteArrayList<>();
+        Set<String> deliveredBy = new CopyOnWriteArraySet<>();
+        EventNotifierSupport slow = new EventNotifierSupport() {
+            public void notify(CamelEvent event) throws Exception {
+                Thread.sleep(1);
+                delivered.add(event);
+                deliveredBy.add(Thread.currentThread().getName());
+            }
+        };
+        AsyncEventNotifier notifier = new AsyncEventNotifier(slow);
+        notifier.setCamelContext(context);
+        notifier.setQueueSize(2);
+        notifier.setBatchSize(1);
+        notifier.start();
+
+        List<CamelEvent> sent = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            CamelEvent event = new ExchangeCreatedEvent(new DefaultExchange(context));
+            sent.add(event);
+            notifier.notify(event);
+        }
+        notifier.stop();
+
+        // the calling thread waits when the queue is full, so the events are delivered in order by the background thread
+        assertEquals(sent, delivered);
+        assertEquals(1, deliveredBy.size());
+        assertFalse(deliveredBy.contains(Thread.currentThread().getName()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultMessageHistoryFactory;
+import org.apache.camel.support.CompactMessageHistory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageHistorySampleTest extends ContextTestSupport {
+
+    private DefaultMessageHistoryFactory factory() {
+        return (DefaultMessageHistoryFactory) context.getMessageHistoryFactory();
+    }
+
+    @Test
+    public void testAllSampled() {
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Hello World"));
+
+        // not compact unless sampling or a slow threshold is configured
+        assertFalse(factory().isCompact());
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertInstanceOf(CopyOnWriteArrayList.class, history);
+        assertEquals(3, history.size());
+        assertEquals("start", history.get(0).getRouteId());
+        assertEquals("to", history.get(0).getNode().getShortName());
+        assertEquals("choice", history.get(1).getNode().getShortName());
+        assertEquals("to", history.get(2).getNode().getShortName());
+        assertEquals("mock:result", history.get(2).getNode().getLabel());
+    }
+
+    @Test
+    public void testNoneSampled() {
+        factory().setSampleRate(0);
+
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Hello World"));
+
+        assertNull(out.getProperty(Exchange.MESSAGE_HISTORY));
+    }
+
+    @Test
+    public void testSomeSampled() {
+        factory().setSampleRate(0.5);
+
+        int sampled = 0;
+        for (int i = 0; i < 200; i++) {
+            Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Hello World"));
+            List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+            if (history != null) {
+                // an exchange is sampled at every node, or not at all
+                assertEquals(3, history.size());
+                sampled++;
+            }
+        }
+        assertTrue(sampled > 50 && sampled < 150, "Sampled " + sampled + " of 200 exchanges");
+    }
+
+    @Test
+    public void testNoNodeIncluded() {
+        factory().setNodePattern("bean");
+
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Hello World"));
+        assertNull(out.getProperty(Exchange.MESSAGE_HISTORY));
+    }
+
+    @Test
+    public void testCompactEntry() {
+        factory().setSlowThreshold(60000);
+
+        long before = System.currentTimeMillis();
+        // failed so the history is kept
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Kaboom"));
+
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertInstanceOf(CompactMessageHistory.class, history);
+        MessageHistory entry = history.get(0);
+        assertTrue(entry.isAcceptDebugger());
+        entry.setAcceptDebugger(false);
+        assertFalse(entry.isAcceptDebugger());
+        assertFalse(history.get(0).isAcceptDebugger());
+        // the time is when the node started processing
+        long time = entry.getTime();
+        assertTrue(time >= before - 1000 && time <= System.currentTimeMillis(), "Time " + time);
+        assertEquals(time, history.get(0).getTime());
+    }
+
+    @Test
+    public void testRouteRemoved() throws Exception {
+        factory().setSlowThreshold(60000);
+
+        // failed so the history is kept
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Kaboom"));
+        assertEquals(3, factory().getNodeTable().size());
+
+        context.getRouteController().stopRoute("start");
+        context.removeRoute("start");
+        assertEquals(0, factory().getNodeTable().size());
+
+        // the indexes of the removed nodes are not reused by a new route
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:other").routeId("other").log("other").to("mock:other");
+            }
+        });
+        template.request("direct:other", e -> e.getMessage().setBody("Kaboom"));
+        assertEquals(2, factory().getNodeTable().size());
+
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertEquals(3, history.size());
+        assertEquals("start", history.get(2).getRouteId());
+        assertEquals("throwException", history.get(2).getNode().getShortName());
+    }
+
+    @Test
+    public void testSlowThreshold() {
+        factory().setSlowThreshold(60000);
+
+        // completed faster than the threshold so the history is removed
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("Hello World"));
+        assertNull(out.getProperty(Exchange.MESSAGE_HISTORY));
+
+        // failed so the history is kept
+        out = template.request("direct:start", e -> e.getMessage().setBody("Kaboom"));
+        assertNotNull(out.getException());
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotNull(history);
+        assertEquals(3, history.size());
+        assertEquals("throwException", history.get(2).getNode().getShortName());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                context.setMessageHistory(true);
+
+                from("direct:start").routeId("start")
+                        .to("log:foo")
+                        .choice()
+                        .when(body().isEqualTo("Kaboom")).throwException(new IllegalArgumentException("Forced"))
+                        .otherwise().to("mock:result");
+            }
+        };
+    }
+}
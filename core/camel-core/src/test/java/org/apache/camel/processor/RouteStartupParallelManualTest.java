@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the time taken to start a context with many routes, with the routes started one by one and concurrently.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class RouteStartupParallelManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteStartupParallelManualTest.class);
+
+    private static final int ROUTES = 3000;
+
+    @Test
+    public void testStartup() throws Exception {
+        for (int round = 0; round < 3; round++) {
+            for (int parallelism : new int[] { 1, 4 }) {
+                CamelContext context = new DefaultCamelContext();
+                context.setRouteStartupParallelism(parallelism);
+                context.addRoutes(new RouteBuilder() {
+                    @Override
+                    public void configure() {
+                        for (int i = 0; i < ROUTES; i++) {
+                            from("seda:route-" + i).routeId("route-" + i)
+                                    .filter(simple("${header.foo} == " + i))
+                                    .to("log:route-" + i + "?level=OFF")
+                                    .end()
+                                    .to("seda:next-" + i);
+                        }
+                    }
+                });
+                StopWatch watch = new StopWatch();
+                context.start();
+                LOG.info("Round {}: started {} routes with parallelism {} in {} ms", round, ROUTES, parallelism,
+                        watch.taken());
+                context.stop();
+            }
+        }
+    }
+}
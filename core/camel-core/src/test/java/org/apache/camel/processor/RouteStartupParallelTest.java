@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.FailedToStartRouteException;
+import org.apache.camel.Route;
+import org.apache.camel.Service;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    private final Set<String> lifecycleThreads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupParallelism(4);
+        context.addLifecycleStrategy(new LifecycleStrategySupport() {
+            @Override
+            public void onServiceAdd(CamelContext context, Service service, Route route) {
+                lifecycleThreads.add(Thread.currentThread().getName());
+            }
+        });
+        context.getCamelContextExtension().setStartupStepRecorder(new BacklogStartupStepRecorder());
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(ROUTES + 1);
+
+        template.sendBody("direct:start", "Hello World");
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:route-" + i, "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the routes with a startup order are started first and in that order
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(ROUTES + 4, order.size());
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        assertEquals(ROUTES + 4, order.stream().map(o -> o.getRoute().getId()).distinct().count());
+        for (int i = 1; i < order.size(); i++) {
+            assertTrue(order.get(i - 1).getStartupOrder() < order.get(i).getStartupOrder(),
+                    "Routes should be registered in their startup order");
+        }
+        order.forEach(o -> assertTrue(context.getRouteController().getRouteStatus(o.getRoute().getId()).isStarted()));
+
+        // the startup is recorded per phase
+        Set<String> steps = context.getCamelContextExtension().getStartupStepRecorder().steps()
+                .map(StartupStep::getDescription).collect(Collectors.toSet());
+        assertTrue(steps.contains("Prepare Routes"), "Should record preparing routes: " + steps);
+        assertTrue(steps.contains("Warmup Routes"), "Should record warming up routes: " + steps);
+        assertTrue(steps.contains("Start Route Consumers"), "Should record starting route consumers: " + steps);
+
+        // the routes started by the startup threads are recorded in the step of the concurrent batch
+        List<StartupStep> recorded = context.getCamelContextExtension().getStartupStepRecorder().steps().toList();
+        List<StartupStep> concurrent = recorded.stream()
+                .filter(s -> "Start Routes Concurrently".equals(s.getDescription())).toList();
+        assertEquals(1, concurrent.size(), "Should record the concurrent batch: " + steps);
+        StartupStep parent = concurrent.get(0);
+        List<StartupStep> routes = recorded.stream()
+                .filter(s -> "Start Route".equals(s.getDescription()) && s.getParentId() == parent.getId()).toList();
+        assertEquals(ROUTES + 2, routes.size());
+        routes.forEach(s -> assertEquals(parent.getLevel() + 1, s.getLevel()));
+
+        // the lifecycle strategies are not invoked by the startup threads
+        assertTrue(lifecycleThreads.stream().noneMatch(name -> name.contains("RouteStartup")),
+                "Lifecycle strategies should not be invoked by the startup threads: " + lifecycleThreads);
+    }
+
+    @Test
+    public void testAddRoutesAfterStartup() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < 4; i++) {
+                    from("direct:added-" + i).to("mock:added");
+                }
+            }
+        });
+
+        MockEndpoint mock = getMockEndpoint("mock:added");
+        mock.expectedMessageCount(4);
+        for (int i = 0; i < 4; i++) {
+            template.sendBody("direct:added-" + i, "Hello World");
+        }
+        assertMockEndpointsSatisfied();
+        assertEquals(ROUTES + 8, context.getCamelContextExtension().getRouteStartupOrder().size());
+    }
+
+    @Test
+    public void testMultipleConsumersClash() {
+        CamelContext other = new DefaultCamelContext();
+        other.setRouteStartupParallelism(4);
+        try {
+            assertThrows(FailedToStartRouteException.class, () -> {
+                other.addRoutes(new RouteBuilder() {
+                    @Override
+                    public void configure() {
+                        from("direct:a").to("mock:a");
+                        from("seda:dup").to("mock:a");
+                        from("direct:b").to("mock:b");
+                        from("seda:dup").to("mock:b");
+                    }
+                });
+                other.start();
+            });
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").startupOrder(2).to("seda:foo");
+
+                from("seda:foo").startupOrder(1).to("mock:result");
+
+                // routes consuming from the same endpoint are started by the same thread
+                from("seda:multi?multipleConsumers=true").to("mock:multi");
+                from("seda:multi?multipleConsumers=true").to("mock:multi");
+
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:route-" + i).to("log:route-" + i).to("mock:result");
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.function.ThrowingFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParsedDocumentCacheTest {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final ThrowingFunction<Object, Object, Exception> parser = p -> {
+        parsed.incrementAndGet();
+        return new Object();
+    };
+
+    @Test
+    public void testParseOnce() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody("<foo/>");
+
+        Object doc = ParsedDocumentCache.getOrParse(exchange, "xml", exchange.getMessage().getBody(), parser);
+        assertSame(doc, ParsedDocumentCache.getOrParse(exchange, "xml", exchange.getMessage().getBody(), parser));
+        assertEquals(1, parsed.get());
+
+        // another kind of document is parsed by its own parser
+        assertNotSame(doc, ParsedDocumentCache.getOrParse(exchange, "json", exchange.getMessage().getBody(), parser));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testBodyChanged() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody("<foo/>");
+
+        Object doc = ParsedDocumentCache.getOrParse(exchange, "xml", exchange.getMessage().getBody(), parser);
+
+        // an equal but not the same body is parsed again
+        exchange.getMessage().setBody(new String("<foo/>"));
+        assertNotSame(doc, ParsedDocumentCache.getOrParse(exchange, "xml", exchange.getMessage().getBody(), parser));
+        assertEquals(2, parsed.get());
+        assertNotNull(ParsedDocumentCache.get(exchange, "xml", exchange.getMessage().getBody()));
+        assertNull(ParsedDocumentCache.get(exchange, "xml", "<foo/>"));
+    }
+
+    @Test
+    public void testStaleRemoved() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody("<foo/>");
+
+        Object doc = ParsedDocumentCache.getOrParse(exchange, "xml", exchange.getMessage().getBody(), parser);
+        String body = exchange.getMessage().getBody(String.class);
+
+        // the documents of the previous body are removed when the body is not cacheable
+        exchange.getMessage().setBody(Map.of("foo", "bar"));
+        assertNull(ParsedDocumentCache.get(exchange, "xml", exchange.getMessage().getBody()));
+        assertNull(ParsedDocumentCache.get(exchange, "xml", body));
+        assertNotSame(doc, ParsedDocumentCache.getOrParse(exchange, "xml", body, parser));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testByteArrayNotCacheable() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        byte[] body = "<foo/>".getBytes();
+        exchange.getMessage().setBody(body);
+
+        // the content of a byte array can be changed
+        ParsedDocumentCache.getOrParse(exchange, "xml", body, parser);
+        ParsedDocumentCache.getOrParse(exchange, "xml", body, parser);
+        assertEquals(2, parsed.get());
+        assertNull(ParsedDocumentCache.get(exchange, "xml", body));
+    }
+
+    @Test
+    public void testNotCacheable() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody(Map.of("foo", "bar"));
+
+        ParsedDocumentCache.getOrParse(exchange, "json", exchange.getMessage().getBody(), parser);
+        ParsedDocumentCache.getOrParse(exchange, "json", exchange.getMessage().getBody(), parser);
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testCopyOfExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody("<foo/>");
+
+        Object doc = ParsedDocumentCache.getOrParse(exchange, "xml", exchange.getMessage().getBody(), parser);
+
+        // the copy does not share the documents, as they are not thread-safe
+        Exchange copy = exchange.copy();
+        assertNotSame(doc, ParsedDocumentCache.getOrParse(copy, "xml", copy.getMessage().getBody(), parser));
+        assertEquals(2, parsed.get());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the hit rates and the time taken by {@link SimpleTinyLFUCache} and {@link SimpleLRUCache} on a Zipfian
+ * trace, and on a Zipfian trace mixed with a scan of keys used only once (such as dynamic endpoint uris).
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+class SimpleTinyLFUCacheManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleTinyLFUCacheManualTest.class);
+
+    private static final int CAPACITY = 1000;
+    private static final int KEYS = 100_000;
+    private static final int SIZE = 500_000;
+
+    @Test
+    void zipfian() {
+        int[] trace = zipfian(new Random(42), KEYS, 0.99, SIZE);
+        run("zipfian", trace);
+    }
+
+    @Test
+    void zipfianWithScan() {
+        Random random = new Random(42);
+        int[] trace = zipfian(random, KEYS, 0.99, SIZE);
+        // half of the accesses are to keys never seen before
+        int next = KEYS;
+        for (int i = 0; i < trace.length; i++) {
+            if (random.nextBoolean()) {
+                trace[i] = next++;
+            }
+        }
+        run("zipfian with scan", trace);
+    }
+
+    private void run(String name, int[] trace) {
+        for (int round = 0; round < 3; round++) {
+            measure(name, "SimpleLRUCache", new SimpleLRUCache<>(16, CAPACITY, v -> {
+            }), trace);
+            measure(name, "SimpleTinyLFUCache", new SimpleTinyLFUCache<>(16, CAPACITY, v -> {
+            }), trace);
+        }
+    }
+
+    private static void measure(String name, String type, Map<Integer, Integer> cache, int[] trace) {
+        StopWatch watch = new StopWatch();
+        long hits = 0;
+        for (int key : trace) {
+            if (cache.get(key) != null) {
+                hits++;
+            } else {
+                cache.put(key, key);
+            }
+        }
+        LOG.info("{} trace with {}: hit rate {}% in {} ms", name, type,
+                String.format("%.2f", hits * 100.0 / trace.length), watch.taken());
+    }
+
+    /**
+     * Generates a trace of keys following a Zipfian distribution with the given exponent.
+     */
+    private static int[] zipfian(Random random, int keys, double exponent, int size) {
+        double[] cdf = new double[keys];
+        double sum = 0;
+        for (int i = 0; i < keys; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        int[] trace = new int[size];
+        for (int i = 0; i < size; i++) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            trace[i] = index >= 0 ? index : Math.min(-index - 1, keys - 1);
+        }
+        return trace;
+    }
+}
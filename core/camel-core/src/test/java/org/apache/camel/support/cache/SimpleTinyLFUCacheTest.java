@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCache;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.TinyLFUCacheFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for {@link SimpleTinyLFUCache}.
+ */
+class SimpleTinyLFUCacheTest {
+
+    private final List<String> consumed = new ArrayList<>();
+    private final SimpleTinyLFUCache<String, String> map = new SimpleTinyLFUCache<>(16, 3, consumed::add);
+
+    @Test
+    void forbiddenOperations() {
+        assertThrows(NullPointerException.class, () -> map.put(null, "foo"));
+        assertThrows(NullPointerException.class, () -> map.put("foo", null));
+        assertThrows(UnsupportedOperationException.class, () -> map.values().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().add(Map.entry("x", "y")));
+    }
+
+    @Test
+    void put() {
+        assertEquals(0, map.size());
+        assertNull(map.put("1", "One"));
+        assertNull(map.put("2", "Two"));
+        assertNull(map.put("3", "Three"));
+        assertEquals(3, map.size());
+        assertEquals(0, consumed.size());
+        assertNull(map.put("4", "Four"));
+        assertEquals(3, map.size());
+        assertEquals(1, consumed.size());
+        assertEquals(1, map.getEvicted());
+        assertEquals("Two", map.put("2", "Two v2"));
+        assertEquals(3, map.size());
+        assertEquals(1, consumed.size());
+        assertEquals("Two v2", map.get("2"));
+        assertEquals(3, map.entrySet().size());
+    }
+
+    @Test
+    void putIfAbsent() {
+        assertNull(map.putIfAbsent("1", "One"));
+        assertEquals("One", map.putIfAbsent("1", "One v2"));
+        assertEquals("One", map.get("1"));
+        assertEquals(1, map.size());
+        assertEquals(2, map.getHits());
+        assertEquals(1, map.getMisses());
+    }
+
+    @Test
+    void computeIfAbsent() {
+        assertEquals("One", map.computeIfAbsent("1", k -> "One"));
+        assertEquals("One", map.computeIfAbsent("1", k -> "One v2"));
+        assertNull(map.computeIfAbsent("2", k -> null));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("2"));
+    }
+
+    @Test
+    void computeIfAbsentOutsideLock() throws Exception {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread thread = new Thread(() -> map.computeIfAbsent("1", k -> {
+            computing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "One";
+        }));
+        thread.start();
+        assertTrue(computing.await(10, TimeUnit.SECONDS));
+        // the other keys can be created and removed while a value is being created
+        assertEquals("Two", map.computeIfAbsent("2", k -> "Two"));
+        map.put("3", "Three");
+        assertEquals("Three", map.remove("3"));
+        release.countDown();
+        thread.join(10000);
+        assertEquals("One", map.get("1"));
+        assertEquals(2, map.size());
+        map.put("3", "Three");
+        map.put("4", "Four");
+        assertEquals(3, map.size());
+        assertEquals(1, consumed.size());
+    }
+
+    @Test
+    void removeAndReplace() {
+        map.put("1", "One");
+        map.put("2", "Two");
+        map.put("3", "Three");
+        assertFalse(map.remove("1", "Two"));
+        assertTrue(map.remove("1", "One"));
+        assertEquals("Two", map.remove("2"));
+        assertNull(map.remove("2"));
+        assertEquals(1, map.size());
+        assertFalse(map.replace("3", "One", "Three v2"));
+        assertTrue(map.replace("3", "Three", "Three v2"));
+        assertEquals("Three v2", map.replace("3", "Three v3"));
+        assertNull(map.replace("4", "Four"));
+        // the removed entries must not be evicted again
+        map.put("4", "Four");
+        map.put("5", "Five");
+        assertEquals(3, map.size());
+        assertEquals(0, consumed.size());
+        map.put("6", "Six");
+        assertEquals(3, map.size());
+        assertEquals(1, consumed.size());
+        map.clear();
+        assertEquals(0, map.size());
+        map.put("7", "Seven");
+        map.put("8", "Eight");
+        map.put("9", "Nine");
+        assertEquals(3, map.size());
+        assertEquals(1, consumed.size());
+    }
+
+    @Test
+    void statistics() {
+        map.put("1", "One");
+        map.get("1");
+        map.get("2");
+        map.put("2", "Two");
+        map.put("3", "Three");
+        map.put("4", "Four");
+        assertEquals(1, map.getHits());
+        assertEquals(1, map.getMisses());
+        assertEquals(1, map.getEvicted());
+        assertEquals(3, map.getMaxCacheSize());
+        map.resetStatistics();
+        assertEquals(0, map.getHits());
+        assertEquals(0, map.getMisses());
+        assertEquals(0, map.getEvicted());
+    }
+
+    @Test
+    void noCapacity() {
+        SimpleTinyLFUCache<String, String> cache = new SimpleTinyLFUCache<>(16, 0, consumed::add);
+        assertNull(cache.put("1", "One"));
+        assertEquals(0, cache.size());
+        assertEquals(List.of("One"), consumed);
+    }
+
+    @Test
+    void frequentlyUsedSurviveScan() {
+        SimpleTinyLFUCache<Integer, Integer> cache = new SimpleTinyLFUCache<>(16, 100, v -> {
+        });
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.computeIfAbsent(i, k -> k);
+            }
+        }
+        for (int i = 1000; i < 1500; i++) {
+            cache.computeIfAbsent(i, k -> k);
+        }
+        assertEquals(100, cache.size());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(cache.containsKey(i), "The frequently used key " + i + " should not be evicted by a scan");
+        }
+    }
+
+    @Test
+    void frequencyAging() {
+        SimpleTinyLFUCache<Integer, Integer> cache = new SimpleTinyLFUCache<>(16, 16, v -> {
+        });
+        for (int i = 0; i < 10; i++) {
+            cache.get(-1);
+        }
+        assertEquals(10, cache.frequency(-1));
+        // enough additions to age the counters
+        for (int i = 0; i < 200; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        assertTrue(cache.frequency(-1) < 10);
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        int threads = 8;
+        int maximumCacheSize = 500;
+        AtomicInteger evictions = new AtomicInteger();
+        SimpleTinyLFUCache<Integer, Integer> cache
+                = new SimpleTinyLFUCache<>(16, maximumCacheSize, v -> evictions.incrementAndGet());
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 20_000; i++) {
+                    int key = random.nextInt(2000);
+                    cache.putIfAbsent(key, key);
+                    cache.computeIfAbsent(key, k -> k);
+                }
+                latch.countDown();
+            }).start();
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertTrue(cache.size() <= maximumCacheSize);
+        assertEquals(evictions.get(), cache.getEvicted());
+        assertEquals(cache.getMisses(), cache.size() + cache.getEvicted());
+        cache.forEach((k, v) -> assertEquals(k, v));
+    }
+
+    @Test
+    void concurrentSketchIncrements() throws Exception {
+        SimpleTinyLFUCache.FrequencySketch sketch = new SimpleTinyLFUCache.FrequencySketch(1024);
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 3; i++) {
+                        sketch.increment("foo");
+                        sketch.ageIfNeeded();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        // no increment is lost, and the counters are not aged yet
+        assertEquals(12, sketch.frequency("foo"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void factory() {
+        LRUCacheFactory factory = new TinyLFUCacheFactory();
+        Map<String, String> cache = factory.createLRUCache(100);
+        assertInstanceOf(SimpleTinyLFUCache.class, cache);
+        assertEquals(100, ((LRUCache<String, String>) cache).getMaxCacheSize());
+        assertInstanceOf(SimpleSoftCache.class, factory.createLRUSoftCache(100));
+        assertInstanceOf(SimpleSoftCache.class, factory.createLRUWeakCache(100));
+        assertInstanceOf(SimpleLRUCache.class, new DefaultLRUCacheFactory().createLRUCache(100));
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.util;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContext;
@@ -23,6 +24,7 @@ import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.CamelEvent.Type;
+import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.EventNotifierSupport;
 import org.junit.jupiter.api.Test;
 
@@ -118,6 +120,61 @@ public class EventHelperTest {
         assertEquals(0, en2.camelContextStoppingEvent.get());
     }
 
+    @Test
+    public void testEventNotifierAddedAndRemovedWhenStarted() throws Exception {
+        MyEventNotifier en1 = new MyEventNotifier();
+        en1.setIgnoreRouteEvents(true);
+        MyEventNotifier en2 = new MyEventNotifier();
+
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").routeId("route-1").to("mock:end");
+            }
+        });
+        camelContext.start();
+
+        ManagementStrategy management = camelContext.getManagementStrategy();
+        management.addEventNotifier(en1);
+        management.addEventNotifier(en2);
+        assertEquals(List.of(en2), management.getStartedEventNotifiers(Type.RouteStopped));
+        assertEquals(List.of(en1, en2), management.getStartedEventNotifiers(Type.CamelContextStopping));
+
+        management.removeEventNotifier(en2);
+        assertEquals(List.of(), management.getStartedEventNotifiers(Type.RouteStopped));
+        camelContext.stop();
+
+        assertEquals(0, en1.routeStoppedEvent.get());
+        assertEquals(1, en1.camelContextStoppingEvent.get());
+        assertEquals(0, en2.routeStoppedEvent.get());
+        assertEquals(0, en2.camelContextStoppingEvent.get());
+    }
+
+    @Test
+    public void testEventNotifierIgnoreChangedWhenStarted() throws Exception {
+        MyEventNotifier en1 = new MyEventNotifier();
+        en1.setIgnoreRouteEvents(true);
+
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").routeId("route-1").to("mock:end");
+            }
+        });
+        camelContext.getManagementStrategy().addEventNotifier(en1);
+        camelContext.start();
+
+        ManagementStrategy management = camelContext.getManagementStrategy();
+        assertEquals(List.of(), management.getStartedEventNotifiers(Type.RouteStopped));
+
+        // such as from JMX while running
+        en1.setIgnoreRouteEvents(false);
+        assertEquals(List.of(en1), management.getStartedEventNotifiers(Type.RouteStopped));
+        camelContext.stop();
+
+        assertEquals(1, en1.routeStoppedEvent.get());
+    }
+
     static class MyEventNotifier extends EventNotifierSupport {
 
         final AtomicInteger routeStartedEvent = new AtomicInteger();
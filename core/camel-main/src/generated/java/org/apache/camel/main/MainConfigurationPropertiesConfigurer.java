@@ -95,6 +95,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Profile", java.lang.String.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
+        map.put("RouteStartupParallelism", int.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
         map.put("RoutesBuilders", java.util.List.class);
         map.put("RoutesCollectorEnabled", boolean.class);
@@ -119,6 +120,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StartupRecorderMaxDepth", int.class);
         map.put("StartupRecorderProfile", java.lang.String.class);
         map.put("StartupRecorderRecording", boolean.class);
+        map.put("StartupSnapshotEnabled", boolean.class);
         map.put("StartupSummaryLevel", org.apache.camel.StartupSummaryLevel.class);
         map.put("StreamCachingAllowClasses", java.lang.String.class);
         map.put("StreamCachingAnySpoolRules", boolean.class);
@@ -292,6 +294,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "routesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -340,6 +344,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "startupRecorderProfile": target.setStartupRecorderProfile(property(camelContext, java.lang.String.class, value)); return true;
         case "startuprecorderrecording":
         case "startupRecorderRecording": target.setStartupRecorderRecording(property(camelContext, boolean.class, value)); return true;
+        case "startupsnapshotenabled":
+        case "startupSnapshotEnabled": target.setStartupSnapshotEnabled(property(camelContext, boolean.class, value)); return true;
         case "startupsummarylevel":
         case "startupSummaryLevel": target.setStartupSummaryLevel(property(camelContext, org.apache.camel.StartupSummaryLevel.class, value)); return true;
         case "streamcachingallowclasses":
@@ -545,6 +551,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return java.lang.String.class;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return int.class;
         case "routesbuilderclasses":
         case "routesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -593,6 +601,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "startupRecorderProfile": return java.lang.String.class;
         case "startuprecorderrecording":
         case "startupRecorderRecording": return boolean.class;
+        case "startupsnapshotenabled":
+        case "startupSnapshotEnabled": return boolean.class;
         case "startupsummarylevel":
         case "startupSummaryLevel": return org.apache.camel.StartupSummaryLevel.class;
         case "streamcachingallowclasses":
@@ -790,6 +800,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "routesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -838,6 +850,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "startupRecorderProfile": return target.getStartupRecorderProfile();
         case "startuprecorderrecording":
         case "startupRecorderRecording": return target.isStartupRecorderRecording();
+        case "startupsnapshotenabled":
+        case "startupSnapshotEnabled": return target.isStartupSnapshotEnabled();
         case "startupsummarylevel":
         case "startupSummaryLevel": return target.getStartupSummaryLevel();
         case "streamcachingallowclasses":
@@ -78,6 +78,7 @@ import org.apache.camel.spi.DebuggerFactory;
 import org.apache.camel.spi.Language;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.PackageScanClassResolver;
+import org.apache.camel.spi.PackageScanResourceResolver;
 import org.apache.camel.spi.PeriodTaskScheduler;
 import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.Registry;
@@ -143,6 +144,7 @@ public abstract class BaseMainSupport extends BaseService {
     protected final MainConfigurationProperties mainConfigurationProperties = new MainConfigurationProperties();
     protected final OrderedLocationProperties wildcardProperties = new OrderedLocationProperties();
     protected RoutesCollector routesCollector = new DefaultRoutesCollector();
+    protected StartupSnapshot startupSnapshot;
     protected String propertyPlaceholderLocations;
     protected String defaultPropertyPlaceholderLocation = MainConstants.DEFAULT_PROPERTY_PLACEHOLDER_LOCATION;
     protected Properties initialProperties;
@@ -177,6 +179,18 @@ public abstract class BaseMainSupport extends BaseService {
         this.routesCollector = routesCollector;
     }
 
+    public StartupSnapshot getStartupSnapshot() {
+        return startupSnapshot;
+    }
+
+    /**
+     * To use the given {@link StartupSnapshot} instead of loading the snapshot from the classpath. If the snapshot is
+     * recording, then the lookups done while starting up are recorded into the snapshot.
+     */
+    public void setStartupSnapshot(StartupSnapshot startupSnapshot) {
+        this.startupSnapshot = startupSnapshot;
+    }
+
     public String getPropertyPlaceholderLocations() {
         return propertyPlaceholderLocations;
     }
@@ -379,6 +393,53 @@ public abstract class BaseMainSupport extends BaseService {
         }
     }
 
+    protected void configureStartupSnapshot(CamelContext camelContext) throws Exception {
+        StartupSnapshot snapshot = startupSnapshot;
+        if (snapshot == null) {
+            // ENV/SYS takes precedence, then java configured value
+            boolean enabled = MainHelper.lookupPropertyFromSysOrEnv(MainConstants.STARTUP_SNAPSHOT_ENABLED)
+                    .map(Boolean::parseBoolean)
+                    .orElse(mainConfigurationProperties.isStartupSnapshotEnabled());
+            if (!enabled) {
+                return;
+            }
+            try (InputStream is = camelContext.getClassResolver().loadResourceAsStream(StartupSnapshot.LOCATION)) {
+                if (is == null) {
+                    return;
+                }
+                snapshot = StartupSnapshot.read(is);
+            } catch (IOException e) {
+                LOG.warn("Cannot load startup snapshot from: {} due to: {}. The startup snapshot is not used.",
+                        StartupSnapshot.LOCATION, e.getMessage());
+                return;
+            }
+            LOG.debug("Using {} from: {}", snapshot, StartupSnapshot.LOCATION);
+        }
+
+        ClassLoader classLoader = camelContext.getApplicationContextClassLoader();
+        if (classLoader == null) {
+            classLoader = BaseMainSupport.class.getClassLoader();
+        }
+        List<String> classpath = StartupSnapshot.classpath(classLoader);
+        if (snapshot.isRecording()) {
+            snapshot.setClasspath(classpath);
+        } else if (!classpath.equals(snapshot.getClasspath())) {
+            // components may have been added, removed or upgraded since the snapshot was recorded
+            LOG.info("The JARs on the classpath are different from when the startup snapshot was generated."
+                     + " The startup snapshot is not used.");
+            return;
+        }
+
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+        camelContext.setClassResolver(new StartupSnapshotClassResolver(camelContext.getClassResolver(), snapshot));
+        ecc.addContextPlugin(PackageScanClassResolver.class,
+                new StartupSnapshotPackageScanClassResolver(
+                        PluginHelper.getPackageScanClassResolver(camelContext), camelContext.getClassResolver(), snapshot));
+        ecc.addContextPlugin(PackageScanResourceResolver.class,
+                new StartupSnapshotPackageScanResourceResolver(
+                        camelContext, PluginHelper.getPackageScanResourceResolver(camelContext), snapshot));
+    }
+
     protected void configurePropertiesService(CamelContext camelContext) throws Exception {
         PropertiesComponent pc = camelContext.getPropertiesComponent();
         if (pc.getLocations().isEmpty()) {
@@ -740,6 +801,9 @@ public abstract class BaseMainSupport extends BaseService {
         // gathers the properties (key=value) that was used as property placeholders during bootstrap
         final OrderedLocationProperties propertyPlaceholders = new OrderedLocationProperties();
 
+        // use the startup snapshot before anything is looked up
+        configureStartupSnapshot(camelContext);
+
         // use the main autowired lifecycle strategy instead of the default
         camelContext.getLifecycleStrategies().removeIf(s -> s instanceof AutowiredLifecycleStrategy);
         camelContext.addLifecycleStrategy(createLifecycleStrategy(camelContext));
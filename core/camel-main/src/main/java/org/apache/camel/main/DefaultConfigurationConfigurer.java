@@ -252,6 +252,7 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setLogMask(config.isLogMask());
         camelContext.setLogExhaustedMessageBody(config.isLogExhaustedMessageBody());
         camelContext.setAutoStartup(config.isAutoStartup());
+        camelContext.setRouteStartupParallelism(config.getRouteStartupParallelism());
         camelContext.setAllowUseOriginalMessage(config.isAllowUseOriginalMessage());
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
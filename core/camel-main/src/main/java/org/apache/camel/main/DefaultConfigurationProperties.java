@@ -85,6 +85,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String logName;
     private String logLanguage;
     private boolean autoStartup = true;
+    private int routeStartupParallelism = 1;
     private boolean allowUseOriginalMessage;
     private boolean caseInsensitiveHeaders = true;
     private boolean autowiredEnabled = true;
@@ -799,6 +800,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.autoStartup = autoStartup;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Sets the number of threads used for starting the route consumers when Camel is starting. The consumers of routes
+     * which do not depend on each other are started concurrently, while routes with an explicit startup order are
+     * always started in that order, and routes consuming from the same endpoint are started by the same thread. The
+     * routes are warmed up one by one, and routes added later are started one by one.
+     *
+     * Default is 1, which starts the routes one by one.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public boolean isAllowUseOriginalMessage() {
         return allowUseOriginalMessage;
     }
@@ -2092,6 +2109,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the number of threads used for starting the route consumers when Camel is starting. The consumers of routes
+     * which do not depend on each other are started concurrently, while routes with an explicit startup order are
+     * always started in that order, and routes consuming from the same endpoint are started by the same thread. The
+     * routes are warmed up one by one, and routes added later are started one by one.
+     *
+     * Default is 1, which starts the routes one by one.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * Sets whether to allow access to the original message from Camel's error handler, or from
      * org.apache.camel.spi.UnitOfWork.getOriginalInMessage(). Turning this off can optimize performance, as defensive
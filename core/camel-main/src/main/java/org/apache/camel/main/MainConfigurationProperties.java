@@ -46,6 +46,7 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
     private int extraShutdownTimeout = 15;
     private String basePackageScan;
     private boolean basePackageScanEnabled = true;
+    private boolean startupSnapshotEnabled = true;
 
     private String mainListenerClasses;
     private String routesBuilderClasses;
@@ -517,6 +518,24 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         this.basePackageScanEnabled = basePackageScanEnabled;
     }
 
+    public boolean isStartupSnapshotEnabled() {
+        return startupSnapshotEnabled;
+    }
+
+    /**
+     * Whether to use the startup snapshot, if one has been generated at build time (using the camel-maven-plugin).
+     *
+     * The snapshot holds the factories, classes and resources which was found on the classpath while Camel was started
+     * at build time, so they do not need to be looked up again when starting the application. The snapshot must be
+     * generated again when the dependencies or routes of the application change.
+     *
+     * This option can only be configured from Java, or as a JVM system property or environment variable, as the
+     * snapshot is used before the application properties are loaded.
+     */
+    public void setStartupSnapshotEnabled(boolean startupSnapshotEnabled) {
+        this.startupSnapshotEnabled = startupSnapshotEnabled;
+    }
+
     public int getDurationHitExitCode() {
         return durationHitExitCode;
     }
@@ -843,6 +862,21 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         return this;
     }
 
+    /**
+     * Whether to use the startup snapshot, if one has been generated at build time (using the camel-maven-plugin).
+     *
+     * The snapshot holds the factories, classes and resources which was found on the classpath while Camel was started
+     * at build time, so they do not need to be looked up again when starting the application. The snapshot must be
+     * generated again when the dependencies or routes of the application change.
+     *
+     * This option can only be configured from Java, or as a JVM system property or environment variable, as the
+     * snapshot is used before the application properties are loaded.
+     */
+    public MainConfigurationProperties withStartupSnapshotEnabled(boolean startupSnapshotEnabled) {
+        this.startupSnapshotEnabled = startupSnapshotEnabled;
+        return this;
+    }
+
     // fluent builders - main listener
     // --------------------------------------------------------------
 
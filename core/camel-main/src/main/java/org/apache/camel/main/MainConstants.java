@@ -25,6 +25,7 @@ public final class MainConstants {
     public static final String PROPERTY_PLACEHOLDER_LOCATION = "camel.main.property-placeholder-location";
     public static final String PLATFORM_HTTP_SERVER = "platform-http-server";
     public static final String PROFILE = "camel.main.profile";
+    public static final String STARTUP_SNAPSHOT_ENABLED = "camel.main.startupSnapshotEnabled";
 
     private MainConstants() {
     }
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.spi.FactoryFinder;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A snapshot of the lookups done while Camel Main is starting up, which is recorded at build time, and used on the next
+ * startups to avoid looking up and scanning the classpath again.
+ * <p/>
+ * The snapshot holds:
+ * <ul>
+ * <li>the factory files (such as for components, languages, data formats and property configurers) which are looked up
+ * from <tt>META-INF/services/org/apache/camel/</tt>, and the ones that were not found</li>
+ * <li>the classes found by package scanning (such as route builders and beans from the base package)</li>
+ * <li>the resources found by classpath patterns (such as the routes to load from <tt>classpath:camel/*</tt>)</li>
+ * </ul>
+ * Any lookup which is not in the snapshot is done as usual.
+ * <p/>
+ * The snapshot also holds the names and sizes of the JARs on the classpath (see {@link #classpath(ClassLoader)}), and
+ * must not be used when the JARs are different, as components may have been added, removed or upgraded since the
+ * snapshot was recorded.
+ * <p/>
+ * The snapshot is stored in a compact binary format, which starts with a magic marker and a version, and is loaded from
+ * the classpath at {@link #LOCATION}.
+ */
+public final class StartupSnapshot {
+
+    /**
+     * The location on the classpath where the snapshot is loaded from
+     */
+    public static final String LOCATION = FactoryFinder.DEFAULT_PATH + "startup-snapshot";
+
+    /**
+     * The current version of the binary format
+     */
+    public static final int VERSION = 2;
+
+    private static final int MAGIC = 0xCA3E5AA9;
+
+    // marks a resource which was looked up but not found
+    private static final byte[] NOT_FOUND = new byte[0];
+
+    private List<String> classpath = List.of();
+    private final ConcurrentMap<String, byte[]> resources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<String>> classes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<String>> classpathResources = new ConcurrentHashMap<>();
+    private final boolean recording;
+
+    private StartupSnapshot(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Creates a new empty snapshot to record the startup into.
+     */
+    public static StartupSnapshot newRecording() {
+        return new StartupSnapshot(true);
+    }
+
+    /**
+     * Whether the lookups which are not in this snapshot are recorded into the snapshot.
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the names and sizes of the JARs on the classpath when the snapshot was recorded.
+     */
+    public List<String> getClasspath() {
+        return classpath;
+    }
+
+    /**
+     * Sets the names and sizes of the JARs on the classpath when the snapshot is recorded.
+     *
+     * @see #classpath(ClassLoader)
+     */
+    public void setClasspath(List<String> classpath) {
+        this.classpath = List.copyOf(classpath);
+    }
+
+    /**
+     * Gets the names and sizes of the JARs on the classpath of the given class loader, in sorted order. The JAR with
+     * the snapshot itself (the application) is not included, and neither are directories, as the application is built
+     * together with its snapshot.
+     * <p/>
+     * The last modified time of the JARs is not included, as it changes when the JARs are copied, such as when building
+     * a container image.
+     */
+    public static List<String> classpath(ClassLoader classLoader) throws IOException {
+        String self = jarPath(classLoader.getResource(LOCATION));
+        Set<String> answer = new TreeSet<>();
+        Enumeration<URL> urls = classLoader.getResources("META-INF/MANIFEST.MF");
+        while (urls.hasMoreElements()) {
+            String path = jarPath(urls.nextElement());
+            if (path != null && !path.equals(self)) {
+                String name = path.substring(path.lastIndexOf('/') + 1);
+                long size = -1;
+                if (path.startsWith("file:")) {
+                    try {
+                        size = Files.size(Paths.get(URI.create(path)));
+                    } catch (IllegalArgumentException e) {
+                        // the size is unknown
+                    }
+                }
+                answer.add(name + ":" + size);
+            }
+        }
+        return new ArrayList<>(answer);
+    }
+
+    /**
+     * The path of the (innermost) JAR of the given resource, or <tt>null</tt> if the resource is not in a JAR
+     */
+    private static String jarPath(URL url) {
+        if (url == null || !"jar".equals(url.getProtocol())) {
+            return null;
+        }
+        String path = url.getPath();
+        int pos = path.lastIndexOf("!/");
+        return pos > 0 ? path.substring(0, pos) : null;
+    }
+
+    /**
+     * Whether the snapshot is empty
+     */
+    public boolean isEmpty() {
+        return resources.isEmpty() && classes.isEmpty() && classpathResources.isEmpty();
+    }
+
+    /**
+     * Whether the factory file with the given uri is in the snapshot
+     */
+    public boolean hasResource(String uri) {
+        return resources.containsKey(uri);
+    }
+
+    /**
+     * Gets the content of the factory file with the given uri.
+     *
+     * @param  uri the uri such as <tt>META-INF/services/org/apache/camel/component/seda</tt>
+     * @return     the content, or <tt>null</tt> if the file was not found, or is not in the snapshot
+     */
+    public byte[] getResource(String uri) {
+        byte[] data = resources.get(uri);
+        return data == NOT_FOUND ? null : data;
+    }
+
+    /**
+     * Records the content of the factory file with the given uri.
+     *
+     * @param uri  the uri such as <tt>META-INF/services/org/apache/camel/component/seda</tt>
+     * @param data the content, or <tt>null</tt> if the file was not found
+     */
+    public void putResource(String uri, byte[] data) {
+        resources.put(uri, data != null ? stripComments(data) : NOT_FOUND);
+    }
+
+    /**
+     * Gets the names of the classes found by the given package scan.
+     *
+     * @param  key the key of the package scan
+     * @return     the class names, or <tt>null</tt> if the package scan is not in the snapshot
+     */
+    public List<String> getClasses(String key) {
+        return classes.get(key);
+    }
+
+    /**
+     * Records the names of the classes found by the given package scan.
+     */
+    public void putClasses(String key, Collection<Class<?>> found) {
+        List<String> names = new ArrayList<>(found.size());
+        for (Class<?> clazz : found) {
+            names.add(clazz.getName());
+        }
+        classes.put(key, names);
+    }
+
+    /**
+     * Gets the locations of the resources found by the given pattern.
+     *
+     * @param  pattern the pattern such as <tt>classpath:camel/*</tt>
+     * @return         the resource locations, or <tt>null</tt> if the pattern is not in the snapshot
+     */
+    public List<String> getClasspathResources(String pattern) {
+        return classpathResources.get(pattern);
+    }
+
+    /**
+     * Records the locations of the resources found by the given pattern.
+     */
+    public void putClasspathResources(String pattern, List<String> locations) {
+        classpathResources.put(pattern, List.copyOf(locations));
+    }
+
+    /**
+     * Writes the snapshot to the given stream
+     *
+     * @param  out         the stream to write to (is not closed)
+     * @throws IOException is thrown if error writing
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(classpath.size());
+        for (String jar : classpath) {
+            dos.writeUTF(jar);
+        }
+        // sort the entries so the same startup always gives the same snapshot
+        Map<String, byte[]> sortedResources = new TreeMap<>(resources);
+        dos.writeInt(sortedResources.size());
+        for (Map.Entry<String, byte[]> entry : sortedResources.entrySet()) {
+            dos.writeUTF(entry.getKey());
+            byte[] data = entry.getValue();
+            if (data == NOT_FOUND) {
+                dos.writeInt(-1);
+            } else {
+                dos.writeInt(data.length);
+                dos.write(data);
+            }
+        }
+        writeLists(dos, classes);
+        writeLists(dos, classpathResources);
+        dos.flush();
+    }
+
+    /**
+     * Reads a snapshot from the given stream
+     *
+     * @param  in          the stream to read from (is not closed)
+     * @return             the snapshot, which does not record any further lookups
+     * @throws IOException is thrown if error reading, or the data is not a snapshot of the current version
+     */
+    public static StartupSnapshot read(InputStream in) throws IOException {
+        DataInputStream dis = new DataInputStream(IOHelper.buffered(in));
+        if (dis.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a startup snapshot");
+        }
+        int version = dis.readInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException(
+                    "Unsupported startup snapshot version: " + version + " (expected: " + VERSION + ")");
+        }
+        StartupSnapshot answer = new StartupSnapshot(false);
+        int size = dis.readInt();
+        List<String> jars = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            jars.add(dis.readUTF());
+        }
+        answer.classpath = jars;
+        size = dis.readInt();
+        for (int i = 0; i < size; i++) {
+            String uri = dis.readUTF();
+            int length = dis.readInt();
+            if (length < 0) {
+                answer.resources.put(uri, NOT_FOUND);
+            } else {
+                byte[] data = new byte[length];
+                dis.readFully(data);
+                answer.resources.put(uri, data);
+            }
+        }
+        readLists(dis, answer.classes);
+        readLists(dis, answer.classpathResources);
+        return answer;
+    }
+
+    private static void writeLists(DataOutputStream dos, Map<String, List<String>> lists) throws IOException {
+        Map<String, List<String>> sorted = new TreeMap<>(lists);
+        dos.writeInt(sorted.size());
+        for (Map.Entry<String, List<String>> entry : sorted.entrySet()) {
+            dos.writeUTF(entry.getKey());
+            dos.writeInt(entry.getValue().size());
+            for (String value : entry.getValue()) {
+                dos.writeUTF(value);
+            }
+        }
+    }
+
+    private static void readLists(DataInputStream dis, Map<String, List<String>> lists) throws IOException {
+        int size = dis.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = dis.readUTF();
+            int count = dis.readInt();
+            List<String> values = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                values.add(dis.readUTF());
+            }
+            lists.put(key, values);
+        }
+    }
+
+    /**
+     * The factory files are small properties files which mostly consist of the license header, which is not needed.
+     */
+    private static byte[] stripComments(byte[] data) {
+        String text = new String(data, StandardCharsets.UTF_8);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length);
+        for (String line : text.split("\\R")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                bos.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+                bos.write('\n');
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return "StartupSnapshot[jars=" + classpath.size() + ", resources=" + resources.size() + ", classes=" + classes.size()
+               + ", classpathResources="
+               + classpathResources.size() + "]";
+    }
+}
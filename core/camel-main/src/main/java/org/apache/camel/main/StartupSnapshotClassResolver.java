@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Set;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.ClassResolver;
+import org.apache.camel.spi.FactoryFinder;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link ClassResolver} which loads the factory files from the {@link StartupSnapshot}, and delegates everything else
+ * to the given class resolver.
+ */
+final class StartupSnapshotClassResolver implements ClassResolver {
+
+    private final ClassResolver delegate;
+    private final StartupSnapshot snapshot;
+
+    StartupSnapshotClassResolver(ClassResolver delegate, StartupSnapshot snapshot) {
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public InputStream loadResourceAsStream(String uri) {
+        if (uri == null || !uri.startsWith(FactoryFinder.DEFAULT_PATH)) {
+            return delegate.loadResourceAsStream(uri);
+        }
+        if (snapshot.hasResource(uri)) {
+            byte[] data = snapshot.getResource(uri);
+            return data != null ? new ByteArrayInputStream(data) : null;
+        }
+        InputStream in = delegate.loadResourceAsStream(uri);
+        if (!snapshot.isRecording()) {
+            return in;
+        }
+        byte[] data = null;
+        if (in != null) {
+            try {
+                data = in.readAllBytes();
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Error reading resource: " + uri, e);
+            } finally {
+                IOHelper.close(in, uri, null);
+            }
+        }
+        snapshot.putResource(uri, data);
+        return data != null ? new ByteArrayInputStream(data) : null;
+    }
+
+    @Override
+    public void addClassLoader(ClassLoader classLoader) {
+        delegate.addClassLoader(classLoader);
+    }
+
+    @Override
+    public Set<ClassLoader> getClassLoaders() {
+        return delegate.getClassLoaders();
+    }
+
+    @Override
+    public ClassLoader getClassLoader(String name) {
+        return delegate.getClassLoader(name);
+    }
+
+    @Override
+    public Class<?> resolveClass(String name) {
+        return delegate.resolveClass(name);
+    }
+
+    @Override
+    public <T> Class<T> resolveClass(String name, Class<T> type) {
+        return delegate.resolveClass(name, type);
+    }
+
+    @Override
+    public Class<?> resolveClass(String name, ClassLoader loader) {
+        return delegate.resolveClass(name, loader);
+    }
+
+    @Override
+    public <T> Class<T> resolveClass(String name, Class<T> type, ClassLoader loader) {
+        return delegate.resolveClass(name, type, loader);
+    }
+
+    @Override
+    public Class<?> resolveMandatoryClass(String name) throws ClassNotFoundException {
+        return delegate.resolveMandatoryClass(name);
+    }
+
+    @Override
+    public <T> Class<T> resolveMandatoryClass(String name, Class<T> type) throws ClassNotFoundException {
+        return delegate.resolveMandatoryClass(name, type);
+    }
+
+    @Override
+    public Class<?> resolveMandatoryClass(String name, ClassLoader loader) throws ClassNotFoundException {
+        return delegate.resolveMandatoryClass(name, loader);
+    }
+
+    @Override
+    public <T> Class<T> resolveMandatoryClass(String name, Class<T> type, ClassLoader loader)
+            throws ClassNotFoundException {
+        return delegate.resolveMandatoryClass(name, type, loader);
+    }
+
+    @Override
+    public URL loadResourceAsURL(String uri) {
+        return delegate.loadResourceAsURL(uri);
+    }
+
+    @Override
+    public Enumeration<URL> loadResourcesAsURL(String uri) {
+        return delegate.loadResourcesAsURL(uri);
+    }
+
+    @Override
+    public Enumeration<URL> loadAllResourcesAsURL(String uri) {
+        return delegate.loadAllResourcesAsURL(uri);
+    }
+
+    @Override
+    public String toString() {
+        return "StartupSnapshotClassResolver[" + delegate + "]";
+    }
+}
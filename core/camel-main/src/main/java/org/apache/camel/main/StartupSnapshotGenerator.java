@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates the {@link StartupSnapshot} of a Camel Main application, by starting the application once without starting
+ * its routes, and recording the lookups done while starting up.
+ * <p/>
+ * This is used by the camel-maven-plugin at build time, and can be run from the command line with the arguments:
+ * <tt>&lt;file&gt; [mainClass]</tt>.
+ */
+public final class StartupSnapshotGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupSnapshotGenerator.class);
+
+    private StartupSnapshotGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException("Usage: StartupSnapshotGenerator <file> [mainClass]");
+        }
+        Class<?> mainClass = null;
+        if (args.length == 2) {
+            mainClass = Class.forName(args[1], true, Thread.currentThread().getContextClassLoader());
+        }
+        generate(Paths.get(args[0]), mainClass);
+    }
+
+    /**
+     * Generates the startup snapshot of the application to the given file.
+     *
+     * @param  file      the file to write the snapshot to
+     * @param  mainClass the main class of the application (optional), which is used as the base package to scan
+     * @return           the snapshot
+     */
+    public static StartupSnapshot generate(Path file, Class<?> mainClass) throws Exception {
+        Main main = mainClass != null ? new Main(mainClass) : new Main();
+        StartupSnapshot snapshot = record(main);
+
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            snapshot.write(out);
+        }
+        LOG.info("Generated {} to: {}", snapshot, file);
+        return snapshot;
+    }
+
+    /**
+     * Records the startup snapshot of the given (not started) main.
+     *
+     * @param  main the main
+     * @return      the snapshot
+     */
+    public static StartupSnapshot record(BaseMainSupport main) throws Exception {
+        StartupSnapshot snapshot = StartupSnapshot.newRecording();
+        main.setStartupSnapshot(snapshot);
+        // the routes are created which resolves the components, languages and data formats they use,
+        // but the routes must not start consuming as this is only a rehearsal of the startup
+        main.configure().setAutoStartup(false);
+        main.start();
+        main.stop();
+        return snapshot;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+import org.apache.camel.spi.ClassResolver;
+import org.apache.camel.spi.PackageScanClassResolver;
+import org.apache.camel.spi.PackageScanFilter;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link PackageScanClassResolver} which returns the classes found by package scanning from the
+ * {@link StartupSnapshot}, and delegates everything else to the given package scan class resolver.
+ */
+final class StartupSnapshotPackageScanClassResolver extends ServiceSupport implements PackageScanClassResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupSnapshotPackageScanClassResolver.class);
+
+    private final PackageScanClassResolver delegate;
+    private final ClassResolver classResolver;
+    private final StartupSnapshot snapshot;
+
+    StartupSnapshotPackageScanClassResolver(PackageScanClassResolver delegate, ClassResolver classResolver,
+                                            StartupSnapshot snapshot) {
+        this.delegate = delegate;
+        this.classResolver = classResolver;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Set<Class<?>> findAnnotated(Class<? extends Annotation> annotation, String... packageNames) {
+        return find(key("annotated", List.of(annotation), packageNames),
+                () -> delegate.findAnnotated(annotation, packageNames));
+    }
+
+    @Override
+    public Set<Class<?>> findAnnotated(Set<Class<? extends Annotation>> annotations, String... packageNames) {
+        return find(key("annotated", annotations, packageNames), () -> delegate.findAnnotated(annotations, packageNames));
+    }
+
+    @Override
+    public Set<Class<?>> findImplementations(Class<?> parent, String... packageNames) {
+        return find(key("implementations", List.of(parent), packageNames),
+                () -> delegate.findImplementations(parent, packageNames));
+    }
+
+    private Set<Class<?>> find(String key, Supplier<Set<Class<?>>> scan) {
+        List<String> names = snapshot.getClasses(key);
+        if (names != null) {
+            Set<Class<?>> answer = new LinkedHashSet<>();
+            for (String name : names) {
+                Class<?> clazz = classResolver.resolveClass(name);
+                if (clazz == null) {
+                    // the snapshot is out of date, so scan the packages instead
+                    LOG.debug("Class {} from startup snapshot not found, scanning packages for: {}", name, key);
+                    return scan.get();
+                }
+                answer.add(clazz);
+            }
+            return answer;
+        }
+        Set<Class<?>> answer = scan.get();
+        if (snapshot.isRecording()) {
+            snapshot.putClasses(key, answer);
+        }
+        return answer;
+    }
+
+    private static String key(String kind, Iterable<? extends Class<?>> types, String... packageNames) {
+        StringJoiner sj = new StringJoiner(",", kind + ":", "");
+        for (Class<?> type : types) {
+            sj.add(type.getName());
+        }
+        return sj + ":" + String.join(",", packageNames);
+    }
+
+    @Override
+    public Set<Class<?>> findByFilter(PackageScanFilter filter, String... packageNames) {
+        // a filter cannot be recorded
+        return delegate.findByFilter(filter, packageNames);
+    }
+
+    @Override
+    public Set<ClassLoader> getClassLoaders() {
+        return delegate.getClassLoaders();
+    }
+
+    @Override
+    public void addClassLoader(ClassLoader classLoader) {
+        delegate.addClassLoader(classLoader);
+    }
+
+    @Override
+    public void addFilter(PackageScanFilter filter) {
+        delegate.addFilter(filter);
+    }
+
+    @Override
+    public void removeFilter(PackageScanFilter filter) {
+        delegate.removeFilter(filter);
+    }
+
+    @Override
+    public void setAcceptableSchemes(String schemes) {
+        delegate.setAcceptableSchemes(schemes);
+    }
+
+    @Override
+    public void clearCache() {
+        delegate.clearCache();
+    }
+}
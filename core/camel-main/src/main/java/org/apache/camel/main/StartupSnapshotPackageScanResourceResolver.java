@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.PackageScanResourceResolver;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.ResourceLoader;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.AntPathMatcher;
+
+/**
+ * A {@link PackageScanResourceResolver} which returns the resources found by classpath patterns from the
+ * {@link StartupSnapshot}, and delegates everything else to the given package scan resource resolver.
+ * <p/>
+ * Only patterns on the classpath are recorded, as the resources in the file system may change after the snapshot was
+ * recorded.
+ */
+final class StartupSnapshotPackageScanResourceResolver extends ServiceSupport implements PackageScanResourceResolver {
+
+    private static final String CLASSPATH = "classpath:";
+
+    private final CamelContext camelContext;
+    private final PackageScanResourceResolver delegate;
+    private final StartupSnapshot snapshot;
+
+    StartupSnapshotPackageScanResourceResolver(CamelContext camelContext, PackageScanResourceResolver delegate,
+                                               StartupSnapshot snapshot) {
+        this.camelContext = camelContext;
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Collection<Resource> findResources(String location) throws Exception {
+        String scheme = ResourceHelper.getScheme(location);
+        if (scheme != null && !CLASSPATH.equals(scheme) || !AntPathMatcher.INSTANCE.isPattern(location)) {
+            return delegate.findResources(location);
+        }
+
+        List<String> locations = snapshot.getClasspathResources(location);
+        if (locations != null) {
+            ResourceLoader loader = PluginHelper.getResourceLoader(camelContext);
+            List<Resource> answer = new ArrayList<>(locations.size());
+            for (String name : locations) {
+                answer.add(loader.resolveResource(name));
+            }
+            return answer;
+        }
+
+        Collection<Resource> answer = delegate.findResources(location);
+        if (snapshot.isRecording()) {
+            String root = AntPathMatcher.INSTANCE.determineRootDir(location);
+            if (root.startsWith(CLASSPATH)) {
+                root = root.substring(CLASSPATH.length());
+            }
+            List<String> names = new ArrayList<>(answer.size());
+            for (Resource resource : answer) {
+                String name = asClasspathLocation(root, resource.getLocation());
+                if (name == null) {
+                    // cannot record a resource which is only known by its location in the file system
+                    return answer;
+                }
+                names.add(name);
+            }
+            snapshot.putClasspathResources(location, names);
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the location on the classpath of the given resource found by scanning the given root directory on the
+     * classpath.
+     *
+     * @return the location, or <tt>null</tt> if the resource cannot be found on the classpath
+     */
+    private String asClasspathLocation(String root, String location) {
+        String scheme = ResourceHelper.getScheme(location);
+        if (scheme == null) {
+            return CLASSPATH + location;
+        } else if (CLASSPATH.equals(scheme)) {
+            return location;
+        } else if (!"file:".equals(scheme) || root.isEmpty()) {
+            return null;
+        }
+
+        // resources found in a directory on the classpath are resolved as files, so we need to find
+        // which part of the path is the name of the resource on the classpath
+        Path path = Paths.get(location.substring(scheme.length())).toAbsolutePath().normalize();
+        String text = path.toString().replace('\\', '/');
+        int index = text.indexOf('/' + root);
+        while (index != -1) {
+            String name = text.substring(index + 1);
+            URL url = camelContext.getClassResolver().loadResourceAsURL(name);
+            try {
+                if (url != null && "file".equals(url.getProtocol()) && path.equals(Paths.get(url.toURI()).normalize())) {
+                    return CLASSPATH + name;
+                }
+            } catch (Exception e) {
+                // ignore as the resource cannot be recorded
+            }
+            index = text.indexOf('/' + root, index + 1);
+        }
+        return null;
+    }
+
+    @Override
+    public Set<ClassLoader> getClassLoaders() {
+        return delegate.getClassLoaders();
+    }
+
+    @Override
+    public void addClassLoader(ClassLoader classLoader) {
+        delegate.addClassLoader(classLoader);
+    }
+
+    @Override
+    public void setAcceptableSchemes(String schemes) {
+        delegate.setAcceptableSchemes(schemes);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the time taken to start Camel Main with and without a startup snapshot.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class StartupSnapshotManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupSnapshotManualTest.class);
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void testStartup() throws Exception {
+        StartupSnapshot snapshot = StartupSnapshotGenerator.record(createMain());
+
+        long normal = 0;
+        long snapshotted = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long taken = start(createMain());
+            Main main = createMain();
+            main.setStartupSnapshot(snapshot);
+            long takenWithSnapshot = start(main);
+            LOG.info("Round {}: started in {} ms, and in {} ms with startup snapshot", round, taken, takenWithSnapshot);
+            normal += taken;
+            snapshotted += takenWithSnapshot;
+        }
+        LOG.info("Started in {} ms on average, and in {} ms with startup snapshot", normal / ROUNDS, snapshotted / ROUNDS);
+    }
+
+    private static long start(Main main) throws Exception {
+        StopWatch watch = new StopWatch();
+        main.start();
+        long taken = watch.taken();
+        main.stop();
+        return taken;
+    }
+
+    private static Main createMain() {
+        Main main = new Main();
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        // only the startup is measured
+        main.configure().withShutdownTimeout(1);
+        main.configure().addRoutesBuilder(new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < 20; i++) {
+                    from("timer:timer-" + i + "?delay=-1").routeId("timer-" + i)
+                            .setBody(simple("Hello ${header.name} " + i))
+                            .choice()
+                                .when(simple("${body} contains 'World'")).to("log:world?level=OFF")
+                                .otherwise().to("seda:other-" + i)
+                            .end()
+                            .to("direct:next-" + i);
+                    from("direct:next-" + i).routeId("next-" + i).to("mock:result-" + i);
+                }
+            }
+        });
+        return main;
+    }
+}
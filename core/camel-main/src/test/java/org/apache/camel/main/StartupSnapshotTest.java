@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.DefaultClassResolver;
+import org.apache.camel.spi.FactoryFinder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupSnapshotTest {
+
+    @Test
+    public void testRecordAndStartFromSnapshot() throws Exception {
+        Main main = new Main();
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        StartupSnapshot recorded = StartupSnapshotGenerator.record(main);
+
+        assertTrue(recorded.isRecording());
+        assertFalse(recorded.isEmpty());
+        // the factories of the components used by the routes
+        assertNotNull(recorded.getResource(FactoryFinder.DEFAULT_PATH + "component/direct"));
+        assertNotNull(recorded.getResource(FactoryFinder.DEFAULT_PATH + "configurer/direct-endpoint"));
+        // the route builders found by package scanning
+        List<String> builders = recorded.getClasses(
+                "implementations:" + RoutesBuilder.class.getName() + ":org.apache.camel.main.scan");
+        assertNotNull(builders);
+        assertEquals(3, builders.size());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        recorded.write(bos);
+        StartupSnapshot snapshot = StartupSnapshot.read(new ByteArrayInputStream(bos.toByteArray()));
+        assertFalse(snapshot.isRecording());
+        assertEquals(recorded.toString(), snapshot.toString());
+
+        // start from the snapshot, which should not look up any factories
+        List<String> lookups = new ArrayList<>();
+        main = new Main() {
+            @Override
+            protected CamelContext createCamelContext() {
+                CamelContext context = super.createCamelContext();
+                context.setClassResolver(new DefaultClassResolver(context) {
+                    @Override
+                    public InputStream loadResourceAsStream(String uri) {
+                        if (uri.startsWith(FactoryFinder.DEFAULT_PATH)) {
+                            lookups.add(uri);
+                        }
+                        return super.loadResourceAsStream(uri);
+                    }
+                });
+                return context;
+            }
+        };
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        main.setStartupSnapshot(snapshot);
+        main.start();
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            assertEquals(3, camelContext.getRoutes().size());
+            assertEquals(List.of(), lookups);
+
+            MockEndpoint endpoint = camelContext.getEndpoint("mock:scan", MockEndpoint.class);
+            endpoint.expectedBodiesReceived("Hello World");
+            main.getCamelTemplate().sendBody("direct:scan", "Hello World");
+            endpoint.assertIsSatisfied();
+
+            // camel configuration should be found from the snapshot
+            assertEquals("true", camelContext.getGlobalOption("scanConfigured"));
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testClasspathChanged() throws Exception {
+        Main main = new Main();
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        StartupSnapshot recorded = StartupSnapshotGenerator.record(main);
+        assertFalse(recorded.getClasspath().isEmpty());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        recorded.write(bos);
+        StartupSnapshot snapshot = StartupSnapshot.read(new ByteArrayInputStream(bos.toByteArray()));
+        assertEquals(recorded.getClasspath(), snapshot.getClasspath());
+
+        // such as a component which has been upgraded since the snapshot was generated
+        List<String> classpath = new ArrayList<>(snapshot.getClasspath());
+        classpath.set(0, "upgraded-" + classpath.get(0));
+        snapshot.setClasspath(classpath);
+
+        // the snapshot is not used, so the factories are looked up as usual
+        List<String> lookups = new ArrayList<>();
+        main = new Main() {
+            @Override
+            protected CamelContext createCamelContext() {
+                CamelContext context = super.createCamelContext();
+                context.setClassResolver(new DefaultClassResolver(context) {
+                    @Override
+                    public InputStream loadResourceAsStream(String uri) {
+                        if (uri.startsWith(FactoryFinder.DEFAULT_PATH)) {
+                            lookups.add(uri);
+                        }
+                        return super.loadResourceAsStream(uri);
+                    }
+                });
+                return context;
+            }
+        };
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        main.setStartupSnapshot(snapshot);
+        main.start();
+        try {
+            assertEquals(3, main.getCamelContext().getRoutes().size());
+            assertTrue(lookups.contains(FactoryFinder.DEFAULT_PATH + "component/direct"), "Should look up: " + lookups);
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testStaleSnapshot() throws Exception {
+        StartupSnapshot recorded = StartupSnapshot.newRecording();
+        recorded.putResource(FactoryFinder.DEFAULT_PATH + "component/unknown", null);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        recorded.write(bos);
+        StartupSnapshot snapshot = StartupSnapshot.read(new ByteArrayInputStream(bos.toByteArray()));
+
+        assertTrue(snapshot.hasResource(FactoryFinder.DEFAULT_PATH + "component/unknown"));
+        assertNull(snapshot.getResource(FactoryFinder.DEFAULT_PATH + "component/unknown"));
+        assertFalse(snapshot.hasResource(FactoryFinder.DEFAULT_PATH + "component/direct"));
+
+        // lookups not in the snapshot are done as usual
+        CamelContext context = new DefaultCamelContext();
+        context.setClassResolver(new StartupSnapshotClassResolver(context.getClassResolver(), snapshot));
+        assertNotNull(context.getComponent("direct"));
+        assertFalse(snapshot.hasResource(FactoryFinder.DEFAULT_PATH + "component/direct"));
+        context.stop();
+    }
+
+    @Test
+    public void testNotSnapshot() {
+        assertThrows(StreamCorruptedException.class,
+                () -> StartupSnapshot.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 })));
+    }
+}
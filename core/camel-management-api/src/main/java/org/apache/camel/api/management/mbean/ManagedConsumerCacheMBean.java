@@ -30,6 +30,18 @@ public interface ManagedConsumerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of times a consumer was acquired and was already in the cache")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of times a consumer was acquired and was not in the cache")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of consumers evicted from the cache")
+    Long getEvicted();
+
+    @ManagedOperation(description = "Resets the cache statistics")
+    void resetStatistics();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
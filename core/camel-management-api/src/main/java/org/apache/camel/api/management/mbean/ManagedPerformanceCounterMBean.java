@@ -59,6 +59,18 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "50th Percentile Processing Time over the last minute [milliseconds]")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "90th Percentile Processing Time over the last minute [milliseconds]")
+    long getP90ProcessingTime();
+
+    @ManagedAttribute(description = "99th Percentile Processing Time over the last minute [milliseconds]")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time over the last minute [milliseconds]")
+    long getP999ProcessingTime();
+
     @ManagedAttribute(description = "Time in millis being idle (no messages incoming or inflight)")
     long getIdleSince();
 
@@ -98,4 +110,7 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedOperation(description = "Dumps the statistics as XML")
     String dumpStatsAsXml(boolean fullStats);
 
+    @ManagedOperation(description = "The 50th, 90th, 99th and 99.9th Percentile Processing Times over the last minute [milliseconds]")
+    long[] processingTimePercentiles();
+
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds a latency histogram of the values recorded over a sliding time window, which is used to calculate percentiles
+ * such as p50, p90, p99 and p999.
+ * <p/>
+ * The values are counted in buckets in the same way as HdrHistogram, where values less than 16 have their own bucket
+ * and larger values use 16 sub buckets per power of two. This means the percentiles are accurate within 1/16 (6.25%) of
+ * the value, and the histogram uses a fixed amount of memory (about 1.8 KB per slice). Values larger than
+ * {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}.
+ * <p/>
+ * The sliding window is divided into a number of slices, and a value is recorded in the slice of the current time. When
+ * the window moves on, then the oldest slice is cleared and reused. The memory of a slice is only allocated when the
+ * first value is recorded in the slice, so counters which never record any values do not use memory for the histogram.
+ * Apart from that, recording a value is lock-free and does not create any objects. Like the MAXIMUM and MINIMUM
+ * statistics, this is not 100% accurate, as a few values can be lost if they are recorded at the same time as their
+ * slice is being reused. This is on purpose to keep the overhead low.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The largest value that can be recorded.
+     */
+    public static final long MAX_VALUE = Integer.MAX_VALUE;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 63 - Long.numberOfLeadingZeros(MAX_VALUE);
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final Slice[] slices;
+    private final long sliceDuration;
+
+    /**
+     * Creates a histogram with a sliding window of one minute divided into 4 slices.
+     */
+    public LatencyHistogram() {
+        this(60000, 4);
+    }
+
+    /**
+     * Creates a histogram
+     *
+     * @param windowDuration the duration of the sliding window in millis
+     * @param slices         the number of slices to divide the window into
+     */
+    public LatencyHistogram(long windowDuration, int slices) {
+        if (slices < 1 || windowDuration < slices) {
+            throw new IllegalArgumentException("Window duration must be at least 1 millis per slice");
+        }
+        this.sliceDuration = windowDuration / slices;
+        this.slices = new Slice[slices];
+        for (int i = 0; i < slices; i++) {
+            this.slices[i] = new Slice();
+        }
+    }
+
+    /**
+     * Records the value
+     *
+     * @param value the value (such as the processing time in millis)
+     * @param now   the current time in millis
+     */
+    public void recordValue(long value, long now) {
+        long epoch = now / sliceDuration;
+        Slice slice = slices[(int) (epoch % slices.length)];
+        long current = slice.epoch.get();
+        if (current != epoch) {
+            if (current > epoch) {
+                // the slice has already moved on (the current time was read before another thread moved it on)
+                return;
+            }
+            if (slice.epoch.compareAndSet(current, epoch)) {
+                slice.clear();
+            }
+        }
+        slice.counts().incrementAndGet(bucketIndex(value));
+    }
+
+    /**
+     * Gets the number of values recorded in the sliding window
+     *
+     * @param now the current time in millis
+     */
+    public long getCount(long now) {
+        long[] counts = collect(now);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Calculates the value at the given percentile of the values recorded in the sliding window.
+     *
+     * @param  percentile the percentile between 0 and 100, such as 99.9
+     * @param  now        the current time in millis
+     * @return            the value at the percentile, or <tt>0</tt> if no values has been recorded in the window
+     */
+    public long getValueAtPercentile(double percentile, long now) {
+        return getValuesAtPercentiles(now, percentile)[0];
+    }
+
+    /**
+     * Calculates the values at the given percentiles of the values recorded in the sliding window.
+     *
+     * @param  now         the current time in millis
+     * @param  percentiles the percentiles between 0 and 100, such as 99.9
+     * @return             the values at the percentiles, or <tt>0</tt> if no values has been recorded in the window
+     */
+    public long[] getValuesAtPercentiles(long now, double... percentiles) {
+        long[] counts = collect(now);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+
+        long[] answer = new long[percentiles.length];
+        if (total == 0) {
+            return answer;
+        }
+        for (int i = 0; i < percentiles.length; i++) {
+            double percentile = Math.min(Math.max(percentiles[i], 0), 100);
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long sum = 0;
+            for (int index = 0; index < counts.length; index++) {
+                sum += counts[index];
+                if (sum >= rank) {
+                    answer[i] = highestValue(index);
+                    break;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Resets the histogram
+     */
+    public void reset() {
+        for (Slice slice : slices) {
+            slice.epoch.set(-1);
+            slice.clear();
+        }
+    }
+
+    private long[] collect(long now) {
+        long epoch = now / sliceDuration;
+        long[] answer = new long[BUCKETS];
+        for (Slice slice : slices) {
+            long age = epoch - slice.epoch.get();
+            // only include the slices which are within the window
+            AtomicIntegerArray counts = slice.counts;
+            if (counts != null && age >= 0 && age < slices.length) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    answer[i] += counts.get(i);
+                }
+            }
+        }
+        return answer;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        }
+        long v = Math.min(value, MAX_VALUE);
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (v >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        int sub = index % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + sub) << shift;
+        return Math.min(lowest + (1L << shift) - 1, MAX_VALUE);
+    }
+
+    private static final class Slice {
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private volatile AtomicIntegerArray counts;
+
+        AtomicIntegerArray counts() {
+            AtomicIntegerArray answer = counts;
+            if (answer == null) {
+                synchronized (this) {
+                    answer = counts;
+                    if (answer == null) {
+                        answer = new AtomicIntegerArray(BUCKETS);
+                        counts = answer;
+                    }
+                }
+            }
+            return answer;
+        }
+
+        void clear() {
+            AtomicIntegerArray answer = counts;
+            if (answer != null) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    answer.set(i, 0);
+                }
+            }
+        }
+    }
+
+}
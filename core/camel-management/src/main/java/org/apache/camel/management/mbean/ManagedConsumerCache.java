@@ -52,6 +52,26 @@ public class ManagedConsumerCache extends ManagedService implements ManagedConsu
         return consumerCache.getCapacity();
     }
 
+    @Override
+    public Long getHits() {
+        return consumerCache.getHits();
+    }
+
+    @Override
+    public Long getMisses() {
+        return consumerCache.getMisses();
+    }
+
+    @Override
+    public Long getEvicted() {
+        return consumerCache.getEvicted();
+    }
+
+    @Override
+    public void resetStatistics() {
+        consumerCache.resetStatistics();
+    }
+
     @Override
     public void purge() {
         consumerCache.purge();
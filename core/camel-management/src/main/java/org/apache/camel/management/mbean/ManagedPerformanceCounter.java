@@ -32,6 +32,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
     private Statistic exchangesCompleted;
     private Statistic exchangesFailed;
     private Statistic exchangesInflight;
@@ -44,6 +46,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private LatencyHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -72,6 +75,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new LatencyHistogram();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -95,6 +99,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -166,6 +171,31 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(50, System.currentTimeMillis());
+    }
+
+    @Override
+    public long getP90ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(90, System.currentTimeMillis());
+    }
+
+    @Override
+    public long getP99ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(99, System.currentTimeMillis());
+    }
+
+    @Override
+    public long getP999ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(99.9, System.currentTimeMillis());
+    }
+
+    @Override
+    public long[] processingTimePercentiles() {
+        return processingTimeHistogram.getValuesAtPercentiles(System.currentTimeMillis(), PERCENTILES);
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -271,6 +301,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         deltaProcessingTime.updateValue(time);
 
         long now = System.currentTimeMillis();
+        processingTimeHistogram.recordValue(time, now);
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
             firstExchangeCompletedTimestamp.updateValue(now);
         }
@@ -330,6 +361,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        long[] percentiles = processingTimePercentiles();
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", percentiles[0]));
+        sb.append(String.format(" p90ProcessingTime=\"%s\"", percentiles[1]));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", percentiles[2]));
+        sb.append(String.format(" p999ProcessingTime=\"%s\"", percentiles[3]));
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
         if (fullStats) {
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.management.mbean.LatencyHistogram;
+import org.apache.camel.management.mbean.Statistic;
+import org.apache.camel.management.mbean.StatisticCounter;
+import org.apache.camel.management.mbean.StatisticDelta;
+import org.apache.camel.management.mbean.StatisticMaximum;
+import org.apache.camel.management.mbean.StatisticMinimum;
+import org.apache.camel.management.mbean.StatisticValue;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the overhead of recording the processing time in the existing statistics (as done per completed exchange)
+ * with recording it in the latency histogram.
+ */
+@Disabled("Manual test")
+public class LatencyHistogramOverheadManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LatencyHistogramOverheadManualTest.class);
+
+    private static final int ROUNDS = 5;
+    private static final int SIZE = 10_000_000;
+    private static final int[] THREADS = { 1, 4, 16 };
+
+    @Test
+    public void testOverhead() throws Exception {
+        Statistic[] statistics = {
+                new StatisticMinimum(), new StatisticMaximum(), new StatisticCounter(),
+                new StatisticValue(), new StatisticDelta(), new StatisticValue() };
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int threads : THREADS) {
+            for (int round = 0; round < ROUNDS; round++) {
+                long counters = run(threads, time -> {
+                    for (Statistic statistic : statistics) {
+                        statistic.updateValue(time);
+                    }
+                });
+                long histograms = run(threads, time -> histogram.recordValue(time, System.currentTimeMillis()));
+                LOG.info("Threads {}: existing statistics took {} ns/op, latency histogram took {} ns/op", threads,
+                        counters * 1_000_000 / SIZE, histograms * 1_000_000 / SIZE);
+            }
+        }
+    }
+
+    private static long run(int threads, Recorder recorder) throws InterruptedException {
+        List<Thread> list = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            list.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int j = 0; j < SIZE / threads; j++) {
+                    recorder.record(random.nextLong(1000));
+                }
+            }));
+        }
+        StopWatch watch = new StopWatch();
+        list.forEach(Thread::start);
+        for (Thread thread : list) {
+            thread.join();
+        }
+        return watch.taken();
+    }
+
+    @FunctionalInterface
+    private interface Recorder {
+        void record(long time);
+    }
+
+}
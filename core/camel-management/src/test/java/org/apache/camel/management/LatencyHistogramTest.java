@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import org.apache.camel.management.mbean.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getCount(1000));
+        assertEquals(0, h.getValueAtPercentile(99, 1000));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            h.recordValue(i, 1000);
+        }
+        assertEquals(10, h.getCount(1000));
+        assertArrayEquals(new long[] { 5, 9, 10, 10 }, h.getValuesAtPercentiles(1000, 50, 90, 99, 99.9));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            h.recordValue(i, 1000);
+        }
+        assertWithin(5000, h.getValueAtPercentile(50, 1000));
+        assertWithin(9000, h.getValueAtPercentile(90, 1000));
+        assertWithin(9900, h.getValueAtPercentile(99, 1000));
+        assertWithin(9990, h.getValueAtPercentile(99.9, 1000));
+        assertWithin(10000, h.getValueAtPercentile(100, 1000));
+    }
+
+    @Test
+    public void testTailLatency() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 990; i++) {
+            h.recordValue(10, 1000);
+        }
+        for (int i = 0; i < 10; i++) {
+            h.recordValue(5000, 1000);
+        }
+        // the mean is 60 millis, but 1% of the exchanges takes 5 seconds
+        assertEquals(10, h.getValueAtPercentile(50, 1000));
+        assertEquals(10, h.getValueAtPercentile(99, 1000));
+        assertWithin(5000, h.getValueAtPercentile(99.9, 1000));
+    }
+
+    @Test
+    public void testLargeValues() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordValue(Long.MAX_VALUE, 1000);
+        assertEquals(LatencyHistogram.MAX_VALUE, h.getValueAtPercentile(50, 1000));
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        LatencyHistogram h = new LatencyHistogram(4000, 4);
+        h.recordValue(100, 1000);
+        h.recordValue(200, 2000);
+        assertEquals(2, h.getCount(2000));
+        assertEquals(2, h.getCount(4999));
+
+        // the first slice is outside the window
+        assertEquals(1, h.getCount(5000));
+        assertWithin(200, h.getValueAtPercentile(50, 5000));
+
+        // the slice of the first value is reused
+        h.recordValue(300, 5000);
+        assertEquals(2, h.getCount(5000));
+
+        // all values are outside the window
+        assertEquals(0, h.getCount(20000));
+        assertEquals(0, h.getValueAtPercentile(99, 20000));
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordValue(100, 1000);
+        h.reset();
+        assertEquals(0, h.getCount(1000));
+        h.recordValue(200, 1000);
+        assertEquals(1, h.getCount(1000));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        // the buckets have a precision of 1/16 of the value
+        assertTrue(actual >= expected && actual <= expected + expected / 16,
+                "Expected " + expected + " but was " + actual);
+    }
+
+}
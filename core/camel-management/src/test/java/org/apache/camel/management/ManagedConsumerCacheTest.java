@@ -75,6 +75,13 @@ public class ManagedConsumerCacheTest extends ManagementTestSupport {
         Integer current = (Integer) mbeanServer.getAttribute(on, "Size");
         assertEquals(1, current.intValue());
 
+        Long misses = (Long) mbeanServer.getAttribute(on, "Misses");
+        assertEquals(1, misses.longValue());
+        Long hits = (Long) mbeanServer.getAttribute(on, "Hits");
+        assertEquals(0, hits.longValue());
+        Long evicted = (Long) mbeanServer.getAttribute(on, "Evicted");
+        assertEquals(0, evicted.longValue());
+
         String source = (String) mbeanServer.getAttribute(on, "Source");
         assertNotNull(source);
         assertTrue(source.contains("testManageConsumerCache"));
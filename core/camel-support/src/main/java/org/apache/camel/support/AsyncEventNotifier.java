@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EventNotifier} which delivers the events to another event notifier asynchronously, so the routing threads
+ * do not have to wait for event notifiers which are expensive, such as exporting metrics.
+ * <p/>
+ * The events are queued, and delivered in batches by a single background thread in the order they were queued. If the
+ * queue is full then the calling thread waits until there is room in the queue (back-pressure), so no events are lost,
+ * and the events are still delivered in order. When stopping, the events which are queued are delivered before the
+ * background thread terminates, and the events notified after that are delivered by the calling thread. The ignore
+ * options and {@link #isEnabled(CamelEvent)} of the event notifier are still checked by the calling thread.
+ * <p/>
+ * <b>Important:</b> the events hold the live exchange, which may have been changed (or even reused when exchange
+ * pooling is in use) by the time the event is delivered. Therefore only use this for event notifiers which do not
+ * depend on the exchange being in the same state as when the event happened.
+ */
+public class AsyncEventNotifier extends ServiceSupport implements EventNotifier, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventNotifier.class);
+
+    private final EventNotifier eventNotifier;
+    private CamelContext camelContext;
+    private int queueSize = 1000;
+    private int batchSize = 100;
+    private volatile BlockingQueue<CamelEvent> queue;
+    private volatile Thread worker;
+    // whether the background thread is submitted and not yet terminated, it is set before the background thread
+    // is running so the events queued in the meantime are not delivered ahead of it
+    private volatile boolean delivering;
+    // the number of events being queued, which the background thread must wait for before terminating
+    private final AtomicInteger queueing = new AtomicInteger();
+    private ExecutorService executorService;
+
+    public AsyncEventNotifier(EventNotifier eventNotifier) {
+        this.eventNotifier = ObjectHelper.notNull(eventNotifier, "eventNotifier");
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+        CamelContextAware.trySetCamelContext(eventNotifier, camelContext);
+    }
+
+    /**
+     * The event notifier which the events are delivered to
+     */
+    public EventNotifier getEventNotifier() {
+        return eventNotifier;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * The maximum number of events waiting to be delivered, before the calling thread waits for room in the queue.
+     * <p/>
+     * The default value is 1000.
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of events which are taken from the queue at once, and delivered one after the other.
+     * <p/>
+     * The default value is 100.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        // must be counted before checking whether running, so the background thread does not terminate
+        // while this event is being queued
+        queueing.incrementAndGet();
+        try {
+            BlockingQueue<CamelEvent> target = queue;
+            if (target == null || !isRunAllowed() || Thread.currentThread() == worker) {
+                // not started, stopping, or an event from the event notifier itself, so deliver on the calling thread
+                eventNotifier.notify(event);
+                return;
+            }
+            // wait for room in the queue, while the background thread is delivering the events
+            while (!target.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                if (!delivering) {
+                    // the background thread has terminated, so the queue is no longer drained
+                    eventNotifier.notify(event);
+                    return;
+                }
+            }
+        } finally {
+            queueing.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        return eventNotifier.isEnabled(event);
+    }
+
+    @Override
+    public boolean isDisabled() {
+        return eventNotifier.isDisabled();
+    }
+
+    @Override
+    public boolean isIgnoreCamelContextInitEvents() {
+        return eventNotifier.isIgnoreCamelContextInitEvents();
+    }
+
+    @Override
+    public void setIgnoreCamelContextInitEvents(boolean ignoreCamelContextInitEvents) {
+        eventNotifier.setIgnoreCamelContextInitEvents(ignoreCamelContextInitEvents);
+    }
+
+    @Override
+    public boolean isIgnoreCamelContextEvents() {
+        return eventNotifier.isIgnoreCamelContextEvents();
+    }
+
+    @Override
+    public void setIgnoreCamelContextEvents(boolean ignoreCamelContextEvents) {
+        eventNotifier.setIgnoreCamelContextEvents(ignoreCamelContextEvents);
+    }
+
+    @Override
+    public boolean isIgnoreRouteEvents() {
+        return eventNotifier.isIgnoreRouteEvents();
+    }
+
+    @Override
+    public void setIgnoreRouteEvents(boolean ignoreRouteEvents) {
+        eventNotifier.setIgnoreRouteEvents(ignoreRouteEvents);
+    }
+
+    @Override
+    public boolean isIgnoreServiceEvents() {
+        return eventNotifier.isIgnoreServiceEvents();
+    }
+
+    @Override
+    public void setIgnoreServiceEvents(boolean ignoreServiceEvents) {
+        eventNotifier.setIgnoreServiceEvents(ignoreServiceEvents);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeEvents() {
+        return eventNotifier.isIgnoreExchangeEvents();
+    }
+
+    @Override
+    public void setIgnoreExchangeEvents(boolean ignoreExchangeEvents) {
+        eventNotifier.setIgnoreExchangeEvents(ignoreExchangeEvents);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeCreatedEvent() {
+        return eventNotifier.isIgnoreExchangeCreatedEvent();
+    }
+
+    @Override
+    public void setIgnoreExchangeCreatedEvent(boolean ignoreExchangeCreatedEvent) {
+        eventNotifier.setIgnoreExchangeCreatedEvent(ignoreExchangeCreatedEvent);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeCompletedEvent() {
+        return eventNotifier.isIgnoreExchangeCompletedEvent();
+    }
+
+    @Override
+    public void setIgnoreExchangeCompletedEvent(boolean ignoreExchangeCompletedEvent) {
+        eventNotifier.setIgnoreExchangeCompletedEvent(ignoreExchangeCompletedEvent);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeFailedEvents() {
+        return eventNotifier.isIgnoreExchangeFailedEvents();
+    }
+
+    @Override
+    public void setIgnoreExchangeFailedEvents(boolean ignoreExchangeFailedEvents) {
+        eventNotifier.setIgnoreExchangeFailedEvents(ignoreExchangeFailedEvents);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeRedeliveryEvents() {
+        return eventNotifier.isIgnoreExchangeRedeliveryEvents();
+    }
+
+    @Override
+    public void setIgnoreExchangeRedeliveryEvents(boolean ignoreExchangeRedeliveryEvents) {
+        eventNotifier.setIgnoreExchangeRedeliveryEvents(ignoreExchangeRedeliveryEvents);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeSentEvents() {
+        return eventNotifier.isIgnoreExchangeSentEvents();
+    }
+
+    @Override
+    public void setIgnoreExchangeSentEvents(boolean ignoreExchangeSentEvents) {
+        eventNotifier.setIgnoreExchangeSentEvents(ignoreExchangeSentEvents);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeSendingEvents() {
+        return eventNotifier.isIgnoreExchangeSendingEvents();
+    }
+
+    @Override
+    public void setIgnoreExchangeSendingEvents(boolean ignoreExchangeSendingEvents) {
+        eventNotifier.setIgnoreExchangeSendingEvents(ignoreExchangeSendingEvents);
+    }
+
+    @Override
+    public boolean isIgnoreStepEvents() {
+        return eventNotifier.isIgnoreStepEvents();
+    }
+
+    @Override
+    public void setIgnoreStepEvents(boolean ignoreStepEvents) {
+        eventNotifier.setIgnoreStepEvents(ignoreStepEvents);
+    }
+
+    @Override
+    public boolean isIgnoreExchangeAsyncProcessingStartedEvents() {
+        return eventNotifier.isIgnoreExchangeAsyncProcessingStartedEvents();
+    }
+
+    @Override
+    public void setIgnoreExchangeAsyncProcessingStartedEvents(boolean ignoreExchangeAsyncProcessingStartedEvents) {
+        eventNotifier.setIgnoreExchangeAsyncProcessingStartedEvents(ignoreExchangeAsyncProcessingStartedEvents);
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        ServiceHelper.initService(eventNotifier);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(eventNotifier);
+        queue = new ArrayBlockingQueue<>(queueSize);
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "AsyncEventNotifier");
+        delivering = true;
+        try {
+            executorService.submit(this::deliverEvents);
+        } catch (RuntimeException e) {
+            delivering = false;
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            // the remaining events are delivered before the background thread terminates
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        queue = null;
+        ServiceHelper.stopService(eventNotifier);
+    }
+
+    private void deliverEvents() {
+        BlockingQueue<CamelEvent> events = queue;
+        List<CamelEvent> batch = new ArrayList<>(batchSize);
+        worker = Thread.currentThread();
+        try {
+            // when stopping, the events which are queued, or being queued, are delivered before terminating
+            while (isRunAllowed() || queueing.get() > 0 || !events.isEmpty()) {
+                CamelEvent event = events.poll(100, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                events.drainTo(batch, batchSize - 1);
+                for (CamelEvent e : batch) {
+                    doNotify(e);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            LOG.debug("Interrupted while delivering events. {} events are not delivered.", events.size());
+            Thread.currentThread().interrupt();
+        } finally {
+            worker = null;
+            delivering = false;
+        }
+    }
+
+    private void doNotify(CamelEvent event) {
+        try {
+            eventNotifier.notify(event);
+        } catch (Exception e) {
+            LOG.warn("Error notifying event {}. This exception will be ignored.", event, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncEventNotifier[" + eventNotifier + "]";
+    }
+}
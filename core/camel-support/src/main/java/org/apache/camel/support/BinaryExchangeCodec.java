@@ -0,0 +1,501 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+
+/**
+ * A versioned binary codec for {@link DefaultExchangeHolder} which is faster and more compact than plain Java
+ * serialization of the holder.
+ * <p/>
+ * The common header and body types (String, byte[], primitive wrappers, BigInteger, BigDecimal, Date, and HashMap,
+ * LinkedHashMap and ArrayList of those) are written with typed encodings. Only values of any other type (such as
+ * exceptions or custom classes) fall back to Java serialization, and are read back using the configured deserialization
+ * filter.
+ * <p/>
+ * The payload can optionally be compressed (deflate) when it exceeds the configured compression threshold.
+ * <p/>
+ * Encoded data always starts with a magic marker which cannot be confused with a Java serialization stream, so
+ * components can use {@link #isBinaryExchange(byte[])} to support reading data stored with either format.
+ */
+public class BinaryExchangeCodec {
+
+    /**
+     * The current version of the binary format
+     */
+    public static final int VERSION = 1;
+
+    private static final byte MAGIC1 = (byte) 0xCA;
+    private static final byte MAGIC2 = (byte) 0x3E;
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BYTES = 2;
+    private static final byte TYPE_INT = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_SHORT = 5;
+    private static final byte TYPE_BYTE = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_FLOAT = 8;
+    private static final byte TYPE_BOOLEAN = 9;
+    private static final byte TYPE_CHAR = 10;
+    private static final byte TYPE_BIG_INTEGER = 11;
+    private static final byte TYPE_BIG_DECIMAL = 12;
+    private static final byte TYPE_DATE = 13;
+    private static final byte TYPE_MAP = 14;
+    private static final byte TYPE_LIST = 15;
+    private static final byte TYPE_SERIALIZED = 16;
+
+    // the maximum initial capacity of the maps and lists, as their size is read from the stored data
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private int compressionThreshold;
+    private String deserializationFilter = "java.**;org.apache.camel.**;!*";
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Payloads that are equal to or larger than this number of bytes are compressed. By default this is 0, which means
+     * compression is disabled.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter used when reading values that was stored using the Java serialization fallback. By
+     * default the filter will allow all java packages and subpackages and all org.apache.camel packages and
+     * subpackages, while the remaining will be blacklisted and not deserialized.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    /**
+     * Whether the given data is encoded with this codec (checks the magic marker)
+     */
+    public static boolean isBinaryExchange(byte[] data) {
+        return data != null && data.length >= 2 && data[0] == MAGIC1 && data[1] == MAGIC2;
+    }
+
+    /**
+     * Encodes the holder
+     *
+     * @param  holder      the holder
+     * @return             the encoded data
+     * @throws IOException is thrown if error encoding
+     */
+    public byte[] marshal(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        marshal(holder, bos);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Encodes the holder to the given stream
+     *
+     * @param  holder      the holder
+     * @param  out         the stream to write to (is not closed)
+     * @throws IOException is thrown if error encoding
+     */
+    public void marshal(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+        DataOutputStream dos = new DataOutputStream(payload);
+        writeString(dos, holder.getExchangeId());
+        writeValue(dos, holder.getInBody());
+        writeValue(dos, holder.getOutBody());
+        writeMap(dos, holder.getInHeaders());
+        writeMap(dos, holder.getOutHeaders());
+        writeMap(dos, holder.getProperties());
+        writeMap(dos, holder.getVariables());
+        writeValue(dos, holder.getException());
+        dos.flush();
+
+        boolean compress = compressionThreshold > 0 && payload.size() >= compressionThreshold;
+        out.write(MAGIC1);
+        out.write(MAGIC2);
+        out.write(VERSION);
+        out.write(compress ? FLAG_COMPRESSED : 0);
+        if (compress) {
+            Deflater deflater = new Deflater();
+            try {
+                DeflaterOutputStream zos = new DeflaterOutputStream(out, deflater);
+                payload.writeTo(zos);
+                zos.finish();
+            } finally {
+                deflater.end();
+            }
+        } else {
+            payload.writeTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Decodes the data into a holder
+     *
+     * @param  camelContext           the camel context (used for class loading of serialized values)
+     * @param  data                   the encoded data
+     * @return                        the holder
+     * @throws IOException            is thrown if error decoding, or the data is not encoded with this codec
+     * @throws ClassNotFoundException is thrown if a serialized value could not be loaded
+     */
+    public DefaultExchangeHolder unmarshal(CamelContext camelContext, byte[] data)
+            throws IOException, ClassNotFoundException {
+        return unmarshal(camelContext, new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Decodes the data from the stream into a holder
+     *
+     * @param  camelContext           the camel context (used for class loading of serialized values)
+     * @param  in                     the stream with the encoded data (is not closed)
+     * @return                        the holder
+     * @throws IOException            is thrown if error decoding, or the data is not encoded with this codec
+     * @throws ClassNotFoundException is thrown if a serialized value could not be loaded
+     */
+    public DefaultExchangeHolder unmarshal(CamelContext camelContext, InputStream in)
+            throws IOException, ClassNotFoundException {
+        return unmarshal(camelContext, in, deserializationFilter);
+    }
+
+    /**
+     * Decodes the data from the stream into a holder
+     *
+     * @param  camelContext           the camel context (used for class loading of serialized values)
+     * @param  in                     the stream with the encoded data (is not closed)
+     * @param  deserializationFilter  the deserialization filter to use for values stored using Java serialization
+     * @return                        the holder
+     * @throws IOException            is thrown if error decoding, or the data is not encoded with this codec
+     * @throws ClassNotFoundException is thrown if a serialized value could not be loaded
+     */
+    public DefaultExchangeHolder unmarshal(CamelContext camelContext, InputStream in, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        int m1 = in.read();
+        int m2 = in.read();
+        if (m1 != (MAGIC1 & 0xFF) || m2 != (MAGIC2 & 0xFF)) {
+            throw new StreamCorruptedException("Data is not encoded as a binary exchange");
+        }
+        int version = in.read();
+        if (version < 1 || version > VERSION) {
+            throw new StreamCorruptedException("Unsupported binary exchange version: " + version);
+        }
+        int flags = in.read();
+        if (flags < 0) {
+            throw new EOFException();
+        }
+        boolean compressed = (flags & FLAG_COMPRESSED) != 0;
+        Inflater inflater = compressed ? new Inflater() : null;
+        try {
+            InputStream source = compressed ? new InflaterInputStream(in, inflater) : in;
+            return readHolder(camelContext, new DataInputStream(source), deserializationFilter);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    private DefaultExchangeHolder readHolder(CamelContext camelContext, DataInputStream dis, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        ClassLoader classLoader = camelContext != null ? camelContext.getApplicationContextClassLoader() : null;
+        String exchangeId = readString(dis);
+        Object inBody = readValue(dis, classLoader, deserializationFilter);
+        Object outBody = readValue(dis, classLoader, deserializationFilter);
+        Map<String, Object> inHeaders = readMap(dis, classLoader, deserializationFilter);
+        Map<String, Object> outHeaders = readMap(dis, classLoader, deserializationFilter);
+        Map<String, Object> properties = readMap(dis, classLoader, deserializationFilter);
+        Map<String, Object> variables = readMap(dis, classLoader, deserializationFilter);
+        Object exception = readValue(dis, classLoader, deserializationFilter);
+        if (exception != null && !(exception instanceof Exception)) {
+            throw new StreamCorruptedException("Invalid exception type: " + exception.getClass().getName());
+        }
+        return DefaultExchangeHolder.create(exchangeId, inBody, outBody, inHeaders, outHeaders, properties, variables,
+                (Exception) exception);
+    }
+
+    private void writeMap(DataOutputStream dos, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            writeVarInt(dos, 0);
+            return;
+        }
+        // size is written +1 so 0 can represent null
+        writeVarInt(dos, map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(dos, entry.getKey());
+            writeValue(dos, entry.getValue());
+        }
+    }
+
+    private Map<String, Object> readMap(DataInputStream dis, ClassLoader classLoader, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        int size = readVarInt(dis) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>(initialCapacity(size));
+        for (int i = 0; i < size; i++) {
+            String key = readString(dis);
+            map.put(key, readValue(dis, classLoader, deserializationFilter));
+        }
+        return map;
+    }
+
+    private void writeValue(DataOutputStream dos, Object value) throws IOException {
+        if (value == null) {
+            dos.writeByte(TYPE_NULL);
+        } else if (value instanceof String s) {
+            dos.writeByte(TYPE_STRING);
+            writeString(dos, s);
+        } else if (value instanceof byte[] b) {
+            dos.writeByte(TYPE_BYTES);
+            writeVarInt(dos, b.length);
+            dos.write(b);
+        } else if (value instanceof Integer i) {
+            dos.writeByte(TYPE_INT);
+            dos.writeInt(i);
+        } else if (value instanceof Long l) {
+            dos.writeByte(TYPE_LONG);
+            dos.writeLong(l);
+        } else if (value instanceof Boolean b) {
+            dos.writeByte(TYPE_BOOLEAN);
+            dos.writeBoolean(b);
+        } else if (value instanceof Short s) {
+            dos.writeByte(TYPE_SHORT);
+            dos.writeShort(s);
+        } else if (value instanceof Byte b) {
+            dos.writeByte(TYPE_BYTE);
+            dos.writeByte(b);
+        } else if (value instanceof Double d) {
+            dos.writeByte(TYPE_DOUBLE);
+            dos.writeDouble(d);
+        } else if (value instanceof Float f) {
+            dos.writeByte(TYPE_FLOAT);
+            dos.writeFloat(f);
+        } else if (value instanceof Character c) {
+            dos.writeByte(TYPE_CHAR);
+            dos.writeChar(c);
+        } else if (value.getClass() == BigInteger.class) {
+            dos.writeByte(TYPE_BIG_INTEGER);
+            byte[] b = ((BigInteger) value).toByteArray();
+            writeVarInt(dos, b.length);
+            dos.write(b);
+        } else if (value.getClass() == BigDecimal.class) {
+            BigDecimal bd = (BigDecimal) value;
+            dos.writeByte(TYPE_BIG_DECIMAL);
+            dos.writeInt(bd.scale());
+            byte[] b = bd.unscaledValue().toByteArray();
+            writeVarInt(dos, b.length);
+            dos.write(b);
+        } else if (value.getClass() == Date.class) {
+            dos.writeByte(TYPE_DATE);
+            dos.writeLong(((Date) value).getTime());
+        } else if (isPlainMap(value)) {
+            dos.writeByte(TYPE_MAP);
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarInt(dos, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(dos, entry.getKey());
+                writeValue(dos, entry.getValue());
+            }
+        } else if (value.getClass() == ArrayList.class) {
+            dos.writeByte(TYPE_LIST);
+            List<?> list = (List<?>) value;
+            writeVarInt(dos, list.size());
+            for (Object element : list) {
+                writeValue(dos, element);
+            }
+        } else {
+            // fallback to java serialization for unknown types
+            dos.writeByte(TYPE_SERIALIZED);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            writeVarInt(dos, bos.size());
+            bos.writeTo(dos);
+        }
+    }
+
+    private Object readValue(DataInputStream dis, ClassLoader classLoader, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        byte type = dis.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(dis);
+            case TYPE_BYTES:
+                return readBytes(dis);
+            case TYPE_INT:
+                return dis.readInt();
+            case TYPE_LONG:
+                return dis.readLong();
+            case TYPE_SHORT:
+                return dis.readShort();
+            case TYPE_BYTE:
+                return dis.readByte();
+            case TYPE_DOUBLE:
+                return dis.readDouble();
+            case TYPE_FLOAT:
+                return dis.readFloat();
+            case TYPE_BOOLEAN:
+                return dis.readBoolean();
+            case TYPE_CHAR:
+                return dis.readChar();
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readBytes(dis));
+            case TYPE_BIG_DECIMAL: {
+                int scale = dis.readInt();
+                return new BigDecimal(new BigInteger(readBytes(dis)), scale);
+            }
+            case TYPE_DATE:
+                return new Date(dis.readLong());
+            case TYPE_MAP: {
+                int size = readVarInt(dis);
+                Map<Object, Object> map = new LinkedHashMap<>(initialCapacity(size));
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue(dis, classLoader, deserializationFilter);
+                    map.put(key, readValue(dis, classLoader, deserializationFilter));
+                }
+                return map;
+            }
+            case TYPE_LIST: {
+                int size = readVarInt(dis);
+                List<Object> list = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(dis, classLoader, deserializationFilter));
+                }
+                return list;
+            }
+            case TYPE_SERIALIZED:
+                return deserialize(readBytes(dis), classLoader, deserializationFilter);
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    private static Object deserialize(byte[] data, ClassLoader classLoader, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ClassLoadingAwareObjectInputStream(classLoader, new ByteArrayInputStream(data))) {
+            if (deserializationFilter != null) {
+                ois.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+            }
+            return ois.readObject();
+        }
+    }
+
+    private static boolean isPlainMap(Object value) {
+        Class<?> type = value.getClass();
+        return type == LinkedHashMap.class || type == HashMap.class;
+    }
+
+    private static void writeString(DataOutputStream dos, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(dos, 0);
+            return;
+        }
+        byte[] b = value.getBytes(StandardCharsets.UTF_8);
+        // length is written +1 so 0 can represent null
+        writeVarInt(dos, b.length + 1);
+        dos.write(b);
+    }
+
+    private static String readString(DataInputStream dis) throws IOException {
+        int len = readVarInt(dis) - 1;
+        if (len < 0) {
+            return null;
+        }
+        return new String(readFully(dis, len), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream dis) throws IOException {
+        return readFully(dis, readVarInt(dis));
+    }
+
+    private static byte[] readFully(DataInputStream dis, int len) throws IOException {
+        // the length is read from the stored data, so the array grows while the data is read (instead of allocating
+        // the length up front), so corrupt data cannot cause an OutOfMemoryError
+        byte[] b = dis.readNBytes(len);
+        if (b.length != len) {
+            throw new EOFException("Expected " + len + " bytes but only " + b.length + " bytes are available");
+        }
+        return b;
+    }
+
+    private static int initialCapacity(int size) {
+        // the size is read from the stored data, so the initial capacity is capped
+        return Math.max(16, (int) (Math.min(size, MAX_INITIAL_CAPACITY) / 0.75f) + 1);
+    }
+
+    private static void writeVarInt(DataOutputStream dos, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            dos.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dos.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream dis) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = dis.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new StreamCorruptedException("Invalid length: " + value);
+                }
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length integer");
+    }
+}
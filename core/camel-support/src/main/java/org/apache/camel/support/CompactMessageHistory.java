@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Message;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.NamedNode;
+
+/**
+ * A compact {@link MessageHistory} of an exchange, which is stored as primitive arrays of node indexes and timestamps
+ * instead of a {@link MessageHistory} object per node.
+ * <p/>
+ * The nodes are referenced by their index in a shared {@link NodeTable}. This is a read-only {@link List} of
+ * {@link MessageHistory} for the existing users of the message history, where each element is a view which is created
+ * when accessed.
+ */
+public final class CompactMessageHistory extends AbstractList<MessageHistory> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final NodeTable nodes;
+    // the time when this message history was created, to compute the time when the nodes started processing
+    private final long createdMillis;
+    private final long createdNanos;
+    // the node index shifted left by one, and the lowest bit set if the node accepts the debugger
+    private int[] entries;
+    // the nano time when the node started processing
+    private long[] started;
+    // the elapsed nano time when the node is done processing, or -1 while processing
+    private long[] elapsed;
+    private int size;
+
+    public CompactMessageHistory(NodeTable nodes) {
+        this(nodes, INITIAL_CAPACITY, System.currentTimeMillis(), System.nanoTime());
+    }
+
+    private CompactMessageHistory(NodeTable nodes, int capacity, long createdMillis, long createdNanos) {
+        this.nodes = nodes;
+        this.createdMillis = createdMillis;
+        this.createdNanos = createdNanos;
+        this.entries = new int[capacity];
+        this.started = new long[capacity];
+        this.elapsed = new long[capacity];
+    }
+
+    /**
+     * Records that the node starts processing the exchange.
+     *
+     * @param index          the index of the node in the node table
+     * @param acceptDebugger whether the node accepts the debugger
+     */
+    public synchronized void nodeProcessingStarted(int index, boolean acceptDebugger) {
+        if (size == entries.length) {
+            int capacity = size * 2;
+            entries = Arrays.copyOf(entries, capacity);
+            started = Arrays.copyOf(started, capacity);
+            elapsed = Arrays.copyOf(elapsed, capacity);
+        }
+        entries[size] = index << 1 | (acceptDebugger ? 1 : 0);
+        started[size] = System.nanoTime();
+        elapsed[size] = -1;
+        size++;
+    }
+
+    /**
+     * Records that the node is done processing the exchange.
+     *
+     * @param node the node
+     */
+    public synchronized void nodeProcessingDone(NamedNode node) {
+        // the latest node still processing is done first (such as when a route calls itself)
+        for (int i = size - 1; i >= 0; i--) {
+            if (elapsed[i] == -1 && nodes.getNode(entries[i] >> 1) == node) {
+                elapsed[i] = System.nanoTime() - started[i];
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized MessageHistory get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new Entry(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Creates a copy of this message history, which the copy of the exchange continues.
+     */
+    public synchronized CompactMessageHistory copy() {
+        CompactMessageHistory answer
+                = new CompactMessageHistory(nodes, Math.max(size, INITIAL_CAPACITY), createdMillis, createdNanos);
+        System.arraycopy(entries, 0, answer.entries, 0, size);
+        System.arraycopy(started, 0, answer.started, 0, size);
+        System.arraycopy(elapsed, 0, answer.elapsed, 0, size);
+        answer.size = size;
+        return answer;
+    }
+
+    /**
+     * Creates a copy of the given message history (stored on an exchange), for the copy of the exchange.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<MessageHistory> copyOf(Object history) {
+        if (history instanceof CompactMessageHistory compact) {
+            return compact.copy();
+        }
+        // use thread-safe list as message history may be accessed concurrently
+        return new CopyOnWriteArrayList<>((List<MessageHistory>) history);
+    }
+
+    private synchronized long elapsedNanos(int index) {
+        return elapsed[index];
+    }
+
+    private synchronized int entry(int index) {
+        return entries[index];
+    }
+
+    private synchronized void acceptDebugger(int index, boolean acceptDebugger) {
+        entries[index] = entries[index] & ~1 | (acceptDebugger ? 1 : 0);
+    }
+
+    private synchronized void done(int index) {
+        if (elapsed[index] == -1) {
+            elapsed[index] = System.nanoTime() - started[index];
+        }
+    }
+
+    /**
+     * The message history of a node, which is a view of the compact message history.
+     */
+    private final class Entry implements MessageHistory {
+
+        private final int index;
+        private final int node;
+        private final long time;
+
+        private Entry(int index) {
+            this.index = index;
+            this.node = entries[index] >> 1;
+            this.time = createdMillis + TimeUnit.NANOSECONDS.toMillis(started[index] - createdNanos);
+        }
+
+        @Override
+        public String getRouteId() {
+            return nodes.getRouteId(node);
+        }
+
+        @Override
+        public NamedNode getNode() {
+            return nodes.getNode(node);
+        }
+
+        @Override
+        public long getTime() {
+            return time;
+        }
+
+        @Override
+        public long getElapsed() {
+            long nanos = elapsedNanos(index);
+            return nanos == -1 ? 0 : TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        @Override
+        public void nodeProcessingDone() {
+            done(index);
+        }
+
+        @Override
+        public Message getMessage() {
+            // the message is not copied in the compact message history
+            return null;
+        }
+
+        @Override
+        public void setAcceptDebugger(boolean acceptDebugger) {
+            acceptDebugger(index, acceptDebugger);
+        }
+
+        @Override
+        public boolean isAcceptDebugger() {
+            return (entry(index) & 1) == 1;
+        }
+
+        @Override
+        public String toString() {
+            NamedNode n = getNode();
+            return "CompactMessageHistory[routeId=" + getRouteId() + ", node=" + (n != null ? n.getId() : null) + ']';
+        }
+    }
+
+    /**
+     * The table of the nodes referenced by the compact message histories, where each node (of a route) has an index.
+     * <p/>
+     * The nodes of a route are removed from the table when the route is removed. Their indexes are never reused, as the
+     * message histories of the exchanges still in flight may refer to them, so a removed node is replaced by a snapshot
+     * of its id, label and location which does not refer to the route.
+     */
+    public static final class NodeTable {
+
+        private final Map<NamedNode, Map<String, Integer>> indexes = new ConcurrentHashMap<>();
+        private volatile NamedNode[] nodes = new NamedNode[64];
+        private volatile String[] routeIds = new String[64];
+        private int size;
+        private int removed;
+
+        /**
+         * Gets the index of the node in the given route, which is added to the table if needed.
+         *
+         * @param  routeId the route id (optional)
+         * @param  node    the node
+         * @return         the index of the node
+         */
+        public int intern(String routeId, NamedNode node) {
+            String key = routeId != null ? routeId : "";
+            Integer index = indexes.getOrDefault(node, Map.of()).get(key);
+            if (index != null) {
+                return index;
+            }
+            synchronized (this) {
+                // the index is published by the map, after the node is added to the arrays
+                return indexes.computeIfAbsent(node, n -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(key, k -> add(routeId, node));
+            }
+        }
+
+        private int add(String routeId, NamedNode node) {
+            if (size == nodes.length) {
+                routeIds = Arrays.copyOf(routeIds, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            routeIds[size] = routeId;
+            nodes[size] = node;
+            return size++;
+        }
+
+        /**
+         * Removes the nodes of the given route from the table, such as when the route is removed.
+         *
+         * @param routeId the route id
+         */
+        public synchronized void remove(String routeId) {
+            String key = routeId != null ? routeId : "";
+            for (int i = 0; i < size; i++) {
+                NamedNode node = nodes[i];
+                if (!(node instanceof RemovedNode) && Objects.equals(routeId, routeIds[i])) {
+                    Map<String, Integer> map = indexes.get(node);
+                    if (map != null) {
+                        map.remove(key);
+                        if (map.isEmpty()) {
+                            indexes.remove(node);
+                        }
+                    }
+                    nodes[i] = new RemovedNode(node);
+                    removed++;
+                }
+            }
+        }
+
+        /**
+         * Gets the node with the given index
+         */
+        public NamedNode getNode(int index) {
+            return nodes[index];
+        }
+
+        /**
+         * Gets the route id of the node with the given index
+         */
+        public String getRouteId(int index) {
+            return routeIds[index];
+        }
+
+        /**
+         * The number of nodes in the table
+         */
+        public synchronized int size() {
+            return size - removed;
+        }
+    }
+
+    /**
+     * A snapshot of a node of a removed route.
+     */
+    private static final class RemovedNode implements NamedNode {
+
+        private final String id;
+        private final String nodePrefixId;
+        private final String shortName;
+        private final String label;
+        private final String descriptionText;
+        private final int lineNumber;
+        private final String location;
+
+        private RemovedNode(NamedNode node) {
+            this.id = node.getId();
+            this.nodePrefixId = node.getNodePrefixId();
+            this.shortName = node.getShortName();
+            this.label = node.getLabel();
+            this.descriptionText = node.getDescriptionText();
+            this.lineNumber = node.getLineNumber();
+            this.location = node.getLocation();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getNodePrefixId() {
+            return nodePrefixId;
+        }
+
+        @Override
+        public String getShortName() {
+            return shortName;
+        }
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+
+        @Override
+        public String getDescriptionText() {
+            return descriptionText;
+        }
+
+        @Override
+        public NamedNode getParent() {
+            return null;
+        }
+
+        @Override
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        @Override
+        public void setLineNumber(int lineNumber) {
+            // the snapshot is read-only
+        }
+
+        @Override
+        public String getLocation() {
+            return location;
+        }
+
+        @Override
+        public void setLocation(String location) {
+            // the snapshot is read-only
+        }
+
+        @Override
+        public String toString() {
+            return shortName + "[" + id + "]";
+        }
+    }
+}
@@ -226,6 +226,56 @@ public class DefaultExchangeHolder implements Serializable {
         payload.variables.put(key, variable);
     }
 
+    String getExchangeId() {
+        return exchangeId;
+    }
+
+    Object getInBody() {
+        return inBody;
+    }
+
+    Object getOutBody() {
+        return outBody;
+    }
+
+    Map<String, Object> getInHeaders() {
+        return inHeaders;
+    }
+
+    Map<String, Object> getOutHeaders() {
+        return outHeaders;
+    }
+
+    Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    Exception getException() {
+        return exception;
+    }
+
+    /**
+     * Creates a holder from already validated values, used by {@link BinaryExchangeCodec} when decoding.
+     */
+    static DefaultExchangeHolder create(
+            String exchangeId, Object inBody, Object outBody, Map<String, Object> inHeaders, Map<String, Object> outHeaders,
+            Map<String, Object> properties, Map<String, Object> variables, Exception exception) {
+        DefaultExchangeHolder payload = new DefaultExchangeHolder();
+        payload.exchangeId = exchangeId;
+        payload.inBody = inBody;
+        payload.outBody = outBody;
+        payload.inHeaders = inHeaders;
+        payload.outHeaders = outHeaders;
+        payload.properties = properties;
+        payload.variables = variables;
+        payload.exception = exception;
+        return payload;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("DefaultExchangeHolder[exchangeId=").append(exchangeId);
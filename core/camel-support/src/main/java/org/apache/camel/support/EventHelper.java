@@ -155,13 +155,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ServiceStopFailure);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -194,13 +194,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ServiceStartupFailure);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -233,13 +233,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStarting);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -272,13 +272,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteRestarting);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -312,13 +312,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteRestartingFailure);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -351,13 +351,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStarted);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -390,13 +390,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStopping);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -429,13 +429,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStopped);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -468,13 +468,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteAdded);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -507,13 +507,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteRemoved);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -546,13 +546,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteReloaded);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -585,13 +585,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextReloading);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -624,13 +624,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextReloaded);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -663,13 +663,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextReloadFailure);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -702,13 +702,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeCreated);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -748,13 +748,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeCompleted);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -791,13 +791,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeFailed);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -837,13 +837,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeFailureHandling);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -883,13 +883,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeFailureHandled);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -926,13 +926,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeRedelivery);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -970,13 +970,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeSending);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1013,13 +1013,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeSent);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1056,13 +1056,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextSuspending);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1095,13 +1095,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextSuspended);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1134,13 +1134,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextResuming);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1173,13 +1173,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextResumed);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1212,13 +1212,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextResumeFailure);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1251,13 +1251,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStarting);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1290,13 +1290,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStarted);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1329,13 +1329,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStopping);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1368,13 +1368,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStopped);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1407,13 +1407,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.StepStarted);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1446,13 +1446,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.StepCompleted);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1485,13 +1485,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.StepFailed);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1524,13 +1524,13 @@ public final class EventHelper {
             return false;
         }
 
-        EventFactory factory = management.getEventFactory();
-        if (factory == null) {
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeAsyncProcessingStarted);
+        if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
-        if (notifiers == null || notifiers.isEmpty()) {
+        EventFactory factory = management.getEventFactory();
+        if (factory == null) {
             return false;
         }
 
@@ -1561,6 +1561,78 @@ public final class EventHelper {
         return answer;
     }
 
+    /**
+     * Whether the event notifier ignores events of the given type, by its ignore options (such as
+     * {@link EventNotifier#isIgnoreExchangeEvents()}). Whether the notifier is disabled is not taken into account.
+     * <p/>
+     * This is used for building the tables of notifiers for each type of event, so the notifiers which are not
+     * interested in an event do not need to be checked while routing.
+     *
+     * @param  notifier the event notifier
+     * @param  type     the type of event
+     * @return          <tt>true</tt> if the notifier ignores events of this type
+     */
+    public static boolean isIgnored(EventNotifier notifier, CamelEvent.Type type) {
+        switch (type) {
+            case CamelContextInitializing:
+            case CamelContextInitialized:
+                return notifier.isIgnoreCamelContextEvents() || notifier.isIgnoreCamelContextInitEvents();
+            case CamelContextResumed:
+            case CamelContextResumeFailure:
+            case CamelContextResuming:
+            case CamelContextStarted:
+            case CamelContextStarting:
+            case CamelContextStartupFailure:
+            case CamelContextStopFailure:
+            case CamelContextStopped:
+            case CamelContextStopping:
+            case CamelContextSuspended:
+            case CamelContextSuspending:
+            case RoutesStarting:
+            case RoutesStarted:
+            case RoutesStopping:
+            case RoutesStopped:
+                return notifier.isIgnoreCamelContextEvents();
+            case CamelContextReloading:
+            case CamelContextReloaded:
+            case CamelContextReloadFailure:
+            case RouteAdded:
+            case RouteRemoved:
+            case RouteReloaded:
+            case RouteStarting:
+            case RouteStarted:
+            case RouteStopping:
+            case RouteStopped:
+            case RouteRestarting:
+            case RouteRestartingFailure:
+                return notifier.isIgnoreRouteEvents();
+            case ServiceStartupFailure:
+            case ServiceStopFailure:
+                return notifier.isIgnoreServiceEvents();
+            case ExchangeCreated:
+                return notifier.isIgnoreExchangeEvents() || notifier.isIgnoreExchangeCreatedEvent();
+            case ExchangeCompleted:
+                return notifier.isIgnoreExchangeEvents() || notifier.isIgnoreExchangeCompletedEvent();
+            case ExchangeFailed:
+            case ExchangeFailureHandling:
+            case ExchangeFailureHandled:
+            case ExchangeRedelivery:
+                return notifier.isIgnoreExchangeEvents() || notifier.isIgnoreExchangeFailedEvents();
+            case ExchangeSending:
+                return notifier.isIgnoreExchangeEvents() || notifier.isIgnoreExchangeSendingEvents();
+            case ExchangeSent:
+                return notifier.isIgnoreExchangeEvents() || notifier.isIgnoreExchangeSentEvents();
+            case ExchangeAsyncProcessingStarted:
+                return notifier.isIgnoreExchangeEvents() || notifier.isIgnoreExchangeAsyncProcessingStartedEvents();
+            case StepStarted:
+            case StepCompleted:
+            case StepFailed:
+                return notifier.isIgnoreStepEvents();
+            default:
+                return false;
+        }
+    }
+
     private static boolean isDisabledOrIgnored(EventNotifier notifier) {
         return notifier.isDisabled() || notifier.isIgnoreExchangeEvents();
     }
@@ -63,9 +63,16 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
         return false;
     }
 
+    @Override
+    public void setIgnoreCamelContextInitEvents(boolean ignoreCamelContextInitEvents) {
+        this.ignoreCamelContextInitEvents = ignoreCamelContextInitEvents;
+        updateStartedEventNotifiers();
+    }
+
     @Override
     public void setIgnoreCamelContextEvents(boolean ignoreCamelContextEvents) {
         this.ignoreCamelContextEvents = ignoreCamelContextEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -76,6 +83,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreRouteEvents(boolean ignoreRouteEvents) {
         this.ignoreRouteEvents = ignoreRouteEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -86,6 +94,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreServiceEvents(boolean ignoreServiceEvents) {
         this.ignoreServiceEvents = ignoreServiceEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -96,6 +105,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeEvents(boolean ignoreExchangeEvents) {
         this.ignoreExchangeEvents = ignoreExchangeEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -106,6 +116,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeCreatedEvent(boolean ignoreExchangeCreatedEvent) {
         this.ignoreExchangeCreatedEvent = ignoreExchangeCreatedEvent;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -116,6 +127,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeCompletedEvent(boolean ignoreExchangeCompletedEvent) {
         this.ignoreExchangeCompletedEvent = ignoreExchangeCompletedEvent;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -126,6 +138,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeFailedEvents(boolean ignoreExchangeFailedEvents) {
         this.ignoreExchangeFailedEvents = ignoreExchangeFailedEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -136,6 +149,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeRedeliveryEvents(boolean ignoreExchangeRedeliveryEvents) {
         this.ignoreExchangeRedeliveryEvents = ignoreExchangeRedeliveryEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -146,6 +160,7 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeSentEvents(boolean ignoreExchangeSentEvents) {
         this.ignoreExchangeSentEvents = ignoreExchangeSentEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -156,6 +171,13 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreExchangeSendingEvents(boolean ignoreExchangeSendingEvents) {
         this.ignoreExchangeSendingEvents = ignoreExchangeSendingEvents;
+        updateStartedEventNotifiers();
+    }
+
+    @Override
+    public void setIgnoreExchangeAsyncProcessingStartedEvents(boolean ignoreExchangeAsyncProcessingStartedEvents) {
+        this.ignoreExchangeAsyncProcessingStartedEvents = ignoreExchangeAsyncProcessingStartedEvents;
+        updateStartedEventNotifiers();
     }
 
     @Override
@@ -166,5 +188,17 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
     @Override
     public void setIgnoreStepEvents(boolean ignoreStepEvents) {
         this.ignoreStepEvents = ignoreStepEvents;
+        updateStartedEventNotifiers();
+    }
+
+    /**
+     * The management strategy only dispatches events to the notifiers which do not ignore them, so it must be updated
+     * when the ignore options are changed while running.
+     */
+    private void updateStartedEventNotifiers() {
+        CamelContext context = camelContext;
+        if (context != null && context.getManagementStrategy() != null) {
+            context.getManagementStrategy().updateStartedEventNotifiers();
+        }
     }
 }
@@ -25,9 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -41,7 +39,6 @@ import org.apache.camel.ExchangeExtension;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
-import org.apache.camel.MessageHistory;
 import org.apache.camel.NoSuchBeanException;
 import org.apache.camel.NoSuchEndpointException;
 import org.apache.camel.NoSuchHeaderException;
@@ -833,8 +830,7 @@ public final class ExchangeHelper {
     private static void setMessageHistory(Exchange target, Exchange source) {
         final Object history = source.getProperty(ExchangePropertyKey.MESSAGE_HISTORY);
         if (history != null) {
-            // use thread-safe list as message history may be accessed concurrently
-            target.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, new CopyOnWriteArrayList<>((List<MessageHistory>) history));
+            target.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, CompactMessageHistory.copyOf(history));
         }
     }
 
@@ -37,6 +37,12 @@ public abstract class LRUCacheFactory {
      */
     public static final String FACTORY = "lru-cache-factory";
 
+    /**
+     * JVM system property to select the built-in cache factory to use, either <tt>default</tt> or <tt>tinylfu</tt>,
+     * instead of auto discovery of the cache factory via classpath.
+     */
+    public static final String FACTORY_TYPE = "camel.lruCacheFactory";
+
     private static final Logger LOG = LoggerFactory.getLogger(LRUCacheFactory.class);
 
     private static final Lock LOCK = new ReentrantLock();
@@ -78,6 +84,14 @@ public abstract class LRUCacheFactory {
 
     private static LRUCacheFactory createLRUCacheFactory() {
         LOG.trace("createLRUCacheFactory");
+        String type = System.getProperty(FACTORY_TYPE);
+        if ("tinylfu".equalsIgnoreCase(type)) {
+            LOG.info("Using TinyLFUCacheFactory as configured by system property: {}", FACTORY_TYPE);
+            return new TinyLFUCacheFactory();
+        } else if ("default".equalsIgnoreCase(type)) {
+            LOG.debug("Creating DefaultLRUCacheFactory as configured by system property: {}", FACTORY_TYPE);
+            return new DefaultLRUCacheFactory();
+        }
         try {
             ClassLoader classLoader = LRUCacheFactory.class.getClassLoader();
             URL url = classLoader.getResource("META-INF/services/org/apache/camel/" + FACTORY);
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.SafeCopyProperty;
+import org.apache.camel.StreamCache;
+import org.apache.camel.util.function.ThrowingFunction;
+
+/**
+ * A cache of the parsed documents of the payload of an exchange, such as the message body parsed as JSON or XML, which
+ * the languages (such as jsonpath, xpath and jq) share, so evaluating many expressions on the same payload (such as the
+ * predicates of a content based router) parses the payload only once.
+ * <p/>
+ * The documents are cached per kind of document (such as a DOM or a JSON tree), and for the payload which they were
+ * parsed from. A document is only used as long as the payload is the same (identical) object, so the documents are
+ * invalidated when the message body changes, and removed the next time the cache is used with another payload. Only
+ * payloads which cannot change, such as a String or stream cache, are cached.
+ * <p/>
+ * The documents are shared, so the languages must only use a cached document when the result of the expression does not
+ * refer to the document (such as predicates, or expressions with a string, number or boolean result), as the caller
+ * could otherwise change the document.
+ * <p/>
+ * The cache is stored on the exchange, and is not copied to copies of the exchange (such as in the multicast EIP).
+ */
+public final class ParsedDocumentCache implements SafeCopyProperty {
+
+    private static final String KEY = "CamelParsedDocumentCache";
+
+    private final Map<Object, Entry> documents = new HashMap<>(4);
+
+    private record Entry(Object payload, Object document) {
+    }
+
+    /**
+     * Gets the document parsed from the payload, which is parsed and cached if the document is not already cached for
+     * the payload.
+     *
+     * @param  exchange  the exchange
+     * @param  kind      the kind of document (such as the class of the document), which identifies the parser
+     * @param  payload   the payload to parse, such as the message body
+     * @param  parser    the parser which parses the payload into the document
+     * @return           the document
+     * @throws Exception is thrown if error parsing the payload
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrParse(
+            Exchange exchange, Object kind, Object payload, ThrowingFunction<Object, T, Exception> parser)
+            throws Exception {
+        ParsedDocumentCache cache = exchange.getExchangeExtension().getSafeCopyProperty(KEY, ParsedDocumentCache.class);
+        if (!isCacheable(payload)) {
+            if (cache != null) {
+                cache.removeStale(payload);
+            }
+            return parser.apply(payload);
+        }
+        if (cache == null) {
+            cache = new ParsedDocumentCache();
+            exchange.getExchangeExtension().setSafeCopyProperty(KEY, cache);
+        }
+        Object answer = cache.get(kind, payload);
+        if (answer == null) {
+            answer = parser.apply(payload);
+            if (answer != null) {
+                cache.put(kind, payload, answer);
+            }
+        }
+        return (T) answer;
+    }
+
+    /**
+     * Gets the document parsed from the payload, if the document is cached for the payload.
+     *
+     * @param  exchange the exchange
+     * @param  kind     the kind of document (such as the class of the document), which identifies the parser
+     * @param  payload  the payload which the document was parsed from, such as the message body
+     * @return          the document, or <tt>null</tt> if no document is cached for the payload
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Exchange exchange, Object kind, Object payload) {
+        ParsedDocumentCache cache = exchange.getExchangeExtension().getSafeCopyProperty(KEY, ParsedDocumentCache.class);
+        if (cache == null) {
+            return null;
+        } else if (!isCacheable(payload)) {
+            cache.removeStale(payload);
+            return null;
+        }
+        return (T) cache.get(kind, payload);
+    }
+
+    /**
+     * Whether documents parsed from the given payload can be cached, which requires that the payload cannot change
+     * without being replaced by another object. A byte array is not cached, as its content can be changed.
+     */
+    public static boolean isCacheable(Object payload) {
+        return payload instanceof String || payload instanceof StreamCache || payload instanceof InputStream;
+    }
+
+    synchronized Object get(Object kind, Object payload) {
+        removeStale(payload);
+        Entry entry = documents.get(kind);
+        return entry != null ? entry.document : null;
+    }
+
+    synchronized void put(Object kind, Object payload, Object document) {
+        removeStale(payload);
+        documents.put(kind, new Entry(payload, document));
+    }
+
+    /**
+     * Removes the documents of another payload, which are stale as the payload has changed.
+     */
+    synchronized void removeStale(Object payload) {
+        if (!documents.isEmpty()) {
+            documents.values().removeIf(entry -> entry.payload != payload);
+        }
+    }
+
+    @Override
+    public SafeCopyProperty safeCopy() {
+        // the documents are not thread-safe, so the copy of the exchange parses its own documents
+        return new ParsedDocumentCache();
+    }
+}
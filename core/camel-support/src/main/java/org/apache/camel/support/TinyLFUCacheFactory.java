@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.camel.support.cache.SimpleSoftCache;
+import org.apache.camel.support.cache.SimpleTinyLFUCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link LRUCacheFactory} which uses a frequency aware {@link SimpleTinyLFUCache} based implementation, which has
+ * better hit rates than {@link DefaultLRUCacheFactory} when the keys are accessed with a skewed distribution mixed with
+ * keys used only once, such as dynamic endpoint uris.
+ * <p/>
+ * This factory can be used by setting the JVM system property <tt>camel.lruCacheFactory=tinylfu</tt>, or by calling
+ * {@link LRUCacheFactory#setLRUCacheFactory(LRUCacheFactory)} before starting Camel.
+ */
+public class TinyLFUCacheFactory extends DefaultLRUCacheFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TinyLFUCacheFactory.class);
+
+    @Override
+    public <K, V> Map<K, V> createLRUCache(int maximumCacheSize, Consumer<V> onEvict) {
+        LOG.trace("Creating TinyLFUCache with initialCapacity: {}, maximumCacheSize: {}, with onEvict", 16,
+                maximumCacheSize);
+        return new SimpleTinyLFUCache<>(16, maximumCacheSize, onEvict);
+    }
+
+    @Override
+    public <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
+        LOG.trace("Creating TinyLFUCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}",
+                initialCapacity, maximumCacheSize, stopOnEviction);
+        return new SimpleTinyLFUCache<K, V>(
+                initialCapacity, maximumCacheSize,
+                stopOnEviction ? TinyLFUCacheFactory.this::doStop : TinyLFUCacheFactory.this::doNothing);
+    }
+
+    @Override
+    public <K, V> Map<K, V> createLRUSoftCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
+        LOG.trace("Creating TinyLFUSoftCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}",
+                initialCapacity, maximumCacheSize, stopOnEviction);
+        return new SimpleSoftCache<>(
+                new SimpleTinyLFUCache<K, SoftReference<V>>(
+                        initialCapacity, maximumCacheSize,
+                        asSoftReferenceConsumer(stopOnEviction
+                                ? TinyLFUCacheFactory.this::doStop : TinyLFUCacheFactory.this::doNothing)));
+    }
+
+    @Override
+    @Deprecated(since = "4.2.0")
+    public <K, V> Map<K, V> createLRUWeakCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
+        LOG.trace("Creating TinyLFUWeakCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}",
+                initialCapacity, maximumCacheSize, stopOnEviction);
+        return new SimpleSoftCache<>(
+                new SimpleTinyLFUCache<K, SoftReference<V>>(
+                        initialCapacity, maximumCacheSize,
+                        asSoftReferenceConsumer(stopOnEviction
+                                ? TinyLFUCacheFactory.this::doStop : TinyLFUCacheFactory.this::doNothing)));
+    }
+
+    @Override
+    public String toString() {
+        return "TinyLFUCacheFactory";
+    }
+}
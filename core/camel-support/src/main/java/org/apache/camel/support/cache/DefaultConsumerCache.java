@@ -220,6 +220,26 @@ public class DefaultConsumerCache extends ServiceSupport implements ConsumerCach
         }
     }
 
+    @Override
+    public long getHits() {
+        return consumers.getHits();
+    }
+
+    @Override
+    public long getMisses() {
+        return consumers.getMisses();
+    }
+
+    @Override
+    public long getEvicted() {
+        return consumers.getEvicted();
+    }
+
+    @Override
+    public void resetStatistics() {
+        consumers.resetStatistics();
+    }
+
     @Override
     public void cleanUp() {
         consumers.cleanUp();
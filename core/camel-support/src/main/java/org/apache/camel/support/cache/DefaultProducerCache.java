@@ -391,6 +391,28 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         }
     }
 
+    @Override
+    public long getHits() {
+        return producers != null ? producers.getHits() : 0;
+    }
+
+    @Override
+    public long getMisses() {
+        return producers != null ? producers.getMisses() : 0;
+    }
+
+    @Override
+    public long getEvicted() {
+        return producers != null ? producers.getEvicted() : 0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        if (producers != null) {
+            producers.resetStatistics();
+        }
+    }
+
     @Override
     public void cleanUp() {
         if (producers != null) {
@@ -24,6 +24,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -54,6 +55,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
     private final int capacity;
     private final Map<S, S> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -84,6 +88,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * the same time its being evicted.
      */
     protected void onEvict(S s) {
+        evicted.increment();
         Endpoint e = getEndpoint.apply(s);
         Pool<S> p = pool.get(e);
         if (p != null) {
@@ -115,7 +120,11 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
         S s = getOrCreatePool(endpoint).acquire();
         if (s != null && cache != null) {
-            cache.putIfAbsent(s, s);
+            if (cache.putIfAbsent(s, s) != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
         }
         return s;
     }
@@ -154,6 +163,36 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         return pool.values().stream().mapToInt(Pool::size).sum();
     }
 
+    /**
+     * Gets the number of times an acquired producer/consumer was already in the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of times an acquired producer/consumer was not in the cache
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of producers/consumers evicted from the cache
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * Resets the cache statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
     /**
      * Cleanup the pool (removing stale instances that should be evicted)
      */
@@ -0,0 +1,657 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.camel.support.LRUCache;
+
+/**
+ * {@code SimpleTinyLFUCache} is a simple implementation of a frequency aware cache based on the W-TinyLFU policy. The
+ * implementation doesn't accept null keys or values.
+ * <p/>
+ * New entries are added to a small admission window (1% of the capacity) which is evicted in FIFO order. An entry
+ * leaving the window is only admitted into the main region of the cache if it has been used more frequently than the
+ * victim selected from the main region, otherwise the entry itself is evicted. The victim is the least frequently used
+ * entry out of a random sample of the main region, and the frequencies are estimated by a count-min sketch of 4-bit
+ * counters which are halved periodically so the cache adapts to a changing workload. Unlike a pure LRU cache, entries
+ * that are used only once (such as a scan over many different keys) cannot flush the frequently used entries out of the
+ * cache.
+ * <p/>
+ * Reads are lock free, and write operations are serialized using a lock, the callback for evicted entries is called
+ * outside the lock. The mapping function of {@link #computeIfAbsent(Object, Function)} is called at most once per key
+ * and outside the lock, so that creating a value does not block the other callers, however like for a
+ * {@link ConcurrentHashMap} it must not update this cache.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class SimpleTinyLFUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, LRUCache<K, V> {
+
+    /**
+     * The number of entries of the main region to sample when selecting a victim.
+     */
+    static final int SAMPLE_SIZE = 8;
+    /**
+     * The index of a node in the admission window.
+     */
+    private static final int WINDOW = -1;
+    /**
+     * The index of a node removed from the cache.
+     */
+    private static final int REMOVED = -2;
+    /**
+     * The index of a node added by {@link #computeIfAbsent(Object, Function)} which is not yet in the admission window.
+     */
+    private static final int PENDING = -3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final int maximumCacheSize;
+    private final int windowMaximum;
+    private final int mainMaximum;
+    /**
+     * The admission window as a doubly linked list from the oldest to the newest node, guarded by the lock.
+     */
+    private Node<K, V> windowHead;
+    private Node<K, V> windowTail;
+    private int windowSize;
+    /**
+     * The main region, guarded by the lock.
+     */
+    private final Node<K, V>[] main;
+    private int mainSize;
+    private final FrequencySketch sketch;
+    /**
+     * Incremented for every new entry, and recorded by the entries when accessed, so that a hit only writes to the
+     * entry when an entry has been added since its previous access.
+     */
+    private volatile long clock;
+    private final Lock lock = new ReentrantLock();
+    /**
+     * The function to call when an entry is evicted.
+     */
+    private final Consumer<V> evict;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public SimpleTinyLFUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        this.data = new ConcurrentHashMap<>(initialCapacity, SimpleLRUCache.DEFAULT_LOAD_FACTOR);
+        this.maximumCacheSize = maximumCacheSize;
+        this.windowMaximum = maximumCacheSize > 0 ? Math.max(1, maximumCacheSize / 100) : 0;
+        this.mainMaximum = Math.max(0, maximumCacheSize - windowMaximum);
+        this.main = (Node<K, V>[]) new Node[mainMaximum];
+        this.sketch = new FrequencySketch(maximumCacheSize);
+        this.evict = Objects.requireNonNull(evicted);
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        sketch.increment(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        return hit(node);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        V answer = null;
+        V evictedValue = null;
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                answer = node.value;
+                node.value = value;
+                node.lastAccess = clock;
+            } else {
+                evictedValue = insert(new Node<>(key, value));
+            }
+        } finally {
+            lock.unlock();
+        }
+        onEvicted(evictedValue);
+        return answer;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            sketch.increment(key);
+            return hit(node);
+        }
+        V evictedValue;
+        lock.lock();
+        try {
+            sketch.increment(key);
+            node = data.get(key);
+            if (node != null) {
+                return hit(node);
+            }
+            misses.increment();
+            evictedValue = insert(new Node<>(key, value));
+        } finally {
+            lock.unlock();
+        }
+        onEvicted(evictedValue);
+        return null;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            sketch.increment(key);
+            return hit(node);
+        }
+        sketch.increment(key);
+        // create the value outside the lock, the map only blocks the callers of the same key
+        Node<K, V> created = new Node<>(key, null);
+        node = data.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            created.value = value;
+            return created;
+        });
+        if (node == null) {
+            misses.increment();
+            return null;
+        } else if (node != created) {
+            return hit(node);
+        }
+        misses.increment();
+        V evictedValue = null;
+        lock.lock();
+        try {
+            // the entry may have been removed in the meantime
+            if (created.index == PENDING && data.get(key) == created) {
+                evictedValue = link(created);
+            }
+        } finally {
+            lock.unlock();
+        }
+        onEvicted(evictedValue);
+        return created.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            unlink(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null || !Objects.equals(node.value, value)) {
+                return false;
+            }
+            data.remove(key);
+            unlink(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (key == null || oldValue == null || newValue == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null || !Objects.equals(node.value, oldValue)) {
+                return false;
+            }
+            node.value = newValue;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                return null;
+            }
+            V answer = node.value;
+            node.value = value;
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            data.clear();
+            windowHead = null;
+            windowTail = null;
+            windowSize = 0;
+            Arrays.fill(main, 0, mainSize, null);
+            mainSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Node<K, V>> it = data.values().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Node<K, V> node = it.next();
+                        return new SimpleImmutableEntry<>(node.key, node.value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return data.size();
+            }
+        };
+    }
+
+    /**
+     * The maintenance of the cache is done as part of the write operations, so there is nothing to clean up.
+     */
+    @Override
+    public void cleanUp() {
+        // noop
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
+    /**
+     * @return the maximum size of the admission window.
+     */
+    int getWindowMaximum() {
+        return windowMaximum;
+    }
+
+    /**
+     * @return the estimated frequency of the given key.
+     */
+    int frequency(K key) {
+        return sketch.frequency(key);
+    }
+
+    private V hit(Node<K, V> node) {
+        long now = clock;
+        if (node.lastAccess != now) {
+            node.lastAccess = now;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    private void onEvicted(V value) {
+        if (value != null) {
+            evict.accept(value);
+        }
+    }
+
+    /**
+     * Adds a new entry to the admission window, and moves the oldest entry of the window into the main region if it is
+     * used more frequently than the victim of the main region. Must be called while holding the lock.
+     *
+     * @return the value of the evicted entry if any, {@code null} otherwise.
+     */
+    private V insert(Node<K, V> node) {
+        data.put(node.key, node);
+        return link(node);
+    }
+
+    /**
+     * Adds an entry already in the map to the admission window, see {@link #insert(Node)}. Must be called while holding
+     * the lock.
+     */
+    private V link(Node<K, V> node) {
+        sketch.ageIfNeeded();
+        node.lastAccess = ++clock;
+
+        addToWindow(node);
+        if (windowSize <= windowMaximum) {
+            return null;
+        }
+        Node<K, V> candidate = windowHead;
+        removeFromWindow(candidate);
+        if (mainSize < mainMaximum) {
+            addToMain(candidate);
+            return null;
+        }
+        Node<K, V> victim = selectVictim();
+        if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            removeFromMain(victim);
+            addToMain(candidate);
+            return evict(victim);
+        }
+        return evict(candidate);
+    }
+
+    private V evict(Node<K, V> node) {
+        data.remove(node.key, node);
+        evicted.increment();
+        return node.value;
+    }
+
+    /**
+     * Selects the least frequently used entry out of a sample of the main region, the least recently used entry wins in
+     * case of a tie.
+     */
+    private Node<K, V> selectVictim() {
+        if (mainSize == 0) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean all = mainSize <= SAMPLE_SIZE;
+        int samples = all ? mainSize : SAMPLE_SIZE;
+        Node<K, V> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int i = 0; i < samples; i++) {
+            Node<K, V> node = main[all ? i : random.nextInt(mainSize)];
+            int frequency = sketch.frequency(node.key);
+            if (frequency < victimFrequency || frequency == victimFrequency && node.lastAccess < victim.lastAccess) {
+                victim = node;
+                victimFrequency = frequency;
+            }
+        }
+        return victim;
+    }
+
+    private void addToMain(Node<K, V> node) {
+        node.index = mainSize;
+        main[mainSize++] = node;
+    }
+
+    private void removeFromMain(Node<K, V> node) {
+        int index = node.index;
+        Node<K, V> last = main[--mainSize];
+        main[index] = last;
+        last.index = index;
+        main[mainSize] = null;
+        node.index = REMOVED;
+    }
+
+    private void addToWindow(Node<K, V> node) {
+        node.index = WINDOW;
+        node.prev = windowTail;
+        if (windowTail == null) {
+            windowHead = node;
+        } else {
+            windowTail.next = node;
+        }
+        windowTail = node;
+        windowSize++;
+    }
+
+    private void removeFromWindow(Node<K, V> node) {
+        if (node.prev == null) {
+            windowHead = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            windowTail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.index = REMOVED;
+        windowSize--;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.index == WINDOW) {
+            removeFromWindow(node);
+        } else if (node.index >= 0) {
+            removeFromMain(node);
+        } else {
+            node.index = REMOVED;
+        }
+    }
+
+    /**
+     * An entry of the cache.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        /**
+         * The value of the clock at the last access, only used to break ties when selecting a victim so a stale value
+         * is harmless.
+         */
+        long lastAccess;
+        /**
+         * The index in the main region, {@link #WINDOW}, {@link #PENDING} or {@link #REMOVED}. Guarded by the lock.
+         */
+        int index = PENDING;
+        /**
+         * The neighbours in the admission window. Guarded by the lock.
+         */
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters, used to estimate the frequency of the keys. The sketch is updated from the
+     * lock-free read path, so the counters are packed into an {@link AtomicLongArray} and updated with compare-and-set,
+     * and only the thread which wins the compare-and-set of the number of additions ages the counters.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final AtomicLongArray table;
+        private final int tableMask;
+        private final int sampleSize;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        FrequencySketch(int maximumCacheSize) {
+            int capacity = Math.min(Math.max(maximumCacheSize, 16), 1 << 30);
+            int length = Integer.highestOneBit(capacity - 1) << 1;
+            this.table = new AtomicLongArray(length);
+            this.tableMask = length - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        /**
+         * Increments the frequency of the given key.
+         */
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added) {
+                additions.incrementAndGet();
+            }
+        }
+
+        /**
+         * @return the estimated frequency of the given key, between 0 and 15.
+         */
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) ((table.get(indexOf(hash, i)) >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        /**
+         * Halves all the counters once enough increments have been made, so that old entries can fade away.
+         */
+        void ageIfNeeded() {
+            int count = additions.get();
+            if (count >= sampleSize && additions.compareAndSet(count, count >>> 1)) {
+                for (int i = 0; i < table.length(); i++) {
+                    table.updateAndGet(i, value -> (value >>> 1) & RESET_MASK);
+                }
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            long value = table.get(index);
+            while ((value & mask) != mask) {
+                long witness = table.compareAndExchange(index, value, value + (1L << offset));
+                if (witness == value) {
+                    return true;
+                }
+                value = witness;
+            }
+            return false;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & tableMask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
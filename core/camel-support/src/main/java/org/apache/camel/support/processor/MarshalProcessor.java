@@ -51,10 +51,6 @@ public class MarshalProcessor extends AsyncProcessorSupport implements Traceable
     public boolean process(Exchange exchange, AsyncCallback callback) {
         ObjectHelper.notNull(dataFormat, "dataFormat");
 
-        // if stream caching is enabled then use that so we can stream accordingly
-        // for example to overflow to disk for big streams
-        OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
-
         Message in = exchange.getIn();
         final Object originalBody = in.getBody();
         Object body = originalBody;
@@ -68,8 +64,18 @@ public class MarshalProcessor extends AsyncProcessorSupport implements Traceable
         out.copyFrom(in);
 
         try {
-            dataFormat.marshal(exchange, body, osb);
-            Object result = osb.build();
+            Object result = null;
+            if (!ExchangeHelper.isStreamCachingEnabled(exchange)) {
+                // the data format may marshal directly to a byte array, which avoids copying from a stream
+                result = dataFormat.marshalToBytes(exchange, body);
+            }
+            if (result == null) {
+                // if stream caching is enabled then use that so we can stream accordingly
+                // for example to overflow to disk for big streams
+                OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
+                dataFormat.marshal(exchange, body, osb);
+                result = osb.build();
+            }
             // result should be stored in variable instead of message body
             if (variableReceive != null) {
                 ExchangeHelper.setVariable(exchange, variableReceive, result);
@@ -78,7 +78,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // the steps in progress of each thread, where the steps of a thread are nested in the step begun last by the thread,
+    // or in the parent step given explicitly when the thread continues a step of another thread
+    private final ThreadLocal<Deque<StartupStep>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -87,10 +89,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -156,30 +154,51 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
-            if (maxDepth != -1 && level >= maxDepth) {
-                return DISABLED_STEP;
+            StartupStep parent = currentSteps.get().peekFirst();
+            if (parent != null) {
+                return doBeginStep(type, name, description, parent.getId(), parent.getLevel() + 1);
+            } else {
+                return doBeginStep(type, name, description, 0, 0);
             }
-            int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
-            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
-            return step;
         } else {
             return DISABLED_STEP;
         }
     }
 
+    @Override
+    public StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled && parent != DISABLED_STEP) {
+            return doBeginStep(type, name, description, parent.getId(), parent.getLevel() + 1);
+        } else {
+            // the parent step is not recorded (such as when the max depth is reached) so neither is this step
+            return DISABLED_STEP;
+        }
+    }
+
+    private StartupStep doBeginStep(Class<?> type, String name, String description, int pid, int level) {
+        if (maxDepth != -1 && level >= maxDepth) {
+            return DISABLED_STEP;
+        }
+        int id = stepCounter.incrementAndGet();
+        StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
+        onBeginStep(step);
+        currentSteps.get().offerFirst(step);
+        return step;
+    }
+
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            Deque<StartupStep> steps = currentSteps.get();
+            steps.remove(step);
+            if (steps.isEmpty()) {
+                // so pooled threads do not keep the steps of this recorder
+                currentSteps.remove();
+            }
             step.endStep();
             onEndStep(step);
         }
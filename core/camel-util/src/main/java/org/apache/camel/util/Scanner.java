@@ -31,15 +31,13 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
 import java.util.InputMismatchException;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -47,27 +45,20 @@ import static org.apache.camel.util.BufferCaster.cast;
 
 public final class Scanner implements Iterator<String>, Closeable {
 
-    static {
-        WHITESPACE_PATTERN = Pattern.compile("\\s+");
-        FIND_ANY_PATTERN = Pattern.compile("(?s).*");
-    }
-
-    private static final Lock LOCK = new ReentrantLock();
-    private static final Map<String, Pattern> CACHE = new LinkedHashMap<>() {
-        @Override
-        protected boolean removeEldestEntry(Entry<String, Pattern> eldest) {
-            return size() >= 7;
-        }
-    };
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
-    private static final Pattern WHITESPACE_PATTERN;
+    // the characters which have a special meaning in a regular expression
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
 
-    private static final Pattern FIND_ANY_PATTERN;
+    private static final int CACHE_SIZE = 256;
+    private static final ConcurrentMap<String, Delimiter> CACHE = new ConcurrentHashMap<>();
 
     private static final int BUFFER_SIZE = 1024;
 
     private final Readable source;
     private final Pattern delimPattern;
+    // the delimiter when it is a plain string, which is found without using the regular expression
+    private final char[] delimLiteral;
     private final Matcher matcher;
     private CharBuffer buf;
     private int position;
@@ -79,7 +70,7 @@ public final class Scanner implements Iterator<String>, Closeable {
     private IOException lastIOException;
 
     public Scanner(InputStream source, String charsetName, String pattern) {
-        this(new InputStreamReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName)), cachePattern(pattern));
+        this(new InputStreamReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName)), cacheDelimiter(pattern));
     }
 
     public Scanner(File source, String charsetName, String pattern) throws FileNotFoundException {
@@ -87,24 +78,31 @@ public final class Scanner implements Iterator<String>, Closeable {
     }
 
     public Scanner(String source, String pattern) {
-        this(new StringReader(Objects.requireNonNull(source, "source")), cachePattern(pattern));
+        this(new StringReader(Objects.requireNonNull(source, "source")), cacheDelimiter(pattern));
     }
 
     public Scanner(String source, Pattern pattern) {
-        this(new StringReader(Objects.requireNonNull(source, "source")), pattern);
+        this(new StringReader(Objects.requireNonNull(source, "source")), pattern != null ? new Delimiter(pattern) : null);
     }
 
     public Scanner(ReadableByteChannel source, String charsetName, String pattern) {
-        this(Channels.newReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName), -1), cachePattern(pattern));
+        this(Channels.newReader(Objects.requireNonNull(source, "source"), toDecoder(charsetName), -1),
+             cacheDelimiter(pattern));
     }
 
     public Scanner(Readable source, String pattern) {
-        this(Objects.requireNonNull(source, "source"), cachePattern(pattern));
+        this(Objects.requireNonNull(source, "source"), cacheDelimiter(pattern));
     }
 
-    private Scanner(Readable source, Pattern pattern) {
+    private Scanner(Readable source, Delimiter delimiter) {
         this.source = source;
-        delimPattern = pattern != null ? pattern : WHITESPACE_PATTERN;
+        if (delimiter != null) {
+            delimPattern = delimiter.pattern;
+            delimLiteral = delimiter.literal;
+        } else {
+            delimPattern = WHITESPACE_PATTERN;
+            delimLiteral = null;
+        }
         buf = CharBuffer.allocate(BUFFER_SIZE);
         cast(buf).limit(0);
         matcher = delimPattern.matcher(buf);
@@ -230,7 +228,12 @@ public final class Scanner implements Iterator<String>, Closeable {
     }
 
     private boolean hasTokenInBuffer() {
-        matcher.usePattern(delimPattern);
+        if (delimLiteral != null) {
+            if (isLiteralAt(position)) {
+                position += delimLiteral.length;
+            }
+            return position != buf.limit();
+        }
         matcher.region(position, buf.limit());
         if (matcher.lookingAt()) {
             position = matcher.end();
@@ -239,7 +242,9 @@ public final class Scanner implements Iterator<String>, Closeable {
     }
 
     private String getCompleteTokenInBuffer() {
-        matcher.usePattern(delimPattern);
+        if (delimLiteral != null) {
+            return getCompleteLiteralTokenInBuffer();
+        }
         if (!skipped) {
             matcher.region(position, buf.limit());
             if (matcher.lookingAt()) {
@@ -268,31 +273,74 @@ public final class Scanner implements Iterator<String>, Closeable {
                 needInput = true;
                 return null;
             }
-            int tokenEnd = matcher.start();
-            matcher.usePattern(FIND_ANY_PATTERN);
-            matcher.region(position, tokenEnd);
-            if (matcher.matches()) {
-                String s = matcher.group();
-                position = matcher.end();
-                return s;
-            } else {
-                return null;
-            }
+            return token(matcher.start());
         }
         if (inputExhausted) {
-            matcher.usePattern(FIND_ANY_PATTERN);
-            matcher.region(position, buf.limit());
-            if (matcher.matches()) {
-                String s = matcher.group();
-                position = matcher.end();
-                return s;
+            return token(buf.limit());
+        }
+        needInput = true;
+        return null;
+    }
+
+    /**
+     * Same as {@link #getCompleteTokenInBuffer()} for a delimiter which is a plain string, which is searched for
+     * directly in the buffer instead of using the regular expression.
+     */
+    private String getCompleteLiteralTokenInBuffer() {
+        if (!skipped && isLiteralAt(position)) {
+            skipped = true;
+            position += delimLiteral.length;
+        }
+        if (position == buf.limit()) {
+            if (!inputExhausted) {
+                needInput = true;
             }
             return null;
         }
+        int tokenEnd = indexOfLiteral(position);
+        if (tokenEnd != -1) {
+            return token(tokenEnd);
+        }
+        if (inputExhausted) {
+            return token(buf.limit());
+        }
         needInput = true;
         return null;
     }
 
+    private String token(int tokenEnd) {
+        String s = buf.subSequence(position, tokenEnd).toString();
+        position = tokenEnd;
+        return s;
+    }
+
+    private boolean isLiteralAt(int index) {
+        if (index + delimLiteral.length > buf.limit()) {
+            return false;
+        }
+        char[] chars = buf.array();
+        int offset = buf.arrayOffset() + buf.position() + index;
+        for (int i = 0; i < delimLiteral.length; i++) {
+            if (chars[offset + i] != delimLiteral[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOfLiteral(int fromIndex) {
+        char[] chars = buf.array();
+        int offset = buf.arrayOffset() + buf.position();
+        char first = delimLiteral[0];
+        int max = buf.limit() - delimLiteral.length;
+        for (int i = fromIndex; i <= max; i++) {
+            if (chars[offset + i] == first && isLiteralAt(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private void checkClosed() {
         if (closed) {
             throw new IllegalStateException();
@@ -316,15 +364,89 @@ public final class Scanner implements Iterator<String>, Closeable {
         }
     }
 
-    private static Pattern cachePattern(String pattern) {
+    private static Delimiter cacheDelimiter(String pattern) {
         if (pattern == null) {
             return null;
         }
-        LOCK.lock();
-        try {
-            return CACHE.computeIfAbsent(pattern, Pattern::compile);
-        } finally {
-            LOCK.unlock();
+        Delimiter answer = CACHE.get(pattern);
+        if (answer == null) {
+            if (CACHE.size() >= CACHE_SIZE) {
+                evictDelimiters();
+            }
+            answer = CACHE.computeIfAbsent(pattern, p -> new Delimiter(Pattern.compile(p)));
+        }
+        // the hits are counted without synchronization, as they are only used to decide what to evict
+        answer.hits++;
+        return answer;
+    }
+
+    /**
+     * Evicts the least frequently used half of the cached delimiters, and halves the hits of the remaining delimiters,
+     * so delimiters which were used often a long time ago are evicted eventually.
+     */
+    private static void evictDelimiters() {
+        int[] hits = CACHE.values().stream().mapToInt(d -> d.hits).toArray();
+        if (hits.length < CACHE_SIZE) {
+            // already evicted by another thread
+            return;
+        }
+        Arrays.sort(hits);
+        int median = hits[hits.length / 2];
+        CACHE.values().removeIf(d -> d.hits <= median);
+        CACHE.values().forEach(d -> d.hits >>>= 1);
+    }
+
+    /**
+     * Gets the plain string which the regular expression matches, when the regular expression has no special
+     * characters, other than escaped characters.
+     *
+     * @return the plain string, or <tt>null</tt> if the regular expression is not a plain string
+     */
+    static String toLiteral(String regex) {
+        if (regex.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(regex.length());
+        for (int i = 0; i < regex.length(); i++) {
+            char ch = regex.charAt(i);
+            if (ch == '\\') {
+                if (++i == regex.length()) {
+                    return null;
+                }
+                ch = regex.charAt(i);
+                if (ch == 'n') {
+                    sb.append('\n');
+                } else if (ch == 'r') {
+                    sb.append('\r');
+                } else if (ch == 't') {
+                    sb.append('\t');
+                } else if (REGEX_META_CHARS.indexOf(ch) != -1) {
+                    sb.append(ch);
+                } else {
+                    // escaped letters and digits are character classes, back references and so on
+                    return null;
+                }
+            } else if (REGEX_META_CHARS.indexOf(ch) != -1) {
+                return null;
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The delimiter pattern, and the plain string which it matches (if a plain string)
+     */
+    private static final class Delimiter {
+        private final Pattern pattern;
+        private final char[] literal;
+        private volatile int hits;
+
+        private Delimiter(Pattern pattern) {
+            this.pattern = pattern;
+            String text = pattern.flags() == 0 ? toLiteral(pattern.pattern()) : null;
+            this.literal = text != null ? text.toCharArray() : null;
         }
     }
 
@@ -20,7 +20,11 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -78,4 +82,67 @@ public class ScannerTest {
         Assertions.assertEquals("data3", s.next());
     }
 
+    @Test
+    public void testToLiteral() {
+        Assertions.assertEquals("\n", Scanner.toLiteral("\n"));
+        Assertions.assertEquals("\n", Scanner.toLiteral("\\n"));
+        Assertions.assertEquals(",", Scanner.toLiteral(","));
+        Assertions.assertEquals("|", Scanner.toLiteral("\\|"));
+        Assertions.assertEquals("\r\n", Scanner.toLiteral("\\r\\n"));
+        Assertions.assertNull(Scanner.toLiteral(""));
+        Assertions.assertNull(Scanner.toLiteral("\\s+"));
+        Assertions.assertNull(Scanner.toLiteral("a|b"));
+        Assertions.assertNull(Scanner.toLiteral("\\d"));
+        Assertions.assertNull(Scanner.toLiteral("abc\\"));
+    }
+
+    @Test
+    public void testLiteralDelimiter() {
+        String[] delimiters = { "\n", ",", "ab", "\r\n", "--8<--" };
+        String[] texts = {
+                "", "x", "a,b,c", ",a,,b,", "abab", "xxabyyab", "line1\r\nline2\r\n\r\nline3",
+                "--8<----8<--a--8<--", "a--8<-" };
+        for (String delimiter : delimiters) {
+            for (String text : texts) {
+                Assertions.assertEquals(scanWithRegex(text, delimiter), scan(new Scanner(text, delimiter)),
+                        "Text: " + text + " delimiter: " + delimiter);
+            }
+        }
+    }
+
+    @Test
+    public void testLiteralDelimiterAcrossBuffer() {
+        // the delimiters are found across the boundaries of the buffer of the scanner
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("token").append(i).append("\r\n");
+        }
+        String text = sb.toString();
+        List<String> tokens = scan(new Scanner(new StringReader(text), "\r\n"));
+        Assertions.assertEquals(2000, tokens.size());
+        Assertions.assertEquals(scanWithRegex(text, "\r\n"), tokens);
+    }
+
+    @Test
+    public void testManyDelimiters() {
+        for (int i = 0; i < 1000; i++) {
+            String delimiter = "<" + i + ">";
+            Scanner s = new Scanner("a" + delimiter + "b", delimiter);
+            Assertions.assertEquals(delimiter, s.getDelim());
+            Assertions.assertEquals(List.of("a", "b"), scan(s));
+        }
+    }
+
+    private static List<String> scanWithRegex(String text, String delimiter) {
+        // a pattern with flags is not scanned as a plain string
+        return scan(new Scanner(text, Pattern.compile(Pattern.quote(delimiter), Pattern.UNICODE_CASE)));
+    }
+
+    private static List<String> scan(Scanner scanner) {
+        List<String> answer = new ArrayList<>();
+        while (scanner.hasNext()) {
+            answer.add(scanner.next());
+        }
+        return answer;
+    }
 }
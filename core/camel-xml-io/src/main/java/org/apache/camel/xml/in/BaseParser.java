@@ -51,21 +51,27 @@ import org.apache.camel.xml.io.XmlPullParser;
 import org.apache.camel.xml.io.XmlPullParserException;
 import org.apache.camel.xml.io.XmlPullParserLocationException;
 
-public class BaseParser {
+public class BaseParser implements AutoCloseable {
 
     protected final MXParser parser;
     protected String namespace;
     protected final Set<String> secondaryNamespaces = new HashSet<>();
     protected Resource resource;
+    // the input stream opened from the resource, which is closed by this parser
+    private InputStream resourceInput;
 
     public BaseParser(Resource resource) throws IOException, XmlPullParserException {
-        this(resource.getInputStream(), null);
-        this.resource = resource;
+        this(resource, null);
     }
 
     public BaseParser(Resource resource, String namespace) throws IOException, XmlPullParserException {
-        this(resource.getInputStream(), namespace);
+        this(resource.getInputStream(), namespace, resource);
+    }
+
+    private BaseParser(InputStream input, String namespace, Resource resource) throws IOException, XmlPullParserException {
+        this(input, namespace);
         this.resource = resource;
+        this.resourceInput = input;
     }
 
     public BaseParser(InputStream input) throws IOException, XmlPullParserException {
@@ -90,6 +96,19 @@ public class BaseParser {
         this.namespace = namespace != null ? namespace : "";
     }
 
+    /**
+     * Closes the input stream if opened from a {@link Resource} by this parser, and releases the buffers of the parser
+     * for reuse by other parsers. This parser must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        parser.release();
+        if (resourceInput != null) {
+            resourceInput.close();
+            resourceInput = null;
+        }
+    }
+
     public void addSecondaryNamespace(String namespace) {
         this.secondaryNamespaces.add(namespace);
     }
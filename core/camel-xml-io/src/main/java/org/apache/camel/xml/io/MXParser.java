@@ -31,6 +31,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import org.apache.camel.xml.io.util.XmlStreamReader;
 
@@ -76,8 +78,40 @@ public class MXParser implements XmlPullParser {
         // System.out.println("resetStringCache() minimum called");
     }
 
+    // the element and attribute names are mostly the same in all the XML documents (such as Camel routes), so the names
+    // are shared by all the parsers instead of creating new strings. Each slot is overwritten when another name with the
+    // same hash is parsed, which keeps the cache small without locking.
+    private static final int NAME_CACHE_SIZE = 2048;
+    private static final int NAME_CACHE_MAX_LENGTH = 64;
+    private static final String[] NAME_CACHE = new String[NAME_CACHE_SIZE];
+
     protected String newString(char[] cbuf, int off, int len) {
-        return new String(cbuf, off, len);
+        if (len > NAME_CACHE_MAX_LENGTH) {
+            return new String(cbuf, off, len);
+        }
+        int hash = 0;
+        for (int i = off; i < off + len; i++) {
+            hash = 31 * hash + cbuf[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        String name = NAME_CACHE[index];
+        if (name == null || !sameChars(name, cbuf, off, len)) {
+            name = new String(cbuf, off, len);
+            NAME_CACHE[index] = name;
+        }
+        return name;
+    }
+
+    private static boolean sameChars(String name, char[] cbuf, int off, int len) {
+        if (name.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (name.charAt(i) != cbuf[off + i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     protected String newStringIntern(char[] cbuf, int off, int len) {
@@ -355,7 +389,10 @@ public class MXParser implements XmlPullParser {
     protected int bufLoadFactor = 95; // 99%
     // protected int bufHardLimit; // only matters when expanding
 
-    protected char[] buf = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : 256];
+    // the input buffers released by the parsers which are done parsing, for reuse by other parsers
+    private static final BlockingQueue<char[]> BUFFERS = new ArrayBlockingQueue<>(32);
+
+    protected char[] buf = acquireBuffer(256);
     protected int bufSoftLimit = (bufLoadFactor * buf.length) / 100; // desirable
                                                                     // size of
                                                                     // buffer
@@ -368,7 +405,7 @@ public class MXParser implements XmlPullParser {
     protected int posStart;
     protected int posEnd;
 
-    protected char[] pc = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : 64];
+    protected char[] pc = acquireBuffer(64);
     protected int pcStart;
     protected int pcEnd;
 
@@ -395,6 +432,13 @@ public class MXParser implements XmlPullParser {
 
     protected void reset() {
         // System.out.println("reset() called");
+        if (buf == null) {
+            buf = acquireBuffer(256);
+            bufSoftLimit = (bufLoadFactor * buf.length) / 100;
+        }
+        if (pc == null) {
+            pc = acquireBuffer(64);
+        }
         location = null;
         startLineNumber = 1;
         lineNumber = 1;
@@ -441,6 +485,33 @@ public class MXParser implements XmlPullParser {
     public MXParser() {
     }
 
+    private static char[] acquireBuffer(int lowMemorySize) {
+        char[] answer = BUFFERS.poll();
+        if (answer == null) {
+            answer = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : lowMemorySize];
+        }
+        return answer;
+    }
+
+    private static void releaseBuffer(char[] buffer) {
+        // buffers which have grown for large documents are not kept
+        if (buffer != null && buffer.length == READ_CHUNK_SIZE) {
+            BUFFERS.offer(buffer);
+        }
+    }
+
+    /**
+     * Releases the buffers of this parser for reuse by other parsers, when done parsing. The parser can only be used
+     * again after setting a new input.
+     */
+    public void release() {
+        releaseBuffer(buf);
+        releaseBuffer(pc);
+        buf = null;
+        pc = null;
+        reader = null;
+    }
+
     /**
      * Method setFeature
      *
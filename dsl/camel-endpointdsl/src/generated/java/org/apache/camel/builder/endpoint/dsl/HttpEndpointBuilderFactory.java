@@ -1026,6 +1026,46 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("getWithBody", getWithBody);
             return this;
         }
+        /**
+         * The HTTP protocol version policy of the async HttpClient. NEGOTIATE
+         * uses HTTP/2 when agreed with the server during the TLS handshake, and
+         * otherwise HTTP/1.1. FORCE_HTTP_2 always uses HTTP/2 (also without
+         * TLS), and multiplexes concurrent requests to the same server over a
+         * single connection.
+         * 
+         * The option is a:
+         * <code>org.apache.hc.core5.http2.HttpVersionPolicy</code> type.
+         * 
+         * Default: NEGOTIATE
+         * Group: producer (advanced)
+         * 
+         * @param httpVersionPolicy the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpVersionPolicy(org.apache.hc.core5.http2.HttpVersionPolicy httpVersionPolicy) {
+            doSetProperty("httpVersionPolicy", httpVersionPolicy);
+            return this;
+        }
+        /**
+         * The HTTP protocol version policy of the async HttpClient. NEGOTIATE
+         * uses HTTP/2 when agreed with the server during the TLS handshake, and
+         * otherwise HTTP/1.1. FORCE_HTTP_2 always uses HTTP/2 (also without
+         * TLS), and multiplexes concurrent requests to the same server over a
+         * single connection.
+         * 
+         * The option will be converted to a
+         * <code>org.apache.hc.core5.http2.HttpVersionPolicy</code> type.
+         * 
+         * Default: NEGOTIATE
+         * Group: producer (advanced)
+         * 
+         * @param httpVersionPolicy the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpVersionPolicy(String httpVersionPolicy) {
+            doSetProperty("httpVersionPolicy", httpVersionPolicy);
+            return this;
+        }
         /**
          * If this option is true, The http producer won't read response body
          * and cache the input stream.
@@ -1162,6 +1202,42 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("preserveHostHeader", preserveHostHeader);
             return this;
         }
+        /**
+         * Whether the producer should use the non-blocking async HttpClient.
+         * The calling thread is then not blocked while waiting for the HTTP
+         * response, which allows many concurrent in-flight requests to slow
+         * servers without a thread per request.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(boolean useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should use the non-blocking async HttpClient.
+         * The calling thread is then not blocked while waiting for the HTTP
+         * response, which allows many concurrent in-flight requests to slow
+         * servers without a thread per request.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(String useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
         /**
          * To set a custom HTTP User-Agent request header.
          * 
@@ -1270,6 +1346,38 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("connectionsPerRoute", connectionsPerRoute);
             return this;
         }
+        /**
+         * Sets a custom async HttpClient to be used by the producer when
+         * useAsyncClient is enabled.
+         * 
+         * The option is a:
+         * <code>org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient</code> type.
+         * 
+         * Group: advanced
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
+        /**
+         * Sets a custom async HttpClient to be used by the producer when
+         * useAsyncClient is enabled.
+         * 
+         * The option will be converted to a
+         * <code>org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient</code> type.
+         * 
+         * Group: advanced
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(String httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
         /**
          * Sets a custom HttpClient to be used by the producer.
          * 
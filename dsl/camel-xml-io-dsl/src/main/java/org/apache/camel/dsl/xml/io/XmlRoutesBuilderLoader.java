@@ -18,16 +18,22 @@ package org.apache.camel.dsl.xml.io;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.w3c.dom.Document;
 
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.builder.RouteConfigurationBuilder;
@@ -47,6 +53,7 @@ import org.apache.camel.model.app.BeansDefinition;
 import org.apache.camel.model.rest.RestConfigurationDefinition;
 import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.spi.ExtendedRoutesBuilderLoader;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.annotations.RoutesLoader;
 import org.apache.camel.support.CachedResource;
@@ -58,7 +65,7 @@ import org.slf4j.LoggerFactory;
 
 @ManagedResource(description = "Managed XML RoutesBuilderLoader")
 @RoutesLoader(XmlRoutesBuilderLoader.EXTENSION)
-public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
+public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport implements ExtendedRoutesBuilderLoader {
 
     public static final Logger LOG = LoggerFactory.getLogger(XmlRoutesBuilderLoader.class);
 
@@ -68,10 +75,13 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
     private final Map<String, Resource> resourceCache = new ConcurrentHashMap<>();
     private final Map<String, XmlStreamInfo> xmlInfoCache = new ConcurrentHashMap<>();
     private final Map<String, BeansDefinition> camelAppCache = new ConcurrentHashMap<>();
+    private final Map<String, Optional<?>> definitionsCache = new ConcurrentHashMap<>();
     private final List<BeanFactoryDefinition<?>> delayedRegistrations = new ArrayList<>();
 
     private final AtomicInteger counter = new AtomicInteger(0);
 
+    private int parallelism = 1;
+
     public XmlRoutesBuilderLoader() {
         super(EXTENSION);
     }
@@ -80,6 +90,19 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
         super(extension);
     }
 
+    @ManagedAttribute(description = "Number of threads used for parsing multiple XML files")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of threads used for parsing the routes, route templates and rests when loading multiple XML files at once
+     * (such as during startup). The default is 1, which parses the files one by one.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public void preParseRoute(Resource resource) throws Exception {
         // preparsing is done at early stage, so we have a chance to load additional beans and populate
@@ -91,17 +114,33 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
         if (xmlInfo.isValid()) {
             String root = xmlInfo.getRootElementName();
             if ("beans".equals(root) || "blueprint".equals(root) || "camel".equals(root)) {
-                new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                        .parseBeansDefinition()
-                        .ifPresent(bd -> {
-                            registerBeans(resource, bd);
-                            camelAppCache.put(resource.getLocation(), bd);
-                        });
+                try (XmlModelParser parser = new XmlModelParser(resource, xmlInfo.getRootElementNamespace())) {
+                    parser.parseBeansDefinition()
+                            .ifPresent(bd -> {
+                                registerBeans(resource, bd);
+                                camelAppCache.put(resource.getLocation(), bd);
+                            });
+                }
             }
         }
         preparseDone.put(resource.getLocation(), true);
     }
 
+    @Override
+    public Collection<RoutesBuilder> loadRoutesBuilders(Collection<Resource> resources) throws Exception {
+        if (parallelism > 1 && resources.size() > 1) {
+            parseDefinitions(resources);
+        }
+        List<RoutesBuilder> answer = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            RoutesBuilder builder = loadRoutesBuilder(resource);
+            if (builder != null) {
+                answer.add(builder);
+            }
+        }
+        return answer;
+    }
+
     @Override
     public RouteBuilder doLoadRouteBuilder(Resource input) throws Exception {
         final Resource resource = resource(input);
@@ -123,24 +162,24 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
                             if (def != null) {
                                 configureCamel(def);
                             } else {
-                                new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                        .parseBeansDefinition()
-                                        .ifPresent(this::configureCamel);
+                                try (XmlModelParser parser
+                                        = new XmlModelParser(resource, xmlInfo.getRootElementNamespace())) {
+                                    parser.parseBeansDefinition().ifPresent(this::configureCamel);
+                                }
                             }
                         }
-                        case "routeTemplate", "routeTemplates" ->
-                            new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                    .parseRouteTemplatesDefinition()
-                                    .ifPresent(this::setRouteTemplateCollection);
-                        case "templatedRoutes", "templatedRoute" ->
-                            new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                    .parseTemplatedRoutesDefinition()
-                                    .ifPresent(this::setTemplatedRouteCollection);
-                        case "rests", "rest" -> new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                .parseRestsDefinition()
+                        // these are parsed only once, so the input is parsed as a stream, and not cached in memory
+                        case "routeTemplate", "routeTemplates" -> parseDefinitions(input, xmlInfo)
+                                .map(RouteTemplatesDefinition.class::cast)
+                                .ifPresent(this::setRouteTemplateCollection);
+                        case "templatedRoutes", "templatedRoute" -> parseDefinitions(input, xmlInfo)
+                                .map(TemplatedRoutesDefinition.class::cast)
+                                .ifPresent(this::setTemplatedRouteCollection);
+                        case "rests", "rest" -> parseDefinitions(input, xmlInfo)
+                                .map(RestsDefinition.class::cast)
                                 .ifPresent(this::setRestCollection);
-                        case "routes", "route" -> new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                .parseRoutesDefinition()
+                        case "routes", "route" -> parseDefinitions(input, xmlInfo)
+                                .map(RoutesDefinition.class::cast)
                                 .ifPresent(this::addRoutes);
                         default -> {
                         }
@@ -151,6 +190,7 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
                     resourceCache.remove(resourceLocation);
                     xmlInfoCache.remove(resourceLocation);
                     camelAppCache.remove(resourceLocation);
+                    definitionsCache.remove(resourceLocation);
                     preparseDone.remove(resourceLocation);
                 }
             }
@@ -174,9 +214,9 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
                             // remove the configurations we have added
                             bp.getRouteConfigurations().clear();
                         }
-                        new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                .parseRouteConfigurationsDefinition()
-                                .ifPresent(this::addConfigurations);
+                        try (XmlModelParser parser = new XmlModelParser(resource, xmlInfo.getRootElementNamespace())) {
+                            parser.parseRouteConfigurationsDefinition().ifPresent(this::addConfigurations);
+                        }
                     }
                 }
             }
@@ -281,6 +321,65 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
         };
     }
 
+    /**
+     * Parses the routes, route templates and rests of the resources in parallel, so the definitions are ready when the
+     * route builders are configured. The resources which fail parsing are parsed again when the route builder is
+     * configured, which reports the error the same way as when parsing one by one.
+     */
+    private void parseDefinitions(Collection<Resource> resources) throws Exception {
+        ExecutorService executor = getCamelContext().getExecutorServiceManager().newFixedThreadPool(
+                this, "XmlRoutesParser", Math.min(parallelism, resources.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(resources.size());
+            for (Resource resource : resources) {
+                XmlStreamInfo xmlInfo = xmlInfo(resource);
+                if (xmlInfo.isValid() && isDefinitionsRoot(xmlInfo.getRootElementName())) {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            definitionsCache.put(resource.getLocation(), doParseDefinitions(resource, xmlInfo));
+                        } catch (Exception e) {
+                            LOG.debug("Error parsing: {} due to: {}. The resource is parsed again when loaded.",
+                                    resource.getLocation(), e.getMessage(), e);
+                        }
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            getCamelContext().getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
+    private Optional<?> parseDefinitions(Resource resource, XmlStreamInfo xmlInfo) throws Exception {
+        Optional<?> answer = definitionsCache.remove(resource.getLocation());
+        if (answer == null) {
+            answer = doParseDefinitions(resource, xmlInfo);
+        }
+        return answer;
+    }
+
+    private static boolean isDefinitionsRoot(String root) {
+        return switch (root) {
+            case "routeTemplate", "routeTemplates", "templatedRoutes", "templatedRoute", "rests", "rest", "routes", "route" ->
+                true;
+            default -> false;
+        };
+    }
+
+    private static Optional<?> doParseDefinitions(Resource resource, XmlStreamInfo xmlInfo) throws Exception {
+        try (XmlModelParser parser = new XmlModelParser(resource, xmlInfo.getRootElementNamespace())) {
+            return switch (xmlInfo.getRootElementName()) {
+                case "routeTemplate", "routeTemplates" -> parser.parseRouteTemplatesDefinition();
+                case "templatedRoutes", "templatedRoute" -> parser.parseTemplatedRoutesDefinition();
+                case "rests", "rest" -> parser.parseRestsDefinition();
+                case "routes", "route" -> parser.parseRoutesDefinition();
+                default -> Optional.empty();
+            };
+        }
+    }
+
     private Resource resource(Resource resource) {
         return resourceCache.computeIfAbsent(resource.getLocation(), l -> new CachedResource(resource));
     }
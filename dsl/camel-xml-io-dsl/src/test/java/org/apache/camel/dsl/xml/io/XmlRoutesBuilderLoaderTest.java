@@ -16,6 +16,11 @@
  */
 package org.apache.camel.dsl.xml.io;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.camel.RoutesBuilder;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.builder.RouteConfigurationBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
@@ -23,6 +28,7 @@ import org.apache.camel.spi.Resource;
 import org.apache.camel.support.ResourceHelper;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class XmlRoutesBuilderLoaderTest {
@@ -128,4 +134,35 @@ public class XmlRoutesBuilderLoaderTest {
 
         assertFalse(builder.getRouteConfigurationCollection().getRouteConfigurations().isEmpty());
     }
+
+    @Test
+    public void canLoadRoutesInParallel() throws Exception {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String content = ""
+                             + "<routes xmlns=\"http://camel.apache.org/schema/spring\">"
+                             + "   <route id=\"route" + i + "\">"
+                             + "      <from uri=\"direct:test" + i + "\"/>"
+                             + "      <to uri=\"mock:result\"/>"
+                             + "   </route>"
+                             + "</routes>";
+            resources.add(ResourceHelper.fromString("in-memory" + i + ".xml", content));
+        }
+
+        try (DefaultCamelContext camelContext = new DefaultCamelContext()) {
+            XmlRoutesBuilderLoader loader = new XmlRoutesBuilderLoader();
+            loader.setCamelContext(camelContext);
+            loader.setParallelism(2);
+            Collection<RoutesBuilder> builders = loader.loadRoutesBuilders(resources);
+
+            // the routes are in the same order as the resources
+            assertEquals(4, builders.size());
+            int i = 0;
+            for (RoutesBuilder routesBuilder : builders) {
+                RouteBuilder builder = (RouteBuilder) routesBuilder;
+                builder.configure();
+                assertEquals("route" + i++, builder.getRouteCollection().getRoutes().get(0).getRouteId());
+            }
+        }
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the time taken to parse synthetic XML files with 1000 and 10000 routes.
+ */
+@EnabledIfSystemProperty(named = "core.manual.tests", matches = "true", disabledReason = "Manual test")
+public class XmlRoutesLoadManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlRoutesLoadManualTest.class);
+
+    private static final int ROUNDS = 5;
+    private static final int ROUTES_PER_FILE = 100;
+
+    @Test
+    public void testLoad1000Routes() throws Exception {
+        doTestLoad(1000);
+    }
+
+    @Test
+    public void testLoad10000Routes() throws Exception {
+        doTestLoad(10000);
+    }
+
+    private void doTestLoad(int routes) throws Exception {
+        List<Path> files = createRouteFiles(routes);
+        for (int parallelism : new int[] { 1, 4 }) {
+            long total = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long taken = load(files, parallelism, routes);
+                LOG.info("Round {}: parsed {} routes in {} ms using {} threads", round, routes, taken, parallelism);
+                total += taken;
+            }
+            LOG.info("Parsed {} routes in {} ms on average using {} threads", routes, total / ROUNDS, parallelism);
+        }
+    }
+
+    private static long load(List<Path> files, int parallelism, int routes) throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.build();
+            XmlRoutesBuilderLoader loader
+                    = (XmlRoutesBuilderLoader) PluginHelper.getRoutesLoader(context).getRoutesLoader("xml");
+            loader.setParallelism(parallelism);
+            List<Resource> resources = new ArrayList<>(files.size());
+            for (Path file : files) {
+                resources.add(PluginHelper.getResourceLoader(context).resolveResource("file:" + file));
+            }
+
+            StopWatch watch = new StopWatch();
+            int count = 0;
+            for (RoutesBuilder builder : PluginHelper.getRoutesLoader(context).findRoutesBuilders(resources)) {
+                count += ((RouteBuilder) builder).configureRoutes(context).getRoutes().size();
+            }
+            long taken = watch.taken();
+            assertEquals(routes, count);
+            return taken;
+        }
+    }
+
+    private static List<Path> createRouteFiles(int routes) throws Exception {
+        Path dir = Files.createDirectories(Path.of("target", "xml-routes-" + routes));
+        List<Path> files = new ArrayList<>();
+        for (int file = 0; file < routes / ROUTES_PER_FILE; file++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("<routes xmlns=\"http://camel.apache.org/schema/spring\">\n");
+            for (int i = file * ROUTES_PER_FILE; i < (file + 1) * ROUTES_PER_FILE; i++) {
+                sb.append("  <route id=\"route-").append(i).append("\">\n");
+                sb.append("    <from uri=\"direct:start-").append(i).append("\"/>\n");
+                sb.append("    <setHeader name=\"index\"><constant>").append(i).append("</constant></setHeader>\n");
+                sb.append("    <choice>\n");
+                sb.append("      <when><simple>${header.index} > 10</simple>\n");
+                sb.append("        <to uri=\"log:high-").append(i).append("?level=OFF\"/>\n");
+                sb.append("      </when>\n");
+                sb.append("      <otherwise><to uri=\"seda:low-").append(i).append("\"/></otherwise>\n");
+                sb.append("    </choice>\n");
+                sb.append("    <setBody><simple>Hello ${body} from route ").append(i).append("</simple></setBody>\n");
+                sb.append("    <to uri=\"mock:result-").append(i).append("\"/>\n");
+                sb.append("  </route>\n");
+            }
+            sb.append("</routes>\n");
+            Path path = dir.resolve("routes-" + file + ".xml");
+            Files.writeString(path, sb.toString());
+            files.add(path.toAbsolutePath());
+        }
+        return files;
+    }
+}
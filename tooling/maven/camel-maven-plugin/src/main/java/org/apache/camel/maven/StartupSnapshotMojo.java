@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Generates the startup snapshot of a Camel Main application, which Camel uses to start up without looking up the
+ * factories, classes and resources on the classpath again.
+ * <p/>
+ * The application is started once (without starting its routes) to record the snapshot.
+ */
+@Mojo(name = "startup-snapshot", threadSafe = true, requiresDependencyResolution = ResolutionScope.RUNTIME,
+      defaultPhase = LifecyclePhase.PREPARE_PACKAGE)
+public class StartupSnapshotMojo extends AbstractMojo {
+
+    private static final String GENERATOR = "org.apache.camel.main.StartupSnapshotGenerator";
+
+    @Parameter(property = "project", required = true, readonly = true)
+    private MavenProject project;
+
+    /**
+     * The main class of the application, which is used as the base package to scan for routes and beans.
+     */
+    @Parameter(property = "camel.mainClass")
+    private String mainClass;
+
+    /**
+     * The file to write the startup snapshot to.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/META-INF/services/org/apache/camel/startup-snapshot")
+    private File snapshotFile;
+
+    /**
+     * Whether to skip generating the startup snapshot.
+     */
+    @Parameter(property = "camel.startupSnapshot.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            return;
+        }
+
+        // the snapshot from a previous build must not be on the classpath
+        if (snapshotFile.exists() && !snapshotFile.delete()) {
+            throw new MojoExecutionException("Cannot delete existing startup snapshot: " + snapshotFile);
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader tccl = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = createProjectClassLoader()) {
+            Class<?> generator;
+            try {
+                generator = classLoader.loadClass(GENERATOR);
+            } catch (ClassNotFoundException e) {
+                throw new MojoExecutionException("The startup snapshot requires camel-main on the classpath", e);
+            }
+            List<String> args = new ArrayList<>();
+            args.add(snapshotFile.getPath());
+            if (mainClass != null) {
+                args.add(mainClass);
+            }
+
+            getLog().info("Generating startup snapshot: " + snapshotFile);
+            thread.setContextClassLoader(classLoader);
+            Method main = generator.getMethod("main", String[].class);
+            main.invoke(null, (Object) args.toArray(new String[0]));
+        } catch (InvocationTargetException e) {
+            throw new MojoExecutionException("Error generating startup snapshot", e.getCause());
+        } catch (MojoExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error generating startup snapshot", e);
+        } finally {
+            thread.setContextClassLoader(tccl);
+        }
+    }
+
+    private URLClassLoader createProjectClassLoader() throws Exception {
+        List<URL> urls = new ArrayList<>();
+        for (String element : project.getRuntimeClasspathElements()) {
+            urls.add(new File(element).toURI().toURL());
+        }
+        // the application runs in isolation from the plugin, but needs the JDK modules such as java.sql
+        return new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader());
+    }
+}